@@ -1,12 +1,16 @@
 package com.loopers.application.order;
 
+import com.loopers.domain.EntityVersion;
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderExportRow;
 import com.loopers.domain.order.OrderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -19,12 +23,37 @@ public class OrderFacade {
         return OrderInfo.from(order);
     }
 
+    public EntityVersion getOrderVersion(Long orderId) {
+        return orderService.getOrderVersion(orderId);
+    }
+
     public List<OrderInfo> getOrdersByUserId(Long userId) {
         return orderService.getOrdersByUserId(userId).stream()
             .map(OrderInfo::from)
             .collect(Collectors.toList());
     }
 
+    public EntityVersion getOrdersVersionByUserId(Long userId) {
+        return orderService.getOrdersVersionByUserId(userId);
+    }
+
+    /**
+     * 연속으로 오는 같은 주문의 행을 모아 주문 단위로 넘긴다. 한 번에 주문 하나의 항목만 메모리에 둔다.
+     */
+    public void exportOrders(Consumer<OrderInfo> consumer) {
+        List<OrderExportRow> pending = new ArrayList<>();
+        orderService.exportOrders(row -> {
+            if (!pending.isEmpty() && !pending.get(0).orderId().equals(row.orderId())) {
+                consumer.accept(OrderInfo.from(pending));
+                pending.clear();
+            }
+            pending.add(row);
+        });
+        if (!pending.isEmpty()) {
+            consumer.accept(OrderInfo.from(pending));
+        }
+    }
+
     public OrderInfo createOrder(Long userId, Map<Long, Integer> productQuantities) {
         Order order = orderService.createOrder(userId, productQuantities);
         return OrderInfo.from(order);
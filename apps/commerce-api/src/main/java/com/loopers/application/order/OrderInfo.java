@@ -1,6 +1,8 @@
 package com.loopers.application.order;
 
+import com.loopers.domain.EntityVersion;
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderExportRow;
 import com.loopers.domain.order.OrderStatus;
 
 import java.util.List;
@@ -11,7 +13,8 @@ public record OrderInfo(
     Long userId,
     OrderStatus status,
     Long totalAmount,
-    List<OrderItemInfo> items
+    List<OrderItemInfo> items,
+    EntityVersion version
 ) {
     public static OrderInfo from(Order order) {
         return new OrderInfo(
@@ -21,7 +24,26 @@ public record OrderInfo(
             order.getTotalAmount(),
             order.getOrderItems().stream()
                 .map(OrderItemInfo::from)
-                .collect(Collectors.toList())
+                .collect(Collectors.toList()),
+            new EntityVersion(order.getUpdatedAt())
+        );
+    }
+
+    /**
+     * 같은 주문의 내보내기 행들로 만든다.
+     */
+    public static OrderInfo from(List<OrderExportRow> rows) {
+        OrderExportRow first = rows.get(0);
+        return new OrderInfo(
+            first.orderId(),
+            first.userId(),
+            first.status(),
+            first.totalAmount(),
+            rows.stream()
+                .filter(row -> row.itemId() != null)
+                .map(OrderItemInfo::from)
+                .collect(Collectors.toList()),
+            new EntityVersion(first.updatedAt())
         );
     }
 }
@@ -1,5 +1,6 @@
 package com.loopers.application.order;
 
+import com.loopers.domain.order.OrderExportRow;
 import com.loopers.domain.order.OrderItem;
 
 public record OrderItemInfo(
@@ -14,10 +15,21 @@ public record OrderItemInfo(
         return new OrderItemInfo(
             orderItem.getId(),
             orderItem.getProduct().getId(),
-            orderItem.getProduct().getName(),
+            orderItem.getProductName(),
             orderItem.getQuantity(),
             orderItem.getPrice(),
             orderItem.getTotalPrice()
         );
     }
+
+    public static OrderItemInfo from(OrderExportRow row) {
+        return new OrderItemInfo(
+            row.itemId(),
+            row.productId(),
+            row.productName(),
+            row.quantity(),
+            row.price(),
+            row.price() * row.quantity()
+        );
+    }
 }
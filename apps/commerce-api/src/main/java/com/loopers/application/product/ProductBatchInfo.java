@@ -0,0 +1,9 @@
+package com.loopers.application.product;
+
+import java.util.List;
+
+/**
+ * @param products   요청한 id 순서대로 찾은 상품
+ * @param missingIds 찾지 못한 id (요청 순서)
+ */
+public record ProductBatchInfo(List<ProductInfo> products, List<Long> missingIds) { }
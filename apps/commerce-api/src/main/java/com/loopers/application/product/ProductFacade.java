@@ -1,21 +1,88 @@
 package com.loopers.application.product;
 
+import com.loopers.domain.EntityVersion;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
-import lombok.RequiredArgsConstructor;
+import com.loopers.support.cache.CacheInvalidationBus;
+import com.loopers.support.cache.CacheNames;
+import com.loopers.support.cache.LocalCache;
+import com.loopers.support.cache.SingleFlightLoader;
+import com.loopers.support.cache.SingleFlights;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-@RequiredArgsConstructor
 @Component
 public class ProductFacade {
+    static final int MAX_BATCH_SIZE = 1000;
+
     private final ProductService productService;
+    private final LocalCache<ProductInfo> productCache;
+    private final SingleFlightLoader<ProductInfo> productLoads;
+
+    public ProductFacade(ProductService productService, CacheInvalidationBus cacheInvalidationBus, SingleFlights singleFlights) {
+        this.productService = productService;
+        this.productCache = cacheInvalidationBus.register(CacheNames.PRODUCT);
+        this.productLoads = singleFlights.create(CacheNames.PRODUCT, ProductInfo.class);
+    }
 
+    /**
+     * 캐시 미스 시 같은 상품의 동시 조회는 하나로 합친다. 조회가 오래 걸리면 기다리던 요청은 이전 값으로 응답한다.
+     */
     public ProductInfo getProduct(Long productId) {
-        Product product = productService.getProduct(productId);
-        return ProductInfo.from(product);
+        ProductInfo cached = productCache.getIfPresent(productId);
+        if (cached != null) {
+            return cached;
+        }
+        return productLoads.load(productId, () -> productCache.get(productId, id -> ProductInfo.from(productService.getProduct(id))));
+    }
+
+    /**
+     * 여러 상품을 한 번에 조회한다. 로컬 캐시에 없는 상품만 모아 조회하고, 조회한 상품은 캐시에 넣는다.
+     * 중복된 id 는 처음 나온 위치에 한 번만 담는다.
+     */
+    public ProductBatchInfo getProducts(List<Long> productIds) {
+        List<Long> ids = productIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "한 번에 조회할 수 있는 상품은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+        if (ids.isEmpty()) {
+            return new ProductBatchInfo(List.of(), List.of());
+        }
+
+        Map<Long, ProductInfo> found = productCache.getAll(ids, missing -> productService.getProducts(missing).stream()
+            .collect(Collectors.toMap(Product::getId, ProductInfo::from)));
+
+        List<ProductInfo> products = new ArrayList<>(ids.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            ProductInfo info = found.get(id);
+            if (info != null) {
+                products.add(info);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new ProductBatchInfo(products, missingIds);
+    }
+
+    /**
+     * 캐시에 있으면 캐시된 값의 버전을, 없으면 버전만 조회한다. (상품 전체를 읽지 않는다)
+     */
+    public EntityVersion getProductVersion(Long productId) {
+        ProductInfo cached = productCache.getIfPresent(productId);
+        return cached != null ? cached.version() : productService.getProductVersion(productId);
+    }
+
+    public EntityVersion getAllProductsVersion() {
+        return productService.getAllProductsVersion();
     }
 
     public List<ProductInfo> getAllProducts() {
@@ -24,6 +91,10 @@ public class ProductFacade {
             .collect(Collectors.toList());
     }
 
+    public void exportProducts(Consumer<ProductInfo> consumer) {
+        productService.exportProducts(row -> consumer.accept(ProductInfo.from(row)));
+    }
+
     public ProductInfo createProduct(String name, Long price, Integer stock) {
         Product product = productService.createProduct(name, price, stock);
         return ProductInfo.from(product);
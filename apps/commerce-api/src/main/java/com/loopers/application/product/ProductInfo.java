@@ -1,14 +1,27 @@
 package com.loopers.application.product;
 
+import com.loopers.domain.EntityVersion;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductExportRow;
 
-public record ProductInfo(Long id, String name, Long price, Integer stock) {
+public record ProductInfo(Long id, String name, Long price, Integer stock, EntityVersion version) {
     public static ProductInfo from(Product product) {
         return new ProductInfo(
             product.getId(),
             product.getName(),
             product.getPrice(),
-            product.getStock()
+            product.getStock(),
+            new EntityVersion(product.getVersion(), product.getUpdatedAt())
+        );
+    }
+
+    public static ProductInfo from(ProductExportRow row) {
+        return new ProductInfo(
+            row.id(),
+            row.name(),
+            row.price(),
+            row.stock(),
+            new EntityVersion(row.version(), row.updatedAt())
         );
     }
 }
@@ -0,0 +1,40 @@
+package com.loopers.application.ranking;
+
+import com.loopers.application.product.ProductInfo;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.ranking.ProductRanking;
+import com.loopers.domain.ranking.RankingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class RankingFacade {
+    private final RankingService rankingService;
+    private final ProductService productService;
+
+    /**
+     * 랭킹 상위 상품을 조회한다. 상품 정보는 IN 쿼리 한 번으로 채우고, 삭제되어 조회되지 않는 상품은 제외한다.
+     */
+    public List<RankingInfo> getRankings(LocalDate date, int page, int size) {
+        List<ProductRanking> rankings = rankingService.getRankings(date, page, size);
+        if (rankings.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> products = productService.getProducts(
+            rankings.stream().map(ProductRanking::productId).toList()
+        ).stream().collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return rankings.stream()
+            .filter(ranking -> products.containsKey(ranking.productId()))
+            .map(ranking -> RankingInfo.of(ranking, ProductInfo.from(products.get(ranking.productId()))))
+            .collect(Collectors.toList());
+    }
+}
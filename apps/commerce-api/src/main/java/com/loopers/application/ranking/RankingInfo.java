@@ -0,0 +1,10 @@
+package com.loopers.application.ranking;
+
+import com.loopers.application.product.ProductInfo;
+import com.loopers.domain.ranking.ProductRanking;
+
+public record RankingInfo(long rank, double score, ProductInfo product) {
+    public static RankingInfo of(ProductRanking ranking, ProductInfo product) {
+        return new RankingInfo(ranking.rank(), ranking.score(), product);
+    }
+}
@@ -1,18 +1,33 @@
 package com.loopers.application.user;
 
+import com.loopers.domain.EntityVersion;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserService;
-import lombok.RequiredArgsConstructor;
+import com.loopers.support.cache.CacheInvalidationBus;
+import com.loopers.support.cache.CacheNames;
+import com.loopers.support.cache.LocalCache;
 import org.springframework.stereotype.Component;
 
-@RequiredArgsConstructor
 @Component
 public class UserFacade {
     private final UserService userService;
+    private final LocalCache<UserInfo> userCache;
+
+    public UserFacade(UserService userService, CacheInvalidationBus cacheInvalidationBus) {
+        this.userService = userService;
+        this.userCache = cacheInvalidationBus.register(CacheNames.USER);
+    }
 
     public UserInfo getUser(Long userId) {
-        User user = userService.getUser(userId);
-        return UserInfo.from(user);
+        return userCache.get(userId, id -> UserInfo.from(userService.getUser(id)));
+    }
+
+    /**
+     * 캐시에 있으면 캐시된 값의 버전을, 없으면 버전만 조회한다. (사용자 전체를 읽지 않는다)
+     */
+    public EntityVersion getUserVersion(Long userId) {
+        UserInfo cached = userCache.getIfPresent(userId);
+        return cached != null ? cached.version() : userService.getUserVersion(userId);
     }
 
     public UserInfo createUser(String name) {
@@ -24,8 +39,15 @@ public class UserFacade {
         userService.chargePoint(userId, amount);
     }
 
+    /**
+     * 포인트는 캐시를 거치지 않고 항상 DB 에서 조회한다.
+     */
     public UserInfo getUserPoint(Long userId) {
         User user = userService.getUser(userId);
         return UserInfo.from(user);
     }
+
+    public EntityVersion getUserPointVersion(Long userId) {
+        return userService.getUserVersion(userId);
+    }
 }
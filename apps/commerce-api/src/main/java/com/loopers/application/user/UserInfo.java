@@ -1,13 +1,15 @@
 package com.loopers.application.user;
 
+import com.loopers.domain.EntityVersion;
 import com.loopers.domain.user.User;
 
-public record UserInfo(Long id, String name, Long point) {
+public record UserInfo(Long id, String name, Long point, EntityVersion version) {
     public static UserInfo from(User user) {
         return new UserInfo(
             user.getId(),
             user.getName(),
-            user.getPoint()
+            user.getPoint(),
+            new EntityVersion(user.getUpdatedAt())
         );
     }
 }
@@ -0,0 +1,20 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 내보내기용 주문 항목 한 행 (주문 정보 포함). 항목이 없는 주문은 항목 필드가 모두 null 인 한 행이다.
+ * 같은 주문의 행은 연속으로 온다.
+ */
+public record OrderExportRow(
+    Long orderId,
+    Long userId,
+    OrderStatus status,
+    Long totalAmount,
+    ZonedDateTime updatedAt,
+    Long itemId,
+    Long productId,
+    String productName,
+    Integer quantity,
+    Long price
+) { }
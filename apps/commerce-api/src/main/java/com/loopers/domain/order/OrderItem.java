@@ -23,6 +23,9 @@ public class OrderItem extends BaseEntity {
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
+    @Column(name = "product_name", nullable = false)
+    private String productName;
+
     @Column(nullable = false)
     private Integer quantity;
 
@@ -38,6 +41,7 @@ public class OrderItem extends BaseEntity {
         }
 
         this.product = product;
+        this.productName = product.getName();
         this.quantity = quantity;
         this.price = product.getPrice();
     }
@@ -50,6 +54,13 @@ public class OrderItem extends BaseEntity {
         return product;
     }
 
+    /**
+     * 주문 시점의 상품명
+     */
+    public String getProductName() {
+        return productName;
+    }
+
     public Integer getQuantity() {
         return quantity;
     }
@@ -0,0 +1,29 @@
+package com.loopers.domain.order;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 주문 결제 완료 이벤트. 트랜잭션 커밋 이후 외부로 발행된다.
+ */
+public record OrderPaidEvent(
+    Long orderId,
+    Long userId,
+    Long totalAmount,
+    List<Item> items,
+    ZonedDateTime paidAt
+) {
+    public record Item(Long productId, Integer quantity, Long price) {}
+
+    public static OrderPaidEvent from(Order order) {
+        return new OrderPaidEvent(
+            order.getId(),
+            order.getUser().getId(),
+            order.getTotalAmount(),
+            order.getOrderItems().stream()
+                .map(item -> new Item(item.getProduct().getId(), item.getQuantity(), item.getPrice()))
+                .toList(),
+            ZonedDateTime.now()
+        );
+    }
+}
@@ -1,10 +1,16 @@
 package com.loopers.domain.order;
 
+import com.loopers.domain.EntityVersion;
+
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository {
     Optional<Order> find(Long id);
+    Optional<EntityVersion> findVersion(Long id);
     List<Order> findByUserId(Long userId);
+    EntityVersion findVersionByUserId(Long userId);
+    Stream<OrderExportRow> streamAll();
     Order save(Order order);
 }
@@ -1,25 +1,37 @@
 package com.loopers.domain.order;
 
+import com.loopers.config.jpa.bulkhead.DataSourcePool;
+import com.loopers.domain.EntityVersion;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserService;
+import com.loopers.support.cache.CacheInvalidationBus;
+import com.loopers.support.cache.CacheNames;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Component
 public class OrderService {
 
+    private static final String CHECKOUT_POOL = "checkout"; // 락을 잡는 쓰기는 전용 풀에서 실행해 조회 트랜잭션의 커넥션을 뺏지 않는다.
+    private static final String EXPORT_POOL = "export"; // 커서를 오래 잡는 내보내기는 전용 풀에서 실행해 조회 / 주문의 커넥션을 뺏지 않는다.
+
     private final OrderRepository orderRepository;
     private final UserService userService;
     private final ProductService productService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     @Transactional(readOnly = true)
     public Order getOrder(Long id) {
@@ -27,11 +39,37 @@ public class OrderService {
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 주문을 찾을 수 없습니다."));
     }
 
+    /**
+     * 주문을 읽지 않고 수정 시각만 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public EntityVersion getOrderVersion(Long id) {
+        return orderRepository.findVersion(id)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 주문을 찾을 수 없습니다."));
+    }
+
     @Transactional(readOnly = true)
     public List<Order> getOrdersByUserId(Long userId) {
         return orderRepository.findByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
+    public EntityVersion getOrdersVersionByUserId(Long userId) {
+        return orderRepository.findVersionByUserId(userId);
+    }
+
+    /**
+     * 모든 주문 항목을 주문 id 순서로 한 행씩 넘긴다. 서버 측 커서로 읽으므로 주문 수와 관계없이 메모리 사용량이 일정하다.
+     */
+    @DataSourcePool(EXPORT_POOL)
+    @Transactional(readOnly = true)
+    public void exportOrders(Consumer<OrderExportRow> consumer) {
+        try (Stream<OrderExportRow> rows = orderRepository.streamAll()) {
+            rows.forEach(consumer);
+        }
+    }
+
+    @DataSourcePool(CHECKOUT_POOL)
     @Transactional
     public Order createOrder(Long userId, Map<Long, Integer> productQuantities) {
         User user = userService.getUser(userId);
@@ -54,12 +92,17 @@ public class OrderService {
         return orderRepository.save(order);
     }
 
+    @DataSourcePool(CHECKOUT_POOL)
     @Transactional
     public void payOrder(Long orderId) {
         Order order = getOrder(orderId);
+        userService.getUserWithLock(order.getUser().getId()); // 2차 캐시의 포인트가 아닌 DB 의 최신 값에서 차감
         order.pay();
+        cacheInvalidationBus.invalidate(CacheNames.USER, order.getUser().getId()); // 포인트 차감
+        eventPublisher.publishEvent(OrderPaidEvent.from(order));
     }
 
+    @DataSourcePool(CHECKOUT_POOL)
     @Transactional
     public void cancelOrder(Long orderId) {
         Order order = getOrder(orderId);
@@ -69,6 +112,8 @@ public class OrderService {
             productService.increaseStock(item.getProduct().getId(), item.getQuantity());
         }
 
+        userService.getUserWithLock(order.getUser().getId()); // 2차 캐시의 포인트가 아닌 DB 의 최신 값에 환불
         order.cancel();
+        cacheInvalidationBus.invalidate(CacheNames.USER, order.getUser().getId()); // 포인트 환불
     }
 }
@@ -0,0 +1,15 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 내보내기용 상품 한 행. 영속성 컨텍스트에 올리지 않도록 엔티티 대신 projection 으로 읽는다.
+ */
+public record ProductExportRow(
+    Long id,
+    String name,
+    Long price,
+    Integer stock,
+    Long version,
+    ZonedDateTime updatedAt
+) { }
@@ -1,11 +1,19 @@
 package com.loopers.domain.product;
 
+import com.loopers.domain.EntityVersion;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProductRepository {
     Optional<Product> find(Long id);
     Optional<Product> findWithLock(Long id);
+    Optional<EntityVersion> findVersion(Long id);
     List<Product> findAll();
+    EntityVersion findVersionOfAll();
+    Stream<ProductExportRow> streamAll();
+    List<Product> findAllByIds(Collection<Long> ids);
     Product save(Product product);
 }
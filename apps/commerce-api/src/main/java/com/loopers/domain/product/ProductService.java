@@ -1,18 +1,28 @@
 package com.loopers.domain.product;
 
+import com.loopers.config.jpa.bulkhead.DataSourcePool;
+import com.loopers.domain.EntityVersion;
+import com.loopers.support.cache.CacheInvalidationBus;
+import com.loopers.support.cache.CacheNames;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Component
 public class ProductService {
 
+    private static final String EXPORT_POOL = "export"; // 커서를 오래 잡는 내보내기는 전용 풀에서 실행해 조회 / 주문의 커넥션을 뺏지 않는다.
+
     private final ProductRepository productRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     @Transactional(readOnly = true)
     public Product getProduct(Long id) {
@@ -20,11 +30,44 @@ public class ProductService {
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 상품을 찾을 수 없습니다."));
     }
 
+    /**
+     * 상품을 읽지 않고 버전과 수정 시각만 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public EntityVersion getProductVersion(Long id) {
+        return productRepository.findVersion(id)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 상품을 찾을 수 없습니다."));
+    }
+
     @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public EntityVersion getAllProductsVersion() {
+        return productRepository.findVersionOfAll();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Product> getProducts(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return productRepository.findAllByIds(ids);
+    }
+
+    /**
+     * 모든 상품을 id 순서로 한 행씩 넘긴다. 서버 측 커서로 읽으므로 상품 수와 관계없이 메모리 사용량이 일정하다.
+     */
+    @DataSourcePool(EXPORT_POOL)
+    @Transactional(readOnly = true)
+    public void exportProducts(Consumer<ProductExportRow> consumer) {
+        try (Stream<ProductExportRow> rows = productRepository.streamAll()) {
+            rows.forEach(consumer);
+        }
+    }
+
     @Transactional
     public Product createProduct(String name, Long price, Integer stock) {
         Product product = new Product(name, price, stock);
@@ -37,11 +80,13 @@ public class ProductService {
         Product product = productRepository.findWithLock(productId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + productId + "] 상품을 찾을 수 없습니다."));
         product.decreaseStock(quantity);
+        cacheInvalidationBus.invalidate(CacheNames.PRODUCT, productId);
     }
 
     @Transactional
     public void increaseStock(Long productId, Integer quantity) {
         Product product = getProduct(productId);
         product.increaseStock(quantity);
+        cacheInvalidationBus.invalidate(CacheNames.PRODUCT, productId);
     }
 }
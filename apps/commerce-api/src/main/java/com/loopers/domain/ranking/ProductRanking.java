@@ -0,0 +1,7 @@
+package com.loopers.domain.ranking;
+
+/**
+ * 랭킹 한 항목
+ * @param rank 1부터 시작하는 순위
+ */
+public record ProductRanking(long rank, Long productId, double score) {}
@@ -0,0 +1,8 @@
+package com.loopers.domain.ranking;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RankingRepository {
+    List<ProductRanking> findTop(LocalDate date, int offset, int limit);
+}
@@ -0,0 +1,27 @@
+package com.loopers.domain.ranking;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class RankingService {
+    private static final int MAX_SIZE = 100;
+
+    private final RankingRepository rankingRepository;
+
+    public List<ProductRanking> getRankings(LocalDate date, int page, int size) {
+        if (page < 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지는 0보다 크거나 같아야 합니다.");
+        }
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회 개수는 1 ~ " + MAX_SIZE + " 사이여야 합니다.");
+        }
+        return rankingRepository.findTop(date, page * size, size);
+    }
+}
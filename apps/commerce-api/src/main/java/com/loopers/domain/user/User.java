@@ -1,21 +1,33 @@
 package com.loopers.domain.user;
 
 import com.loopers.domain.BaseEntity;
+import com.loopers.support.cache.CacheNames;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * 사용자 엔티티
+ * <p>
+ * 2차 캐시는 노드마다 따로 있어 오래된 값일 수 있으므로, 포인트를 바꿀 때는 락을 잡고 DB 에서 다시 읽는다. (UserService#getUserWithLock)
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.USER_ENTITY_REGION)
 @Table(name = "users")
 public class User extends BaseEntity {
 
     private String name;
     private Long point;
 
+    @Version
+    private Long version;
+
     protected User() {}
 
     public User(String name) {
@@ -34,6 +46,10 @@ public class User extends BaseEntity {
         return point;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     /**
      * 포인트 충전
      * @param amount 충전할 금액
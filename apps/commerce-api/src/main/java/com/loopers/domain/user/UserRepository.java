@@ -1,8 +1,12 @@
 package com.loopers.domain.user;
 
+import com.loopers.domain.EntityVersion;
+
 import java.util.Optional;
 
 public interface UserRepository {
     Optional<User> find(Long id);
+    Optional<User> findWithLock(Long id);
+    Optional<EntityVersion> findVersion(Long id);
     User save(User user);
 }
@@ -1,5 +1,8 @@
 package com.loopers.domain.user;
 
+import com.loopers.domain.EntityVersion;
+import com.loopers.support.cache.CacheInvalidationBus;
+import com.loopers.support.cache.CacheNames;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +15,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     @Transactional(readOnly = true)
     public User getUser(Long id) {
@@ -19,6 +23,24 @@ public class UserService {
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 사용자를 찾을 수 없습니다."));
     }
 
+    /**
+     * 포인트를 바꾸기 전에 사용자 행에 락을 잡고 DB 에서 읽는다. (락 조회는 2차 캐시를 거치지 않는다)
+     */
+    @Transactional
+    public User getUserWithLock(Long id) {
+        return userRepository.findWithLock(id)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 사용자를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 사용자를 읽지 않고 버전과 수정 시각만 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public EntityVersion getUserVersion(Long id) {
+        return userRepository.findVersion(id)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 사용자를 찾을 수 없습니다."));
+    }
+
     @Transactional
     public User createUser(String name) {
         User user = new User(name);
@@ -27,7 +49,7 @@ public class UserService {
 
     @Transactional
     public void chargePoint(Long userId, Long amount) {
-        User user = getUser(userId);
+        User user = getUserWithLock(userId);
         user.chargePoint(amount);
 
         // 포인트 이력 저장
@@ -38,11 +60,12 @@ public class UserService {
             user.getPoint()
         );
         pointHistoryRepository.save(history);
+        cacheInvalidationBus.invalidate(CacheNames.USER, userId);
     }
 
     @Transactional
     public void usePoint(Long userId, Long amount) {
-        User user = getUser(userId);
+        User user = getUserWithLock(userId);
         user.usePoint(amount);
 
         // 포인트 이력 저장
@@ -53,5 +76,6 @@ public class UserService {
             user.getPoint()
         );
         pointHistoryRepository.save(history);
+        cacheInvalidationBus.invalidate(CacheNames.USER, userId);
     }
 }
@@ -0,0 +1,46 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.OrderPaidEvent;
+import com.loopers.confg.kafka.KafkaConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 주문 이벤트만 Kafka 로 발행한다. 주문 id 를 key 로 사용해 같은 주문의 이벤트 순서를 보장한다.
+ * <p>
+ * 요청 스레드에서 호출되므로 브로커 장애 시 send() 가 막히는 시간은 max.block.ms 를 줄인 전용 템플릿({@link KafkaConfig#REQUEST_KAFKA_TEMPLATE})으로 제한한다.
+ * 주문은 이미 커밋되었으므로 발행 실패는 응답에 영향을 주지 않고 로그로 남긴다.
+ */
+@Slf4j
+@Component
+public class OrderEventKafkaPublisher {
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final String orderPaidTopic;
+
+    public OrderEventKafkaPublisher(
+        @Qualifier(KafkaConfig.REQUEST_KAFKA_TEMPLATE) KafkaTemplate<Object, Object> kafkaTemplate,
+        @Value("${commerce-events.order-paid.topic-name}") String orderPaidTopic
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.orderPaidTopic = orderPaidTopic;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(OrderPaidEvent event) {
+        try {
+            kafkaTemplate.send(orderPaidTopic, String.valueOf(event.orderId()), event)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("주문 결제 이벤트 발행에 실패했습니다 : orderId = {}", event.orderId(), e);
+                    }
+                });
+        } catch (Exception e) {
+            log.error("주문 결제 이벤트 발행에 실패했습니다 : orderId = {}", event.orderId(), e);
+        }
+    }
+}
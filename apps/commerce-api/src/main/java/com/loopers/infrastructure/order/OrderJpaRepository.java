@@ -1,10 +1,51 @@
 package com.loopers.infrastructure.order;
 
+import com.loopers.domain.EntityVersion;
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * 주문 조회 결과는 트랜잭션 밖에서 OrderInfo 로 변환되므로 주문 항목과 상품을 함께 가져온다.
+ */
 public interface OrderJpaRepository extends JpaRepository<Order, Long> {
+    String STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE; // MySQL 드라이버가 결과를 모두 받아 두지 않고 한 행씩 읽는다.
+
+    @EntityGraph(attributePaths = {"orderItems", "orderItems.product"})
+    Optional<Order> findWithItemsById(Long id);
+
+    @EntityGraph(attributePaths = {"orderItems", "orderItems.product"})
     List<Order> findByUserId(Long userId);
+
+    /**
+     * 주문 항목의 상품명 / 가격은 주문 시점에 항목에 저장된 값이므로 주문의 수정 시각만으로 변경 여부를 판단한다.
+     */
+    @Query("SELECT new com.loopers.domain.EntityVersion(o.updatedAt) FROM Order o WHERE o.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.loopers.domain.EntityVersion(COUNT(o), MAX(o.updatedAt)) FROM Order o WHERE o.user.id = :userId")
+    EntityVersion findVersionByUserId(@Param("userId") Long userId);
+
+    /**
+     * 주문 항목 단위로 서버 측 커서로 읽는다. 같은 주문의 행이 연속되도록 주문 id 로 정렬한다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query("""
+        SELECT new com.loopers.domain.order.OrderExportRow(
+            o.id, o.user.id, o.status, o.totalAmount, o.updatedAt, i.id, p.id, i.productName, i.quantity, i.price
+        )
+        FROM Order o LEFT JOIN o.orderItems i LEFT JOIN i.product p
+        ORDER BY o.id
+        """)
+    Stream<OrderExportRow> streamAll();
 }
@@ -1,12 +1,15 @@
 package com.loopers.infrastructure.order;
 
+import com.loopers.domain.EntityVersion;
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderExportRow;
 import com.loopers.domain.order.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Component
@@ -15,7 +18,12 @@ public class OrderRepositoryImpl implements OrderRepository {
 
     @Override
     public Optional<Order> find(Long id) {
-        return orderJpaRepository.findById(id);
+        return orderJpaRepository.findWithItemsById(id);
+    }
+
+    @Override
+    public Optional<EntityVersion> findVersion(Long id) {
+        return orderJpaRepository.findVersionById(id);
     }
 
     @Override
@@ -23,6 +31,16 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderJpaRepository.findByUserId(userId);
     }
 
+    @Override
+    public EntityVersion findVersionByUserId(Long userId) {
+        return orderJpaRepository.findVersionByUserId(userId);
+    }
+
+    @Override
+    public Stream<OrderExportRow> streamAll() {
+        return orderJpaRepository.streamAll();
+    }
+
     @Override
     public Order save(Order order) {
         return orderJpaRepository.save(order);
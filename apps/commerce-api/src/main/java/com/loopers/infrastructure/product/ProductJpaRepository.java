@@ -1,17 +1,40 @@
 package com.loopers.infrastructure.product;
 
+import com.loopers.domain.EntityVersion;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductExportRow;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProductJpaRepository extends JpaRepository<Product, Long> {
+    String STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE; // MySQL 드라이버가 결과를 모두 받아 두지 않고 한 행씩 읽는다.
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
+
+    @Query("SELECT new com.loopers.domain.EntityVersion(p.version, p.updatedAt) FROM Product p WHERE p.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * 테이블 대신 idx_products_updated_at 인덱스만 읽는다.
+     */
+    @Query("SELECT new com.loopers.domain.EntityVersion(COUNT(p), MAX(p.updatedAt)) FROM Product p")
+    EntityVersion findVersionOfAll();
+
+    /**
+     * 서버 측 커서로 한 행씩 읽는다. 스트림을 닫을 때까지 커넥션을 점유하므로 트랜잭션 안에서 바로 소비한다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query("SELECT new com.loopers.domain.product.ProductExportRow(p.id, p.name, p.price, p.stock, p.version, p.updatedAt) FROM Product p ORDER BY p.id")
+    Stream<ProductExportRow> streamAll();
 }
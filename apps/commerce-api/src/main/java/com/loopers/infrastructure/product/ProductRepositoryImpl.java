@@ -1,18 +1,31 @@
 package com.loopers.infrastructure.product;
 
+import com.loopers.domain.EntityVersion;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductExportRow;
 import com.loopers.domain.product.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Component
 public class ProductRepositoryImpl implements ProductRepository {
+    private static final int IN_QUERY_CHUNK_SIZE = 100; // default_batch_fetch_size 와 같게 두어 IN 쿼리 모양을 재사용한다.
+
     private final ProductJpaRepository productJpaRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public Optional<Product> find(Long id) {
         return productJpaRepository.findById(id);
@@ -23,11 +36,42 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findByIdWithLock(id);
     }
 
+    @Override
+    public Optional<EntityVersion> findVersion(Long id) {
+        return productJpaRepository.findVersionById(id);
+    }
+
     @Override
     public List<Product> findAll() {
         return productJpaRepository.findAll();
     }
 
+    @Override
+    public EntityVersion findVersionOfAll() {
+        return productJpaRepository.findVersionOfAll();
+    }
+
+    @Override
+    public Stream<ProductExportRow> streamAll() {
+        return productJpaRepository.streamAll();
+    }
+
+    /**
+     * 영속성 컨텍스트와 2차 캐시에 있는 상품은 쿼리 없이 가져오고, 나머지만 IN_QUERY_CHUNK_SIZE 개씩 나눠 조회한다.
+     * 없는 상품은 결과에서 빠진다.
+     */
+    @Override
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        return entityManager.unwrap(Session.class)
+            .byMultipleIds(Product.class)
+            .enableSessionCheck(true)
+            .withBatchSize(IN_QUERY_CHUNK_SIZE)
+            .multiLoad(List.copyOf(ids))
+            .stream()
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
     @Override
     public Product save(Product product) {
         return productJpaRepository.save(product);
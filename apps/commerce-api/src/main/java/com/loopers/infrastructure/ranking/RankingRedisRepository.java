@@ -0,0 +1,43 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.cluster.RedisHashTags;
+import com.loopers.domain.ranking.ProductRanking;
+import com.loopers.domain.ranking.RankingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * commerce-streamer 가 적재하는 일자별 상품 랭킹 ZSET 을 조회한다. (replica 우선)
+ */
+@RequiredArgsConstructor
+@Component
+public class RankingRedisRepository implements RankingRepository {
+    private static final String KEY_TAG = "ranking:products";
+    private static final DateTimeFormatter KEY_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public List<ProductRanking> findTop(LocalDate date, int offset, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+            .reverseRangeWithScores(RedisHashTags.key(KEY_TAG, KEY_DATE_FORMAT.format(date)), offset, offset + limit - 1L);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<ProductRanking> rankings = new ArrayList<>(tuples.size());
+        long rank = offset + 1L;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            double score = tuple.getScore() == null ? 0.0 : tuple.getScore();
+            rankings.add(new ProductRanking(rank++, Long.valueOf(tuple.getValue()), score));
+        }
+        return rankings;
+    }
+}
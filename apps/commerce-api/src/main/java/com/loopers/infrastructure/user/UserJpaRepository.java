@@ -1,6 +1,21 @@
 package com.loopers.infrastructure.user;
 
+import com.loopers.domain.EntityVersion;
 import com.loopers.domain.user.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface UserJpaRepository extends JpaRepository<User, Long> {}
+import java.util.Optional;
+
+public interface UserJpaRepository extends JpaRepository<User, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdWithLock(@Param("id") Long id);
+
+    @Query("SELECT new com.loopers.domain.EntityVersion(u.version, u.updatedAt) FROM User u WHERE u.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+}
@@ -1,5 +1,6 @@
 package com.loopers.infrastructure.user;
 
+import com.loopers.domain.EntityVersion;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,16 @@ public class UserRepositoryImpl implements UserRepository {
         return userJpaRepository.findById(id);
     }
 
+    @Override
+    public Optional<User> findWithLock(Long id) {
+        return userJpaRepository.findByIdWithLock(id);
+    }
+
+    @Override
+    public Optional<EntityVersion> findVersion(Long id) {
+        return userJpaRepository.findVersionById(id);
+    }
+
     @Override
     public User save(User user) {
         return userJpaRepository.save(user);
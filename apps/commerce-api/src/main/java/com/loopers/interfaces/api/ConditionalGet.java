@@ -0,0 +1,86 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.domain.EntityVersion;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 엔티티 버전으로 ETag / Last-Modified 를 쓰고 조건부 GET 에 304 로 응답한다.
+ * <ul>
+ *     <li>If-None-Match / If-Modified-Since 가 있으면 버전만 먼저 조회해 비교하고, 바뀌지 않았으면 본문을 읽지 않는다.
+ *     바뀌었으면 본문을 읽고 헤더를 본문의 버전으로 다시 쓴다.</li>
+ *     <li>그 외에는 본문을 읽고 본문의 버전으로 헤더를 쓴다. (조회가 늘지 않는다)</li>
+ * </ul>
+ * ETag 는 응답 본문을 직렬화하지 않고 버전과 수정 시각(마이크로초)으로 만든다.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * @param resource      ETag 에 넣을 리소스 이름 (예: "product-1")
+     * @param versionLookup 본문 없이 버전만 조회
+     * @param loader        본문 조회
+     * @param versionOf     조회한 본문의 버전
+     * @return 본문, 304 로 응답했으면 null
+     */
+    public static <T> T load(
+        WebRequest request,
+        String resource,
+        Supplier<EntityVersion> versionLookup,
+        Supplier<T> loader,
+        Function<T, EntityVersion> versionOf
+    ) {
+        if (hasValidators(request)) {
+            if (notModified(request, resource, versionLookup.get())) {
+                return null;
+            }
+            // 본문은 캐시에서 올 수 있어 조회한 버전보다 오래되었을 수 있다. 헤더는 실제로 보내는 본문의 버전으로 다시 쓴다.
+            T body = loader.get();
+            writeValidators(request, resource, versionOf.apply(body));
+            return body;
+        }
+        T body = loader.get();
+        notModified(request, resource, versionOf.apply(body));
+        return body;
+    }
+
+    static String eTag(String resource, EntityVersion version) {
+        long updatedAt = version.updatedAt() == null
+            ? 0L
+            : ChronoUnit.MICROS.between(Instant.EPOCH, version.updatedAt().toInstant());
+        return "\"" + resource + "." + version.version() + "." + updatedAt + "\"";
+    }
+
+    private static boolean notModified(WebRequest request, String resource, EntityVersion version) {
+        long lastModified = version.updatedAt() == null ? -1L : version.updatedAt().toInstant().toEpochMilli();
+        return request.checkNotModified(eTag(resource, version), lastModified);
+    }
+
+    private static void writeValidators(WebRequest request, String resource, EntityVersion version) {
+        if (!(request instanceof NativeWebRequest nativeRequest)) {
+            return;
+        }
+        HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+        if (response == null) {
+            return;
+        }
+        response.setHeader(HttpHeaders.ETAG, eTag(resource, version));
+        if (version.updatedAt() != null) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, version.updatedAt().toInstant().toEpochMilli());
+        }
+    }
+
+    private static boolean hasValidators(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+            || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+}
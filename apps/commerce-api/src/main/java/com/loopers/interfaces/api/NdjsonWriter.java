@@ -0,0 +1,170 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.loopers.support.error.ErrorType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 스트림에 NDJSON(한 줄에 JSON 하나)을 바로 쓴다. 목록을 만들지 않으므로 건수와 관계없이 메모리 사용량이 일정하다.
+ * Accept-Encoding 에서 gzip 을 받으면(q > 0) gzip 으로 압축한다.
+ * <pre>
+ * NdjsonWriter.stream(request, response, objectMapper, "products.ndjson",
+ *     writer -> facade.export(info -> writer.write(Dto.from(info))));
+ * </pre>
+ * 중간에 실패했을 때 응답을 아직 보내지 않았으면 비우고 예외를 다시 던져 일반 오류 응답으로 바꾼다.
+ * 이미 일부를 보냈으면 마지막 줄에 실패 레코드({@link ApiResponse#fail})를 쓰고 끝내므로,
+ * 클라이언트는 마지막 줄의 meta.result 가 FAIL 인지로 잘린 내보내기를 알아챌 수 있다.
+ */
+@Slf4j
+public final class NdjsonWriter {
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TRUNCATED_MESSAGE = "내보내기가 중간에 실패했습니다.";
+
+    private final ObjectMapper objectMapper;
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+    private boolean lineOpen;
+
+    private NdjsonWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        this.generator.setRootValueSeparator(null);
+        // 실패한 값 뒤에 닫는 괄호를 붙이지 않도록 한다. (실패 레코드가 한 줄을 온전히 차지해야 한다)
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        // 한 줄마다 소켓으로 내보내지 않고 버퍼가 찰 때 내보낸다.
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * body 가 값을 모두 쓰면 남은 버퍼를 내보내고 gzip 이면 trailer 를 쓴다.
+     */
+    public static void stream(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        ObjectMapper objectMapper,
+        String filename,
+        Consumer<NdjsonWriter> body
+    ) throws IOException {
+        NdjsonWriter writer = open(request, response, objectMapper, filename);
+        try {
+            body.accept(writer);
+        } catch (RuntimeException e) {
+            writer.fail(response, e);
+            return;
+        }
+        writer.generator.close();
+    }
+
+    private static NdjsonWriter open(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        ObjectMapper objectMapper,
+        String filename
+    ) throws IOException {
+        response.setContentType(MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        OutputStream out = response.getOutputStream();
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+        return new NdjsonWriter(new BufferedOutputStream(out, BUFFER_SIZE), objectMapper);
+    }
+
+    /**
+     * 값 하나를 한 줄로 쓴다. 클라이언트 연결이 끊기면 {@link UncheckedIOException} 으로 읽기를 중단시킨다.
+     */
+    public void write(Object value) {
+        try {
+            lineOpen = true;
+            writer.writeValue(generator, value);
+            generator.writeRaw('\n');
+            lineOpen = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 버퍼에 남은 값은 내보내지 않는다. 이미 보낸 응답이면 실패 레코드로 끝내고, 연결이 끊겼으면 그대로 둔다.
+     */
+    private void fail(HttpServletResponse response, RuntimeException e) {
+        if (!response.isCommitted()) {
+            response.reset(); // NDJSON / gzip 헤더와 버퍼를 버린다.
+            throw e;
+        }
+        log.error("내보내기가 중간에 실패했습니다 : {}", e.getMessage(), e);
+        try {
+            String record = objectMapper.writeValueAsString(
+                ApiResponse.fail(ErrorType.INTERNAL_ERROR.getCode(), TRUNCATED_MESSAGE)
+            );
+            // 쓰다 만 값은 생성기 상태와 관계없이 줄을 바꿔 끊는다.
+            generator.writeRaw(lineOpen ? "\n" + record + "\n" : record + "\n");
+            generator.close();
+        } catch (IOException ignored) {
+            // 클라이언트 연결이 끊긴 경우이므로 보낼 곳이 없다.
+        }
+    }
+
+    /**
+     * gzip(또는 *) 의 q 값이 0 보다 크면 받는다. gzip 을 직접 적으면 * 보다 우선한다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = quality(params);
+            } else if (name.equals("*")) {
+                any = quality(params);
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return any != null && any > 0;
+    }
+
+    /**
+     * q 가 없으면 1, 형식이 잘못되면 0 으로 본다.
+     */
+    private static double quality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,42 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.config.redis.consistency.ReadYourWritesContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청의 사용자(X-USER-ID)를 Redis read-your-writes 세션으로 지정한다.
+ * 같은 사용자가 최근에 쓴 뒤의 Redis 읽기는 이 노드에서 master 로 간다. 요청이 끝나면 반드시 해제한다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Component
+public class ReadYourWritesSessionFilter extends OncePerRequestFilter {
+    static final String HEADER_USER_ID = "X-USER-ID";
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        String userId = request.getHeader(HEADER_USER_ID);
+        if (userId == null || userId.isBlank()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ReadYourWritesContext.setSession(userId.trim());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+}
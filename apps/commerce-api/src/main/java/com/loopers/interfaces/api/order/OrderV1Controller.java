@@ -1,11 +1,19 @@
 package com.loopers.interfaces.api.order;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.order.OrderFacade;
 import com.loopers.application.order.OrderInfo;
+import com.loopers.domain.EntityVersion;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.ConditionalGet;
+import com.loopers.interfaces.api.NdjsonWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -15,6 +23,7 @@ import java.util.Map;
 public class OrderV1Controller {
 
     private final OrderFacade orderFacade;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ApiResponse<OrderV1Dto.OrderResponse> createOrder(
@@ -26,20 +35,49 @@ public class OrderV1Controller {
         return ApiResponse.success(response);
     }
 
+    /**
+     * 전체 주문을 항목과 함께 NDJSON 으로 내보낸다. (Accept-Encoding: gzip 이면 압축)
+     */
+    @GetMapping("/export")
+    public void exportOrders(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        NdjsonWriter.stream(request, response, objectMapper, "orders.ndjson",
+            writer -> orderFacade.exportOrders(info -> writer.write(OrderV1Dto.OrderResponse.from(info))));
+    }
+
     @GetMapping("/{orderId}")
     public ApiResponse<OrderV1Dto.OrderResponse> getOrder(
-        @PathVariable(value = "orderId") Long orderId
+        @PathVariable(value = "orderId") Long orderId,
+        WebRequest webRequest
     ) {
-        OrderInfo info = orderFacade.getOrder(orderId);
+        OrderInfo info = ConditionalGet.load(
+            webRequest,
+            "order-" + orderId,
+            () -> orderFacade.getOrderVersion(orderId),
+            () -> orderFacade.getOrder(orderId),
+            OrderInfo::version
+        );
+        if (info == null) {
+            return null; // 304
+        }
         OrderV1Dto.OrderResponse response = OrderV1Dto.OrderResponse.from(info);
         return ApiResponse.success(response);
     }
 
     @GetMapping("/users/{userId}")
     public ApiResponse<OrderV1Dto.OrderListResponse> getOrdersByUserId(
-        @PathVariable(value = "userId") Long userId
+        @PathVariable(value = "userId") Long userId,
+        WebRequest webRequest
     ) {
-        List<OrderInfo> orders = orderFacade.getOrdersByUserId(userId);
+        List<OrderInfo> orders = ConditionalGet.load(
+            webRequest,
+            "user-orders-" + userId,
+            () -> orderFacade.getOrdersVersionByUserId(userId),
+            () -> orderFacade.getOrdersByUserId(userId),
+            infos -> EntityVersion.combine(infos.stream().map(OrderInfo::version).toList())
+        );
+        if (orders == null) {
+            return null; // 304
+        }
         OrderV1Dto.OrderListResponse response = OrderV1Dto.OrderListResponse.from(orders);
         return ApiResponse.success(response);
     }
@@ -1,37 +1,97 @@
 package com.loopers.interfaces.api.product;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.ProductBatchInfo;
 import com.loopers.application.product.ProductFacade;
 import com.loopers.application.product.ProductInfo;
+import com.loopers.domain.EntityVersion;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.ConditionalGet;
+import com.loopers.interfaces.api.NdjsonWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
-@RequestMapping("/api/v1/products")
+@RequestMapping("/api/v1")
 public class ProductV1Controller {
 
     private final ProductFacade productFacade;
+    private final ObjectMapper objectMapper;
 
-    @GetMapping
-    public ApiResponse<ProductV1Dto.ProductListResponse> getAllProducts() {
-        List<ProductInfo> products = productFacade.getAllProducts();
+    @GetMapping("/products")
+    public ApiResponse<ProductV1Dto.ProductListResponse> getAllProducts(WebRequest webRequest) {
+        List<ProductInfo> products = ConditionalGet.load(
+            webRequest,
+            "products",
+            productFacade::getAllProductsVersion,
+            productFacade::getAllProducts,
+            infos -> EntityVersion.combine(infos.stream().map(ProductInfo::version).toList())
+        );
+        if (products == null) {
+            return null; // 304
+        }
         ProductV1Dto.ProductListResponse response = ProductV1Dto.ProductListResponse.from(products);
         return ApiResponse.success(response);
     }
 
-    @GetMapping("/{productId}")
+    /**
+     * 전체 상품을 NDJSON 으로 내보낸다. (Accept-Encoding: gzip 이면 압축)
+     */
+    @GetMapping("/products/export")
+    public void exportProducts(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        NdjsonWriter.stream(request, response, objectMapper, "products.ndjson",
+            writer -> productFacade.exportProducts(info -> writer.write(ProductV1Dto.ProductResponse.from(info))));
+    }
+
+    /**
+     * 여러 상품을 한 번에 조회한다. (ids=1,2,3) 요청 순서대로 돌려주고 찾지 못한 id 는 missingIds 에 담는다.
+     */
+    @GetMapping("/products:batch")
+    public ApiResponse<ProductV1Dto.ProductBatchResponse> getProducts(
+        @RequestParam(value = "ids") List<Long> productIds
+    ) {
+        ProductBatchInfo info = productFacade.getProducts(productIds);
+        return ApiResponse.success(ProductV1Dto.ProductBatchResponse.from(info));
+    }
+
+    /**
+     * URL 에 담기 어려운 긴 id 목록용
+     */
+    @PostMapping("/products:batch")
+    public ApiResponse<ProductV1Dto.ProductBatchResponse> getProducts(
+        @RequestBody ProductV1Dto.ProductBatchRequest request
+    ) {
+        ProductBatchInfo info = productFacade.getProducts(request.ids() == null ? List.of() : request.ids());
+        return ApiResponse.success(ProductV1Dto.ProductBatchResponse.from(info));
+    }
+
+    @GetMapping("/products/{productId}")
     public ApiResponse<ProductV1Dto.ProductResponse> getProduct(
-        @PathVariable(value = "productId") Long productId
+        @PathVariable(value = "productId") Long productId,
+        WebRequest webRequest
     ) {
-        ProductInfo info = productFacade.getProduct(productId);
+        ProductInfo info = ConditionalGet.load(
+            webRequest,
+            "product-" + productId,
+            () -> productFacade.getProductVersion(productId),
+            () -> productFacade.getProduct(productId),
+            ProductInfo::version
+        );
+        if (info == null) {
+            return null; // 304
+        }
         ProductV1Dto.ProductResponse response = ProductV1Dto.ProductResponse.from(info);
         return ApiResponse.success(response);
     }
 
-    @PostMapping
+    @PostMapping("/products")
     public ApiResponse<ProductV1Dto.ProductResponse> createProduct(
         @RequestBody ProductV1Dto.CreateProductRequest request
     ) {
@@ -1,5 +1,6 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.product.ProductBatchInfo;
 import com.loopers.application.product.ProductInfo;
 
 import java.util.List;
@@ -27,5 +28,16 @@ public class ProductV1Dto {
         }
     }
 
+    public record ProductBatchResponse(List<ProductResponse> products, List<Long> missingIds) {
+        public static ProductBatchResponse from(ProductBatchInfo info) {
+            List<ProductResponse> products = info.products().stream()
+                .map(ProductResponse::from)
+                .collect(Collectors.toList());
+            return new ProductBatchResponse(products, info.missingIds());
+        }
+    }
+
+    public record ProductBatchRequest(List<Long> ids) {}
+
     public record CreateProductRequest(String name, Long price, Integer stock) {}
 }
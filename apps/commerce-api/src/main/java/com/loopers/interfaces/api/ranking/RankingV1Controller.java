@@ -0,0 +1,31 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.application.ranking.RankingFacade;
+import com.loopers.application.ranking.RankingInfo;
+import com.loopers.interfaces.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/rankings")
+public class RankingV1Controller {
+
+    private final RankingFacade rankingFacade;
+
+    @GetMapping
+    public ApiResponse<RankingV1Dto.RankingListResponse> getRankings(
+        @RequestParam(value = "date", required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate date,
+        @RequestParam(value = "page", defaultValue = "0") int page,
+        @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+        List<RankingInfo> rankings = rankingFacade.getRankings(targetDate, page, size);
+        RankingV1Dto.RankingListResponse response = RankingV1Dto.RankingListResponse.of(targetDate, rankings);
+        return ApiResponse.success(response);
+    }
+}
@@ -0,0 +1,30 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.application.ranking.RankingInfo;
+import com.loopers.interfaces.api.product.ProductV1Dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class RankingV1Dto {
+
+    public record RankingResponse(long rank, double score, ProductV1Dto.ProductResponse product) {
+        public static RankingResponse from(RankingInfo info) {
+            return new RankingResponse(
+                info.rank(),
+                info.score(),
+                ProductV1Dto.ProductResponse.from(info.product())
+            );
+        }
+    }
+
+    public record RankingListResponse(LocalDate date, List<RankingResponse> rankings) {
+        public static RankingListResponse of(LocalDate date, List<RankingInfo> infos) {
+            List<RankingResponse> rankings = infos.stream()
+                .map(RankingResponse::from)
+                .collect(Collectors.toList());
+            return new RankingListResponse(date, rankings);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.loopers.interfaces.api.traffic;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 요청한 클라이언트의 IP 를 찾는다.
+ * <p>
+ * 직접 연결한 주소가 신뢰하는 프록시일 때만 전달 헤더(X-Forwarded-For)를 오른쪽부터 읽어, 신뢰하는 프록시가 아닌 첫 주소를 쓴다.
+ * 왼쪽 값은 클라이언트가 마음대로 넣을 수 있으므로, 신뢰하지 않는 주소가 나오면 더 읽지 않는다.
+ */
+class ClientAddressResolver {
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9a-fA-F:.]+");
+
+    private final String header;
+    private final List<Cidr> trustedProxies;
+
+    ClientAddressResolver(String header, List<String> trustedProxies) {
+        this.header = header;
+        this.trustedProxies = trustedProxies == null ? List.of() : trustedProxies.stream().map(Cidr::parse).toList();
+    }
+
+    String resolve(HttpServletRequest request) {
+        String remote = request.getRemoteAddr();
+        String forwarded = header == null ? null : request.getHeader(header);
+        if (forwarded == null || forwarded.isBlank() || !isTrusted(remote)) {
+            return remote;
+        }
+        String[] hops = forwarded.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (parse(hop) == null) {
+                return remote; // 형식이 잘못된 값이 섞이면 전달 헤더를 믿지 않는다.
+            }
+            if (!isTrusted(hop)) {
+                return hop;
+            }
+        }
+        return remote;
+    }
+
+    private boolean isTrusted(String address) {
+        InetAddress parsed = parse(address);
+        return parsed != null && trustedProxies.stream().anyMatch(cidr -> cidr.contains(parsed));
+    }
+
+    /**
+     * IP 표기만 변환한다. (호스트 이름을 받아 DNS 조회가 일어나지 않도록)
+     */
+    private static InetAddress parse(String address) {
+        if (address == null || address.isEmpty() || !IP_LITERAL.matcher(address).matches()) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(address);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private record Cidr(byte[] network, int prefixLength) {
+        static Cidr parse(String value) {
+            String[] parts = value.trim().split("/", 2);
+            InetAddress address = ClientAddressResolver.parse(parts[0]);
+            if (address == null) {
+                throw new IllegalArgumentException("신뢰하는 프록시 주소가 올바르지 않습니다 : " + value);
+            }
+            byte[] network = address.getAddress();
+            int prefixLength = parts.length == 2 ? Integer.parseInt(parts[1]) : network.length * 8;
+            return new Cidr(network, prefixLength);
+        }
+
+        boolean contains(InetAddress address) {
+            byte[] candidate = address.getAddress();
+            if (candidate.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (candidate[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits);
+            return (candidate[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.loopers.interfaces.api.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔드포인트 그룹마다 {@link GradientConcurrencyLimit} 한도를 넘는 요청을 바로 503 으로 거절한다.
+ * 한도를 넘긴 요청이 스레드와 커넥션을 기다리며 쌓이지 않으므로, 과부하에서도 처리되는 요청의 응답 시간이 유지된다.
+ * <p>
+ * 부하 단계로 거절하는 {@link LoadSheddingFilter} 다음에 실행된다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final String API_PREFIX = "/api/";
+    private static final String DEFAULT_GROUP = "default";
+
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final List<GroupRule> rules = new ArrayList<>();
+    private final Map<String, GradientConcurrencyLimit> limits = new LinkedHashMap<>();
+
+    public ConcurrencyLimitFilter(
+        ConcurrencyLimitProperties properties,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        for (ConcurrencyLimitProperties.Group group : properties.groups()) {
+            limits.put(group.name(), new GradientConcurrencyLimit(properties));
+            group.endpoints().forEach(endpoint -> rules.add(new GroupRule(EndpointPattern.of(endpoint), group.name())));
+        }
+        limits.putIfAbsent(DEFAULT_GROUP, new GradientConcurrencyLimit(properties));
+        limits.forEach((group, limit) -> registerMeters(meterRegistry, group, limit));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || !request.getRequestURI().startsWith(request.getContextPath() + API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        GradientConcurrencyLimit limit = limits.get(groupOf(request));
+        int inFlight = limit.tryAcquire();
+        if (inFlight < 0) {
+            OverloadResponse.write(response, objectMapper, properties.retryAfter());
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            filterChain.doFilter(request, response);
+            succeeded = response.getStatus() < HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } finally {
+            if (succeeded) {
+                limit.onSuccess(System.nanoTime() - startedAt, inFlight);
+            } else {
+                limit.onIgnore();
+            }
+        }
+    }
+
+    private String groupOf(HttpServletRequest request) {
+        for (GroupRule rule : rules) {
+            if (rule.pattern().matches(request)) {
+                return rule.group();
+            }
+        }
+        return DEFAULT_GROUP;
+    }
+
+    private static void registerMeters(MeterRegistry meterRegistry, String group, GradientConcurrencyLimit limit) {
+        Gauge.builder("traffic.concurrency.limit", limit, GradientConcurrencyLimit::limit)
+            .description("추정된 동시 처리 한도")
+            .tag("group", group)
+            .register(meterRegistry);
+        Gauge.builder("traffic.concurrency.inflight", limit, GradientConcurrencyLimit::inFlight)
+            .description("처리 중인 요청 수")
+            .tag("group", group)
+            .register(meterRegistry);
+        FunctionCounter.builder("traffic.concurrency.rejected", limit, GradientConcurrencyLimit::rejected)
+            .description("한도 초과로 거절된 요청 수")
+            .tag("group", group)
+            .register(meterRegistry);
+    }
+
+    private record GroupRule(EndpointPattern pattern, String group) { }
+}
@@ -0,0 +1,41 @@
+package com.loopers.interfaces.api.traffic;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 엔드포인트 그룹별 동시 처리 한도 설정. 한도는 관측된 응답 시간으로 계속 조정된다.
+ *
+ * @param enabled      false 면 한도 없이 모든 요청을 통과시킨다.
+ * @param initialLimit 기동 직후 한도
+ * @param minLimit     한도 하한
+ * @param maxLimit     한도 상한 (Tomcat 최대 스레드 수 이하로 둔다)
+ * @param smoothing    새 한도를 반영하는 비율 (0.0 ~ 1.0, 클수록 빠르게 반응)
+ * @param rttTolerance 평소 응답 시간의 이 배수까지는 한도를 줄이지 않는다.
+ * @param longWindow   평소 응답 시간(지수 이동 평균)에 반영하는 요청 수
+ * @param retryAfter   거절 응답의 Retry-After
+ * @param groups       엔드포인트 그룹. 어느 그룹에도 속하지 않는 요청은 default 그룹으로 센다.
+ */
+@ConfigurationProperties(value = "traffic.concurrency-limit")
+public record ConcurrencyLimitProperties(
+    boolean enabled,
+    int initialLimit,
+    int minLimit,
+    int maxLimit,
+    double smoothing,
+    double rttTolerance,
+    int longWindow,
+    Duration retryAfter,
+    List<Group> groups
+) {
+    public ConcurrencyLimitProperties {
+        groups = groups == null ? List.of() : List.copyOf(groups);
+    }
+
+    /**
+     * @param endpoints "{HTTP 메서드} {경로 패턴}" 목록
+     */
+    public record Group(String name, List<String> endpoints) { }
+}
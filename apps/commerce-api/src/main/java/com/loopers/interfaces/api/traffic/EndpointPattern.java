@@ -0,0 +1,36 @@
+package com.loopers.interfaces.api.traffic;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Map;
+
+/**
+ * "{HTTP 메서드} {경로 패턴}" 형식의 엔드포인트 (예: GET /api/v1/orders/users/*)
+ */
+record EndpointPattern(String endpoint, String method, String pattern) {
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    static EndpointPattern of(String endpoint) {
+        String[] parts = endpoint.trim().split("\\s+", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("엔드포인트는 \"{HTTP 메서드} {경로 패턴}\" 형식이어야 합니다 : " + endpoint);
+        }
+        return new EndpointPattern(endpoint, parts[0], parts[1]);
+    }
+
+    boolean matches(HttpServletRequest request) {
+        return method.equalsIgnoreCase(request.getMethod()) && MATCHER.match(pattern, pathOf(request));
+    }
+
+    /**
+     * 경로 패턴의 {변수} 값. 일치하는 요청에만 호출한다.
+     */
+    Map<String, String> variables(HttpServletRequest request) {
+        return MATCHER.extractUriTemplateVariables(pattern, pathOf(request));
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,36 @@
+package com.loopers.interfaces.api.traffic;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.List;
+
+/**
+ * 요청을 설정된 엔드포인트 패턴과 맞춰 우선순위를 정한다. 먼저 적힌 패턴이 우선한다.
+ */
+class EndpointPriorities {
+    static final String UNMATCHED = "unmatched";
+
+    private final List<Rule> rules;
+
+    EndpointPriorities(List<LoadSheddingProperties.Endpoint> endpoints) {
+        this.rules = endpoints.stream()
+            .map(endpoint -> new Rule(EndpointPattern.of(endpoint.endpoint()), endpoint.priority()))
+            .toList();
+    }
+
+    Match match(HttpServletRequest request) {
+        for (Rule rule : rules) {
+            if (rule.pattern().matches(request)) {
+                return new Match(rule.pattern().endpoint(), rule.priority());
+            }
+        }
+        return new Match(UNMATCHED, EndpointPriority.NORMAL);
+    }
+
+    /**
+     * @param endpoint 설정에 적힌 엔드포인트 (메트릭 태그로 사용)
+     */
+    record Match(String endpoint, EndpointPriority priority) { }
+
+    private record Rule(EndpointPattern pattern, EndpointPriority priority) { }
+}
@@ -0,0 +1,8 @@
+package com.loopers.interfaces.api.traffic;
+
+/**
+ * 부하 상황에서 요청을 거절하는 순서. LOW 부터 거절하고 CRITICAL 은 거절하지 않는다.
+ */
+public enum EndpointPriority {
+    LOW, NORMAL, CRITICAL
+}
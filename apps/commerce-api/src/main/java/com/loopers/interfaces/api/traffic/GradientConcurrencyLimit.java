@@ -0,0 +1,99 @@
+package com.loopers.interfaces.api.traffic;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 응답 시간 기울기로 동시 처리 한도를 추정한다. (Netflix concurrency-limits 의 Gradient2 방식)
+ * <ul>
+ *     <li>평소 응답 시간(long RTT, 지수 이동 평균)과 방금 끝난 요청의 응답 시간(short RTT)을 비교한다.</li>
+ *     <li>gradient = rttTolerance * longRtt / shortRtt (0.5 ~ 1.0) : 응답이 느려질수록 한도가 줄어든다.</li>
+ *     <li>새 한도 = 한도 * gradient + sqrt(한도) : 응답 시간이 평소와 같으면 sqrt(한도) 만큼 늘려 본다.</li>
+ * </ul>
+ * 처리 중인 요청이 한도의 절반도 안 되면 한도가 병목이 아니므로 늘리지 않는다.
+ */
+class GradientConcurrencyLimit {
+    private static final double RECOVERY_RATIO = 2.0;
+    private static final double RECOVERY_DECAY = 0.95;
+
+    private final ConcurrencyLimitProperties properties;
+    private final double longRttAlpha;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    GradientConcurrencyLimit(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.longRttAlpha = 2.0 / (properties.longWindow() + 1);
+        this.estimatedLimit = properties.initialLimit();
+        this.limit = properties.initialLimit();
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    long rejected() {
+        return rejected.get();
+    }
+
+    /**
+     * 한도 안이면 처리 중 요청 수를 늘리고 그 값을, 한도에 찼으면 -1 을 돌려준다.
+     */
+    int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.incrementAndGet();
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * 정상 처리된 요청의 응답 시간을 반영한다.
+     *
+     * @param inFlightAtStart 요청을 시작할 때의 처리 중 요청 수
+     */
+    void onSuccess(long rttNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        update(rttNanos, inFlightAtStart);
+    }
+
+    /**
+     * 실패한 요청은 응답 시간이 과부하를 나타내지 않으므로 반영하지 않는다.
+     */
+    void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtStart) {
+        double shortRtt = Math.max(1, rttNanos);
+        longRttNanos = longRttNanos == 0 ? shortRtt : longRttNanos + longRttAlpha * (shortRtt - longRttNanos);
+
+        // 과부하가 끝난 뒤 평소 응답 시간이 부풀려진 채로 남지 않도록 천천히 되돌린다.
+        if (longRttNanos / shortRtt > RECOVERY_RATIO) {
+            longRttNanos *= RECOVERY_DECAY;
+        }
+
+        if (inFlightAtStart < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, properties.rttTolerance() * longRttNanos / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - properties.smoothing()) + newLimit * properties.smoothing();
+        estimatedLimit = Math.max(properties.minLimit(), Math.min(properties.maxLimit(), newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,16 @@
+package com.loopers.interfaces.api.traffic;
+
+/**
+ * 현재 부하 단계
+ */
+public enum LoadLevel {
+    NORMAL, ELEVATED, CRITICAL;
+
+    public boolean sheds(EndpointPriority priority) {
+        return switch (priority) {
+            case LOW -> this != NORMAL;
+            case NORMAL -> this == CRITICAL;
+            case CRITICAL -> false;
+        };
+    }
+}
@@ -0,0 +1,195 @@
+package com.loopers.interfaces.api.traffic;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import com.loopers.support.thread.VirtualThreadProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.PatternMatchUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 커넥션 풀과 요청 처리 스레드 사용량을 주기적으로 확인해 부하 단계를 정한다.
+ * <ul>
+ *     <li>hikaricp.connections.pending : 커넥션을 기다리는 스레드 수 (pools 중 최댓값)</li>
+ *     <li>hikaricp.connections.acquire : 직전 주기 동안의 평균 커넥션 획득 시간 (pools 중 최댓값)</li>
+ *     <li>처리 중인 요청 수 / 동시 처리 한도 : 동기 서블릿에서는 사용 중인 Tomcat 스레드 비율과 같다.
+ *     한도는 server.tomcat.threads.max, 가상 스레드에서는 {@link RequestSemaphoreFilter} 의 허용 수
+ *     (traffic.virtual-threads.max-concurrent-requests) 이다. 가상 스레드에서는 Tomcat 스레드 수가 동시 처리를 막지 않는다.</li>
+ * </ul>
+ * 주문 / 내보내기 전용 풀(checkout, export)은 따로 격리되어 있어, 그 풀이 밀려도 일반 요청을 거절하지 않도록 pools 에 적힌 풀만 본다.
+ * 단계는 즉시 올리고, 올린 뒤 coolDown 이 지나야 내린다.
+ */
+@Slf4j
+@Component
+public class LoadMonitor implements InitializingBean, DisposableBean {
+    private static final String HIKARI_PENDING = "hikaricp.connections.pending";
+    private static final String HIKARI_ACQUIRE = "hikaricp.connections.acquire";
+    private static final String POOL_TAG = "pool";
+
+    private final LoadSheddingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final int maxConcurrency;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Meter.Id, AcquireSample> lastAcquireSamples = new HashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "load-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile LoadLevel level = LoadLevel.NORMAL;
+    private volatile String reason = "none";
+    private long raisedAt;
+
+    public LoadMonitor(
+        LoadSheddingProperties properties,
+        MeterRegistry meterRegistry,
+        ServerProperties serverProperties,
+        VirtualThreadProperties virtualThreadProperties,
+        Environment environment
+    ) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.maxConcurrency = Threading.VIRTUAL.isActive(environment)
+            ? virtualThreadProperties.maxConcurrentRequests()
+            : serverProperties.getTomcat().getThreads().getMax();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Gauge.builder("traffic.load.level", this, monitor -> monitor.level().ordinal())
+            .description("부하 단계 (0 : NORMAL, 1 : ELEVATED, 2 : CRITICAL)")
+            .register(meterRegistry);
+        Gauge.builder("traffic.inflight.requests", inFlight, AtomicInteger::get)
+            .description("처리 중인 요청 수")
+            .register(meterRegistry);
+
+        if (properties.enabled()) {
+            long interval = properties.sampleInterval().toMillis();
+            scheduler.scheduleWithFixedDelay(this::sample, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    public LoadLevel level() {
+        return level;
+    }
+
+    /**
+     * 현재 단계를 정한 신호 (hikari_pending, acquire_latency, busy_threads, none)
+     */
+    public String reason() {
+        return reason;
+    }
+
+    void enter() {
+        inFlight.incrementAndGet();
+    }
+
+    void exit() {
+        inFlight.decrementAndGet();
+    }
+
+    void sample() {
+        try {
+            Signals signals = new Signals(maxPending(), recentAcquireMillis(), (double) inFlight.get() / maxConcurrency);
+            String criticalReason = signals.exceeded(properties.critical());
+            String elevatedReason = signals.exceeded(properties.elevated());
+            if (criticalReason != null) {
+                update(LoadLevel.CRITICAL, criticalReason, signals);
+            } else if (elevatedReason != null) {
+                update(LoadLevel.ELEVATED, elevatedReason, signals);
+            } else {
+                update(LoadLevel.NORMAL, "none", signals);
+            }
+        } catch (Exception e) {
+            log.error("부하 단계 확인 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void update(LoadLevel next, String nextReason, Signals signals) {
+        long now = System.nanoTime();
+        LoadLevel current = level;
+        if (next.compareTo(current) < 0 && now - raisedAt < properties.coolDown().toNanos()) {
+            return;
+        }
+        if (next.compareTo(current) > 0) {
+            raisedAt = now;
+        }
+        if (next != current) {
+            log.warn("부하 단계 변경 : {} -> {}, reason = {}, signals = {}", current, next, nextReason, signals);
+        }
+        level = next;
+        reason = nextReason;
+    }
+
+    private double maxPending() {
+        return meterRegistry.find(HIKARI_PENDING).gauges().stream()
+            .filter(this::isMonitoredPool)
+            .mapToDouble(Gauge::value)
+            .max()
+            .orElse(0.0);
+    }
+
+    /**
+     * 누적 타이머에서 직전 확인 이후 늘어난 횟수 / 시간으로 최근 평균을 구한다.
+     */
+    private double recentAcquireMillis() {
+        double max = 0.0;
+        for (Timer timer : meterRegistry.find(HIKARI_ACQUIRE).timers()) {
+            if (!isMonitoredPool(timer)) {
+                continue;
+            }
+            AcquireSample current = new AcquireSample(timer.count(), timer.totalTime(TimeUnit.MILLISECONDS));
+            AcquireSample previous = lastAcquireSamples.put(timer.getId(), current);
+            if (previous == null || current.count() <= previous.count()) {
+                continue;
+            }
+            max = Math.max(max, (current.totalMillis() - previous.totalMillis()) / (current.count() - previous.count()));
+        }
+        return max;
+    }
+
+    private boolean isMonitoredPool(Meter meter) {
+        if (properties.pools().isEmpty()) {
+            return true;
+        }
+        String pool = meter.getId().getTag(POOL_TAG);
+        return pool != null && PatternMatchUtils.simpleMatch(properties.pools().toArray(String[]::new), pool);
+    }
+
+    private record AcquireSample(long count, double totalMillis) { }
+
+    private record Signals(double hikariPending, double acquireMillis, double busyThreadsRatio) {
+        String exceeded(LoadSheddingProperties.Threshold threshold) {
+            if (hikariPending >= threshold.hikariPending()) {
+                return "hikari_pending";
+            }
+            if (acquireMillis >= threshold.acquireLatency().toMillis()) {
+                return "acquire_latency";
+            }
+            if (busyThreadsRatio >= threshold.busyThreadsRatio()) {
+                return "busy_threads";
+            }
+            return null;
+        }
+    }
+}
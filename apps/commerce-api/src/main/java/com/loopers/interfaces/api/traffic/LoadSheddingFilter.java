@@ -0,0 +1,87 @@
+package com.loopers.interfaces.api.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 커넥션 풀 / 요청 스레드가 포화되면 우선순위가 낮은 요청부터 503 과 Retry-After 로 바로 거절한다.
+ * 거절된 요청은 커넥션을 기다리지 않으므로, 남은 자원은 주문 등 CRITICAL 요청이 사용한다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Component
+public class LoadSheddingFilter extends OncePerRequestFilter {
+    private static final String API_PREFIX = "/api/";
+
+    private final LoadSheddingProperties properties;
+    private final LoadMonitor loadMonitor;
+    private final EndpointPriorities priorities;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public LoadSheddingFilter(
+        LoadSheddingProperties properties,
+        LoadMonitor loadMonitor,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.loadMonitor = loadMonitor;
+        this.priorities = new EndpointPriorities(properties.endpoints());
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (properties.enabled()) {
+            EndpointPriorities.Match match = priorities.match(request);
+            LoadLevel level = loadMonitor.level();
+            if (level.sheds(match.priority())) {
+                shed(response, match, level);
+                return;
+            }
+        }
+
+        loadMonitor.enter();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            loadMonitor.exit();
+        }
+    }
+
+    private void shed(HttpServletResponse response, EndpointPriorities.Match match, LoadLevel level) throws IOException {
+        Counter.builder("traffic.load.shed")
+            .description("부하로 거절된 요청 수")
+            .tags(
+                "endpoint", match.endpoint(),
+                "priority", match.priority().name(),
+                "level", level.name(),
+                "reason", loadMonitor.reason()
+            )
+            .register(meterRegistry)
+            .increment();
+
+        OverloadResponse.write(response, objectMapper, properties.retryAfter());
+    }
+}
@@ -0,0 +1,47 @@
+package com.loopers.interfaces.api.traffic;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 부하 기반 요청 거절 설정
+ *
+ * @param enabled        false 면 모든 요청을 통과시킨다.
+ * @param sampleInterval 커넥션 풀 / 스레드 사용량을 확인하는 주기
+ * @param coolDown       부하 단계를 올린 뒤 이 시간 동안은 내리지 않는다. (단계가 빠르게 오르내리는 것 방지)
+ * @param retryAfter     거절 응답의 Retry-After
+ * @param elevated       이 중 하나라도 넘으면 LOW 우선순위 요청을 거절한다.
+ * @param critical       이 중 하나라도 넘으면 NORMAL 우선순위 요청까지 거절한다. (CRITICAL 은 거절하지 않는다)
+ * @param pools          커넥션 지표를 볼 풀 이름 ("*" 패턴 가능). 요청 처리에 쓰는 풀만 적는다. 비어 있으면 모든 풀을 본다.
+ * @param endpoints      엔드포인트별 우선순위. 목록에 없는 요청은 NORMAL 이다.
+ */
+@ConfigurationProperties(value = "traffic.load-shedding")
+public record LoadSheddingProperties(
+    boolean enabled,
+    Duration sampleInterval,
+    Duration coolDown,
+    Duration retryAfter,
+    Threshold elevated,
+    Threshold critical,
+    List<String> pools,
+    List<Endpoint> endpoints
+) {
+    public LoadSheddingProperties {
+        pools = pools == null ? List.of() : List.copyOf(pools);
+        endpoints = endpoints == null ? List.of() : List.copyOf(endpoints);
+    }
+
+    /**
+     * @param hikariPending    커넥션을 기다리는 스레드 수 (pools 중 최댓값)
+     * @param acquireLatency   최근 커넥션 획득 평균 시간 (pools 중 최댓값)
+     * @param busyThreadsRatio 처리 중인 요청 수 / Tomcat 최대 스레드 수
+     */
+    public record Threshold(int hikariPending, Duration acquireLatency, double busyThreadsRatio) { }
+
+    /**
+     * @param endpoint "{HTTP 메서드} {경로 패턴}" (예: GET /api/v1/orders/users/*)
+     */
+    public record Endpoint(String endpoint, EndpointPriority priority) { }
+}
@@ -0,0 +1,125 @@
+package com.loopers.interfaces.api.traffic;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 버킷에서 미리 가져온 토큰과 최근 거절된 버킷을 노드 로컬에 둔다.
+ * <ul>
+ *     <li>가져온 토큰이 남아 있으면 Redis 를 거치지 않고 허용한다. 쓰지 못한 토큰은 leaseTtl 이 지나면 버린다.</li>
+ *     <li>토큰은 키(사용자 / IP / 전체)마다 따로 가져오고 쓴다. 토큰이 떨어진 키만 Redis 에서 다시 가져온다.</li>
+ *     <li>거절된 버킷은 토큰이 채워질 시각까지 Redis 를 거치지 않고 거절한다. (한 번 비면 다른 노드가 채울 수 없다)</li>
+ * </ul>
+ */
+class LocalTokenLeases {
+    private static final long MAXIMUM_SIZE = 100_000;
+
+    private final Cache<String, Lease> leases;
+    private final Cache<String, Long> deniedUntil;
+
+    LocalTokenLeases(Duration leaseTtl) {
+        this.leases = Caffeine.newBuilder().expireAfterWrite(leaseTtl).maximumSize(MAXIMUM_SIZE).build();
+        this.deniedUntil = Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(1)).maximumSize(MAXIMUM_SIZE).build();
+    }
+
+    /**
+     * 거절 중인 키 중 가장 늦게 풀리는 것, 없으면 null
+     */
+    Denial denied(List<String> keys) {
+        long now = System.currentTimeMillis();
+        Denial denial = null;
+        for (String key : keys) {
+            Long until = deniedUntil.getIfPresent(key);
+            if (until != null && until > now && (denial == null || until - now > denial.retryAfterMillis())) {
+                denial = new Denial(key, until - now);
+            }
+        }
+        return denial;
+    }
+
+    void deny(String key, long retryAfterMillis) {
+        deniedUntil.put(key, System.currentTimeMillis() + retryAfterMillis);
+    }
+
+    /**
+     * 키마다 로컬 토큰을 하나씩 가져온다. 토큰이 없는 키만 Redis 에서 확인하면 되고,
+     * Redis 가 거절하면 {@link Taken#giveBack()} 으로 가져간 토큰을 되돌린다.
+     */
+    Taken takeEach(List<String> keys) {
+        List<Lease> taken = new ArrayList<>(keys.size());
+        List<Integer> missing = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Lease lease = leases.getIfPresent(keys.get(i));
+            if (lease != null && lease.tryTake()) {
+                taken.add(lease);
+            } else {
+                missing.add(i);
+            }
+        }
+        return new Taken(taken, missing);
+    }
+
+    /**
+     * Redis 에서 가져온 토큰 중 이번 요청에 쓰고 남은 만큼을 더하고, Redis 잔여 토큰을 기록한다.
+     */
+    void grant(String key, long tokens, long redisRemaining) {
+        leases.asMap().compute(key, (k, lease) -> {
+            Lease next = lease == null ? new Lease() : lease;
+            next.add(Math.max(0, tokens), redisRemaining);
+            return next;
+        });
+    }
+
+    /**
+     * 로컬에 남은 토큰 + 마지막으로 확인한 Redis 잔여 토큰
+     */
+    long remaining(String key) {
+        Lease lease = leases.getIfPresent(key);
+        return lease == null ? 0 : lease.remaining();
+    }
+
+    record Denial(String key, long retryAfterMillis) { }
+
+    /**
+     * @param missing 로컬 토큰이 없어 Redis 에서 확인해야 하는 키의 위치
+     */
+    record Taken(List<Lease> taken, List<Integer> missing) {
+        boolean all() {
+            return missing.isEmpty();
+        }
+
+        void giveBack() {
+            taken.forEach(Lease::giveBack);
+        }
+    }
+
+    static final class Lease {
+        private long tokens;
+        private long redisRemaining;
+
+        synchronized boolean tryTake() {
+            if (tokens <= 0) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+
+        synchronized void giveBack() {
+            tokens++;
+        }
+
+        synchronized void add(long granted, long remaining) {
+            tokens += granted;
+            redisRemaining = remaining;
+        }
+
+        synchronized long remaining() {
+            return tokens + redisRemaining;
+        }
+    }
+}
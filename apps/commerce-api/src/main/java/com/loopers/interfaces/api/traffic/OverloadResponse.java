@@ -0,0 +1,39 @@
+package com.loopers.interfaces.api.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.ErrorType;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 과부하 / 요청 한도로 거절한 요청에 에러 응답과 Retry-After(초, 올림) 를 쓴다.
+ */
+final class OverloadResponse {
+
+    private OverloadResponse() {
+    }
+
+    static void write(HttpServletResponse response, ObjectMapper objectMapper, Duration retryAfter) throws IOException {
+        write(response, objectMapper, ErrorType.SERVICE_UNAVAILABLE, retryAfter);
+    }
+
+    static void write(
+        HttpServletResponse response,
+        ObjectMapper objectMapper,
+        ErrorType errorType,
+        Duration retryAfter
+    ) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        response.setStatus(errorType.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.fail(errorType.getCode(), errorType.getMessage()));
+    }
+}
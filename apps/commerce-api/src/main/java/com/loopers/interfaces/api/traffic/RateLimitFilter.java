@@ -0,0 +1,214 @@
+package com.loopers.interfaces.api.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.cluster.RedisHashTags;
+import com.loopers.config.redis.ratelimit.RedisRateLimiter;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 / IP / 엔드포인트 전체 단위로 요청 한도를 확인하고, 넘으면 429 로 거절한다.
+ * <ul>
+ *     <li>한도는 Redis 토큰 버킷({@link RedisRateLimiter})으로 노드 전체에서 공유된다. 요청당 Lua 호출은 최대 한 번이다.</li>
+ *     <li>미리 가져온 토큰이 남아 있거나 최근 거절된 버킷이면 Redis 를 거치지 않는다. ({@link LocalTokenLeases})
+ *     토큰은 차원마다 따로 관리하며, 로컬 토큰이 떨어진 차원만 Redis 에서 확인한다.</li>
+ *     <li>IP 는 신뢰하는 프록시를 거친 경우에만 전달 헤더에서 찾는다. ({@link ClientAddressResolver})</li>
+ *     <li>Redis 에 접근할 수 없으면 요청을 허용한다. (한도 확인 때문에 서비스가 멈추지 않도록)</li>
+ * </ul>
+ * 응답에는 X-RateLimit-Limit / X-RateLimit-Remaining 을, 거절 시에는 X-RateLimit-Reset 과 Retry-After(초) 를 더한다.
+ * 여유가 가장 적은 버킷 기준이며, 로컬 토큰을 쓴 경우 Remaining 은 근사값이다.
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    static final String HEADER_RESET = "X-RateLimit-Reset";
+    private static final String API_PREFIX = "/api/";
+    private static final String USER_ID_VARIABLE = "userId";
+
+    private final RateLimitProperties properties;
+    private final RateLimitRuleSource ruleSource;
+    private final RedisRateLimiter rateLimiter;
+    private final LocalTokenLeases leases;
+    private final ClientAddressResolver clientAddressResolver;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(
+        RateLimitProperties properties,
+        RateLimitRuleSource ruleSource,
+        RedisRateLimiter rateLimiter,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.ruleSource = ruleSource;
+        this.rateLimiter = rateLimiter;
+        this.leases = new LocalTokenLeases(properties.leaseTtl());
+        this.clientAddressResolver = new ClientAddressResolver(properties.forwardedHeader(), properties.trustedProxies());
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || !request.getRequestURI().startsWith(request.getContextPath() + API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        RateLimitRuleSource.CompiledRule matched = ruleSource.match(request);
+        List<Dimension> dimensions = matched == null ? List.of() : dimensionsOf(matched, request);
+        if (dimensions.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String rule = matched.rule().name();
+        List<String> keys = dimensions.stream().map(Dimension::key).toList();
+
+        LocalTokenLeases.Denial denial = leases.denied(keys);
+        if (denial != null) {
+            reject(response, rule, dimensionOf(dimensions, denial.key()), denial.retryAfterMillis(), "local");
+            return;
+        }
+
+        LocalTokenLeases.Taken taken = leases.takeEach(keys);
+        if (taken.all()) {
+            count("traffic.ratelimit.allowed", rule, "source", "local");
+            writeLimitHeaders(response, dimensions);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 로컬 토큰이 떨어진 차원만 Redis 에서 확인한다. (다른 차원의 토큰을 요청마다 새로 가져가 버리지 않도록)
+        List<Dimension> remote = taken.missing().stream().map(dimensions::get).toList();
+        RedisRateLimiter.Result result;
+        try {
+            result = rateLimiter.acquire(remote.stream().map(Dimension::bucket).toList());
+        } catch (Exception e) {
+            log.warn("요청 한도를 확인하지 못해 허용합니다 : rule = {}", rule, e);
+            count("traffic.ratelimit.errors", rule);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!result.allowed()) {
+            taken.giveBack();
+            Dimension limited = remote.get(result.limitedIndex());
+            leases.deny(limited.key(), result.retryAfterMillis());
+            reject(response, rule, limited, result.retryAfterMillis(), "redis");
+            return;
+        }
+        for (int i = 0; i < remote.size(); i++) {
+            RedisRateLimiter.Grant grant = result.grants().get(i);
+            leases.grant(remote.get(i).key(), grant.granted() - 1, grant.remaining());
+        }
+        count("traffic.ratelimit.allowed", rule, "source", "redis");
+        writeLimitHeaders(response, dimensions);
+        filterChain.doFilter(request, response);
+    }
+
+    private List<Dimension> dimensionsOf(RateLimitRuleSource.CompiledRule matched, HttpServletRequest request) {
+        RateLimitRule rule = matched.rule();
+        String tag = "ratelimit:" + rule.name();
+        List<Dimension> dimensions = new ArrayList<>(3);
+        String userId = userIdOf(matched, request);
+        if (rule.user() != null && userId != null) {
+            dimensions.add(new Dimension("user", RedisHashTags.key(tag, "user", userId), rule.user()));
+        }
+        if (rule.ip() != null) {
+            dimensions.add(new Dimension("ip", RedisHashTags.key(tag, "ip", clientAddressResolver.resolve(request)), rule.ip()));
+        }
+        if (rule.global() != null) {
+            dimensions.add(new Dimension("global", RedisHashTags.key(tag, "global"), rule.global()));
+        }
+        return dimensions;
+    }
+
+    private String userIdOf(RateLimitRuleSource.CompiledRule matched, HttpServletRequest request) {
+        String header = request.getHeader(properties.userHeader());
+        if (header != null && !header.isBlank()) {
+            return header.trim();
+        }
+        return matched.pattern().variables(request).get(USER_ID_VARIABLE);
+    }
+
+    private void reject(
+        HttpServletResponse response,
+        String rule,
+        Dimension limited,
+        long retryAfterMillis,
+        String source
+    ) throws IOException {
+        Counter.builder("traffic.ratelimit.limited")
+            .description("요청 한도로 거절된 요청 수")
+            .tags("rule", rule, "dimension", limited.name(), "source", source)
+            .register(meterRegistry)
+            .increment();
+
+        long resetSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+        response.setHeader(HEADER_LIMIT, String.valueOf(limited.limit().capacity()));
+        response.setHeader(HEADER_REMAINING, "0");
+        response.setHeader(HEADER_RESET, String.valueOf(resetSeconds));
+        OverloadResponse.write(response, objectMapper, ErrorType.TOO_MANY_REQUESTS, Duration.ofMillis(retryAfterMillis));
+    }
+
+    /**
+     * 차원마다 로컬 잔여 + 마지막으로 확인한 Redis 잔여 중 가장 적은 것
+     */
+    private void writeLimitHeaders(HttpServletResponse response, List<Dimension> dimensions) {
+        Dimension tightest = dimensions.get(0);
+        long remaining = Long.MAX_VALUE;
+        for (Dimension dimension : dimensions) {
+            long left = leases.remaining(dimension.key());
+            if (left < remaining) {
+                remaining = left;
+                tightest = dimension;
+            }
+        }
+        response.setHeader(HEADER_LIMIT, String.valueOf(tightest.limit().capacity()));
+        response.setHeader(HEADER_REMAINING, String.valueOf(remaining));
+    }
+
+    private void count(String name, String rule, String... tags) {
+        Counter.builder(name)
+            .tag("rule", rule)
+            .tags(tags)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private static Dimension dimensionOf(List<Dimension> dimensions, String key) {
+        return dimensions.stream().filter(dimension -> dimension.key().equals(key)).findFirst().orElseThrow();
+    }
+
+    private record Dimension(String name, String key, RateLimitRule.Limit limit) {
+        /**
+         * lease 가 1 이하인 차원은 이번 요청에 쓸 토큰 1 개만 가져간다.
+         */
+        RedisRateLimiter.Bucket bucket() {
+            return new RedisRateLimiter.Bucket(key, limit.capacity(), limit.refillPerSecond(), Math.max(1, limit.lease()));
+        }
+    }
+}
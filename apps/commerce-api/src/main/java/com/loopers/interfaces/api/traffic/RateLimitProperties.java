@@ -0,0 +1,28 @@
+package com.loopers.interfaces.api.traffic;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 요청 한도(rate limit) 설정. 엔드포인트별 한도는 rulesLocation 의 YAML 에 정의한다.
+ *
+ * @param enabled        false 면 한도를 확인하지 않는다.
+ * @param rulesLocation  한도 규칙 YAML 위치. 파일(file:) 이면 reloadInterval 마다 변경을 확인해 다시 읽는다.
+ * @param reloadInterval 규칙 파일 변경 확인 주기
+ * @param leaseTtl       Redis 에서 미리 가져온 토큰을 로컬에서 쓸 수 있는 시간. 지나면 남은 토큰은 버린다.
+ * @param userHeader     사용자 식별 헤더. 없으면 경로의 {userId} 를 사용한다.
+ * @param forwardedHeader 프록시가 클라이언트 IP 를 전달하는 헤더 (X-Forwarded-For 형식)
+ * @param trustedProxies 전달 헤더를 믿을 프록시 주소 (CIDR). 여기서 온 요청만 전달 헤더로 클라이언트 IP 를 찾는다.
+ */
+@ConfigurationProperties(value = "traffic.rate-limit")
+public record RateLimitProperties(
+    boolean enabled,
+    String rulesLocation,
+    Duration reloadInterval,
+    Duration leaseTtl,
+    String userHeader,
+    String forwardedHeader,
+    List<String> trustedProxies
+) { }
@@ -0,0 +1,20 @@
+package com.loopers.interfaces.api.traffic;
+
+/**
+ * 엔드포인트 하나의 요청 한도. 설정된 한도를 모두 만족해야 허용된다.
+ *
+ * @param name     규칙 이름 (Redis 키와 메트릭 태그로 사용)
+ * @param endpoint "{HTTP 메서드} {경로 패턴}"
+ * @param user     사용자별 한도
+ * @param ip       클라이언트 IP 별 한도
+ * @param global   엔드포인트 전체 한도
+ */
+public record RateLimitRule(String name, String endpoint, Limit user, Limit ip, Limit global) {
+
+    /**
+     * @param capacity        순간적으로 허용하는 최대 요청 수
+     * @param refillPerSecond 초당 허용 요청 수
+     * @param lease           Redis 에서 한 번에 가져와 로컬에서 쓸 토큰 수 (클수록 Redis 호출이 줄고 정확도가 떨어진다)
+     */
+    public record Limit(long capacity, double refillPerSecond, int lease) { }
+}
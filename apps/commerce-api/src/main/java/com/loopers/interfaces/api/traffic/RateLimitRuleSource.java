@@ -0,0 +1,133 @@
+package com.loopers.interfaces.api.traffic;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한도 규칙 YAML 을 읽는다. 파일이면 주기적으로 수정 시각을 확인해 바뀌었을 때 다시 읽는다.
+ * 다시 읽은 규칙이 잘못되었으면 오류를 남기고 이전 규칙을 계속 사용한다.
+ * <pre>
+ * rules:
+ *   - name: order-create
+ *     endpoint: POST /api/v1/orders
+ *     user: { capacity: 20, refill-per-second: 5, lease: 1 }
+ * </pre>
+ */
+@Slf4j
+@Component
+public class RateLimitRuleSource implements InitializingBean, DisposableBean {
+    private final RateLimitProperties properties;
+    private final Resource resource;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "rate-limit-rule-reloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile List<CompiledRule> rules = List.of();
+    private long lastModified;
+
+    public RateLimitRuleSource(RateLimitProperties properties, ResourceLoader resourceLoader) {
+        this.properties = properties;
+        this.resource = resourceLoader.getResource(properties.rulesLocation());
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!properties.enabled()) {
+            return;
+        }
+        lastModified = lastModified();
+        rules = load();
+        log.info("요청 한도 규칙을 읽었습니다 : location = {}, rules = {}", properties.rulesLocation(), rules.size());
+        if (resource.isFile()) {
+            long interval = properties.reloadInterval().toMillis();
+            scheduler.scheduleWithFixedDelay(this::reloadIfModified, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 요청에 해당하는 첫 번째 규칙, 없으면 null
+     */
+    CompiledRule match(HttpServletRequest request) {
+        for (CompiledRule rule : rules) {
+            if (rule.pattern().matches(request)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    void reloadIfModified() {
+        try {
+            long modified = lastModified();
+            if (modified == lastModified) {
+                return;
+            }
+            lastModified = modified;
+            rules = load();
+            log.info("요청 한도 규칙을 다시 읽었습니다 : location = {}, rules = {}", properties.rulesLocation(), rules.size());
+        } catch (Exception e) {
+            log.error("요청 한도 규칙을 다시 읽지 못했습니다. 이전 규칙을 계속 사용합니다 : location = {}", properties.rulesLocation(), e);
+        }
+    }
+
+    private List<CompiledRule> load() throws IOException {
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader().load("rate-limit-rules", resource);
+        List<RateLimitRule> loaded = new Binder(ConfigurationPropertySources.from(sources))
+            .bind("rules", Bindable.listOf(RateLimitRule.class))
+            .orElse(List.of());
+
+        Set<String> names = new HashSet<>();
+        for (RateLimitRule rule : loaded) {
+            validate(rule);
+            if (!names.add(rule.name())) {
+                throw new IllegalArgumentException("요청 한도 규칙 이름이 중복되었습니다 : " + rule.name());
+            }
+        }
+        return loaded.stream().map(rule -> new CompiledRule(EndpointPattern.of(rule.endpoint()), rule)).toList();
+    }
+
+    private long lastModified() throws IOException {
+        return resource.isFile() ? resource.lastModified() : 0L;
+    }
+
+    private static void validate(RateLimitRule rule) {
+        if (rule.name() == null || rule.name().isBlank() || rule.endpoint() == null) {
+            throw new IllegalArgumentException("요청 한도 규칙에는 name 과 endpoint 가 필요합니다 : " + rule);
+        }
+        if (rule.user() == null && rule.ip() == null && rule.global() == null) {
+            throw new IllegalArgumentException("요청 한도 규칙에는 user, ip, global 중 하나 이상이 필요합니다 : " + rule.name());
+        }
+        for (RateLimitRule.Limit limit : new RateLimitRule.Limit[]{rule.user(), rule.ip(), rule.global()}) {
+            if (limit != null && (limit.capacity() <= 0 || limit.refillPerSecond() <= 0)) {
+                throw new IllegalArgumentException("capacity 와 refill-per-second 는 0 보다 커야 합니다 : " + rule.name());
+            }
+        }
+    }
+
+    record CompiledRule(EndpointPattern pattern, RateLimitRule rule) { }
+}
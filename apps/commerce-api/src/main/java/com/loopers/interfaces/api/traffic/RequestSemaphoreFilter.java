@@ -0,0 +1,93 @@
+package com.loopers.interfaces.api.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.thread.VirtualThreadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 스레드로 요청을 처리할 때 동시에 처리하는 요청 수를 제한한다.
+ * <p>
+ * 플랫폼 스레드에서는 Tomcat 스레드 수(200)가 동시 요청 수를 막아 주지만, 가상 스레드는 요청마다 만들어지므로
+ * 그대로 두면 몰린 요청이 모두 커넥션 풀에서 connection-timeout 까지 기다린다.
+ * 순서를 기다리는 가상 스레드는 캐리어 스레드를 점유하지 않으므로, 세마포어 대기는 비용이 거의 없다.
+ */
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 30)
+@Component
+public class RequestSemaphoreFilter extends OncePerRequestFilter {
+    private static final String API_PREFIX = "/api/";
+
+    private final VirtualThreadProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public RequestSemaphoreFilter(VirtualThreadProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(properties.maxConcurrentRequests(), true);
+
+        Gauge.builder("traffic.semaphore.available", permits, Semaphore::availablePermits)
+            .description("남은 동시 처리 허용 수")
+            .register(meterRegistry);
+        Gauge.builder("traffic.semaphore.waiting", permits, Semaphore::getQueueLength)
+            .description("처리 순서를 기다리는 요청 수")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("traffic.semaphore.wait")
+            .description("처리 순서를 기다린 시간")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("traffic.semaphore.rejected")
+            .description("순서를 기다리다 거절된 요청 수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(properties.acquireTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            rejected.increment();
+            OverloadResponse.write(response, objectMapper, properties.acquireTimeout());
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.loopers.interfaces.api.user;
 import com.loopers.application.user.UserFacade;
 import com.loopers.application.user.UserInfo;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.ConditionalGet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RequiredArgsConstructor
 @RestController
@@ -15,9 +17,19 @@ public class UserV1Controller {
 
     @GetMapping("/{userId}")
     public ApiResponse<UserV1Dto.UserResponse> getUser(
-        @PathVariable(value = "userId") Long userId
+        @PathVariable(value = "userId") Long userId,
+        WebRequest webRequest
     ) {
-        UserInfo info = userFacade.getUser(userId);
+        UserInfo info = ConditionalGet.load(
+            webRequest,
+            "user-" + userId,
+            () -> userFacade.getUserVersion(userId),
+            () -> userFacade.getUser(userId),
+            UserInfo::version
+        );
+        if (info == null) {
+            return null; // 304
+        }
         UserV1Dto.UserResponse response = UserV1Dto.UserResponse.from(info);
         return ApiResponse.success(response);
     }
@@ -42,9 +54,19 @@ public class UserV1Controller {
 
     @GetMapping("/{userId}/point")
     public ApiResponse<UserV1Dto.PointResponse> getUserPoint(
-        @PathVariable(value = "userId") Long userId
+        @PathVariable(value = "userId") Long userId,
+        WebRequest webRequest
     ) {
-        UserInfo info = userFacade.getUserPoint(userId);
+        UserInfo info = ConditionalGet.load(
+            webRequest,
+            "user-point-" + userId,
+            () -> userFacade.getUserPointVersion(userId),
+            () -> userFacade.getUserPoint(userId),
+            UserInfo::version
+        );
+        if (info == null) {
+            return null; // 304
+        }
         UserV1Dto.PointResponse response = UserV1Dto.PointResponse.from(info);
         return ApiResponse.success(response);
     }
@@ -0,0 +1,20 @@
+package com.loopers.support.cache;
+
+import java.util.List;
+
+/**
+ * 노드 간에 전달되는 캐시 무효화 메시지
+ *
+ * @param nodeId      발행한 노드
+ * @param sequence    발행 노드 기준 단조 증가하는 번호. 수신 측은 이 값으로 유실 여부를 판단한다.
+ * @param entityType  무효화할 캐시 이름 ({@link CacheNames})
+ * @param ids         무효화할 엔티티 id 목록
+ * @param publishedAt 발행 시각 (epoch millis)
+ */
+public record CacheInvalidation(
+    String nodeId,
+    long sequence,
+    String entityType,
+    List<Long> ids,
+    long publishedAt
+) {}
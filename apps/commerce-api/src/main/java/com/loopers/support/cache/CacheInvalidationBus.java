@@ -0,0 +1,189 @@
+package com.loopers.support.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 간 로컬 캐시 무효화 버스.
+ * <ul>
+ *     <li>쓰기 측은 커밋 이후 자기 노드의 캐시를 바로 비우고, 무효화 대상을 잠시 모았다가 하나의 메시지로 발행한다.</li>
+ *     <li>수신 측은 발행 노드별 sequence 를 추적하고, 번호가 건너뛰면 메시지가 유실된 것으로 보고 캐시 전체를 비운다.</li>
+ * </ul>
+ * {@link #register} 로 만든 로컬 캐시 외에 {@link #attach} 로 연결한 캐시(Hibernate 2차 캐시 등)도 같이 비운다.
+ * {@link #attachWriter} 로 연결한 대상은 쓰기가 일어난 노드에서만 받는다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements InitializingBean, DisposableBean {
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, LocalCache<?>> caches = new ConcurrentHashMap<>();
+    private final Map<String, List<InvalidationTarget>> attachedTargets = new ConcurrentHashMap<>();
+    private final Map<String, List<InvalidationTarget>> writerTargets = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastSequences = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> pending = new HashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "cache-invalidation-bus");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final CacheInvalidationProperties properties;
+    private final InvalidationTransport transport;
+    private final MeterRegistry meterRegistry;
+    private final Timer propagationTimer;
+    private final Counter gapCounter;
+
+    public CacheInvalidationBus(
+        CacheInvalidationProperties properties,
+        InvalidationTransport transport,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.transport = transport;
+        this.meterRegistry = meterRegistry;
+        this.propagationTimer = Timer.builder("cache.invalidation.propagation")
+            .description("무효화 발행부터 다른 노드에서 반영될 때까지의 지연")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.gapCounter = Counter.builder("cache.invalidation.gap")
+            .description("sequence 유실로 로컬 캐시 전체를 비운 횟수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        transport.subscribe(this::onMessage);
+        long window = properties.coalesceWindow().toMillis();
+        scheduler.scheduleWithFixedDelay(this::flush, window, window, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+        flush();
+    }
+
+    public <V> LocalCache<V> register(String name) {
+        LocalCache<V> cache = new LocalCache<>(name, properties.maximumSize(), properties.expireAfterWrite());
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("이미 등록된 캐시입니다 : " + name);
+        }
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.nativeCache(), name);
+        return cache;
+    }
+
+    /**
+     * 이미 존재하는 캐시를 entityType 의 무효화 대상으로 연결한다.
+     */
+    public void attach(String entityType, InvalidationTarget target) {
+        attachedTargets.computeIfAbsent(entityType, type -> new CopyOnWriteArrayList<>()).add(target);
+    }
+
+    /**
+     * 쓰기가 일어난 노드에서만 받을 무효화 대상을 연결한다. 다른 노드가 받은 메시지나 유실로 인한 전체 무효화는 전달하지 않는다.
+     * Redis 처럼 노드가 공유하는 상태를 변경 한 번에 한 번만 바꿔야 할 때 쓴다.
+     */
+    public void attachWriter(String entityType, InvalidationTarget target) {
+        writerTargets.computeIfAbsent(entityType, type -> new CopyOnWriteArrayList<>()).add(target);
+    }
+
+    /**
+     * 엔티티 변경을 알린다. 트랜잭션 안이라면 커밋된 이후에만 반영된다.
+     */
+    public void invalidate(String entityType, Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(entityType, id);
+                }
+            });
+            return;
+        }
+        invalidateNow(entityType, id);
+    }
+
+    private void invalidateNow(String entityType, Long id) {
+        evict(entityType, List.of(id));
+        writerTargets.getOrDefault(entityType, List.of()).forEach(target -> target.evict(List.of(id)));
+        synchronized (pending) {
+            pending.computeIfAbsent(entityType, type -> new LinkedHashSet<>()).add(id);
+        }
+    }
+
+    void flush() {
+        Map<String, Set<Long>> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new HashMap<>(pending);
+            pending.clear();
+        }
+        batch.forEach((entityType, ids) -> {
+            try {
+                transport.send(new CacheInvalidation(
+                    nodeId, sequence.incrementAndGet(), entityType, new ArrayList<>(ids), System.currentTimeMillis()
+                ));
+            } catch (Exception e) {
+                // 발행에 실패해도 수신 측은 다음 메시지의 sequence 로 유실을 감지하고 전체 무효화한다.
+                log.error("캐시 무효화 발행에 실패했습니다 : entityType = {}, ids = {}", entityType, ids, e);
+            }
+        });
+    }
+
+    void onMessage(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.nodeId())) {
+            return;
+        }
+        Long last = lastSequences.put(invalidation.nodeId(), invalidation.sequence());
+        if (last != null && invalidation.sequence() != last + 1) {
+            log.warn("캐시 무효화 메시지 유실 감지 : node = {}, last = {}, received = {}",
+                invalidation.nodeId(), last, invalidation.sequence());
+            gapCounter.increment();
+            evictAll();
+        } else {
+            evict(invalidation.entityType(), invalidation.ids());
+        }
+        propagationTimer.record(
+            Math.max(0, System.currentTimeMillis() - invalidation.publishedAt()), TimeUnit.MILLISECONDS
+        );
+    }
+
+    private void evict(String entityType, Collection<Long> ids) {
+        LocalCache<?> cache = caches.get(entityType);
+        if (cache != null) {
+            cache.evict(ids);
+        }
+        attachedTargets.getOrDefault(entityType, List.of()).forEach(target -> target.evict(ids));
+    }
+
+    private void evictAll() {
+        caches.values().forEach(LocalCache::evictAll);
+        attachedTargets.values().forEach(targets -> targets.forEach(InvalidationTarget::evictAll));
+    }
+}
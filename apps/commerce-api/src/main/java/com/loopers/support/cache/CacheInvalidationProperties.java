@@ -0,0 +1,29 @@
+package com.loopers.support.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 로컬 캐시 / 무효화 버스 설정
+ *
+ * @param transport        무효화 메시지 전달 수단 (redis : pub/sub, kafka : 토픽)
+ * @param channel          redis pub/sub 채널 / kafka 토픽 이름
+ * @param coalesceWindow   이 시간 동안 모인 무효화를 하나의 메시지로 묶어 발행한다.
+ * @param maximumSize      캐시별 최대 엔트리 수
+ * @param expireAfterWrite 무효화 메시지를 놓치더라도 이 시간이 지나면 만료된다.
+ * @param instanceId       kafka 전송에서 노드별 consumer group 이름에 붙이는 값. 노드마다 다르고 재시작해도 같아야 한다.
+ */
+@ConfigurationProperties(value = "cache.invalidation")
+public record CacheInvalidationProperties(
+    Transport transport,
+    String channel,
+    Duration coalesceWindow,
+    long maximumSize,
+    Duration expireAfterWrite,
+    String instanceId
+) {
+    public enum Transport {
+        REDIS, KAFKA
+    }
+}
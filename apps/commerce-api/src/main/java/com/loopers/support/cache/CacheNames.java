@@ -0,0 +1,12 @@
+package com.loopers.support.cache;
+
+public final class CacheNames {
+    public static final String PRODUCT = "product";
+    public static final String USER = "user";
+
+    // Hibernate 2차 캐시 region (로컬 캐시와 메트릭 이름이 겹치지 않도록 구분)
+    public static final String PRODUCT_ENTITY_REGION = "product-entity";
+    public static final String USER_ENTITY_REGION = "user-entity";
+
+    private CacheNames() {}
+}
@@ -0,0 +1,44 @@
+package com.loopers.support.cache;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.user.User;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 다른 노드에서 변경된 엔티티를 이 노드의 Hibernate 2차 캐시 region 에서도 제거한다.
+ * 같은 노드의 변경은 READ_WRITE 전략이 커밋 시 region 을 갱신하므로 별도 처리가 필요 없다.
+ */
+@RequiredArgsConstructor
+@Component
+public class EntityRegionInvalidation implements InitializingBean {
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterPropertiesSet() {
+        cacheInvalidationBus.attach(CacheNames.PRODUCT, regionOf(Product.class));
+        cacheInvalidationBus.attach(CacheNames.USER, regionOf(User.class));
+    }
+
+    private InvalidationTarget regionOf(Class<?> entityType) {
+        Cache cache = entityManagerFactory.getCache();
+        return new InvalidationTarget() {
+            @Override
+            public void evict(Collection<Long> ids) {
+                ids.forEach(id -> cache.evict(entityType, id));
+            }
+
+            @Override
+            public void evictAll() {
+                cache.evict(entityType);
+            }
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.loopers.support.cache;
+
+import java.util.Collection;
+
+/**
+ * {@link CacheInvalidationBus} 의 무효화를 받는 캐시. (Hibernate 2차 캐시 region 등)
+ */
+public interface InvalidationTarget {
+    void evict(Collection<Long> ids);
+
+    void evictAll();
+}
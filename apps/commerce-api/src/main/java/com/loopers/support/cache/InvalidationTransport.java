@@ -0,0 +1,12 @@
+package com.loopers.support.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 메시지를 다른 노드로 전달한다. 자신이 보낸 메시지도 수신될 수 있다.
+ */
+public interface InvalidationTransport {
+    void send(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,56 @@
+package com.loopers.support.cache;
+
+import com.loopers.confg.kafka.KafkaConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Kafka 토픽으로 무효화 메시지를 전달한다.
+ * 모든 노드가 모든 메시지를 받아야 하므로 노드마다 별도의 consumer group 을 사용하고, 최신 메시지부터 읽는다.
+ * group 이름은 instance-id 로 정해지므로 재시작해도 같은 group 을 다시 쓰고, 시작할 때마다 group 이 새로 쌓이지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cache.invalidation", name = "transport", havingValue = "kafka")
+public class KafkaInvalidationTransport implements InvalidationTransport {
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final String topic;
+    private volatile Consumer<CacheInvalidation> listener = invalidation -> {};
+
+    public KafkaInvalidationTransport(KafkaTemplate<Object, Object> kafkaTemplate, CacheInvalidationProperties properties) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = properties.channel();
+        if (properties.instanceId() == null || properties.instanceId().isBlank()) {
+            throw new IllegalStateException("kafka 무효화 전송에는 노드별 cache.invalidation.instance-id 가 필요합니다.");
+        }
+    }
+
+    @Override
+    public void send(CacheInvalidation invalidation) {
+        kafkaTemplate.send(topic, invalidation.nodeId(), invalidation); // 노드별 순서 보장
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        this.listener = listener;
+    }
+
+    @KafkaListener(
+        topics = {"${cache.invalidation.channel}"},
+        groupId = "cache-invalidation-${cache.invalidation.instance-id}",
+        containerFactory = KafkaConfig.BATCH_LISTENER,
+        properties = {"auto.offset.reset=latest"}
+    )
+    public void invalidationListener(
+        List<CacheInvalidation> messages,
+        Acknowledgment acknowledgment
+    ) {
+        messages.forEach(listener);
+        acknowledgment.acknowledge();
+    }
+}
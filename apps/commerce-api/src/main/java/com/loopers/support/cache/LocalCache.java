@@ -0,0 +1,61 @@
+package com.loopers.support.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * id 기반 인메모리 캐시. {@link CacheInvalidationBus} 를 통해 다른 노드의 변경이 반영된다.
+ */
+public class LocalCache<V> {
+    private final String name;
+    private final Cache<Long, V> cache;
+
+    LocalCache(String name, long maximumSize, Duration expireAfterWrite) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public V get(Long id, Function<Long, V> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * 캐시에 없는 id 만 모아 loader 로 한 번에 읽는다. loader 결과에 없는 id 는 결과에서 빠지고 캐시되지 않는다.
+     */
+    public Map<Long, V> getAll(Collection<Long> ids, Function<Set<Long>, Map<Long, V>> loader) {
+        return cache.getAll(ids, missing -> loader.apply(Set.copyOf(missing)));
+    }
+
+    /**
+     * 캐시에 있으면 값을, 없으면 null 을 돌려준다. (읽어 오지 않는다)
+     */
+    public V getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    void evict(Collection<Long> ids) {
+        cache.invalidateAll(ids);
+    }
+
+    void evictAll() {
+        cache.invalidateAll();
+    }
+
+    Cache<Long, V> nativeCache() {
+        return cache;
+    }
+}
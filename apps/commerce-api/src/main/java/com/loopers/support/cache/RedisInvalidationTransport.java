@@ -0,0 +1,74 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 으로 무효화 메시지를 전달한다. (기본값)
+ * pub/sub 은 구독 중이 아닌 노드에는 전달되지 않으므로, 유실은 sequence 로 감지한다.
+ * 구독은 master / replica 구성의 커넥션으로는 할 수 없으므로 Pub/Sub 전용 커넥션을 사용한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cache.invalidation", name = "transport", havingValue = "redis", matchIfMissing = true)
+public class RedisInvalidationTransport implements InvalidationTransport, DisposableBean {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisInvalidationTransport(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        @Qualifier(RedisConfig.CONNECTION_PUB_SUB) RedisConnectionFactory redisConnectionFactory,
+        ObjectMapper objectMapper,
+        CacheInvalidationProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = properties.channel();
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(redisConnectionFactory);
+    }
+
+    @Override
+    public void send(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(invalidation));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidation.class
+                ));
+            } catch (Exception e) {
+                log.error("캐시 무효화 메시지 처리에 실패했습니다.", e);
+            }
+        }, new ChannelTopic(channel));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+}
@@ -0,0 +1,192 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.cluster.RedisHashTags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Redis 락으로 노드 간에도 같은 키의 조회를 하나로 합친다.
+ * <ul>
+ *     <li>락(SET NX)을 잡은 노드만 loader 를 실행하고, 결과를 resultTtl 동안 Redis 에 남긴다.</li>
+ *     <li>나머지 노드는 pollInterval 마다 결과를 확인하고, maxWait 안에 결과가 없으면 직접 조회한다.</li>
+ *     <li>변경이 일어난 노드만 세대(gen)를 올리고, 결과에는 조회를 시작할 때의 세대를 함께 적는다.
+ *     세대가 다른 결과는 무효화 이전 값일 수 있으므로 쓰지 않는다.</li>
+ * </ul>
+ * Redis 장애 시에는 합치지 않고 바로 조회한다. (fail-open)
+ * 락 / 결과 / 세대는 내부 키이므로 replica 라우팅(쓰기 마커)을 거치지 않고 master 에서 바로 읽고 쓴다.
+ */
+@Slf4j
+class RedisSingleFlight<V> implements SingleFlightLoader<V> {
+    // 세대는 결과보다 충분히 오래 남아 있어야 이전 세대의 결과를 걸러낼 수 있다.
+    private static final Duration GENERATION_TTL = Duration.ofMinutes(10);
+    private static final RedisScript<Long> RELEASE = RedisScript.of(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final String name;
+    private final Class<V> type;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration maxWait;
+    private final SingleFlightProperties.Distributed properties;
+
+    RedisSingleFlight(
+        String name,
+        Class<V> type,
+        RedisTemplate<String, String> masterTemplate,
+        ObjectMapper objectMapper,
+        SingleFlightProperties properties
+    ) {
+        this.name = name;
+        this.type = type;
+        this.redisTemplate = masterTemplate;
+        this.objectMapper = objectMapper;
+        this.maxWait = properties.maxWait();
+        this.properties = properties.distributed();
+    }
+
+    @Override
+    public V load(Long key, Supplier<V> loader) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue()
+                .setIfAbsent(lockKey(key), token, properties.lockTtl().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.debug("single-flight 락 획득에 실패해 바로 조회합니다. name = {}, key = {}", name, key, e);
+            return loader.get();
+        }
+        if (Boolean.TRUE.equals(acquired)) {
+            return lead(key, token, loader);
+        }
+        V shared = awaitResult(key);
+        return shared != null ? shared : loader.get();
+    }
+
+    /**
+     * {@link CacheInvalidationBus#attachWriter} 로 연결할 무효화 대상. 세대를 올려 진행 중인 조회나 남아 있는 결과를 쓰지 않게 한다.
+     * 세대는 노드가 공유하므로 변경이 일어난 노드에서 한 번만 올린다. (다른 노드는 로컬 이전 값만 버린다)
+     */
+    InvalidationTarget invalidationTarget() {
+        return new InvalidationTarget() {
+            @Override
+            public void evict(Collection<Long> ids) {
+                for (Long id : ids) {
+                    try {
+                        redisTemplate.opsForValue().increment(generationKey(id));
+                        redisTemplate.expire(generationKey(id), GENERATION_TTL);
+                    } catch (Exception e) {
+                        log.warn("single-flight 세대 갱신에 실패했습니다. name = {}, key = {}", name, id, e);
+                    }
+                }
+            }
+
+            @Override
+            public void evictAll() {
+                // 결과는 resultTtl 이 지나면 사라지므로 따로 지우지 않는다.
+            }
+        };
+    }
+
+    private V lead(Long key, String token, Supplier<V> loader) {
+        try {
+            String generation = generation(key);
+            V value = loader.get();
+            if (value != null && generation != null) {
+                publish(key, generation, value);
+            }
+            return value;
+        } finally {
+            try {
+                redisTemplate.execute(RELEASE, List.of(lockKey(key)), token);
+            } catch (Exception e) {
+                log.debug("single-flight 락 해제에 실패했습니다. lockTtl 이 지나면 풀립니다. name = {}, key = {}", name, key, e);
+            }
+        }
+    }
+
+    private String generation(Long key) {
+        try {
+            String generation = redisTemplate.opsForValue().get(generationKey(key));
+            return generation != null ? generation : "0";
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void publish(Long key, String generation, V value) {
+        try {
+            String encoded = generation + "\n" + objectMapper.writeValueAsString(value);
+            redisTemplate.opsForValue().set(resultKey(key), encoded, properties.resultTtl().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.debug("single-flight 결과 저장에 실패했습니다. name = {}, key = {}", name, key, e);
+        }
+    }
+
+    /**
+     * 다른 노드가 남긴 결과를 기다린다. maxWait 안에 쓸 수 있는 결과가 없으면 null.
+     */
+    private V awaitResult(Long key) {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        List<String> keys = List.of(resultKey(key), generationKey(key));
+        try {
+            while (true) {
+                List<String> values = redisTemplate.opsForValue().multiGet(keys);
+                V value = values == null ? null : decode(values.get(0), values.get(1));
+                if (value != null) {
+                    return value;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return null;
+                }
+                TimeUnit.NANOSECONDS.sleep(Math.min(remaining, properties.pollInterval().toNanos()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            log.debug("single-flight 결과 확인에 실패해 바로 조회합니다. name = {}, key = {}", name, key, e);
+            return null;
+        }
+    }
+
+    private V decode(String result, String generation) throws JsonProcessingException {
+        if (result == null) {
+            return null;
+        }
+        int separator = result.indexOf('\n');
+        String resultGeneration = result.substring(0, separator);
+        if (!resultGeneration.equals(generation != null ? generation : "0")) {
+            return null;
+        }
+        return objectMapper.readValue(result.substring(separator + 1), type);
+    }
+
+    private String lockKey(Long key) {
+        return RedisHashTags.key(tag(key), "lock");
+    }
+
+    private String resultKey(Long key) {
+        return RedisHashTags.key(tag(key), "result");
+    }
+
+    private String generationKey(Long key) {
+        return RedisHashTags.key(tag(key), "gen");
+    }
+
+    private String tag(Long key) {
+        return "singleflight:" + name + ":" + key;
+    }
+}
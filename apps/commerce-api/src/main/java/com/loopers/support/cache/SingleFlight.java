@@ -0,0 +1,153 @@
+package com.loopers.support.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 노드 안에서 같은 키의 동시 조회를 하나로 합친다.
+ * <ul>
+ *     <li>먼저 온 요청(leader)이 loader 를 실행하고, 나머지는 그 결과(예외 포함)를 같이 받는다.</li>
+ *     <li>leader 가 maxWait 안에 끝나지 않으면 기다리던 요청은 마지막으로 성공한 값(stale)으로 응답한다.
+ *     이전 값이 없으면 leaderTimeout 까지 leader 를 기다리고, 그래도 끝나지 않으면 직접 조회한다.</li>
+ *     <li>이전 값은 {@link #invalidationTarget()} 을 무효화 버스에 연결해 변경된 키부터 버린다.</li>
+ * </ul>
+ * loader 는 호출한 스레드에서 실행되므로 트랜잭션 / ThreadLocal 문맥이 그대로 유지된다.
+ */
+public class SingleFlight<V> implements SingleFlightLoader<V> {
+    private final Duration maxWait;
+    private final Duration leaderTimeout;
+    private final ConcurrentHashMap<Long, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<Long, V> stale;
+    private final Counter leaders;
+    private final Counter shared;
+    private final Counter staleServed;
+    private final Counter waited;
+    private final Counter timedOut;
+
+    SingleFlight(String name, SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.maxWait = properties.maxWait();
+        this.leaderTimeout = properties.leaderTimeout();
+        this.stale = Caffeine.newBuilder()
+            .maximumSize(properties.staleMaximumSize())
+            .expireAfterWrite(properties.staleTtl())
+            .build();
+        this.leaders = counter(meterRegistry, name, "leader");
+        this.shared = counter(meterRegistry, name, "shared");
+        this.staleServed = counter(meterRegistry, name, "stale");
+        this.waited = counter(meterRegistry, name, "waited");
+        this.timedOut = counter(meterRegistry, name, "timeout");
+    }
+
+    @Override
+    public V load(Long key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing == null) {
+            return lead(key, created, loader);
+        }
+        return await(key, existing, loader);
+    }
+
+    private V lead(Long key, CompletableFuture<V> future, Supplier<V> loader) {
+        leaders.increment();
+        try {
+            V value = loader.get();
+            if (value != null) {
+                stale.put(key, value);
+            }
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 무효화된 키의 이전 값을 버린다. 변경 후에는 maxWait 을 넘겨도 변경 전 값으로 응답하지 않는다.
+     */
+    InvalidationTarget invalidationTarget() {
+        return new InvalidationTarget() {
+            @Override
+            public void evict(Collection<Long> ids) {
+                stale.invalidateAll(ids);
+            }
+
+            @Override
+            public void evictAll() {
+                stale.invalidateAll();
+            }
+        };
+    }
+
+    private V await(Long key, CompletableFuture<V> future, Supplier<V> loader) {
+        try {
+            V value = future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            shared.increment();
+            return value;
+        } catch (TimeoutException e) {
+            V previous = stale.getIfPresent(key);
+            if (previous != null) {
+                staleServed.increment();
+                return previous;
+            }
+            waited.increment();
+            return join(future, loader);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "조회를 기다리는 중 중단되었습니다.");
+        }
+    }
+
+    /**
+     * leaderTimeout 안에 끝나지 않으면 leader 를 더 기다리지 않고 직접 조회한다. (leader 가 멈춰도 요청이 묶이지 않도록)
+     */
+    private V join(CompletableFuture<V> future, Supplier<V> loader) {
+        try {
+            return future.get(leaderTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "조회를 기다리는 중 중단되었습니다.");
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("cache.single-flight.requests")
+            .description("캐시 미스 조회를 합친 결과 (leader : 직접 조회, shared : 결과 공유, stale : 이전 값, waited : 이전 값 없이 계속 대기, timeout : 대기를 포기하고 직접 조회)")
+            .tag("name", name)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,11 @@
+package com.loopers.support.cache;
+
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 합쳐서 loader 를 한 번만 실행한다. 기다린 요청도 같은 결과(예외 포함)를 받는다.
+ */
+public interface SingleFlightLoader<V> {
+
+    V load(Long key, Supplier<V> loader);
+}
@@ -0,0 +1,36 @@
+package com.loopers.support.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 캐시 미스 시 같은 키의 동시 조회를 하나로 합치는 설정
+ *
+ * @param maxWait          먼저 시작한 조회를 기다리는 최대 시간. 넘으면 이전 값(stale)으로 응답하고, 이전 값이 없으면 leaderTimeout 까지 기다린다.
+ * @param leaderTimeout    이전 값이 없을 때 먼저 시작한 조회를 기다리는 최대 시간. 넘으면 직접 조회한다.
+ * @param staleTtl         이전 값을 보관하는 시간
+ * @param staleMaximumSize 이름별 이전 값 최대 엔트리 수
+ * @param distributed      Redis 락으로 노드 간에도 합친다.
+ */
+@ConfigurationProperties(value = "cache.single-flight")
+public record SingleFlightProperties(
+    Duration maxWait,
+    Duration leaderTimeout,
+    Duration staleTtl,
+    long staleMaximumSize,
+    Distributed distributed
+) {
+    /**
+     * @param enabled      false 면 노드 안에서만 합친다.
+     * @param lockTtl      조회하는 노드가 죽어도 락이 풀리는 시간 (조회 시간보다 충분히 길게)
+     * @param pollInterval 다른 노드의 결과를 확인하는 주기
+     * @param resultTtl    다른 노드가 가져갈 수 있도록 결과를 남겨 두는 시간
+     */
+    public record Distributed(
+        boolean enabled,
+        Duration lockTtl,
+        Duration pollInterval,
+        Duration resultTtl
+    ) { }
+}
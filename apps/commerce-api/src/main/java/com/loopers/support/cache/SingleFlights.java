@@ -0,0 +1,55 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 이름별 {@link SingleFlightLoader} 를 만든다.
+ * <pre>
+ * private final SingleFlightLoader&lt;ProductInfo&gt; productLoads = singleFlights.create(CacheNames.PRODUCT, ProductInfo.class);
+ *
+ * productLoads.load(id, () -&gt; productCache.get(id, this::read));
+ * </pre>
+ * 노드 안에서 먼저 합치고, cache.single-flight.distributed.enabled 이면 노드를 대표하는 한 요청만 Redis 락을 시도한다.
+ */
+@Component
+public class SingleFlights {
+    private final SingleFlightProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public SingleFlights(
+        SingleFlightProperties properties,
+        MeterRegistry meterRegistry,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        ObjectMapper objectMapper,
+        CacheInvalidationBus cacheInvalidationBus
+    ) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    /**
+     * @param name 캐시 이름. 같은 이름의 무효화로 이전 값(노드 간에 합칠 때는 Redis 의 결과도)을 버린다.
+     * @param type 노드 간에 결과를 주고받을 때 역직렬화할 타입
+     */
+    public <V> SingleFlightLoader<V> create(String name, Class<V> type) {
+        SingleFlight<V> local = new SingleFlight<>(name, properties, meterRegistry);
+        cacheInvalidationBus.attach(name, local.invalidationTarget());
+        if (properties.distributed() == null || !properties.distributed().enabled()) {
+            return local;
+        }
+        RedisSingleFlight<V> shared = new RedisSingleFlight<>(name, type, redisTemplate, objectMapper, properties);
+        cacheInvalidationBus.attachWriter(name, shared.invalidationTarget());
+        return (key, loader) -> local.load(key, () -> shared.load(key, loader));
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.support.thread;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드로 요청을 처리할 때(spring.threads.virtual.enabled=true)의 설정
+ *
+ * @param maxConcurrentRequests 동시에 처리하는 요청 수. 가상 스레드는 Tomcat 스레드 수 제한이 없으므로 커넥션 풀 앞에서 대신 막는다.
+ * @param acquireTimeout        처리 순서를 기다리는 최대 시간. 넘으면 503 으로 거절한다.
+ * @param pinnedThreshold       이 시간 이상 캐리어 스레드에 고정된(pinned) 가상 스레드를 기록한다.
+ */
+@ConfigurationProperties(value = "traffic.virtual-threads")
+public record VirtualThreadProperties(
+    int maxConcurrentRequests,
+    Duration acquireTimeout,
+    Duration pinnedThreshold
+) { }
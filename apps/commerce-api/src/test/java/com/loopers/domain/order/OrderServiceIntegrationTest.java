@@ -0,0 +1,323 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.user.User;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.infrastructure.user.UserJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.ExpectedQueryCount;
+import com.loopers.utils.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class OrderServiceIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private User user;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("사용자");
+        user.chargePoint(10_000L);
+        user = userJpaRepository.save(user);
+        products = productJpaRepository.saveAll(List.of(
+            new Product("상품A", 1000L, 10),
+            new Product("상품B", 2000L, 10),
+            new Product("상품C", 3000L, 10)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private Order orderAllProducts(int quantity) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        products.forEach(product -> quantities.put(product.getId(), quantity));
+        return orderService.createOrder(user.getId(), quantities);
+    }
+
+    private int stockOf(Product product) {
+        return productJpaRepository.findById(product.getId()).orElseThrow().getStock();
+    }
+
+    private long pointOf(User user) {
+        return userJpaRepository.findById(user.getId()).orElseThrow().getPoint();
+    }
+
+    @DisplayName("주문을 생성할 때, ")
+    @Nested
+    class Create {
+
+        @DisplayName("유효한 요청이면, 대기 상태의 주문이 생성되고 재고가 차감된다.")
+        @Test
+        void createsPendingOrder_andDecreasesStock() {
+            // act
+            Order order = orderAllProducts(2);
+
+            // assert
+            assertAll(
+                () -> assertThat(order.getId()).isNotNull(),
+                () -> assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING),
+                () -> assertThat(order.getTotalAmount()).isEqualTo(12_000L),
+                () -> assertThat(order.getOrderItems()).hasSize(3),
+                () -> assertThat(products).allSatisfy(product -> assertThat(stockOf(product)).isEqualTo(8))
+            );
+        }
+
+        @DisplayName("주문을 생성해도 포인트는 결제 전까지 차감되지 않는다.")
+        @Test
+        void keepsPoint_untilPaid() {
+            // act
+            orderAllProducts(1);
+
+            // assert
+            assertThat(pointOf(user)).isEqualTo(10_000L);
+        }
+
+        @DisplayName("재고가 부족하면, BAD_REQUEST 예외가 발생하고 재고는 그대로다.")
+        @Test
+        void throwsBadRequest_whenStockIsInsufficient() {
+            // act
+            CoreException result = assertThrows(CoreException.class, () -> orderAllProducts(11));
+
+            // assert
+            assertAll(
+                () -> assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(products).allSatisfy(product -> assertThat(stockOf(product)).isEqualTo(10))
+            );
+        }
+
+        @DisplayName("존재하지 않는 상품으로 주문하면, NOT_FOUND 예외가 발생한다.")
+        @Test
+        void throwsNotFound_whenProductDoesNotExist() {
+            // act
+            CoreException result = assertThrows(CoreException.class, () ->
+                orderService.createOrder(user.getId(), Map.of(999L, 1))
+            );
+
+            // assert
+            assertThat(result.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+        }
+
+        @DisplayName("존재하지 않는 사용자가 주문하면, NOT_FOUND 예외가 발생한다.")
+        @Test
+        void throwsNotFound_whenUserDoesNotExist() {
+            // act
+            CoreException result = assertThrows(CoreException.class, () ->
+                orderService.createOrder(999L, Map.of(products.get(0).getId(), 1))
+            );
+
+            // assert
+            assertThat(result.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+        }
+    }
+
+    @DisplayName("동시에 주문을 생성할 때, ")
+    @Nested
+    class ConcurrentCreate {
+
+        @DisplayName("재고보다 많은 주문이 몰려도, 재고만큼만 성공하고 재고는 음수가 되지 않는다.")
+        @Test
+        void succeedsOnlyUpToStock_withPessimisticLock() throws InterruptedException {
+            // arrange
+            Product product = productJpaRepository.save(new Product("한정 상품", 1000L, 3));
+            int threadCount = 5; // 테스트 프로필의 checkout 풀 크기
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger insufficientCount = new AtomicInteger();
+
+            // act
+            for (int i = 0; i < threadCount; i++) {
+                executorService.execute(() -> {
+                    try {
+                        orderService.createOrder(user.getId(), Map.of(product.getId(), 1));
+                        successCount.incrementAndGet();
+                    } catch (CoreException e) {
+                        if (e.getErrorType() == ErrorType.BAD_REQUEST) {
+                            insufficientCount.incrementAndGet();
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executorService.shutdown();
+
+            // assert
+            assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(3),
+                () -> assertThat(insufficientCount.get()).isEqualTo(2),
+                () -> assertThat(stockOf(product)).isZero()
+            );
+        }
+    }
+
+    @DisplayName("주문을 조회할 때, ")
+    @Nested
+    class Get {
+        private Order order;
+
+        @BeforeEach
+        void setUp() {
+            order = orderAllProducts(1);
+        }
+
+        @DisplayName("주문 항목 수와 관계없이 한 번의 쿼리로 주문, 항목, 상품을 조회한다.")
+        @ExpectedQueryCount(min = 1, max = 1)
+        @Test
+        void loadsItemsAndProducts_inSingleQuery() {
+            // act
+            Order result = orderService.getOrder(order.getId());
+
+            // assert
+            assertAll(
+                () -> assertThat(result.getUser().getId()).isEqualTo(user.getId()),
+                () -> assertThat(result.getOrderItems())
+                    .extracting(item -> item.getProduct().getName())
+                    .containsExactlyInAnyOrder("상품A", "상품B", "상품C")
+            );
+        }
+
+        @DisplayName("존재하지 않는 주문이면, NOT_FOUND 예외가 발생한다.")
+        @Test
+        void throwsNotFound_whenOrderDoesNotExist() {
+            // act
+            CoreException result = assertThrows(CoreException.class, () -> orderService.getOrder(999L));
+
+            // assert
+            assertThat(result.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+        }
+    }
+
+    @DisplayName("주문을 결제할 때, ")
+    @Nested
+    class Pay {
+
+        @DisplayName("포인트가 차감되고 결제 상태가 된다. 항목 수와 관계없이 쿼리 수가 일정하다.")
+        @Test
+        void usesPoint_withinQueryBudget() throws Throwable {
+            // arrange
+            Order order = orderAllProducts(1); // 6,000 원
+
+            // act
+            // 주문 조회 1 + 사용자 락 1 + 포인트 변경 1 + 주문 상태 변경 1
+            queryCounter.assertBetween(1, 4, () -> orderService.payOrder(order.getId()));
+
+            // assert
+            assertAll(
+                () -> assertThat(orderService.getOrder(order.getId()).getStatus()).isEqualTo(OrderStatus.PAID),
+                () -> assertThat(pointOf(user)).isEqualTo(4_000L)
+            );
+        }
+
+        @DisplayName("포인트가 부족하면, BAD_REQUEST 예외가 발생하고 주문은 대기 상태로 남는다.")
+        @Test
+        void throwsBadRequest_whenPointIsInsufficient() {
+            // arrange
+            Order order = orderAllProducts(2); // 12,000 원
+
+            // act
+            CoreException result = assertThrows(CoreException.class, () -> orderService.payOrder(order.getId()));
+
+            // assert
+            assertAll(
+                () -> assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(orderService.getOrder(order.getId()).getStatus()).isEqualTo(OrderStatus.PENDING),
+                () -> assertThat(pointOf(user)).isEqualTo(10_000L)
+            );
+        }
+    }
+
+    @DisplayName("주문을 취소할 때, ")
+    @Nested
+    class Cancel {
+
+        @DisplayName("재고가 복구되고 취소 상태가 된다. 상품당 재고 변경 외의 쿼리가 추가되지 않는다.")
+        @Test
+        void restoresStock_withinQueryBudget() throws Throwable {
+            // arrange
+            Order order = orderAllProducts(3);
+
+            // act
+            // 주문 조회 1 + 상품당 재고 변경 1 (상품은 주문과 함께 조회됨) + 사용자 락 1 + 주문 상태 변경 1
+            int budget = 1 + products.size() + 1 + 1;
+            queryCounter.assertBetween(1, budget, () -> orderService.cancelOrder(order.getId()));
+
+            // assert
+            assertAll(
+                () -> assertThat(orderService.getOrder(order.getId()).getStatus()).isEqualTo(OrderStatus.CANCELLED),
+                () -> assertThat(products).allSatisfy(product -> assertThat(stockOf(product)).isEqualTo(10))
+            );
+        }
+
+        @DisplayName("결제된 주문이면, 포인트가 환불된다.")
+        @Test
+        void refundsPoint_whenOrderIsPaid() {
+            // arrange
+            Order order = orderAllProducts(1);
+            orderService.payOrder(order.getId());
+
+            // act
+            orderService.cancelOrder(order.getId());
+
+            // assert
+            assertThat(pointOf(user)).isEqualTo(10_000L);
+        }
+
+        @DisplayName("이미 취소된 주문이면, BAD_REQUEST 예외가 발생하고 재고가 다시 늘지 않는다.")
+        @Test
+        void throwsBadRequest_whenAlreadyCancelled() {
+            // arrange
+            Order order = orderAllProducts(1);
+            orderService.cancelOrder(order.getId());
+
+            // act
+            CoreException result = assertThrows(CoreException.class, () -> orderService.cancelOrder(order.getId()));
+
+            // assert
+            assertAll(
+                () -> assertThat(result.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST),
+                () -> assertThat(products).allSatisfy(product -> assertThat(stockOf(product)).isEqualTo(10))
+            );
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.loopers.infrastructure;
+
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.infrastructure.order.OrderJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.infrastructure.user.PointHistoryJpaRepository;
+import com.loopers.infrastructure.user.UserJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.QueryCount;
+import com.loopers.utils.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 쿼리가 인덱스를 타는지 EXPLAIN 으로 확인한다.
+ * 옵티마이저가 작은 테이블에서는 풀 스캔을 고르므로 충분한 행을 넣고 통계를 갱신한 뒤 검사한다.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryQueryPlanTest {
+
+    private static final int USERS = 200;
+    private static final int PRODUCTS = 2_000;
+    private static final int ORDERS_PER_USER = 10;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final QueryCounter queryCounter;
+    private final DatabaseCleanUp databaseCleanUp;
+    private final UserJpaRepository userJpaRepository;
+    private final PointHistoryJpaRepository pointHistoryJpaRepository;
+    private final ProductJpaRepository productJpaRepository;
+    private final OrderJpaRepository orderJpaRepository;
+    private final ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    public RepositoryQueryPlanTest(
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        EntityManagerFactory entityManagerFactory,
+        QueryCounter queryCounter,
+        DatabaseCleanUp databaseCleanUp,
+        UserJpaRepository userJpaRepository,
+        PointHistoryJpaRepository pointHistoryJpaRepository,
+        ProductJpaRepository productJpaRepository,
+        OrderJpaRepository orderJpaRepository,
+        ExampleJpaRepository exampleJpaRepository
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.queryCounter = queryCounter;
+        this.databaseCleanUp = databaseCleanUp;
+        this.userJpaRepository = userJpaRepository;
+        this.pointHistoryJpaRepository = pointHistoryJpaRepository;
+        this.productJpaRepository = productJpaRepository;
+        this.orderJpaRepository = orderJpaRepository;
+        this.exampleJpaRepository = exampleJpaRepository;
+    }
+
+    @BeforeAll
+    void seed() {
+        databaseCleanUp.truncateAllTables();
+        Timestamp now = Timestamp.from(Instant.now());
+
+        insert("insert into users (name, point, created_at, updated_at) values (?, ?, ?, ?)",
+            LongStream.rangeClosed(1, USERS).mapToObj(i -> new Object[]{"user" + i, 0L, now, now}).toList());
+        insert("insert into products (name, price, stock, version, created_at, updated_at) values (?, ?, ?, ?, ?, ?)",
+            LongStream.rangeClosed(1, PRODUCTS).mapToObj(i -> new Object[]{"product" + i, 1_000L, 100, 0L, now, now}).toList());
+        insert("insert into example (name, description, created_at, updated_at) values (?, ?, ?, ?)",
+            LongStream.rangeClosed(1, USERS).mapToObj(i -> new Object[]{"example" + i, "description", now, now}).toList());
+
+        List<Object[]> orders = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> histories = new ArrayList<>();
+        long orderId = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            for (int i = 0; i < ORDERS_PER_USER; i++) {
+                orderId++;
+                orders.add(new Object[]{userId, "PAID", 3_000L, now, now});
+                for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                    long productId = (orderId * ITEMS_PER_ORDER + j) % PRODUCTS + 1;
+                    items.add(new Object[]{orderId, productId, "product" + productId, 1, 1_000L, now, now});
+                }
+                histories.add(new Object[]{userId, "CHARGE", 3_000L, 3_000L, now, now});
+            }
+        }
+        insert("insert into orders (user_id, status, total_amount, created_at, updated_at) values (?, ?, ?, ?, ?)", orders);
+        insert("insert into order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)", items);
+        insert("insert into point_history (user_id, type, amount, balance_after, created_at, updated_at) values (?, ?, ?, ?, ?, ?)", histories);
+
+        jdbcTemplate.execute("analyze table users, products, example, orders, order_items, point_history");
+    }
+
+    @AfterAll
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @BeforeEach
+    void evictSecondLevelCache() {
+        // 2차 캐시에 적중하면 SQL 이 실행되지 않으므로 매번 비운다.
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @DisplayName("사용자를 id 로 조회하면, PK 를 사용한다.")
+    @Test
+    void userFindById() throws Throwable {
+        assertIndexed(() -> userJpaRepository.findById(1L));
+    }
+
+    @DisplayName("사용자 버전을 id 로 조회하면, PK 를 사용한다.")
+    @Test
+    void userFindVersionById() throws Throwable {
+        assertIndexed(() -> userJpaRepository.findVersionById(1L));
+    }
+
+    @DisplayName("포인트 내역을 사용자 id 로 조회하면, user_id 인덱스를 사용한다.")
+    @Test
+    void pointHistoryFindByUserId() throws Throwable {
+        assertIndexed(() -> pointHistoryJpaRepository.findByUserId(1L));
+    }
+
+    @DisplayName("상품을 id 로 조회하면, PK 를 사용한다.")
+    @Test
+    void productFindById() throws Throwable {
+        assertIndexed(() -> productJpaRepository.findById(1L));
+    }
+
+    @DisplayName("상품 버전을 id 로 조회하면, PK 를 사용한다.")
+    @Test
+    void productFindVersionById() throws Throwable {
+        assertIndexed(() -> productJpaRepository.findVersionById(1L));
+    }
+
+    @DisplayName("전체 상품 버전을 조회하면, 테이블 대신 updated_at 인덱스를 읽는다.")
+    @Test
+    void productFindVersionOfAll() throws Throwable {
+        assertIndexed(() -> productJpaRepository.findVersionOfAll());
+    }
+
+    @DisplayName("상품을 비관적 락으로 조회하면, PK 를 사용한다.")
+    @Test
+    void productFindByIdWithLock() throws Throwable {
+        assertIndexed(() -> transactionTemplate.executeWithoutResult(status -> productJpaRepository.findByIdWithLock(1L)));
+    }
+
+    @DisplayName("상품을 여러 id 로 조회하면, PK 범위 조회를 사용한다.")
+    @Test
+    void productFindAllById() throws Throwable {
+        assertIndexed(() -> productJpaRepository.findAllById(List.of(1L, 2L, 3L)));
+    }
+
+    @DisplayName("주문을 항목과 함께 id 로 조회하면, 모든 조인이 인덱스를 사용한다.")
+    @Test
+    void orderFindWithItemsById() throws Throwable {
+        assertIndexed(() -> orderJpaRepository.findWithItemsById(1L));
+    }
+
+    @DisplayName("주문을 사용자 id 로 조회하면, 모든 조인이 인덱스를 사용한다.")
+    @Test
+    void orderFindByUserId() throws Throwable {
+        assertIndexed(() -> orderJpaRepository.findByUserId(1L));
+    }
+
+    @DisplayName("주문 버전을 id 로 조회하면, PK 를 사용한다.")
+    @Test
+    void orderFindVersionById() throws Throwable {
+        assertIndexed(() -> orderJpaRepository.findVersionById(1L));
+    }
+
+    @DisplayName("사용자의 주문 버전을 조회하면, user_id 인덱스를 사용한다.")
+    @Test
+    void orderFindVersionByUserId() throws Throwable {
+        assertIndexed(() -> orderJpaRepository.findVersionByUserId(1L));
+    }
+
+    @DisplayName("예시를 id 로 조회하면, PK 를 사용한다.")
+    @Test
+    void exampleFindById() throws Throwable {
+        assertIndexed(() -> exampleJpaRepository.findById(1L));
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    /**
+     * 블록에서 실행된 SELECT 마다 EXPLAIN 을 돌려 풀 스캔 (type = ALL) 이나 filesort 가 없는지 확인한다.
+     */
+    private void assertIndexed(Executable block) throws Throwable {
+        QueryCount count = queryCounter.count(block);
+        count.assertAtLeast(1);
+        List<String> selects = count.statements().stream()
+            .map(QueryCount.Statement::sql)
+            .filter(sql -> sql.stripLeading().regionMatches(true, 0, "select", 0, 6))
+            .toList();
+        assertThat(selects).isNotEmpty();
+
+        for (String sql : selects) {
+            // 바인딩 값은 계획에 영향을 주지 않는 범위에서 1 로 채운다.
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("explain " + sql.replace("?", "1"));
+            for (Map<String, Object> row : plan) {
+                assertThat(row.get("type"))
+                    .as("풀 스캔 : table = %s, sql = %s", row.get("table"), sql)
+                    .isNotEqualTo("ALL");
+                assertThat(String.valueOf(row.get("Extra")))
+                    .as("filesort : table = %s, sql = %s", row.get("table"), sql)
+                    .doesNotContain("Using filesort");
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NdjsonWriterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("내보내기가 중간에 실패하면, ")
+    @Nested
+    class Failure {
+
+        @DisplayName("아직 보내지 않은 응답은 비우고 예외를 다시 던진다.")
+        @Test
+        void resetsResponse_whenNotCommitted() {
+            // arrange
+            MockHttpServletRequest request = gzipRequest();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // act
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                NdjsonWriter.stream(request, response, objectMapper, "items.ndjson", writer -> {
+                    writer.write(Map.of("id", 1));
+                    throw new IllegalStateException("조회 실패");
+                })
+            );
+
+            // assert
+            assertAll(
+                () -> assertThat(exception).hasMessage("조회 실패"),
+                () -> assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull(),
+                () -> assertThat(response.getContentType()).isNull(),
+                () -> assertThat(response.getContentAsByteArray()).isEmpty()
+            );
+        }
+
+        @DisplayName("이미 보낸 응답은 마지막 줄을 실패 레코드로 끝내, 잘린 내보내기를 알 수 있다.")
+        @Test
+        void endsWithFailureRecord_whenCommitted() throws Exception {
+            // arrange
+            MockHttpServletRequest request = gzipRequest();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // act
+            NdjsonWriter.stream(request, response, objectMapper, "items.ndjson", writer -> {
+                writer.write(Map.of("id", 1));
+                writer.write(Map.of("id", 2));
+                commit(response);
+                throw new IllegalStateException("조회 실패");
+            });
+
+            // assert
+            List<JsonNode> lines = lines(gunzip(response.getContentAsByteArray()));
+            assertAll(
+                () -> assertThat(lines).hasSize(3),
+                () -> assertThat(lines.get(0).get("id").asInt()).isEqualTo(1),
+                () -> assertThat(lines.get(1).get("id").asInt()).isEqualTo(2),
+                () -> assertThat(lines.get(2).at("/meta/result").asText()).isEqualTo("FAIL")
+            );
+        }
+
+        @DisplayName("값을 쓰다가 실패해도, 실패 레코드는 새 줄에 온전히 쓴다.")
+        @Test
+        void writesFailureRecordOnNewLine_whenValueIsPartial() throws Exception {
+            // arrange
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // act
+            NdjsonWriter.stream(request, response, objectMapper, "items.ndjson", writer -> {
+                writer.write(Map.of("id", 1));
+                commit(response);
+                writer.write(new Broken());
+            });
+
+            // assert
+            String[] lines = response.getContentAsString(StandardCharsets.UTF_8).split("\n");
+            assertAll(
+                () -> assertThat(objectMapper.readTree(lines[0]).get("id").asInt()).isEqualTo(1),
+                () -> assertThat(objectMapper.readTree(lines[lines.length - 1]).at("/meta/result").asText()).isEqualTo("FAIL")
+            );
+        }
+    }
+
+    @DisplayName("Accept-Encoding 의 q 값을 따른다.")
+    @Test
+    void respectsQualityValues() {
+        // act & assert
+        assertAll(
+            () -> assertThat(NdjsonWriter.acceptsGzip("gzip, deflate")).isTrue(),
+            () -> assertThat(NdjsonWriter.acceptsGzip("deflate, gzip;q=0.5")).isTrue(),
+            () -> assertThat(NdjsonWriter.acceptsGzip("gzip;q=0")).isFalse(),
+            () -> assertThat(NdjsonWriter.acceptsGzip("gzip; q=0.000, deflate")).isFalse(),
+            () -> assertThat(NdjsonWriter.acceptsGzip("*")).isTrue(),
+            () -> assertThat(NdjsonWriter.acceptsGzip("*;q=0")).isFalse(),
+            () -> assertThat(NdjsonWriter.acceptsGzip("gzip;q=0, *")).isFalse(),
+            () -> assertThat(NdjsonWriter.acceptsGzip("identity")).isFalse(),
+            () -> assertThat(NdjsonWriter.acceptsGzip(null)).isFalse()
+        );
+    }
+
+    /**
+     * 직렬화 도중 예외가 나는 값이다.
+     */
+    static class Broken {
+        public int getId() {
+            return 1;
+        }
+
+        public String getName() {
+            throw new IllegalStateException("직렬화 실패");
+        }
+    }
+
+    private static MockHttpServletRequest gzipRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        return request;
+    }
+
+    private static void commit(MockHttpServletResponse response) {
+        try {
+            response.flushBuffer();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private List<JsonNode> lines(String body) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,318 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.OrderInfo;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.user.User;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.infrastructure.user.UserJpaRepository;
+import com.loopers.interfaces.api.order.OrderV1Dto;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.ExpectedQueryCount;
+import com.loopers.utils.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class OrderV1ApiE2ETest {
+
+    private static final String ENDPOINT = "/api/v1/orders";
+    private static final Function<Long, String> ENDPOINT_GET = id -> "/api/v1/orders/" + id;
+    private static final Function<Long, String> ENDPOINT_GET_BY_USER = userId -> "/api/v1/orders/users/" + userId;
+    private static final String ENDPOINT_EXPORT = "/api/v1/orders/export";
+
+    private final TestRestTemplate testRestTemplate;
+    private final UserJpaRepository userJpaRepository;
+    private final ProductJpaRepository productJpaRepository;
+    private final OrderFacade orderFacade;
+    private final QueryCounter queryCounter;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseCleanUp databaseCleanUp;
+
+    private User user;
+    private List<Product> products;
+
+    @Autowired
+    public OrderV1ApiE2ETest(
+        TestRestTemplate testRestTemplate,
+        UserJpaRepository userJpaRepository,
+        ProductJpaRepository productJpaRepository,
+        OrderFacade orderFacade,
+        QueryCounter queryCounter,
+        ObjectMapper objectMapper,
+        JdbcTemplate jdbcTemplate,
+        DatabaseCleanUp databaseCleanUp
+    ) {
+        this.testRestTemplate = testRestTemplate;
+        this.userJpaRepository = userJpaRepository;
+        this.productJpaRepository = productJpaRepository;
+        this.orderFacade = orderFacade;
+        this.queryCounter = queryCounter;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseCleanUp = databaseCleanUp;
+    }
+
+    @BeforeEach
+    void setUp() {
+        user = userJpaRepository.save(new User("사용자"));
+        products = productJpaRepository.saveAll(List.of(
+            new Product("상품A", 1000L, 100),
+            new Product("상품B", 2000L, 100),
+            new Product("상품C", 3000L, 100)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private OrderInfo orderAllProducts() {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        products.forEach(product -> quantities.put(product.getId(), 1));
+        return orderFacade.createOrder(user.getId(), quantities);
+    }
+
+    @DisplayName("GET /api/v1/orders/{orderId}")
+    @Nested
+    class Get {
+        private OrderInfo order;
+
+        @BeforeEach
+        void setUp() {
+            order = orderAllProducts();
+        }
+
+        @DisplayName("주문 항목 수와 관계없이 한 번의 쿼리로 주문, 항목, 상품을 조회한다.")
+        @ExpectedQueryCount(min = 1, max = 1)
+        @Test
+        void returnsOrderWithItems_inSingleQuery() {
+            // act
+            ParameterizedTypeReference<ApiResponse<OrderV1Dto.OrderResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<OrderV1Dto.OrderResponse>> response =
+                testRestTemplate.exchange(ENDPOINT_GET.apply(order.id()), HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getBody().data().id()).isEqualTo(order.id()),
+                () -> assertThat(response.getBody().data().items()).hasSize(3),
+                () -> assertThat(response.getBody().data().items())
+                    .extracting(OrderV1Dto.OrderItemResponse::productName)
+                    .containsExactlyInAnyOrder("상품A", "상품B", "상품C")
+            );
+        }
+
+        @DisplayName("If-None-Match 가 현재 ETag 와 같으면, 버전만 조회하고 본문 없이 304 를 돌려준다.")
+        @Test
+        void returnsNotModified_whenETagMatches() throws Throwable {
+            // arrange
+            ResponseEntity<String> first =
+                testRestTemplate.exchange(ENDPOINT_GET.apply(order.id()), HttpMethod.GET, new HttpEntity<>(null), String.class);
+            String eTag = first.getHeaders().getETag();
+            HttpHeaders headers = new HttpHeaders();
+            headers.setIfNoneMatch(eTag);
+
+            // act & assert
+            queryCounter.assertBetween(1, 1, () -> {
+                ResponseEntity<String> response =
+                    testRestTemplate.exchange(ENDPOINT_GET.apply(order.id()), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+                assertAll(
+                    () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+                    () -> assertThat(response.getHeaders().getETag()).isEqualTo(eTag),
+                    () -> assertThat(response.getBody()).isNull()
+                );
+            });
+            assertAll(
+                () -> assertThat(eTag).isNotNull(),
+                () -> assertThat(first.getHeaders().getLastModified()).isPositive()
+            );
+        }
+
+        @DisplayName("주문이 바뀌었으면, If-None-Match 가 있어도 새 ETag 와 본문을 돌려준다.")
+        @Test
+        void returnsBody_whenOrderChanged() {
+            // arrange
+            ResponseEntity<String> first =
+                testRestTemplate.exchange(ENDPOINT_GET.apply(order.id()), HttpMethod.GET, new HttpEntity<>(null), String.class);
+            String eTag = first.getHeaders().getETag();
+            orderFacade.cancelOrder(order.id());
+            HttpHeaders headers = new HttpHeaders();
+            headers.setIfNoneMatch(eTag);
+
+            // act
+            ParameterizedTypeReference<ApiResponse<OrderV1Dto.OrderResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<OrderV1Dto.OrderResponse>> response =
+                testRestTemplate.exchange(ENDPOINT_GET.apply(order.id()), HttpMethod.GET, new HttpEntity<>(headers), responseType);
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getHeaders().getETag()).isNotEqualTo(eTag),
+                () -> assertThat(response.getBody().data().status()).isEqualTo(OrderStatus.CANCELLED)
+            );
+        }
+
+        @DisplayName("주문 후 상품명이 바뀌어도, 주문 시점의 상품명을 돌려주고 ETag 도 그대로다.")
+        @Test
+        void returnsOrderTimeProductName_whenProductRenamed() {
+            // arrange
+            ParameterizedTypeReference<ApiResponse<OrderV1Dto.OrderResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<OrderV1Dto.OrderResponse>> first =
+                testRestTemplate.exchange(ENDPOINT_GET.apply(order.id()), HttpMethod.GET, new HttpEntity<>(null), responseType);
+            jdbcTemplate.update("update products set name = concat(name, '-변경')");
+
+            // act
+            ResponseEntity<ApiResponse<OrderV1Dto.OrderResponse>> response =
+                testRestTemplate.exchange(ENDPOINT_GET.apply(order.id()), HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertAll(
+                () -> assertThat(response.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag()),
+                () -> assertThat(response.getBody().data().items())
+                    .extracting(OrderV1Dto.OrderItemResponse::productName)
+                    .containsExactlyInAnyOrder("상품A", "상품B", "상품C")
+            );
+        }
+    }
+
+    @DisplayName("GET /api/v1/orders/users/{userId}")
+    @Nested
+    class GetByUser {
+
+        @BeforeEach
+        void setUp() {
+            orderAllProducts();
+            orderAllProducts();
+        }
+
+        @DisplayName("주문 수와 관계없이 한 번의 쿼리로 사용자의 주문 목록을 조회한다.")
+        @ExpectedQueryCount(min = 1, max = 1)
+        @Test
+        void returnsOrders_inSingleQuery() {
+            // act
+            ParameterizedTypeReference<ApiResponse<OrderV1Dto.OrderListResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<OrderV1Dto.OrderListResponse>> response =
+                testRestTemplate.exchange(ENDPOINT_GET_BY_USER.apply(user.getId()), HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getBody().data().orders()).hasSize(2),
+                () -> assertThat(response.getBody().data().orders())
+                    .allSatisfy(order -> assertThat(order.items()).hasSize(3))
+            );
+        }
+    }
+
+    @DisplayName("GET /api/v1/orders/export")
+    @Nested
+    class Export {
+        private OrderInfo first;
+        private OrderInfo second;
+
+        @BeforeEach
+        void setUp() {
+            first = orderAllProducts();
+            second = orderAllProducts();
+        }
+
+        @DisplayName("주문마다 항목을 포함한 한 줄의 JSON 을 주문 id 순서로 한 번의 쿼리로 내보낸다.")
+        @ExpectedQueryCount(min = 1, max = 1)
+        @Test
+        void exportsOrdersAsNdjson_inSingleQuery() throws Exception {
+            // act
+            ResponseEntity<String> response =
+                testRestTemplate.exchange(ENDPOINT_EXPORT, HttpMethod.GET, new HttpEntity<>(null), String.class);
+
+            // assert
+            List<OrderV1Dto.OrderResponse> orders = new ArrayList<>();
+            for (String line : response.getBody().split("\n")) {
+                orders.add(objectMapper.readValue(line, OrderV1Dto.OrderResponse.class));
+            }
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getHeaders().getContentType()).hasToString(NdjsonWriter.MEDIA_TYPE + ";charset=UTF-8"),
+                () -> assertThat(orders).extracting(OrderV1Dto.OrderResponse::id).containsExactly(first.id(), second.id()),
+                () -> assertThat(orders).allSatisfy(order -> assertThat(order.items()).hasSize(3))
+            );
+        }
+    }
+
+    @DisplayName("POST /api/v1/orders")
+    @Nested
+    class Create {
+
+        @DisplayName("상품마다 조회 / 잠금 / 재고 변경 / 항목 저장 외의 쿼리가 추가되지 않는다.")
+        @Test
+        void createsOrder_withinQueryBudget() throws Throwable {
+            // arrange
+            OrderV1Dto.CreateOrderRequest request = new OrderV1Dto.CreateOrderRequest(
+                user.getId(),
+                products.stream().map(product -> new OrderV1Dto.OrderItemRequest(product.getId(), 1)).toList()
+            );
+            ParameterizedTypeReference<ApiResponse<OrderV1Dto.OrderResponse>> responseType = new ParameterizedTypeReference<>() {};
+
+            // act & assert
+            // 사용자 1 + 상품당 (조회 1 + 잠금 1 + 항목 저장 1 + 재고 변경 1) + 주문 저장 1
+            int budget = 1 + products.size() * 4 + 1;
+            queryCounter.assertBetween(1, budget, () -> {
+                ResponseEntity<ApiResponse<OrderV1Dto.OrderResponse>> response =
+                    testRestTemplate.exchange(ENDPOINT, HttpMethod.POST, new HttpEntity<>(request), responseType);
+                assertTrue(response.getStatusCode().is2xxSuccessful());
+            });
+        }
+    }
+    @DisplayName("주문 결제")
+    @Nested
+    class Pay {
+
+        @DisplayName("2차 캐시의 포인트가 오래된 값이어도, DB 의 최신 포인트에서 차감한다.")
+        @Test
+        void usesLatestPoint_whenSecondLevelCacheIsStale() {
+            // arrange
+            user.chargePoint(10_000L);
+            userJpaRepository.save(user);
+            OrderInfo order = orderAllProducts(); // 6,000 원
+            userJpaRepository.findById(user.getId()); // 2차 캐시에 포인트 10,000 을 올린다.
+            jdbcTemplate.update("update users set point = 7000, version = version + 1 where id = ?", user.getId()); // 다른 노드의 변경
+
+            // act
+            orderFacade.payOrder(order.id());
+
+            // assert
+            assertAll(
+                () -> assertThat(jdbcTemplate.queryForObject("select point from users where id = ?", Long.class, user.getId()))
+                    .isEqualTo(1_000L),
+                () -> assertThat(orderFacade.getOrder(order.id()).status()).isEqualTo(OrderStatus.PAID)
+            );
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.interfaces.api.product.ProductV1Dto;
+import com.loopers.support.cache.CacheInvalidationBus;
+import com.loopers.support.cache.CacheNames;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.ExpectedQueryCount;
+import com.loopers.utils.QueryCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductV1ApiE2ETest {
+
+    private static final String ENDPOINT_BATCH = "/api/v1/products:batch";
+    private static final String ENDPOINT_EXPORT = "/api/v1/products/export";
+
+    private final TestRestTemplate testRestTemplate;
+    private final ProductJpaRepository productJpaRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final QueryCounter queryCounter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final DatabaseCleanUp databaseCleanUp;
+
+    private List<Product> products;
+
+    @Autowired
+    public ProductV1ApiE2ETest(
+        TestRestTemplate testRestTemplate,
+        ProductJpaRepository productJpaRepository,
+        CacheInvalidationBus cacheInvalidationBus,
+        QueryCounter queryCounter,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        DatabaseCleanUp databaseCleanUp
+    ) {
+        this.testRestTemplate = testRestTemplate;
+        this.productJpaRepository = productJpaRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.queryCounter = queryCounter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.databaseCleanUp = databaseCleanUp;
+    }
+
+    @BeforeEach
+    void setUp() {
+        products = productJpaRepository.saveAll(List.of(
+            new Product("상품A", 1000L, 100),
+            new Product("상품B", 2000L, 100),
+            new Product("상품C", 3000L, 100)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 테이블을 비우면 id 가 다시 1 부터 발급되므로 로컬 캐시에 남은 상품도 지운다.
+        products.forEach(product -> cacheInvalidationBus.invalidate(CacheNames.PRODUCT, product.getId()));
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("GET /api/v1/products:batch")
+    @Nested
+    class GetBatch {
+        private final ParameterizedTypeReference<ApiResponse<ProductV1Dto.ProductBatchResponse>> responseType =
+            new ParameterizedTypeReference<>() {};
+
+        @DisplayName("요청한 id 순서대로 상품을 돌려주고, 찾지 못한 id 는 missingIds 로 알려준다.")
+        @ExpectedQueryCount(min = 1, max = 1)
+        @Test
+        void returnsProductsInRequestOrder_withMissingIds() {
+            // arrange
+            Long a = products.get(0).getId();
+            Long c = products.get(2).getId();
+            String ids = c + ",999999," + a + "," + c;
+
+            // act
+            ResponseEntity<ApiResponse<ProductV1Dto.ProductBatchResponse>> response =
+                testRestTemplate.exchange(ENDPOINT_BATCH + "?ids=" + ids, HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getBody().data().products())
+                    .extracting(ProductV1Dto.ProductResponse::id)
+                    .containsExactly(c, a),
+                () -> assertThat(response.getBody().data().missingIds()).containsExactly(999999L)
+            );
+        }
+
+        @DisplayName("한 번 조회한 상품은 다시 조회할 때 쿼리를 실행하지 않는다.")
+        @Test
+        void servesFromCache_onSecondCall() throws Throwable {
+            // arrange
+            String ids = products.stream().map(product -> product.getId().toString()).collect(Collectors.joining(","));
+            testRestTemplate.exchange(ENDPOINT_BATCH + "?ids=" + ids, HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // act & assert
+            queryCounter.assertAtMost(0, () -> {
+                ResponseEntity<ApiResponse<ProductV1Dto.ProductBatchResponse>> response =
+                    testRestTemplate.exchange(ENDPOINT_BATCH + "?ids=" + ids, HttpMethod.GET, new HttpEntity<>(null), responseType);
+                assertThat(response.getBody().data().products()).hasSize(3);
+            });
+        }
+    }
+
+    @DisplayName("POST /api/v1/products:batch")
+    @Nested
+    class PostBatch {
+        private final ParameterizedTypeReference<ApiResponse<ProductV1Dto.ProductBatchResponse>> responseType =
+            new ParameterizedTypeReference<>() {};
+
+        @DisplayName("본문의 id 목록으로 상품을 조회한다.")
+        @Test
+        void returnsProducts() {
+            // arrange
+            List<Long> ids = products.stream().map(Product::getId).toList();
+
+            // act
+            ResponseEntity<ApiResponse<ProductV1Dto.ProductBatchResponse>> response = testRestTemplate.exchange(
+                ENDPOINT_BATCH, HttpMethod.POST, new HttpEntity<>(new ProductV1Dto.ProductBatchRequest(ids)), responseType
+            );
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getBody().data().products())
+                    .extracting(ProductV1Dto.ProductResponse::id)
+                    .containsExactlyElementsOf(ids),
+                () -> assertThat(response.getBody().data().missingIds()).isEmpty()
+            );
+        }
+
+        @DisplayName("한 번에 조회할 수 있는 수를 넘으면, 400 BAD_REQUEST 를 반환한다.")
+        @Test
+        void returnsBadRequest_whenTooManyIds() {
+            // arrange
+            List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+            // act
+            ResponseEntity<ApiResponse<ProductV1Dto.ProductBatchResponse>> response = testRestTemplate.exchange(
+                ENDPOINT_BATCH, HttpMethod.POST, new HttpEntity<>(new ProductV1Dto.ProductBatchRequest(ids)), responseType
+            );
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("GET /api/v1/products/export")
+    @Nested
+    class Export {
+
+        @DisplayName("상품마다 한 줄의 JSON 을 id 순서로 한 번의 쿼리로 내보낸다.")
+        @ExpectedQueryCount(min = 1, max = 1)
+        @Test
+        void exportsProductsAsNdjson_inSingleQuery() throws Exception {
+            // act
+            ResponseEntity<String> response =
+                testRestTemplate.exchange(ENDPOINT_EXPORT, HttpMethod.GET, new HttpEntity<>(null), String.class);
+
+            // assert
+            List<ProductV1Dto.ProductResponse> exported = new ArrayList<>();
+            for (String line : response.getBody().split("\n")) {
+                exported.add(objectMapper.readValue(line, ProductV1Dto.ProductResponse.class));
+            }
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getHeaders().getContentType()).hasToString(NdjsonWriter.MEDIA_TYPE + ";charset=UTF-8"),
+                () -> assertThat(exported)
+                    .extracting(ProductV1Dto.ProductResponse::id)
+                    .containsExactlyElementsOf(products.stream().map(Product::getId).toList())
+            );
+        }
+
+        @DisplayName("내보내기는 export 풀의 커넥션을 사용한다.")
+        @Test
+        void usesExportPool() {
+            // arrange
+            long before = exportPoolUsages();
+
+            // act
+            ResponseEntity<String> response =
+                testRestTemplate.exchange(ENDPOINT_EXPORT, HttpMethod.GET, new HttpEntity<>(null), String.class);
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(exportPoolUsages()).isEqualTo(before + 1)
+            );
+        }
+
+        private long exportPoolUsages() {
+            Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", "mysql-export-pool").timer();
+            return usage == null ? 0 : usage.count();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.interfaces.api.ranking.RankingV1Dto;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class RankingV1ApiE2ETest {
+
+    private static final String ENDPOINT = "/api/v1/rankings";
+    private static final String RANKING_KEY = "{ranking:products}:20250101";
+
+    private final TestRestTemplate testRestTemplate;
+    private final ProductJpaRepository productJpaRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
+
+    @Autowired
+    public RankingV1ApiE2ETest(
+        TestRestTemplate testRestTemplate,
+        ProductJpaRepository productJpaRepository,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        DatabaseCleanUp databaseCleanUp,
+        RedisCleanUp redisCleanUp
+    ) {
+        this.testRestTemplate = testRestTemplate;
+        this.productJpaRepository = productJpaRepository;
+        this.redisTemplate = redisTemplate;
+        this.databaseCleanUp = databaseCleanUp;
+        this.redisCleanUp = redisCleanUp;
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("GET /api/v1/rankings")
+    @Nested
+    class Get {
+        @DisplayName("점수가 높은 순서대로 상품 정보와 함께 반환하고, 조회되지 않는 상품은 제외한다.")
+        @Test
+        void returnsRankingsOrderedByScore() {
+            // arrange
+            Product first = productJpaRepository.save(new Product("상품A", 1000L, 10));
+            Product second = productJpaRepository.save(new Product("상품B", 2000L, 10));
+            redisTemplate.opsForZSet().add(RANKING_KEY, String.valueOf(second.getId()), 5);
+            redisTemplate.opsForZSet().add(RANKING_KEY, String.valueOf(first.getId()), 10);
+            redisTemplate.opsForZSet().add(RANKING_KEY, "999999", 7);
+
+            // act
+            ParameterizedTypeReference<ApiResponse<RankingV1Dto.RankingListResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<RankingV1Dto.RankingListResponse>> response =
+                testRestTemplate.exchange(ENDPOINT + "?date=20250101&size=10", HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getBody().data().rankings()).hasSize(2),
+                () -> assertThat(response.getBody().data().rankings().get(0).product().id()).isEqualTo(first.getId()),
+                () -> assertThat(response.getBody().data().rankings().get(0).rank()).isEqualTo(1L),
+                () -> assertThat(response.getBody().data().rankings().get(1).product().id()).isEqualTo(second.getId()),
+                () -> assertThat(response.getBody().data().rankings().get(1).rank()).isEqualTo(3L)
+            );
+        }
+
+        @DisplayName("조회 개수가 허용 범위를 넘으면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenSizeIsOutOfRange() {
+            // act
+            ParameterizedTypeReference<ApiResponse<RankingV1Dto.RankingListResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<RankingV1Dto.RankingListResponse>> response =
+                testRestTemplate.exchange(ENDPOINT + "?size=1000", HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.loopers.interfaces.api.traffic;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class GradientConcurrencyLimitTest {
+
+    private static final ConcurrencyLimitProperties PROPERTIES = new ConcurrencyLimitProperties(
+        true, 20, 4, 200, 0.2, 1.5, 100, Duration.ofSeconds(1), List.of()
+    );
+    private static final long NORMAL_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @DisplayName("한도에 찬 상태에서 요청하면, 거절되고 거절 수가 늘어난다.")
+    @Test
+    void rejects_whenLimitIsReached() {
+        // arrange
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(PROPERTIES);
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+        }
+
+        // act
+        int result = limit.tryAcquire();
+
+        // assert
+        assertAll(
+            () -> assertThat(result).isEqualTo(-1),
+            () -> assertThat(limit.inFlight()).isEqualTo(20),
+            () -> assertThat(limit.rejected()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("한도 가까이 처리하면서 응답 시간이 평소와 같으면, 한도가 늘어난다.")
+    @Test
+    void increasesLimit_whenLatencyIsStable() {
+        // arrange
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(PROPERTIES);
+
+        // act
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.onSuccess(NORMAL_RTT, limit.limit());
+        }
+
+        // assert
+        assertThat(limit.limit()).isGreaterThan(20);
+    }
+
+    @DisplayName("응답 시간이 평소보다 크게 늘어나면, 한도가 줄어든다.")
+    @Test
+    void decreasesLimit_whenLatencyIncreases() {
+        // arrange
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(PROPERTIES);
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.onSuccess(NORMAL_RTT, limit.limit());
+        }
+        int before = limit.limit();
+
+        // act
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+            limit.onSuccess(NORMAL_RTT * 10, limit.limit());
+        }
+
+        // assert
+        assertThat(limit.limit()).isLessThan(before).isGreaterThanOrEqualTo(4);
+    }
+
+    @DisplayName("처리 중인 요청이 한도의 절반보다 적으면, 한도를 늘리지 않는다.")
+    @Test
+    void keepsLimit_whenApplicationLimited() {
+        // arrange
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(PROPERTIES);
+
+        // act
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.onSuccess(NORMAL_RTT, 1);
+        }
+
+        // assert
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+}
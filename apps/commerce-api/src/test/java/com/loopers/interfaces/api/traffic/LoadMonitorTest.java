@@ -0,0 +1,125 @@
+package com.loopers.interfaces.api.traffic;
+
+import com.loopers.support.thread.VirtualThreadProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LoadMonitorTest {
+
+    // busy_threads 기준만 의미 있게 두고, 커넥션 지표 기준은 닿지 않게 한다.
+    private static final LoadSheddingProperties PROPERTIES = new LoadSheddingProperties(
+        false,
+        Duration.ofMillis(200),
+        Duration.ofSeconds(3),
+        Duration.ofMillis(1500),
+        new LoadSheddingProperties.Threshold(1000, Duration.ofHours(1), 0.7),
+        new LoadSheddingProperties.Threshold(1000, Duration.ofHours(1), 0.9),
+        List.of(),
+        List.of()
+    );
+    private static final VirtualThreadProperties VIRTUAL_THREADS =
+        new VirtualThreadProperties(120, Duration.ofMillis(500), Duration.ofMillis(20));
+
+    @DisplayName("가상 스레드로 처리하면, 처리 중인 요청 수를 세마포어 허용 수(120) 대비 비율로 본다.")
+    @Test
+    void usesSemaphorePermits_whenVirtualThreadsEnabled() {
+        // arrange
+        LoadMonitor monitor = monitor(new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+
+        // act
+        inFlight(monitor, 100);
+        monitor.sample();
+
+        // assert
+        assertAll(
+            () -> assertThat(monitor.level()).isEqualTo(LoadLevel.ELEVATED),
+            () -> assertThat(monitor.reason()).isEqualTo("busy_threads")
+        );
+    }
+
+    @DisplayName("플랫폼 스레드로 처리하면, 처리 중인 요청 수를 Tomcat 최대 스레드 수(200) 대비 비율로 본다.")
+    @Test
+    void usesTomcatMaxThreads_whenPlatformThreads() {
+        // arrange
+        LoadMonitor monitor = monitor(new MockEnvironment());
+
+        // act
+        inFlight(monitor, 100);
+        monitor.sample();
+
+        // assert
+        assertThat(monitor.level()).isEqualTo(LoadLevel.NORMAL);
+    }
+
+    @DisplayName("전용 풀(export)의 커넥션 대기는 부하 단계에 반영하지 않는다.")
+    @Test
+    void ignoresPending_ofDedicatedPools() {
+        // arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        pending(meterRegistry, "mysql-main-pool", 0);
+        pending(meterRegistry, "mysql-export-pool", 50);
+        LoadMonitor monitor = poolMonitor(meterRegistry);
+
+        // act
+        monitor.sample();
+
+        // assert
+        assertThat(monitor.level()).isEqualTo(LoadLevel.NORMAL);
+    }
+
+    @DisplayName("pools 패턴에 맞는 replica 풀의 커넥션 대기는 부하 단계에 반영한다.")
+    @Test
+    void usesPending_ofReplicaPools() {
+        // arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        pending(meterRegistry, "mysql-main-pool", 0);
+        pending(meterRegistry, "mysql-replica-pool-2", 5);
+        LoadMonitor monitor = poolMonitor(meterRegistry);
+
+        // act
+        monitor.sample();
+
+        // assert
+        assertAll(
+            () -> assertThat(monitor.level()).isEqualTo(LoadLevel.ELEVATED),
+            () -> assertThat(monitor.reason()).isEqualTo("hikari_pending")
+        );
+    }
+
+    private static LoadMonitor poolMonitor(SimpleMeterRegistry meterRegistry) {
+        LoadSheddingProperties properties = new LoadSheddingProperties(
+            false, PROPERTIES.sampleInterval(), PROPERTIES.coolDown(), PROPERTIES.retryAfter(),
+            new LoadSheddingProperties.Threshold(5, Duration.ofHours(1), 0.7),
+            new LoadSheddingProperties.Threshold(20, Duration.ofHours(1), 0.9),
+            List.of("mysql-main-pool", "mysql-replica-pool-*"),
+            List.of()
+        );
+        return new LoadMonitor(properties, meterRegistry, new ServerProperties(), VIRTUAL_THREADS, new MockEnvironment());
+    }
+
+    private static void pending(SimpleMeterRegistry meterRegistry, String pool, int threads) {
+        Gauge.builder("hikaricp.connections.pending", () -> threads)
+            .tag("pool", pool)
+            .register(meterRegistry);
+    }
+
+    private static LoadMonitor monitor(MockEnvironment environment) {
+        return new LoadMonitor(PROPERTIES, new SimpleMeterRegistry(), new ServerProperties(), VIRTUAL_THREADS, environment);
+    }
+
+    private static void inFlight(LoadMonitor monitor, int requests) {
+        for (int i = 0; i < requests; i++) {
+            monitor.enter();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.loopers.interfaces.api.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.thread.VirtualThreadProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LoadSheddingFilterTest {
+
+    private static final LoadSheddingProperties PROPERTIES = new LoadSheddingProperties(
+        true,
+        Duration.ofMillis(200),
+        Duration.ofSeconds(3),
+        Duration.ofMillis(1500),
+        new LoadSheddingProperties.Threshold(5, Duration.ofMillis(100), 0.7),
+        new LoadSheddingProperties.Threshold(20, Duration.ofMillis(500), 0.9),
+        List.of("mysql-main-pool", "mysql-replica-pool-*"),
+        List.of(
+            new LoadSheddingProperties.Endpoint("POST /api/v1/orders/**", EndpointPriority.CRITICAL),
+            new LoadSheddingProperties.Endpoint("GET /api/v1/products", EndpointPriority.LOW)
+        )
+    );
+
+    private final AtomicInteger hikariPending = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private LoadMonitor loadMonitor;
+    private LoadSheddingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Gauge.builder("hikaricp.connections.pending", hikariPending, AtomicInteger::get)
+            .tag("pool", "mysql-main-pool")
+            .register(meterRegistry);
+        // 스케줄러 대신 테스트에서 직접 sample() 을 호출한다.
+        LoadSheddingProperties manual = new LoadSheddingProperties(
+            false, PROPERTIES.sampleInterval(), PROPERTIES.coolDown(), PROPERTIES.retryAfter(),
+            PROPERTIES.elevated(), PROPERTIES.critical(), PROPERTIES.pools(), PROPERTIES.endpoints()
+        );
+        loadMonitor = new LoadMonitor(
+            manual, meterRegistry, new ServerProperties(),
+            new VirtualThreadProperties(120, Duration.ofMillis(500), Duration.ofMillis(20)), new MockEnvironment()
+        );
+        loadMonitor.afterPropertiesSet();
+        filter = new LoadSheddingFilter(PROPERTIES, loadMonitor, new ObjectMapper(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loadMonitor.destroy();
+    }
+
+    @DisplayName("커넥션 대기 스레드가 elevated 기준을 넘으면, ")
+    @Nested
+    class Elevated {
+        @BeforeEach
+        void saturate() {
+            hikariPending.set(5);
+            loadMonitor.sample();
+        }
+
+        @DisplayName("LOW 요청은 503 과 Retry-After 로 거절되고, 엔드포인트별로 집계된다.")
+        @Test
+        void shedsLowPriorityRequest() throws Exception {
+            // act
+            MockHttpServletResponse response = execute("GET", "/api/v1/products");
+
+            // assert
+            assertAll(
+                () -> assertThat(loadMonitor.level()).isEqualTo(LoadLevel.ELEVATED),
+                () -> assertThat(response.getStatus()).isEqualTo(503),
+                () -> assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2"),
+                () -> assertThat(response.getContentAsString()).contains("Service Unavailable"),
+                () -> assertThat(meterRegistry.get("traffic.load.shed")
+                    .tag("endpoint", "GET /api/v1/products")
+                    .tag("reason", "hikari_pending")
+                    .counter().count()).isEqualTo(1.0)
+            );
+        }
+
+        @DisplayName("NORMAL, CRITICAL 요청은 통과한다.")
+        @Test
+        void passesOtherRequests() throws Exception {
+            // act
+            MockHttpServletResponse normal = execute("GET", "/api/v1/products/1");
+            MockHttpServletResponse critical = execute("POST", "/api/v1/orders");
+
+            // assert
+            assertAll(
+                () -> assertThat(normal.getStatus()).isEqualTo(200),
+                () -> assertThat(critical.getStatus()).isEqualTo(200)
+            );
+        }
+
+        @DisplayName("부하가 줄어도 coolDown 동안은 단계를 유지한다.")
+        @Test
+        void keepsLevelDuringCoolDown() {
+            // act
+            hikariPending.set(0);
+            loadMonitor.sample();
+
+            // assert
+            assertThat(loadMonitor.level()).isEqualTo(LoadLevel.ELEVATED);
+        }
+    }
+
+    @DisplayName("커넥션 대기 스레드가 critical 기준을 넘으면, NORMAL 요청까지 거절하고 CRITICAL 요청은 통과한다.")
+    @Test
+    void shedsNormalPriorityRequest_whenCritical() throws Exception {
+        // arrange
+        hikariPending.set(20);
+        loadMonitor.sample();
+
+        // act
+        MockHttpServletResponse normal = execute("GET", "/api/v1/products/1");
+        MockHttpServletResponse critical = execute("POST", "/api/v1/orders/1/pay");
+
+        // assert
+        assertAll(
+            () -> assertThat(normal.getStatus()).isEqualTo(503),
+            () -> assertThat(critical.getStatus()).isEqualTo(200),
+            () -> assertThat(meterRegistry.get("traffic.load.shed")
+                .tag("endpoint", EndpointPriorities.UNMATCHED)
+                .tag("priority", "NORMAL")
+                .counter().count()).isEqualTo(1.0)
+        );
+    }
+
+    @DisplayName("부하가 없으면, 모든 요청이 통과한다.")
+    @Test
+    void passesAllRequests_whenNotSaturated() throws Exception {
+        // act
+        loadMonitor.sample();
+        MockHttpServletResponse response = execute("GET", "/api/v1/products");
+
+        // assert
+        assertAll(
+            () -> assertThat(loadMonitor.level()).isEqualTo(LoadLevel.NORMAL),
+            () -> assertThat(response.getStatus()).isEqualTo(200)
+        );
+    }
+
+    private MockHttpServletResponse execute(String method, String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,332 @@
+package com.loopers.interfaces.api.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.cluster.RedisHashTags;
+import com.loopers.config.redis.ratelimit.RedisRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+
+    private static final String RULES = """
+        rules:
+          - name: point-charge
+            endpoint: POST /api/v1/users/{userId}/charge
+            user: { capacity: 10, refill-per-second: 1, lease: 3 }
+          - name: order-create
+            endpoint: POST /api/v1/orders
+            user: { capacity: 5, refill-per-second: 5 }
+            ip: { capacity: 50, refill-per-second: 50, lease: 5 }
+            global: { capacity: 100, refill-per-second: 100, lease: 20 }
+        """;
+
+    @TempDir
+    Path tempDir;
+
+    private RedisRateLimiter rateLimiter;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path rules = Files.writeString(tempDir.resolve("rate-limits.yml"), RULES);
+        RateLimitProperties properties = new RateLimitProperties(
+            true, rules.toUri().toString(), Duration.ofSeconds(5), Duration.ofSeconds(10), "X-USER-ID", "X-Forwarded-For", List.of("10.0.0.0/8")
+        );
+        RateLimitRuleSource ruleSource = new RateLimitRuleSource(properties, new DefaultResourceLoader());
+        ruleSource.afterPropertiesSet();
+
+        rateLimiter = mock(RedisRateLimiter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, ruleSource, rateLimiter, new ObjectMapper(), meterRegistry);
+    }
+
+    @DisplayName("Redis 에서 여러 토큰을 가져오면, 남은 토큰으로 다음 요청을 Redis 없이 허용한다.")
+    @Test
+    void allowsFromLocalLease_afterRedisGrant() throws Exception {
+        // arrange
+        when(rateLimiter.acquire(anyList())).thenReturn(
+            new RedisRateLimiter.Result(true, 0, -1, List.of(new RedisRateLimiter.Grant(3, 7)))
+        );
+
+        // act
+        MockHttpServletResponse first = execute("/api/v1/users/1/charge");
+        MockHttpServletResponse second = execute("/api/v1/users/1/charge");
+        MockHttpServletResponse third = execute("/api/v1/users/1/charge");
+
+        // assert
+        assertAll(
+            () -> verify(rateLimiter, times(1)).acquire(anyList()),
+            () -> assertThat(first.getStatus()).isEqualTo(200),
+            () -> assertThat(first.getHeader(RateLimitFilter.HEADER_LIMIT)).isEqualTo("10"),
+            () -> assertThat(first.getHeader(RateLimitFilter.HEADER_REMAINING)).isEqualTo("9"),
+            () -> assertThat(second.getStatus()).isEqualTo(200),
+            () -> assertThat(third.getStatus()).isEqualTo(200),
+            () -> assertThat(third.getHeader(RateLimitFilter.HEADER_REMAINING)).isEqualTo("7")
+        );
+    }
+
+    @DisplayName("Redis 버킷이 비어 있으면 429 로 거절하고, 토큰이 채워질 때까지는 Redis 없이 거절한다.")
+    @Test
+    void rejects_whenBucketIsEmpty() throws Exception {
+        // arrange
+        when(rateLimiter.acquire(anyList())).thenReturn(
+            new RedisRateLimiter.Result(false, 1500, 0, List.of(new RedisRateLimiter.Grant(0, 0)))
+        );
+
+        // act
+        MockHttpServletResponse first = execute("/api/v1/users/1/charge");
+        MockHttpServletResponse second = execute("/api/v1/users/1/charge");
+
+        // assert
+        assertAll(
+            () -> verify(rateLimiter, times(1)).acquire(anyList()),
+            () -> assertThat(first.getStatus()).isEqualTo(429),
+            () -> assertThat(first.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2"),
+            () -> assertThat(first.getHeader(RateLimitFilter.HEADER_RESET)).isEqualTo("2"),
+            () -> assertThat(first.getHeader(RateLimitFilter.HEADER_REMAINING)).isEqualTo("0"),
+            () -> assertThat(second.getStatus()).isEqualTo(429),
+            () -> assertThat(meterRegistry.get("traffic.ratelimit.limited")
+                .tag("dimension", "user")
+                .tag("source", "local")
+                .counter().count()).isEqualTo(1.0)
+        );
+    }
+
+    @DisplayName("Redis 에 접근할 수 없으면, 요청을 허용한다.")
+    @Test
+    void allows_whenRedisFails() throws Exception {
+        // arrange
+        when(rateLimiter.acquire(anyList())).thenThrow(new IllegalStateException("connection refused"));
+
+        // act
+        MockHttpServletResponse response = execute("/api/v1/users/1/charge");
+
+        // assert
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @DisplayName("규칙에 없는 요청은 한도를 확인하지 않는다.")
+    @Test
+    void skips_whenNoRuleMatches() throws Exception {
+        // act
+        MockHttpServletResponse response = execute("/api/v1/users/1/point");
+
+        // assert
+        assertAll(
+            () -> verify(rateLimiter, times(0)).acquire(anyList()),
+            () -> assertThat(response.getHeader(RateLimitFilter.HEADER_LIMIT)).isNull()
+        );
+    }
+
+    @DisplayName("사용자 / IP / 전체 한도가 함께 걸리고 lease 가 다를 때, ")
+    @Nested
+    class MultiDimension {
+        private Map<String, Long> buckets;
+
+        @BeforeEach
+        void setUp() {
+            buckets = useInMemoryBuckets();
+        }
+
+        @DisplayName("lease 가 없는 사용자 한도 때문에 IP 토큰을 요청마다 새로 가져가지 않아, 1초 동안 IP 한도만큼 허용한다.")
+        @Test
+        void allowsIpLimit_whenUserLeaseIsOne() throws Exception {
+            // act
+            int allowed = 0;
+            for (int i = 0; i < 60; i++) {
+                if (execute(orderRequest("user-" + i, "10.0.0.1")).getStatus() == 200) {
+                    allowed++;
+                }
+            }
+
+            // assert
+            assertAll(
+                () -> assertThat(allowed).isEqualTo(50),
+                () -> assertThat(buckets).containsEntry(bucketKey("ip", "10.0.0.1"), 0L)
+            );
+        }
+
+        @DisplayName("IP 가 여러 개여도 가져간 전체 토큰을 모두 써서, 1초 동안 전체 한도만큼 허용한다.")
+        @Test
+        void allowsGlobalLimit_acrossIps() throws Exception {
+            // act
+            int allowed = 0;
+            for (int i = 0; i < 150; i++) {
+                if (execute(orderRequest("user-" + i, "10.0.0." + (i % 3 + 1))).getStatus() == 200) {
+                    allowed++;
+                }
+            }
+
+            // assert
+            assertAll(
+                () -> assertThat(allowed).isEqualTo(100),
+                () -> assertThat(buckets).containsEntry(bucketKey("global"), 0L)
+            );
+        }
+
+        @DisplayName("로컬 토큰이 남은 차원은 Redis 에 요청하지 않고, 토큰이 없는 사용자 차원만 확인한다.")
+        @Test
+        void acquiresOnlyMissingDimensions() throws Exception {
+            // arrange
+            execute(orderRequest("user-1", "10.0.0.1"));
+
+            // act
+            execute(orderRequest("user-2", "10.0.0.1"));
+
+            // assert
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<RedisRateLimiter.Bucket>> captor = ArgumentCaptor.forClass(List.class);
+            verify(rateLimiter, times(2)).acquire(captor.capture());
+            assertAll(
+                () -> assertThat(captor.getAllValues().get(0)).hasSize(3),
+                () -> assertThat(captor.getAllValues().get(1))
+                    .extracting(RedisRateLimiter.Bucket::key)
+                    .containsExactly(bucketKey("user", "user-2"))
+            );
+        }
+
+        @DisplayName("사용자 한도로 거절되면, 그 요청을 위해 가져간 로컬 토큰을 되돌린다.")
+        @Test
+        void givesBackLocalTokens_whenRejected() throws Exception {
+            // arrange
+            for (int i = 0; i < 5; i++) {
+                execute(orderRequest("user-1", "10.0.0.1"));
+            }
+            execute(orderRequest("user-0", "10.0.0.1")); // IP 토큰을 새로 가져와 로컬에 4 개, Redis 에 40 개 남김
+
+            // act
+            MockHttpServletResponse rejected = execute(orderRequest("user-1", "10.0.0.1"));
+            int allowed = 0;
+            for (int i = 0; i < 60; i++) {
+                if (execute(orderRequest("user-" + (i + 2), "10.0.0.1")).getStatus() == 200) {
+                    allowed++;
+                }
+            }
+
+            // assert
+            int allowedOthers = allowed;
+            assertAll(
+                () -> assertThat(rejected.getStatus()).isEqualTo(429),
+                () -> assertThat(allowedOthers).isEqualTo(44)
+            );
+        }
+    }
+
+    @DisplayName("IP 한도는 ")
+    @Nested
+    class ClientAddress {
+
+        @BeforeEach
+        void setUp() {
+            useInMemoryBuckets();
+        }
+
+        @DisplayName("신뢰하는 프록시를 거친 요청이면, 전달 헤더에서 신뢰하지 않는 첫 주소를 오른쪽부터 찾는다.")
+        @Test
+        void usesForwardedAddress_fromTrustedProxy() throws Exception {
+            // arrange
+            MockHttpServletRequest request = orderRequest("user-1", "10.0.0.9");
+            request.addHeader("X-Forwarded-For", "198.51.100.7, 203.0.113.5, 10.0.0.8");
+
+            // act
+            execute(request);
+
+            // assert
+            assertThat(acquiredKeys()).contains(bucketKey("ip", "203.0.113.5"));
+        }
+
+        @DisplayName("신뢰하지 않는 주소에서 온 요청이면, 전달 헤더를 무시하고 직접 연결한 주소를 쓴다.")
+        @Test
+        void ignoresForwardedHeader_fromUntrustedClient() throws Exception {
+            // arrange
+            MockHttpServletRequest request = orderRequest("user-1", "198.51.100.7");
+            request.addHeader("X-Forwarded-For", "203.0.113.5");
+
+            // act
+            execute(request);
+
+            // assert
+            assertThat(acquiredKeys()).contains(bucketKey("ip", "198.51.100.7")).doesNotContain(bucketKey("ip", "203.0.113.5"));
+        }
+
+        private List<String> acquiredKeys() {
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<RedisRateLimiter.Bucket>> captor = ArgumentCaptor.forClass(List.class);
+            verify(rateLimiter, atLeastOnce()).acquire(captor.capture());
+            return captor.getAllValues().stream().flatMap(List::stream).map(RedisRateLimiter.Bucket::key).toList();
+        }
+    }
+
+    /**
+     * 토큰이 다시 채워지지 않는 (1초 안의) Redis 토큰 버킷. 모든 버킷에 토큰이 있을 때만 lease 만큼 함께 차감한다.
+     */
+    private Map<String, Long> useInMemoryBuckets() {
+        Map<String, Long> buckets = new HashMap<>();
+        when(rateLimiter.acquire(anyList())).thenAnswer(invocation -> {
+            List<RedisRateLimiter.Bucket> requested = invocation.getArgument(0);
+            requested.forEach(bucket -> buckets.putIfAbsent(bucket.key(), bucket.capacity()));
+            for (int i = 0; i < requested.size(); i++) {
+                if (buckets.get(requested.get(i).key()) < 1) {
+                    List<RedisRateLimiter.Grant> none = requested.stream()
+                        .map(bucket -> new RedisRateLimiter.Grant(0, buckets.get(bucket.key())))
+                        .toList();
+                    return new RedisRateLimiter.Result(false, 1000, i, none);
+                }
+            }
+            return new RedisRateLimiter.Result(true, 0, -1, requested.stream().map(bucket -> {
+                long granted = Math.min(bucket.lease(), buckets.get(bucket.key()));
+                buckets.put(bucket.key(), buckets.get(bucket.key()) - granted);
+                return new RedisRateLimiter.Grant(granted, buckets.get(bucket.key()));
+            }).toList());
+        });
+        return buckets;
+    }
+
+    private static MockHttpServletRequest orderRequest(String userId, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/orders");
+        request.addHeader("X-USER-ID", userId);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private static String bucketKey(String... parts) {
+        return RedisHashTags.key("ratelimit:order-create", (Object[]) parts);
+    }
+
+    private MockHttpServletResponse execute(String uri) throws Exception {
+        return execute(new MockHttpServletRequest("POST", uri));
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
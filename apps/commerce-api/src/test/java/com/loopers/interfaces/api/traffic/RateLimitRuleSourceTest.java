@@ -0,0 +1,95 @@
+package com.loopers.interfaces.api.traffic;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RateLimitRuleSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path rules;
+    private RateLimitRuleSource ruleSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rules = tempDir.resolve("rate-limits.yml");
+        Files.writeString(rules, """
+            rules:
+              - name: order-create
+                endpoint: POST /api/v1/orders
+                user: { capacity: 20, refill-per-second: 5 }
+            """);
+        RateLimitProperties properties = new RateLimitProperties(
+            true, rules.toUri().toString(), Duration.ofHours(1), Duration.ofSeconds(1), "X-USER-ID", "X-Forwarded-For", List.of("10.0.0.0/8")
+        );
+        ruleSource = new RateLimitRuleSource(properties, new DefaultResourceLoader());
+        ruleSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ruleSource.destroy();
+    }
+
+    @DisplayName("규칙 파일이 바뀌면, 다시 읽은 규칙이 적용된다.")
+    @Test
+    void reloads_whenFileIsModified() throws Exception {
+        // arrange
+        modify("""
+            rules:
+              - name: order-create
+                endpoint: POST /api/v1/orders
+                user: { capacity: 5, refill-per-second: 1 }
+            """);
+
+        // act
+        ruleSource.reloadIfModified();
+
+        // assert
+        RateLimitRuleSource.CompiledRule rule = ruleSource.match(new MockHttpServletRequest("POST", "/api/v1/orders"));
+        assertThat(rule.rule().user().capacity()).isEqualTo(5);
+    }
+
+    @DisplayName("바뀐 규칙 파일이 잘못되었으면, 이전 규칙을 계속 사용한다.")
+    @Test
+    void keepsPreviousRules_whenReloadedFileIsInvalid() throws Exception {
+        // arrange
+        modify("""
+            rules:
+              - name: order-create
+                endpoint: POST /api/v1/orders
+            """);
+
+        // act
+        ruleSource.reloadIfModified();
+
+        // assert
+        RateLimitRuleSource.CompiledRule rule = ruleSource.match(new MockHttpServletRequest("POST", "/api/v1/orders"));
+        assertAll(
+            () -> assertThat(rule).isNotNull(),
+            () -> assertThat(rule.rule().user().capacity()).isEqualTo(20)
+        );
+    }
+
+    private void modify(String content) throws Exception {
+        Files.writeString(rules, content);
+        // 파일 시스템 시각 해상도와 관계없이 변경으로 인식되도록 수정 시각을 옮긴다.
+        Files.setLastModifiedTime(rules, FileTime.from(Instant.now().plusSeconds(10)));
+    }
+}
@@ -0,0 +1,233 @@
+package com.loopers.support.cache;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CacheInvalidationBusTest {
+    // 주기 발행이 테스트 중에 끼어들지 않도록 길게 두고 flush() 를 직접 호출한다.
+    private static final CacheInvalidationProperties PROPERTIES = new CacheInvalidationProperties(
+        CacheInvalidationProperties.Transport.REDIS, "cache.invalidation.test", Duration.ofHours(1), 100, Duration.ofMinutes(5), "test"
+    );
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecordingTransport transport;
+    private CacheInvalidationBus bus;
+    private LocalCache<String> cache;
+    private RecordingTarget attached;
+    private RecordingTarget writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transport = new RecordingTransport();
+        bus = new CacheInvalidationBus(PROPERTIES, transport, meterRegistry);
+        bus.afterPropertiesSet();
+        cache = bus.register(CacheNames.PRODUCT);
+        attached = new RecordingTarget();
+        bus.attach(CacheNames.PRODUCT, attached);
+        writer = new RecordingTarget();
+        bus.attachWriter(CacheNames.PRODUCT, writer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.destroy();
+    }
+
+    @DisplayName("발행")
+    @Nested
+    class Publish {
+
+        @DisplayName("한 번의 발행 주기 안에 모인 무효화는 엔티티 종류별로 하나의 메시지로 발행된다.")
+        @Test
+        void coalescesInvalidations_withinWindow() {
+            // act
+            bus.invalidate(CacheNames.PRODUCT, 1L);
+            bus.invalidate(CacheNames.PRODUCT, 2L);
+            bus.invalidate(CacheNames.PRODUCT, 1L);
+            bus.invalidate(CacheNames.USER, 7L);
+            bus.flush();
+
+            // assert
+            assertThat(transport.sent)
+                .extracting(CacheInvalidation::entityType, CacheInvalidation::ids)
+                .containsExactlyInAnyOrder(
+                    tuple(CacheNames.PRODUCT, List.of(1L, 2L)),
+                    tuple(CacheNames.USER, List.of(7L))
+                );
+        }
+
+        @DisplayName("발행 전에 자기 노드의 로컬 캐시와 연결된 대상을 바로 비운다.")
+        @Test
+        void evictsOwnNodeImmediately() {
+            // arrange
+            cache.get(1L, id -> "상품A");
+
+            // act
+            bus.invalidate(CacheNames.PRODUCT, 1L);
+
+            // assert
+            assertAll(
+                () -> assertThat(cache.getIfPresent(1L)).isNull(),
+                () -> assertThat(attached.evicted).containsExactly(1L),
+                () -> assertThat(writer.evicted).containsExactly(1L)
+            );
+        }
+
+        @DisplayName("발행할 때마다 sequence 가 1 씩 증가한다.")
+        @Test
+        void incrementsSequence_perMessage() {
+            // act
+            bus.invalidate(CacheNames.PRODUCT, 1L);
+            bus.flush();
+            bus.invalidate(CacheNames.PRODUCT, 2L);
+            bus.flush();
+
+            // assert
+            assertThat(transport.sent).extracting(CacheInvalidation::sequence).containsExactly(1L, 2L);
+        }
+    }
+
+    @DisplayName("수신")
+    @Nested
+    class Receive {
+
+        @DisplayName("다른 노드의 무효화를 받으면, 해당 id 만 비운다.")
+        @Test
+        void evictsReceivedIds() {
+            // arrange
+            cache.get(1L, id -> "상품A");
+            cache.get(2L, id -> "상품B");
+
+            // act
+            transport.deliver(message("node-a", 1L, List.of(1L)));
+
+            // assert
+            assertAll(
+                () -> assertThat(cache.getIfPresent(1L)).isNull(),
+                () -> assertThat(cache.getIfPresent(2L)).isEqualTo("상품B"),
+                () -> assertThat(attached.evicted).containsExactly(1L),
+                () -> assertThat(attached.evictedAll).isZero(),
+                () -> assertThat(writer.evicted).isEmpty()
+            );
+        }
+
+        @DisplayName("sequence 가 건너뛰면, 유실로 보고 로컬 캐시와 연결된 대상을 모두 비운다.")
+        @Test
+        void evictsAll_whenSequenceGap() {
+            // arrange
+            transport.deliver(message("node-a", 1L, List.of(1L)));
+            cache.get(2L, id -> "상품B");
+
+            // act
+            transport.deliver(message("node-a", 3L, List.of(3L)));
+
+            // assert
+            assertAll(
+                () -> assertThat(cache.getIfPresent(2L)).isNull(),
+                () -> assertThat(attached.evictedAll).isEqualTo(1),
+                () -> assertThat(writer.evictedAll).isZero(),
+                () -> assertThat(meterRegistry.counter("cache.invalidation.gap").count()).isEqualTo(1.0)
+            );
+        }
+
+        @DisplayName("처음 받은 노드의 메시지는 sequence 와 관계없이 유실로 보지 않는다.")
+        @Test
+        void doesNotEvictAll_onFirstMessageFromNode() {
+            // arrange
+            cache.get(2L, id -> "상품B");
+
+            // act
+            transport.deliver(message("node-a", 42L, List.of(1L)));
+
+            // assert
+            assertAll(
+                () -> assertThat(cache.getIfPresent(2L)).isEqualTo("상품B"),
+                () -> assertThat(attached.evictedAll).isZero()
+            );
+        }
+
+        @DisplayName("자기 노드가 보낸 메시지는 무시한다.")
+        @Test
+        void ignoresOwnMessages() {
+            // arrange
+            bus.invalidate(CacheNames.PRODUCT, 1L);
+            bus.flush();
+            cache.get(1L, id -> "상품A");
+
+            // act
+            transport.deliver(transport.sent.get(0));
+
+            // assert
+            assertThat(cache.getIfPresent(1L)).isEqualTo("상품A");
+        }
+
+        @DisplayName("받은 메시지마다 발행 시각부터의 지연을 cache.invalidation.propagation 에 기록한다.")
+        @Test
+        void recordsPropagationDelay() {
+            // act
+            transport.deliver(new CacheInvalidation("node-a", 1L, CacheNames.PRODUCT, List.of(1L), System.currentTimeMillis() - 200));
+
+            // assert
+            Timer timer = meterRegistry.get("cache.invalidation.propagation").timer();
+            assertAll(
+                () -> assertThat(timer.count()).isEqualTo(1),
+                () -> assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(200)
+            );
+        }
+    }
+
+    private static CacheInvalidation message(String nodeId, long sequence, List<Long> ids) {
+        return new CacheInvalidation(nodeId, sequence, CacheNames.PRODUCT, ids, System.currentTimeMillis());
+    }
+
+    private static class RecordingTransport implements InvalidationTransport {
+        private final List<CacheInvalidation> sent = new CopyOnWriteArrayList<>();
+        private Consumer<CacheInvalidation> listener;
+
+        @Override
+        public void send(CacheInvalidation invalidation) {
+            sent.add(invalidation);
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidation> listener) {
+            this.listener = listener;
+        }
+
+        void deliver(CacheInvalidation invalidation) {
+            listener.accept(invalidation);
+        }
+    }
+
+    private static class RecordingTarget implements InvalidationTarget {
+        private final List<Long> evicted = new CopyOnWriteArrayList<>();
+        private int evictedAll;
+
+        @Override
+        public void evict(Collection<Long> ids) {
+            evicted.addAll(ids);
+        }
+
+        @Override
+        public void evictAll() {
+            evictedAll++;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드의 버스가 Redis pub/sub 으로 무효화를 주고받는지 확인한다.
+ */
+class RedisInvalidationTransportTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final CacheInvalidationProperties PROPERTIES = new CacheInvalidationProperties(
+        CacheInvalidationProperties.Transport.REDIS, "cache.invalidation.test", Duration.ofMillis(5), 100, Duration.ofMinutes(5), "test"
+    );
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+    private CacheInvalidationBus writerBus;
+    private CacheInvalidationBus readerBus;
+    private LocalCache<String> readerCache;
+
+    @BeforeEach
+    void setUp() {
+        new RedisTestContainersConfig(); // 컨테이너 기동 및 접속 정보 System property 설정
+        writerBus = bus();
+        writerBus.register(CacheNames.PRODUCT);
+        readerBus = bus();
+        readerCache = readerBus.register(CacheNames.PRODUCT);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        writerBus.destroy();
+        readerBus.destroy();
+        for (AutoCloseable resource : resources.reversed()) {
+            resource.close();
+        }
+    }
+
+    @DisplayName("한 노드에서 무효화하면, 다른 노드의 로컬 캐시에서도 제거된다.")
+    @Test
+    void propagatesEviction_toOtherNode() throws InterruptedException {
+        // arrange
+        readerCache.get(1L, id -> "상품A");
+        readerCache.get(2L, id -> "상품B");
+
+        // act
+        writerBus.invalidate(CacheNames.PRODUCT, 1L);
+
+        // assert
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (readerCache.getIfPresent(1L) != null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(readerCache.getIfPresent(1L)).isNull();
+        assertThat(readerCache.getIfPresent(2L)).isEqualTo("상품B");
+    }
+
+    private CacheInvalidationBus bus() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+            System.getProperty("datasource.redis.master.host"),
+            Integer.parseInt(System.getProperty("datasource.redis.master.port"))
+        );
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        resources.add(connectionFactory::destroy);
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        RedisInvalidationTransport transport =
+            new RedisInvalidationTransport(redisTemplate, connectionFactory, new ObjectMapper(), PROPERTIES);
+        resources.add(transport::destroy);
+
+        CacheInvalidationBus bus = new CacheInvalidationBus(PROPERTIES, transport, new SimpleMeterRegistry());
+        bus.afterPropertiesSet();
+        return bus;
+    }
+}
@@ -0,0 +1,222 @@
+package com.loopers.support.cache;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class SingleFlightTest {
+
+    private static final SingleFlightProperties PROPERTIES = new SingleFlightProperties(
+        Duration.ofMillis(100),
+        Duration.ofMillis(300),
+        Duration.ofMinutes(10),
+        100,
+        new SingleFlightProperties.Distributed(false, Duration.ofSeconds(3), Duration.ofMillis(20), Duration.ofSeconds(1))
+    );
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String> singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("product", PROPERTIES, meterRegistry);
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("같은 키를 동시에 조회하면, loader 는 한 번만 실행되고 모두 같은 결과를 받는다.")
+    @Test
+    void loadsOnce_whenConcurrentRequestsForSameKey() throws Exception {
+        // arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // act
+        Future<String> leader = executor.submit(() -> singleFlight.load(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "상품A";
+        }));
+        waitUntilLoading(loads);
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> singleFlight.load(1L, () -> {
+                loads.incrementAndGet();
+                return "다른 값";
+            })));
+        }
+        Thread.sleep(20);
+        release.countDown();
+
+        // assert
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("상품A");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("상품A");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @DisplayName("먼저 시작한 조회가 maxWait 안에 끝나지 않으면, 이전 값으로 응답한다.")
+    @Test
+    void returnsStaleValue_whenLeaderIsSlow() throws Exception {
+        // arrange
+        singleFlight.load(1L, () -> "이전 값");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.load(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "새 값";
+        }));
+        waitUntilLoading(loads);
+
+        // act
+        String value = singleFlight.load(1L, () -> "호출되지 않음");
+        release.countDown();
+
+        // assert
+        assertAll(
+            () -> assertThat(value).isEqualTo("이전 값"),
+            () -> assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("새 값"),
+            () -> assertThat(meterRegistry.counter("cache.single-flight.requests", "name", "product", "outcome", "stale").count())
+                .isEqualTo(1.0)
+        );
+    }
+
+    @DisplayName("무효화된 키는 먼저 시작한 조회가 느려도 이전 값으로 응답하지 않고 새 값을 기다린다.")
+    @Test
+    void waitsForNewValue_whenStaleValueIsInvalidated() throws Exception {
+        // arrange
+        singleFlight.load(1L, () -> "이전 값");
+        singleFlight.invalidationTarget().evict(List.of(1L));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.load(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "새 값";
+        }));
+        waitUntilLoading(loads);
+
+        // act
+        Future<String> follower = executor.submit(() -> singleFlight.load(1L, () -> "호출되지 않음"));
+        Thread.sleep(PROPERTIES.maxWait().toMillis() + 50);
+        release.countDown();
+
+        // assert
+        assertAll(
+            () -> assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("새 값"),
+            () -> assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("새 값"),
+            () -> assertThat(meterRegistry.counter("cache.single-flight.requests", "name", "product", "outcome", "waited").count())
+                .isEqualTo(1.0)
+        );
+    }
+
+    @DisplayName("이전 값이 없고 먼저 시작한 조회가 leaderTimeout 안에 끝나지 않으면, 직접 조회한다.")
+    @Test
+    void loadsItself_whenLeaderExceedsLeaderTimeout() throws Exception {
+        // arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.load(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "멈춘 조회";
+        }));
+        waitUntilLoading(loads);
+
+        // act
+        String value = singleFlight.load(1L, () -> "직접 조회");
+        release.countDown();
+
+        // assert
+        assertAll(
+            () -> assertThat(value).isEqualTo("직접 조회"),
+            () -> assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("멈춘 조회"),
+            () -> assertThat(meterRegistry.counter("cache.single-flight.requests", "name", "product", "outcome", "timeout").count())
+                .isEqualTo(1.0)
+        );
+    }
+
+    @DisplayName("조회가 실패하면, 기다리던 요청도 같은 예외를 받는다.")
+    @Test
+    void propagatesException_toFollowers() throws Exception {
+        // arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.load(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            throw new CoreException(ErrorType.NOT_FOUND, "상품이 없습니다.");
+        }));
+        waitUntilLoading(loads);
+
+        // act
+        Future<String> follower = executor.submit(() -> singleFlight.load(1L, () -> "호출되지 않음"));
+        Thread.sleep(20);
+        release.countDown();
+
+        // assert
+        assertAll(
+            () -> assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(CoreException.class),
+            () -> assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(CoreException.class)
+                .hasMessage("상품이 없습니다.")
+        );
+    }
+
+    @DisplayName("조회가 끝난 키는 다시 조회하면, loader 를 새로 실행한다.")
+    @Test
+    void loadsAgain_afterPreviousLoadCompleted() {
+        // act
+        singleFlight.load(1L, () -> "첫 번째");
+        String value = singleFlight.load(1L, () -> "두 번째");
+
+        // assert
+        assertThat(value).isEqualTo("두 번째");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntilLoading(AtomicInteger loads) throws InterruptedException {
+        while (loads.get() == 0) {
+            Thread.sleep(1);
+        }
+    }
+}
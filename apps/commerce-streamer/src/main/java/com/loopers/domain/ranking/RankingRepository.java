@@ -0,0 +1,11 @@
+package com.loopers.domain.ranking;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public interface RankingRepository {
+    /**
+     * 주문별 상품 변화량을 더한다. 이미 반영한 주문은 건너뛴다.
+     */
+    void incrementAll(LocalDate date, Map<Long, Map<Long, Double>> deltasByOrder);
+}
@@ -0,0 +1,41 @@
+package com.loopers.domain.ranking;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 배치 동안의 주문별 상품 점수 변화량을 결제 일자별로 모은다.
+ * 재전송된 주문은 저장소가 주문 id 로 걸러내므로, 주문 단위로 나눈 채 넘긴다.
+ */
+public class RankingScoreBoard {
+    private final Map<LocalDate, Map<Long, Map<Long, Double>>> deltas = new HashMap<>();
+    private final Set<Long> orderIds = new HashSet<>();
+
+    /**
+     * 주문 하나의 상품별 변화량을 더한다. 같은 배치에 같은 주문이 다시 오면 무시한다.
+     *
+     * @return 더했으면 true, 이미 더한 주문이면 false
+     */
+    public boolean add(LocalDate date, Long orderId, Map<Long, Double> productDeltas) {
+        if (!orderIds.add(orderId)) {
+            return false;
+        }
+        deltas.computeIfAbsent(date, d -> new LinkedHashMap<>()).put(orderId, Map.copyOf(productDeltas));
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+
+    /**
+     * 결제 일자 → 주문 id → 상품 id → 변화량
+     */
+    public Map<LocalDate, Map<Long, Map<Long, Double>>> deltas() {
+        return deltas;
+    }
+}
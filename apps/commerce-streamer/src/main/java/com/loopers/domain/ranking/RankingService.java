@@ -0,0 +1,14 @@
+package com.loopers.domain.ranking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class RankingService {
+    private final RankingRepository rankingRepository;
+
+    public void apply(RankingScoreBoard scoreBoard) {
+        scoreBoard.deltas().forEach(rankingRepository::incrementAll);
+    }
+}
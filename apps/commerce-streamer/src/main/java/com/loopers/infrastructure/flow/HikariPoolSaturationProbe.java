@@ -0,0 +1,41 @@
+package com.loopers.infrastructure.flow;
+
+import com.loopers.confg.kafka.flow.SaturationProbe;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL 커넥션 풀의 포화도를 컨슈머 흐름 제어에 제공한다.
+ * 커넥션을 기다리는 스레드가 있으면 포화(1.0)로 본다.
+ * <p>
+ * replica / bulkhead 풀은 빈으로 노출되지 않으므로, 모든 풀이 pool 태그로 게시하는 Hikari 지표
+ * (hikaricp.connections.pending / active / max) 로 확인한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class HikariPoolSaturationProbe implements SaturationProbe {
+    private static final String POOL_TAG = "pool";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public double saturation() {
+        for (Gauge pending : meterRegistry.find("hikaricp.connections.pending").gauges()) {
+            if (pending.value() > 0) {
+                return 1.0;
+            }
+        }
+        double saturation = 0.0;
+        for (Gauge active : meterRegistry.find("hikaricp.connections.active").gauges()) {
+            String pool = active.getId().getTag(POOL_TAG);
+            Gauge max = meterRegistry.find("hikaricp.connections.max").tag(POOL_TAG, pool).gauge();
+            if (max == null || max.value() <= 0) {
+                continue;
+            }
+            saturation = Math.max(saturation, active.value() / max.value());
+        }
+        return saturation;
+    }
+}
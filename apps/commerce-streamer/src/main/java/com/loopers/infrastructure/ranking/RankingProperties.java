@@ -0,0 +1,17 @@
+package com.loopers.infrastructure.ranking;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 일자별 상품 랭킹 설정
+ *
+ * @param ttl             일자별 랭킹 키 유지 기간
+ * @param carryOverWeight 새 날짜의 랭킹을 처음 만들 때 전날 점수에 곱해 넘겨줄 가중치 (0 이면 넘기지 않는다)
+ */
+@ConfigurationProperties(value = "ranking")
+public record RankingProperties(
+        Duration ttl,
+        double carryOverWeight
+) { }
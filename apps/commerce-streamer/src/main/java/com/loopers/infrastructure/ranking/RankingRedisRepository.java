@@ -0,0 +1,104 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.cluster.RedisHashTags;
+import com.loopers.config.redis.consistency.ReadYourWritesRouter;
+import com.loopers.domain.ranking.RankingRepository;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일자별 상품 랭킹 ZSET ({ranking:products}:yyyyMMdd) 에 점수를 반영한다.
+ * 날짜가 달라도 같은 해시 태그를 쓰므로 클러스터에서도 ZUNIONSTORE 가 한 슬롯 안에서 처리된다.
+ * <p>
+ * 해당 날짜에 처음 쓰는 인스턴스만 마커를 얻어 전날 점수를 가중치를 곱해 이월한다.
+ * 마커 획득과 ZUNIONSTORE 는 Lua 스크립트 하나로 처리하므로, 마커만 남고 이월이 빠지는 경우가 없다.
+ * ZUNIONSTORE 의 입력에 오늘 키도 포함하므로, 그 전에 다른 인스턴스가 반영한 점수도 덮어쓰지 않는다.
+ * <p>
+ * 반영한 주문 id 를 같은 태그의 집합({ranking:products}:yyyyMMdd:orders)에 남기고, 집합에 새로 들어간 주문의 점수만 더한다.
+ * 커밋 전에 실패해 배치가 다시 전달되어도 점수가 두 번 더해지지 않는다.
+ */
+@Component
+public class RankingRedisRepository implements RankingRepository {
+    private static final String KEY_TAG = "ranking:products";
+    private static final String CARRY_OVER_MARKER_SUFFIX = ":carried-over";
+    private static final String APPLIED_ORDERS_SUFFIX = ":orders";
+    private static final int ORDERS_PER_SCRIPT = 500; // 스크립트 하나가 Redis 를 오래 막지 않도록 나누어 보낸다.
+    private static final DateTimeFormatter KEY_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final RedisScript<Long> CARRY_OVER = RedisScript.of(new ClassPathResource("scripts/ranking-carry-over.lua"), Long.class);
+    private static final RedisScript<Long> INCREMENT = RedisScript.of(new ClassPathResource("scripts/ranking-increment.lua"), Long.class);
+
+    private final ReadYourWritesRouter readYourWritesRouter;
+    private final RankingProperties rankingProperties;
+
+    public RankingRedisRepository(
+            ReadYourWritesRouter readYourWritesRouter,
+            RankingProperties rankingProperties
+    ) {
+        this.readYourWritesRouter = readYourWritesRouter;
+        this.rankingProperties = rankingProperties;
+    }
+
+    @Override
+    public void incrementAll(LocalDate date, Map<Long, Map<Long, Double>> deltasByOrder) {
+        if (deltasByOrder.isEmpty()) {
+            return;
+        }
+        String key = keyOf(date);
+        carryOverIfFirstWrite(date, key);
+
+        List<String> keys = List.of(key, key + APPLIED_ORDERS_SUFFIX);
+        List<String> args = newArgs();
+        int orders = 0;
+        for (Map.Entry<Long, Map<Long, Double>> order : deltasByOrder.entrySet()) {
+            args.add(String.valueOf(order.getKey()));
+            args.add(String.valueOf(order.getValue().size()));
+            for (Map.Entry<Long, Double> product : order.getValue().entrySet()) {
+                args.add(String.valueOf(product.getKey()));
+                args.add(String.valueOf(product.getValue()));
+            }
+            if (++orders == ORDERS_PER_SCRIPT) {
+                increment(keys, args);
+                args = newArgs();
+                orders = 0;
+            }
+        }
+        if (orders > 0) {
+            increment(keys, args);
+        }
+    }
+
+    private List<String> newArgs() {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(rankingProperties.ttl().toMillis()));
+        return args;
+    }
+
+    private void increment(List<String> keys, List<String> args) {
+        Object[] argv = args.toArray();
+        readYourWritesRouter.write(keys, redisTemplate -> redisTemplate.execute(INCREMENT, keys, argv));
+    }
+
+    private void carryOverIfFirstWrite(LocalDate date, String key) {
+        if (rankingProperties.carryOverWeight() <= 0) {
+            return;
+        }
+        List<String> keys = List.of(key, keyOf(date.minusDays(1)), key + CARRY_OVER_MARKER_SUFFIX);
+        readYourWritesRouter.write(keys, redisTemplate -> redisTemplate.execute(
+                CARRY_OVER,
+                keys,
+                String.valueOf(rankingProperties.carryOverWeight()),
+                String.valueOf(rankingProperties.ttl().toMillis())
+        ));
+    }
+
+    private String keyOf(LocalDate date) {
+        return RedisHashTags.key(KEY_TAG, KEY_DATE_FORMAT.format(date));
+    }
+}
@@ -0,0 +1,74 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.domain.ranking.RankingScoreBoard;
+import com.loopers.domain.ranking.RankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OrderPaidEventConsumer {
+    private final RankingService rankingService;
+
+    /**
+     * 배치 안의 주문별 판매 수량을 모아 결제 일자별로 랭킹에 반영한다. 같은 주문은 한 번만 반영된다.
+     * 주문 id 나 상품 id / 수량이 없는 레코드는 다시 받아도 처리할 수 없으므로 로그를 남기고 건너뛴다.
+     */
+    @KafkaListener(
+        topics = {"${commerce-events.order-paid.topic-name}"},
+        groupId = "${ranking.consumer-group}",
+        containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void rankingListener(
+        List<OrderPaidMessage> messages,
+        Acknowledgment acknowledgment
+    ) {
+        RankingScoreBoard scoreBoard = new RankingScoreBoard();
+        for (OrderPaidMessage message : messages) {
+            if (message == null) {
+                continue;
+            }
+            Map<Long, Double> productDeltas = productDeltasOf(message);
+            if (productDeltas == null) {
+                log.warn("처리할 수 없는 주문 결제 이벤트를 건너뜁니다 : {}", message);
+                continue;
+            }
+            LocalDate date = message.paidAt() != null
+                ? message.paidAt().withZoneSameInstant(ZoneId.systemDefault()).toLocalDate()
+                : LocalDate.now();
+            scoreBoard.add(date, message.orderId(), productDeltas);
+        }
+        if (!scoreBoard.isEmpty()) {
+            rankingService.apply(scoreBoard);
+        }
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * 상품별 판매 수량. 필수 값이 빠졌거나 수량이 0 이하이면 null 을 돌려준다.
+     */
+    private static Map<Long, Double> productDeltasOf(OrderPaidMessage message) {
+        if (message.orderId() == null || message.items() == null || message.items().isEmpty()) {
+            return null;
+        }
+        Map<Long, Double> deltas = new HashMap<>();
+        for (OrderPaidMessage.Item item : message.items()) {
+            if (item == null || item.productId() == null || item.quantity() == null || item.quantity() <= 0) {
+                return null;
+            }
+            deltas.merge(item.productId(), item.quantity().doubleValue(), Double::sum);
+        }
+        return deltas;
+    }
+}
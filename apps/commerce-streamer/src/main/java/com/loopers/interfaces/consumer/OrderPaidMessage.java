@@ -0,0 +1,17 @@
+package com.loopers.interfaces.consumer;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * commerce-api 가 발행하는 주문 결제 완료 이벤트 (order.paid.v1)
+ */
+public record OrderPaidMessage(
+        Long orderId,
+        Long userId,
+        Long totalAmount,
+        List<Item> items,
+        ZonedDateTime paidAt
+) {
+    public record Item(Long productId, Integer quantity, Long price) { }
+}
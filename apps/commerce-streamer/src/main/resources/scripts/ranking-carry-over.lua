@@ -0,0 +1,10 @@
+-- 해당 날짜에 처음 쓰는 경우에만 전날 점수를 가중치를 곱해 이월한다. 마커 획득과 이월을 한 번에 처리한다.
+-- KEYS[1] : 오늘 랭킹 키, KEYS[2] : 전날 랭킹 키, KEYS[3] : 이월 마커 키
+-- ARGV[1] : 전날 점수 가중치, ARGV[2] : 마커 / 랭킹 키 유지 시간 (ms)
+-- 반환    : 이월했으면 1, 이미 이월되었으면 0
+if not redis.call('SET', KEYS[3], '1', 'NX', 'PX', ARGV[2]) then
+  return 0
+end
+redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[2], 'WEIGHTS', 1, ARGV[1])
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+return 1
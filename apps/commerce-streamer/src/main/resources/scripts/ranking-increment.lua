@@ -0,0 +1,27 @@
+-- 처음 반영하는 주문의 변화량만 상품별로 합산해 랭킹에 더한다. 재전송된 주문은 점수를 다시 더하지 않는다.
+-- KEYS[1] : 랭킹 키, KEYS[2] : 반영한 주문 id 집합 키
+-- ARGV[1] : 랭킹 / 주문 집합 키 유지 시간 (ms)
+-- ARGV[2..] : 주문마다 주문 id, 상품 수 n, 이어서 상품 id / 변화량 n 쌍
+-- 반환    : 새로 반영한 주문 수
+local deltas = {}
+local applied = 0
+local i = 2
+while i <= #ARGV do
+  local count = tonumber(ARGV[i + 1])
+  if redis.call('SADD', KEYS[2], ARGV[i]) == 1 then
+    applied = applied + 1
+    for j = i + 2, i + count * 2, 2 do
+      deltas[ARGV[j]] = (deltas[ARGV[j]] or 0) + tonumber(ARGV[j + 1])
+    end
+  end
+  i = i + 2 + count * 2
+end
+if applied == 0 then
+  return 0
+end
+for member, delta in pairs(deltas) do
+  redis.call('ZINCRBY', KEYS[1], delta, member)
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[1])
+redis.call('PEXPIRE', KEYS[2], ARGV[1])
+return applied
@@ -0,0 +1,72 @@
+package com.loopers.domain.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RankingScoreBoardTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 2);
+    private static final LocalDate YESTERDAY = LocalDate.of(2025, 1, 1);
+
+    @DisplayName("같은 날짜의 주문은 주문 id 별로 나누어 모은다.")
+    @Test
+    void keepsDeltas_perOrder() {
+        // arrange
+        RankingScoreBoard scoreBoard = new RankingScoreBoard();
+
+        // act
+        scoreBoard.add(TODAY, 100L, Map.of(1L, 2.0, 2L, 1.0));
+        scoreBoard.add(TODAY, 101L, Map.of(1L, 3.0));
+
+        // assert
+        assertThat(scoreBoard.deltas()).isEqualTo(Map.of(TODAY, Map.of(
+            100L, Map.of(1L, 2.0, 2L, 1.0),
+            101L, Map.of(1L, 3.0)
+        )));
+    }
+
+    @DisplayName("날짜가 다르면 날짜별로 따로 모은다.")
+    @Test
+    void separatesDeltas_byDate() {
+        // arrange
+        RankingScoreBoard scoreBoard = new RankingScoreBoard();
+
+        // act
+        scoreBoard.add(YESTERDAY, 100L, Map.of(1L, 1.0));
+        scoreBoard.add(TODAY, 101L, Map.of(1L, 4.0));
+
+        // assert
+        assertAll(
+            () -> assertThat(scoreBoard.deltas().get(YESTERDAY)).isEqualTo(Map.of(100L, Map.of(1L, 1.0))),
+            () -> assertThat(scoreBoard.deltas().get(TODAY)).isEqualTo(Map.of(101L, Map.of(1L, 4.0)))
+        );
+    }
+
+    @DisplayName("같은 배치에 같은 주문이 다시 오면, 무시한다.")
+    @Test
+    void ignoresDuplicateOrder() {
+        // arrange
+        RankingScoreBoard scoreBoard = new RankingScoreBoard();
+        scoreBoard.add(TODAY, 100L, Map.of(1L, 2.0));
+
+        // act
+        boolean added = scoreBoard.add(TODAY, 100L, Map.of(1L, 2.0));
+
+        // assert
+        assertAll(
+            () -> assertThat(added).isFalse(),
+            () -> assertThat(scoreBoard.deltas()).isEqualTo(Map.of(TODAY, Map.of(100L, Map.of(1L, 2.0))))
+        );
+    }
+
+    @DisplayName("아무것도 더하지 않으면, 비어 있다.")
+    @Test
+    void isEmpty_whenNothingAdded() {
+        assertThat(new RankingScoreBoard().isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,71 @@
+package com.loopers.infrastructure.flow;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HikariPoolSaturationProbeTest {
+    private MeterRegistry meterRegistry;
+    private HikariPoolSaturationProbe probe;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        probe = new HikariPoolSaturationProbe(meterRegistry);
+    }
+
+    @DisplayName("풀 지표가 없으면, 포화도는 0 이다.")
+    @Test
+    void returnsZero_whenNoPoolMetrics() {
+        assertThat(probe.saturation()).isZero();
+    }
+
+    @DisplayName("모든 풀 중 가장 많이 사용 중인 풀의 비율을 포화도로 본다.")
+    @Test
+    void returnsHighestActiveRatio_acrossPools() {
+        // arrange
+        pool("mysql-main-pool", 2, 10, 0);
+        pool("mysql-replica-pool-1", 8, 10, 0);
+        pool("mysql-export-pool", 1, 4, 0);
+
+        // act
+        double saturation = probe.saturation();
+
+        // assert
+        assertThat(saturation).isEqualTo(0.8);
+    }
+
+    @DisplayName("어느 풀이든 커넥션을 기다리는 스레드가 있으면, 포화(1.0)로 본다.")
+    @Test
+    void returnsSaturated_whenAnyPoolHasPendingThreads() {
+        // arrange
+        pool("mysql-main-pool", 1, 10, 0);
+        pool("mysql-export-pool", 4, 4, 3);
+
+        // act
+        double saturation = probe.saturation();
+
+        // assert
+        assertThat(saturation).isEqualTo(1.0);
+    }
+
+    private void pool(String name, int active, int max, int pending) {
+        gauge("hikaricp.connections.active", name, active);
+        gauge("hikaricp.connections.max", name, max);
+        gauge("hikaricp.connections.pending", name, pending);
+    }
+
+    private void gauge(String meter, String pool, int value) {
+        Gauge.builder(meter, new AtomicInteger(value), AtomicInteger::get)
+            .tag("pool", pool)
+            .strongReference(true)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,176 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.cluster.RedisHashTags;
+import com.loopers.config.redis.consistency.ReadYourWritesProperties;
+import com.loopers.config.redis.consistency.ReadYourWritesRouter;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RankingRedisRepositoryTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 2);
+    private static final String TODAY_KEY = RedisHashTags.key("ranking:products", "20250102");
+    private static final String YESTERDAY_KEY = RedisHashTags.key("ranking:products", "20250101");
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> template;
+    private ReadYourWritesRouter router;
+
+    @BeforeEach
+    void setUp() {
+        new RedisTestContainersConfig(); // 컨테이너 기동 및 접속 정보 System property 설정
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+            System.getProperty("datasource.redis.master.host"),
+            Integer.parseInt(System.getProperty("datasource.redis.master.port"))
+        ));
+        connectionFactory.afterPropertiesSet();
+
+        template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+        template.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReadYourWritesProperties properties = new ReadYourWritesProperties(
+            true, ReadYourWritesProperties.Mode.MARKER, Duration.ofSeconds(2), 1, Duration.ofMillis(50), 1, 1000, false
+        );
+        router = new ReadYourWritesRouter(template, template, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @DisplayName("해당 날짜에 처음 쓰면, 전날 점수에 가중치를 곱해 이월한 뒤 변화량을 더한다.")
+    @Test
+    void carriesOverPreviousDay_onFirstWrite() {
+        // arrange
+        template.opsForZSet().add(YESTERDAY_KEY, "1", 100);
+        RankingRedisRepository repository = repository(0.1);
+
+        // act
+        repository.incrementAll(TODAY, Map.of(1L, Map.of(2L, 5.0)));
+
+        // assert
+        assertAll(
+            () -> assertThat(template.opsForZSet().score(TODAY_KEY, "1")).isEqualTo(10.0),
+            () -> assertThat(template.opsForZSet().score(TODAY_KEY, "2")).isEqualTo(5.0),
+            () -> assertThat(template.getExpire(TODAY_KEY)).isPositive()
+        );
+    }
+
+    @DisplayName("이미 이월한 날짜에 다시 쓰면, 전날 점수를 다시 더하지 않는다.")
+    @Test
+    void carriesOverOnlyOnce() {
+        // arrange
+        template.opsForZSet().add(YESTERDAY_KEY, "1", 100);
+        RankingRedisRepository repository = repository(0.1);
+        repository.incrementAll(TODAY, Map.of(1L, Map.of(1L, 1.0)));
+
+        // act
+        repository.incrementAll(TODAY, Map.of(2L, Map.of(1L, 1.0)));
+
+        // assert
+        assertThat(template.opsForZSet().score(TODAY_KEY, "1")).isEqualTo(12.0);
+    }
+
+    @DisplayName("이월 전에 오늘 키에 반영된 점수는 이월 시 덮어쓰지 않고 합산한다.")
+    @Test
+    void keepsTodayScores_whenCarryingOver() {
+        // arrange
+        template.opsForZSet().add(YESTERDAY_KEY, "1", 100);
+        template.opsForZSet().add(TODAY_KEY, "1", 3);
+        RankingRedisRepository repository = repository(0.1);
+
+        // act
+        repository.incrementAll(TODAY, Map.of(1L, Map.of(1L, 1.0)));
+
+        // assert
+        assertThat(template.opsForZSet().score(TODAY_KEY, "1")).isEqualTo(14.0);
+    }
+
+    @DisplayName("가중치가 0 이면, 이월하지 않고 마커도 남기지 않는다.")
+    @Test
+    void skipsCarryOver_whenWeightIsZero() {
+        // arrange
+        template.opsForZSet().add(YESTERDAY_KEY, "1", 100);
+        RankingRedisRepository repository = repository(0);
+
+        // act
+        repository.incrementAll(TODAY, Map.of(1L, Map.of(2L, 5.0)));
+
+        // assert
+        assertAll(
+            () -> assertThat(template.opsForZSet().score(TODAY_KEY, "1")).isNull(),
+            () -> assertThat(template.hasKey(TODAY_KEY + ":carried-over")).isFalse()
+        );
+    }
+
+    @DisplayName("이미 반영한 주문이 다시 오면, 점수를 더하지 않고 새 주문만 더한다.")
+    @Test
+    void skipsAppliedOrders() {
+        // arrange
+        RankingRedisRepository repository = repository(0);
+        repository.incrementAll(TODAY, Map.of(1L, Map.of(1L, 2.0, 2L, 1.0)));
+
+        // act
+        Map<Long, Map<Long, Double>> redelivered = new LinkedHashMap<>();
+        redelivered.put(1L, Map.of(1L, 2.0, 2L, 1.0));
+        redelivered.put(2L, Map.of(1L, 3.0));
+        repository.incrementAll(TODAY, redelivered);
+
+        // assert
+        assertAll(
+            () -> assertThat(template.opsForZSet().score(TODAY_KEY, "1")).isEqualTo(5.0),
+            () -> assertThat(template.opsForZSet().score(TODAY_KEY, "2")).isEqualTo(1.0),
+            () -> assertThat(template.opsForSet().members(TODAY_KEY + ":orders")).containsExactlyInAnyOrder("1", "2"),
+            () -> assertThat(template.getExpire(TODAY_KEY + ":orders")).isPositive()
+        );
+    }
+
+    @DisplayName("한 스크립트에 담는 주문 수를 넘어도, 모든 주문을 반영한다.")
+    @Test
+    void appliesAllOrders_acrossScripts() {
+        // arrange
+        RankingRedisRepository repository = repository(0);
+        Map<Long, Map<Long, Double>> orders = new LinkedHashMap<>();
+        for (long orderId = 1; orderId <= 1200; orderId++) {
+            orders.put(orderId, Map.of(orderId % 3, 1.0));
+        }
+
+        // act
+        repository.incrementAll(TODAY, orders);
+
+        // assert
+        assertAll(
+            () -> assertThat(template.opsForZSet().score(TODAY_KEY, "0")).isEqualTo(400.0),
+            () -> assertThat(template.opsForZSet().score(TODAY_KEY, "1")).isEqualTo(400.0),
+            () -> assertThat(template.opsForSet().size(TODAY_KEY + ":orders")).isEqualTo(1200L)
+        );
+    }
+
+    private RankingRedisRepository repository(double carryOverWeight) {
+        return new RankingRedisRepository(router, new RankingProperties(Duration.ofDays(2), carryOverWeight));
+    }
+}
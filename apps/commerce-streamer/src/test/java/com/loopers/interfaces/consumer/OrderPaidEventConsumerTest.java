@@ -0,0 +1,122 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.domain.ranking.RankingScoreBoard;
+import com.loopers.domain.ranking.RankingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class OrderPaidEventConsumerTest {
+    private static final ZonedDateTime PAID_AT = LocalDate.of(2025, 1, 2).atTime(12, 0).atZone(ZoneId.systemDefault());
+
+    private RankingService rankingService;
+    private Acknowledgment acknowledgment;
+    private OrderPaidEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        rankingService = mock(RankingService.class);
+        acknowledgment = mock(Acknowledgment.class);
+        consumer = new OrderPaidEventConsumer(rankingService);
+    }
+
+    @DisplayName("배치 안의 주문별 판매 수량을 결제 일자별로 모아 한 번에 반영하고, 커밋한다.")
+    @Test
+    void appliesQuantitiesPerOrder_oncePerBatch() {
+        // arrange
+        List<OrderPaidMessage> messages = List.of(
+            message(1L, PAID_AT, new OrderPaidMessage.Item(10L, 2, 1000L), new OrderPaidMessage.Item(20L, 1, 500L)),
+            message(2L, PAID_AT, new OrderPaidMessage.Item(10L, 3, 1000L)),
+            message(3L, PAID_AT.minusDays(1), new OrderPaidMessage.Item(10L, 1, 1000L))
+        );
+
+        // act
+        consumer.rankingListener(messages, acknowledgment);
+
+        // assert
+        ArgumentCaptor<RankingScoreBoard> captor = ArgumentCaptor.forClass(RankingScoreBoard.class);
+        verify(rankingService).apply(captor.capture());
+        assertAll(
+            () -> assertThat(captor.getValue().deltas()).isEqualTo(Map.of(
+                LocalDate.of(2025, 1, 2), Map.of(1L, Map.of(10L, 2.0, 20L, 1.0), 2L, Map.of(10L, 3.0)),
+                LocalDate.of(2025, 1, 1), Map.of(3L, Map.of(10L, 1.0))
+            )),
+            () -> verify(acknowledgment).acknowledge()
+        );
+    }
+
+    @DisplayName("같은 배치에 같은 주문이 다시 전달되면, 한 번만 반영한다.")
+    @Test
+    void appliesOnce_whenOrderIsRedelivered() {
+        // arrange
+        OrderPaidMessage message = message(1L, PAID_AT, new OrderPaidMessage.Item(10L, 2, 1000L));
+
+        // act
+        consumer.rankingListener(List.of(message, message), acknowledgment);
+
+        // assert
+        ArgumentCaptor<RankingScoreBoard> captor = ArgumentCaptor.forClass(RankingScoreBoard.class);
+        verify(rankingService).apply(captor.capture());
+        assertThat(captor.getValue().deltas()).isEqualTo(Map.of(LocalDate.of(2025, 1, 2), Map.of(1L, Map.of(10L, 2.0))));
+    }
+
+    @DisplayName("주문 id 나 상품 id / 수량이 없는 레코드는 건너뛰고, 나머지는 반영한다.")
+    @Test
+    void skipsInvalidRecords() {
+        // arrange
+        List<OrderPaidMessage> messages = List.of(
+            message(null, PAID_AT, new OrderPaidMessage.Item(10L, 1, 1000L)),
+            message(2L, PAID_AT, new OrderPaidMessage.Item(null, 1, 1000L)),
+            message(3L, PAID_AT, new OrderPaidMessage.Item(10L, 1, 1000L), new OrderPaidMessage.Item(20L, null, 500L)),
+            message(4L, PAID_AT, new OrderPaidMessage.Item(10L, 0, 1000L)),
+            message(5L, PAID_AT, new OrderPaidMessage.Item(10L, 1, 1000L))
+        );
+
+        // act
+        consumer.rankingListener(messages, acknowledgment);
+
+        // assert
+        ArgumentCaptor<RankingScoreBoard> captor = ArgumentCaptor.forClass(RankingScoreBoard.class);
+        verify(rankingService).apply(captor.capture());
+        assertAll(
+            () -> assertThat(captor.getValue().deltas()).isEqualTo(Map.of(LocalDate.of(2025, 1, 2), Map.of(5L, Map.of(10L, 1.0)))),
+            () -> verify(acknowledgment).acknowledge()
+        );
+    }
+
+    @DisplayName("반영할 상품이 없는 배치는 랭킹에 반영하지 않고 커밋만 한다.")
+    @Test
+    void onlyAcknowledges_whenNothingToApply() {
+        // arrange
+        List<OrderPaidMessage> messages = Arrays.asList(null, new OrderPaidMessage(1L, 1L, 1000L, null, PAID_AT));
+
+        // act
+        consumer.rankingListener(messages, acknowledgment);
+
+        // assert
+        assertAll(
+            () -> verify(rankingService, never()).apply(any()),
+            () -> verify(acknowledgment).acknowledge()
+        );
+    }
+
+    private static OrderPaidMessage message(Long orderId, ZonedDateTime paidAt, OrderPaidMessage.Item... items) {
+        return new OrderPaidMessage(orderId, 1L, 0L, List.of(items), paidAt);
+    }
+}
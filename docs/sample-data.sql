@@ -164,64 +164,64 @@ INSERT INTO orders (user_id, status, total_amount, created_at, updated_at, delet
 -- 6. Order Item Data (order_items table)
 -- ============================================================
 -- 주문 1번 (김철수 - PAID 350000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(1, 5, 1, 350000, DATE_SUB(NOW(), INTERVAL 10 DAY), DATE_SUB(NOW(), INTERVAL 10 DAY), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(1, 5, (SELECT name FROM products WHERE id = 5), 1, 350000, DATE_SUB(NOW(), INTERVAL 10 DAY), DATE_SUB(NOW(), INTERVAL 10 DAY), NULL);
 
 -- 주문 2번 (김철수 - PAID 180000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(2, 6, 1, 180000, DATE_SUB(NOW(), INTERVAL 5 DAY), DATE_SUB(NOW(), INTERVAL 5 DAY), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(2, 6, (SELECT name FROM products WHERE id = 6), 1, 180000, DATE_SUB(NOW(), INTERVAL 5 DAY), DATE_SUB(NOW(), INTERVAL 5 DAY), NULL);
 
 -- 주문 3번 (김철수 - PENDING 120000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(3, 8, 1, 120000, NOW(), NOW(), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(3, 8, (SELECT name FROM products WHERE id = 8), 1, 120000, NOW(), NOW(), NULL);
 
 -- 주문 4번 (이영희 - PAID 1500000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(4, 2, 1, 1500000, DATE_SUB(NOW(), INTERVAL 15 DAY), DATE_SUB(NOW(), INTERVAL 15 DAY), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(4, 2, (SELECT name FROM products WHERE id = 2), 1, 1500000, DATE_SUB(NOW(), INTERVAL 15 DAY), DATE_SUB(NOW(), INTERVAL 15 DAY), NULL);
 
 -- 주문 5번 (이영희 - CANCELLED 250000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(5, 14, 1, 250000, DATE_SUB(NOW(), INTERVAL 8 DAY), DATE_SUB(NOW(), INTERVAL 8 DAY), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(5, 14, (SELECT name FROM products WHERE id = 14), 1, 250000, DATE_SUB(NOW(), INTERVAL 8 DAY), DATE_SUB(NOW(), INTERVAL 8 DAY), NULL);
 
 -- 주문 6번 (박민수 - PAID 1800000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(6, 3, 1, 1800000, DATE_SUB(NOW(), INTERVAL 20 DAY), DATE_SUB(NOW(), INTERVAL 20 DAY), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(6, 3, (SELECT name FROM products WHERE id = 3), 1, 1800000, DATE_SUB(NOW(), INTERVAL 20 DAY), DATE_SUB(NOW(), INTERVAL 20 DAY), NULL);
 
 -- 주문 7번 (박민수 - PAID 950000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(7, 11, 1, 950000, DATE_SUB(NOW(), INTERVAL 12 DAY), DATE_SUB(NOW(), INTERVAL 12 DAY), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(7, 11, (SELECT name FROM products WHERE id = 11), 1, 950000, DATE_SUB(NOW(), INTERVAL 12 DAY), DATE_SUB(NOW(), INTERVAL 12 DAY), NULL);
 
 -- 주문 8번 (박민수 - PAID 450000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(8, 9, 1, 450000, DATE_SUB(NOW(), INTERVAL 6 DAY), DATE_SUB(NOW(), INTERVAL 6 DAY), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(8, 9, (SELECT name FROM products WHERE id = 9), 1, 450000, DATE_SUB(NOW(), INTERVAL 6 DAY), DATE_SUB(NOW(), INTERVAL 6 DAY), NULL);
 
 -- 주문 9번 (최지은 - PAID 65000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(9, 16, 1, 65000, DATE_SUB(NOW(), INTERVAL 5 DAY), DATE_SUB(NOW(), INTERVAL 5 DAY), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(9, 16, (SELECT name FROM products WHERE id = 16), 1, 65000, DATE_SUB(NOW(), INTERVAL 5 DAY), DATE_SUB(NOW(), INTERVAL 5 DAY), NULL);
 
 -- 주문 10번 (정우성 - PENDING 800000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(10, 4, 1, 800000, NOW(), NOW(), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(10, 4, (SELECT name FROM products WHERE id = 4), 1, 800000, NOW(), NOW(), NULL);
 
 -- 주문 11번 (이병헌 - PAID 2500000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(11, 12, 1, 2500000, DATE_SUB(NOW(), INTERVAL 25 DAY), DATE_SUB(NOW(), INTERVAL 25 DAY), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(11, 12, (SELECT name FROM products WHERE id = 12), 1, 2500000, DATE_SUB(NOW(), INTERVAL 25 DAY), DATE_SUB(NOW(), INTERVAL 25 DAY), NULL);
 
 -- 주문 12번 (이병헌 - PAID 1300000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(12, 13, 1, 1300000, DATE_SUB(NOW(), INTERVAL 18 DAY), DATE_SUB(NOW(), INTERVAL 18 DAY), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(12, 13, (SELECT name FROM products WHERE id = 13), 1, 1300000, DATE_SUB(NOW(), INTERVAL 18 DAY), DATE_SUB(NOW(), INTERVAL 18 DAY), NULL);
 
 -- 주문 13번 (공유 - PAID 95000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(13, 20, 1, 95000, DATE_SUB(NOW(), INTERVAL 3 DAY), DATE_SUB(NOW(), INTERVAL 3 DAY), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(13, 20, (SELECT name FROM products WHERE id = 20), 1, 95000, DATE_SUB(NOW(), INTERVAL 3 DAY), DATE_SUB(NOW(), INTERVAL 3 DAY), NULL);
 
 -- 주문 14번 (전지현 - PAID 700000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(14, 5, 2, 350000, DATE_SUB(NOW(), INTERVAL 7 DAY), DATE_SUB(NOW(), INTERVAL 7 DAY), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(14, 5, (SELECT name FROM products WHERE id = 5), 2, 350000, DATE_SUB(NOW(), INTERVAL 7 DAY), DATE_SUB(NOW(), INTERVAL 7 DAY), NULL);
 
 -- 주문 15번 (전지현 - CANCELLED 350000원)
-INSERT INTO order_items (order_id, product_id, quantity, price, created_at, updated_at, deleted_at) VALUES
-(15, 5, 1, 350000, DATE_SUB(NOW(), INTERVAL 4 DAY), DATE_SUB(NOW(), INTERVAL 4 DAY), NULL);
+INSERT INTO order_items (order_id, product_id, product_name, quantity, price, created_at, updated_at, deleted_at) VALUES
+(15, 5, (SELECT name FROM products WHERE id = 5), 1, 350000, DATE_SUB(NOW(), INTERVAL 4 DAY), DATE_SUB(NOW(), INTERVAL 4 DAY), NULL);
 
 -- ============================================================
 -- Useful Query Examples
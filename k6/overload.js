@@ -0,0 +1,81 @@
+// 과부하 시 동시 처리 한도(traffic.concurrency-limit)가 응답 시간을 지키는지 확인한다.
+//
+//   k6 run k6/overload.js                         # 기본 : http://localhost:8080
+//   k6 run -e BASE_URL=http://host:8080 k6/overload.js
+//
+// 처리 가능한 양보다 많은 요청을 보내고, 성공한 요청의 p99 가 한도 없이 커지지 않는지 본다.
+// 한도를 넘은 요청은 503 으로 바로 거절되므로 거절 비율(overload_rejected)이 함께 늘어나는 것이 정상이다.
+// 비교하려면 traffic.concurrency-limit.enabled=false 로 같은 스크립트를 돌린다.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PRODUCTS = 50;
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+const rejected = new Rate('overload_rejected');
+
+export const options = {
+  scenarios: {
+    catalog: {
+      executor: 'ramping-arrival-rate',
+      exec: 'catalog',
+      startRate: 100,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 1000,
+      stages: [
+        { target: 500, duration: '30s' },
+        { target: 3000, duration: '1m' }, // 과부하
+        { target: 3000, duration: '1m' },
+        { target: 100, duration: '30s' },
+      ],
+    },
+    checkout: {
+      executor: 'constant-arrival-rate',
+      exec: 'checkout',
+      rate: 50,
+      timeUnit: '1s',
+      duration: '3m',
+      preAllocatedVUs: 50,
+      maxVUs: 300,
+    },
+  },
+  thresholds: {
+    // 거절되지 않고 처리된 요청의 응답 시간 (503 은 expected_response:false)
+    'http_req_duration{expected_response:true,scenario:catalog}': ['p(99)<500'],
+    'http_req_duration{expected_response:true,scenario:checkout}': ['p(99)<1000'],
+  },
+};
+
+export function setup() {
+  const user = http.post(`${BASE_URL}/api/v1/users`, JSON.stringify({ name: 'k6' }), JSON_HEADERS).json('data');
+  http.post(`${BASE_URL}/api/v1/users/${user.id}/charge`, JSON.stringify({ amount: 1000000000 }), JSON_HEADERS);
+
+  const productIds = [];
+  for (let i = 0; i < PRODUCTS; i++) {
+    const body = JSON.stringify({ name: `k6-product-${i}`, price: 1000, stock: 1000000 });
+    productIds.push(http.post(`${BASE_URL}/api/v1/products`, body, JSON_HEADERS).json('data.id'));
+  }
+  return { userId: user.id, productIds };
+}
+
+export function catalog(data) {
+  const productId = data.productIds[Math.floor(Math.random() * data.productIds.length)];
+  record(http.get(`${BASE_URL}/api/v1/products/${productId}`));
+}
+
+export function checkout(data) {
+  const productId = data.productIds[Math.floor(Math.random() * data.productIds.length)];
+  const body = JSON.stringify({ userId: data.userId, items: [{ productId, quantity: 1 }] });
+  record(http.post(`${BASE_URL}/api/v1/orders`, body, JSON_HEADERS));
+}
+
+function record(res) {
+  rejected.add(res.status === 503);
+  check(res, {
+    'ok or rejected': (r) => r.status === 200 || r.status === 503,
+    'rejected with Retry-After': (r) => r.status !== 503 || r.headers['Retry-After'] !== undefined,
+  });
+}
@@ -0,0 +1,115 @@
+// 플랫폼 스레드와 가상 스레드(virtual-threads 프로필)의 처리량 / p99 를 비교한다.
+//
+//   1. 플랫폼 스레드 : ./gradlew :apps:commerce-api:bootRun --args='--spring.profiles.active=local'
+//      k6 run -e LABEL=platform k6/virtual-threads.js
+//   2. 가상 스레드   : ./gradlew :apps:commerce-api:bootRun --args='--spring.profiles.active=local,virtual-threads'
+//      k6 run -e LABEL=virtual k6/virtual-threads.js
+//
+// 결과는 k6/results/{LABEL}.json 에 저장되며, 엔드포인트별 처리량(http_reqs)과 p99 를 비교한다.
+// 두 실행 모두 traffic.load-shedding / concurrency-limit 설정을 같게 두어야 한다.
+// 가상 스레드 실행 중에는 jvm.threads.virtual.pinned 와 traffic.semaphore.* 메트릭도 함께 확인한다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const LABEL = __ENV.LABEL || 'run';
+const RATE = Number(__ENV.RATE || 1500);
+const PRODUCTS = 100;
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+function scenario(exec, rate) {
+  return {
+    executor: 'constant-arrival-rate',
+    exec,
+    rate,
+    timeUnit: '1s',
+    duration: '2m',
+    preAllocatedVUs: 200,
+    maxVUs: 2000,
+    tags: { endpoint: exec },
+  };
+}
+
+export const options = {
+  scenarios: {
+    productDetail: scenario('productDetail', Math.floor(RATE * 0.6)),
+    productList: scenario('productList', Math.floor(RATE * 0.1)),
+    orderCreate: scenario('orderCreate', Math.floor(RATE * 0.1)),
+    orderDetail: scenario('orderDetail', Math.floor(RATE * 0.2)),
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    // 엔드포인트별 결과를 요약에 남기기 위한 항목 (기준값은 두지 않음)
+    'http_req_duration{endpoint:productDetail}': [],
+    'http_req_duration{endpoint:productList}': [],
+    'http_req_duration{endpoint:orderCreate}': [],
+    'http_req_duration{endpoint:orderDetail}': [],
+    'http_reqs{endpoint:productDetail}': [],
+    'http_reqs{endpoint:productList}': [],
+    'http_reqs{endpoint:orderCreate}': [],
+    'http_reqs{endpoint:orderDetail}': [],
+  },
+};
+
+export function setup() {
+  const user = http.post(`${BASE_URL}/api/v1/users`, JSON.stringify({ name: 'k6' }), JSON_HEADERS).json('data');
+  http.post(`${BASE_URL}/api/v1/users/${user.id}/charge`, JSON.stringify({ amount: 1000000000 }), JSON_HEADERS);
+
+  const productIds = [];
+  for (let i = 0; i < PRODUCTS; i++) {
+    const body = JSON.stringify({ name: `k6-product-${i}`, price: 1000, stock: 1000000 });
+    productIds.push(http.post(`${BASE_URL}/api/v1/products`, body, JSON_HEADERS).json('data.id'));
+  }
+
+  const orderIds = [];
+  for (let i = 0; i < 20; i++) {
+    const body = JSON.stringify({ userId: user.id, items: [{ productId: productIds[i], quantity: 1 }] });
+    orderIds.push(http.post(`${BASE_URL}/api/v1/orders`, body, JSON_HEADERS).json('data.id'));
+  }
+  return { userId: user.id, productIds, orderIds };
+}
+
+function pick(ids) {
+  return ids[Math.floor(Math.random() * ids.length)];
+}
+
+export function productDetail(data) {
+  ok(http.get(`${BASE_URL}/api/v1/products/${pick(data.productIds)}`));
+}
+
+export function productList() {
+  ok(http.get(`${BASE_URL}/api/v1/products`));
+}
+
+export function orderCreate(data) {
+  const body = JSON.stringify({ userId: data.userId, items: [{ productId: pick(data.productIds), quantity: 1 }] });
+  ok(http.post(`${BASE_URL}/api/v1/orders`, body, JSON_HEADERS));
+}
+
+export function orderDetail(data) {
+  ok(http.get(`${BASE_URL}/api/v1/orders/${pick(data.orderIds)}`));
+}
+
+function ok(res) {
+  check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+  return {
+    [`k6/results/${LABEL}.json`]: JSON.stringify(data, null, 2),
+    stdout: summaryLine(data),
+  };
+}
+
+function summaryLine(data) {
+  const lines = [`[${LABEL}]`];
+  for (const endpoint of ['productDetail', 'productList', 'orderCreate', 'orderDetail']) {
+    const reqs = data.metrics[`http_reqs{endpoint:${endpoint}}`];
+    const duration = data.metrics[`http_req_duration{endpoint:${endpoint}}`];
+    if (!reqs || !duration) {
+      continue;
+    }
+    lines.push(`${endpoint.padEnd(14)} ${reqs.values.rate.toFixed(1)} req/s  p99 ${duration.values['p(99)'].toFixed(1)} ms`);
+  }
+  return lines.join('\n') + '\n';
+}
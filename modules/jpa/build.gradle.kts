@@ -11,11 +11,24 @@ dependencies {
     annotationProcessor("com.querydsl:querydsl-apt::jakarta")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
+    // second-level cache
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    // migration
+    implementation("org.flywaydb:flyway-core")
+    runtimeOnly("org.flywaydb:flyway-mysql")
     // jdbc-mysql
     runtimeOnly("com.mysql:mysql-connector-j")
+    // metrics
+    implementation("io.micrometer:micrometer-core")
+    // 요청별 쿼리 통계 필터 (웹 애플리케이션에서만 등록)
+    compileOnly("org.springframework:spring-webmvc")
+    compileOnly("jakarta.servlet:jakarta.servlet-api")
 
     testImplementation("org.testcontainers:mysql")
 
     testFixturesImplementation("org.springframework.boot:spring-boot-starter-data-jpa")
     testFixturesImplementation("org.testcontainers:mysql")
+    testFixturesImplementation("org.springframework:spring-test")
+    testFixturesImplementation("org.junit.jupiter:junit-jupiter-api")
 }
@@ -1,24 +1,165 @@
 package com.loopers.config.jpa;
 
+import com.loopers.config.jpa.bulkhead.BulkheadDataSources;
+import com.loopers.config.jpa.bulkhead.BulkheadRoutingDataSource;
+import com.loopers.config.jpa.bulkhead.ConnectionPoolMetrics;
+import com.loopers.config.jpa.bulkhead.DataSourcePool;
+import com.loopers.config.jpa.bulkhead.DataSourcePoolInterceptor;
+import com.loopers.config.jpa.routing.DataSourceRoutingProperties;
+import com.loopers.config.jpa.routing.MySqlReplicaDataSources;
+import com.loopers.config.jpa.routing.ReplicaLagMonitor;
+import com.loopers.config.jpa.routing.ReplicaRoutingDataSource;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
 class DataSourceConfig {
+    private static final String MAIN_PREFIX = "datasource.mysql-jpa.main";
+    private static final String REPLICAS_PREFIX = "datasource.mysql-jpa.replicas";
+    private static final String POOLS_PREFIX = "datasource.mysql-jpa.pools";
+
     @Bean
-    @ConfigurationProperties(prefix = "datasource.mysql-jpa.main")
+    @ConfigurationProperties(prefix = MAIN_PREFIX)
     HikariConfig mySqlMainHikariConfig() {
         return new HikariConfig();
     }
 
-    @Primary
     @Bean
-    HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
+    HikariDataSource mySqlMainDataSource(
+            @Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig,
+            MeterRegistry meterRegistry
+    ) {
+        hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
         return new HikariDataSource(hikariConfig);
     }
+
+    /**
+     * replica 마다 main 설정을 먼저 바인딩하고, replicas[i] 에 적힌 값으로 덮어쓴다.
+     */
+    @Bean
+    MySqlReplicaDataSources mySqlReplicaDataSources(Environment environment, MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; binder.bind(REPLICAS_PREFIX + "[" + i + "].jdbc-url", String.class).isBound(); i++) {
+            HikariConfig hikariConfig = inheritMain(binder, REPLICAS_PREFIX + "[" + i + "]", "mysql-replica-pool-" + (i + 1));
+            hikariConfig.setReadOnly(true);
+            hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new HikariDataSource(hikariConfig));
+        }
+        return new MySqlReplicaDataSources(replicas);
+    }
+
+    /**
+     * pools.{이름} 마다 main 설정을 먼저 바인딩하고, 적힌 값(크기, 타임아웃 등)으로 덮어쓴 전용 풀을 만든다.
+     */
+    @Bean
+    BulkheadDataSources bulkheadDataSources(Environment environment, MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        // 이름 목록만 사용한다. 각 풀의 설정은 main 을 상속해야 하므로 아래에서 다시 바인딩한다.
+        Map<String, HikariConfig> declared = binder.bind(POOLS_PREFIX, Bindable.mapOf(String.class, HikariConfig.class))
+                .orElse(Map.of());
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (String name : declared.keySet()) {
+            HikariConfig hikariConfig = inheritMain(binder, POOLS_PREFIX + "." + name, "mysql-" + name + "-pool");
+            hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(name, new HikariDataSource(hikariConfig));
+        }
+        return new BulkheadDataSources(pools);
+    }
+
+    @Bean
+    ConnectionPoolMetrics connectionPoolMetrics(
+            @Qualifier("mySqlMainDataSource") HikariDataSource mainDataSource,
+            MySqlReplicaDataSources mySqlReplicaDataSources,
+            BulkheadDataSources bulkheadDataSources
+    ) {
+        List<HikariDataSource> dataSources = new ArrayList<>();
+        dataSources.add(mainDataSource);
+        dataSources.addAll(mySqlReplicaDataSources.dataSources());
+        dataSources.addAll(bulkheadDataSources.dataSources().values());
+        return new ConnectionPoolMetrics(dataSources);
+    }
+
+    /**
+     * 트랜잭션 인터셉터보다 먼저(바깥에서) 풀 이름을 정해 둔다.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor dataSourcePoolAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(DataSourcePool.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(DataSourcePool.class));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new DataSourcePoolInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(
+            MySqlReplicaDataSources mySqlReplicaDataSources,
+            DataSourceRoutingProperties dataSourceRoutingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(mySqlReplicaDataSources, dataSourceRoutingProperties, meterRegistry);
+    }
+
+    @Bean
+    ReplicaRoutingDataSource mySqlRoutingDataSource(
+            @Qualifier("mySqlMainDataSource") HikariDataSource mainDataSource,
+            MySqlReplicaDataSources mySqlReplicaDataSources,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaRoutingDataSource(mainDataSource, mySqlReplicaDataSources, replicaLagMonitor, meterRegistry);
+    }
+
+    @Bean
+    BulkheadRoutingDataSource mySqlBulkheadRoutingDataSource(
+            @Qualifier("mySqlRoutingDataSource") ReplicaRoutingDataSource routingDataSource,
+            BulkheadDataSources bulkheadDataSources
+    ) {
+        return new BulkheadRoutingDataSource(routingDataSource, bulkheadDataSources);
+    }
+
+    /**
+     * 실제 커넥션은 첫 쿼리 시점에 얻으므로, 그 때의 @DataSourcePool 지정과 트랜잭션 readOnly 여부로 풀이 결정된다.
+     */
+    @Primary
+    @Bean
+    DataSource mySqlDataSource(@Qualifier("mySqlBulkheadRoutingDataSource") BulkheadRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static HikariConfig inheritMain(Binder binder, String prefix, String poolName) {
+        HikariConfig hikariConfig = new HikariConfig();
+        binder.bind(MAIN_PREFIX, Bindable.ofInstance(hikariConfig));
+        hikariConfig.setPoolName(poolName);
+        binder.bind(prefix, Bindable.ofInstance(hikariConfig));
+        return hikariConfig;
+    }
 }
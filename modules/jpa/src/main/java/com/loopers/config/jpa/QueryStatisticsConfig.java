@@ -0,0 +1,47 @@
+package com.loopers.config.jpa;
+
+import com.loopers.config.jpa.statistics.QueryStatisticsFilter;
+import com.loopers.config.jpa.statistics.QueryStatisticsProperties;
+import com.loopers.config.jpa.statistics.QueryStatisticsRecorder;
+import com.loopers.config.jpa.statistics.QueryStatisticsStatementInspector;
+import com.loopers.config.jpa.statistics.QueryTimingSessionListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 의 StatementInspector(SQL) 와 SessionEventListener(실행 시간) 로 쿼리 통계를 수집한다.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryStatisticsProperties.class)
+@ConditionalOnProperty(prefix = "datasource.mysql-jpa.query-statistics", name = "enabled", havingValue = "true")
+class QueryStatisticsConfig {
+
+    @Bean
+    QueryStatisticsRecorder queryStatisticsRecorder(QueryStatisticsProperties properties, MeterRegistry meterRegistry) {
+        return new QueryStatisticsRecorder(properties, meterRegistry);
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer queryStatisticsCustomizer(QueryStatisticsRecorder queryStatisticsRecorder) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryStatisticsStatementInspector(queryStatisticsRecorder));
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryTimingSessionListener.class.getName());
+        };
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class RequestScopeConfig {
+
+        @Bean
+        QueryStatisticsFilter queryStatisticsFilter(QueryStatisticsRecorder queryStatisticsRecorder, MeterRegistry meterRegistry) {
+            return new QueryStatisticsFilter(queryStatisticsRecorder, meterRegistry);
+        }
+    }
+}
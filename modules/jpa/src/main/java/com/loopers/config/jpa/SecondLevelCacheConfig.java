@@ -0,0 +1,60 @@
+package com.loopers.config.jpa;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.loopers.config.jpa.cache.SecondLevelCacheMetrics;
+import com.loopers.config.jpa.cache.SecondLevelCacheProperties;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.util.OptionalLong;
+
+/**
+ * Caffeine 기반 JCache 를 Hibernate 2차 캐시로 사용한다.
+ * 이 CacheManager 는 Hibernate 전용이며, region 은 설정된 크기 / TTL 로 미리 만들어 둔다.
+ * 같은 JVM 의 다른 컨텍스트(테스트 등)와 region 을 공유하지 않도록 provider 를 컨텍스트마다 따로 만든다.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@ConditionalOnProperty(prefix = "datasource.mysql-jpa.second-level-cache", name = "enabled", havingValue = "true")
+class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        properties.regions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.expireAfterWrite().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(name, configuration);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheCustomizer(@Qualifier("hibernateCacheManager") CacheManager cacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+
+    @Bean
+    SecondLevelCacheMetrics secondLevelCacheMetrics(
+            @Qualifier("hibernateCacheManager") CacheManager cacheManager,
+            SecondLevelCacheProperties properties
+    ) {
+        return new SecondLevelCacheMetrics(cacheManager, properties);
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.config.jpa.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Map;
+
+/**
+ * datasource.mysql-jpa.pools 에 정의된 전용 커넥션 풀 (이름 → 풀). 애플리케이션 종료 시 함께 닫는다.
+ */
+public class BulkheadDataSources implements DisposableBean {
+    private final Map<String, HikariDataSource> dataSources;
+
+    public BulkheadDataSources(Map<String, HikariDataSource> dataSources) {
+        this.dataSources = Map.copyOf(dataSources);
+    }
+
+    public Map<String, HikariDataSource> dataSources() {
+        return dataSources;
+    }
+
+    @Override
+    public void destroy() {
+        dataSources.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,39 @@
+package com.loopers.config.jpa.bulkhead;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link DataSourcePool} 로 풀이 지정된 트랜잭션은 해당 전용 풀로, 나머지는 기본 DataSource(main / replica 라우팅)로 보낸다.
+ * 전용 풀끼리, 그리고 기본 풀과 커넥션을 나눠 쓰지 않으므로 한 종류의 트랜잭션이 몰려도 다른 트랜잭션은 커넥션을 얻을 수 있다.
+ */
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String DEFAULT_KEY = "default";
+
+    private final BulkheadDataSources bulkheads;
+
+    public BulkheadRoutingDataSource(DataSource defaultDataSource, BulkheadDataSources bulkheads) {
+        this.bulkheads = bulkheads;
+
+        Map<Object, Object> targets = new HashMap<>(bulkheads.dataSources());
+        targets.put(DEFAULT_KEY, defaultDataSource);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(defaultDataSource);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String pool = DataSourcePoolContext.current();
+        if (pool == null) {
+            return DEFAULT_KEY;
+        }
+        if (!bulkheads.dataSources().containsKey(pool)) {
+            throw new IllegalStateException("정의되지 않은 커넥션 풀입니다. datasource.mysql-jpa.pools." + pool + " 를 설정하세요.");
+        }
+        return pool;
+    }
+}
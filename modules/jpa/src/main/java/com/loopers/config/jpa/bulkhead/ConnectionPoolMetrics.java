@@ -0,0 +1,39 @@
+package com.loopers.config.jpa.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+
+/**
+ * 풀마다 사용 중인 커넥션 비율(포화도)을 게시한다.
+ * 대기 시간과 대기 스레드 수는 Hikari 가 hikaricp.connections.acquire / pending (pool 태그) 으로 게시한다.
+ */
+public class ConnectionPoolMetrics implements MeterBinder {
+    private final List<HikariDataSource> dataSources;
+
+    public ConnectionPoolMetrics(List<HikariDataSource> dataSources) {
+        this.dataSources = List.copyOf(dataSources);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (HikariDataSource dataSource : dataSources) {
+            Gauge.builder("datasource.pool.saturation", dataSource, ConnectionPoolMetrics::saturation)
+                    .description("최대 풀 크기 대비 사용 중인 커넥션 비율 (0.0 ~ 1.0)")
+                    .tag("pool", dataSource.getPoolName())
+                    .register(registry);
+        }
+    }
+
+    static double saturation(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0.0;
+        }
+        return (double) pool.getActiveConnections() / dataSource.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,24 @@
+package com.loopers.config.jpa.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드(또는 클래스의 모든 메서드)가 사용할 커넥션 풀을 지정한다.
+ * 풀은 datasource.mysql-jpa.pools.{이름} 에 정의하며, 지정하지 않은 트랜잭션은 main / replica 풀을 사용한다.
+ * <p>
+ * 커넥션은 트랜잭션의 첫 쿼리에서 얻으므로, 이미 커넥션을 가진 트랜잭션에 참여하는 메서드에서는 효과가 없다.
+ * 지정된 풀로 가는 읽기 전용 트랜잭션은 replica 로 보내지 않는다.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DataSourcePool {
+    /**
+     * datasource.mysql-jpa.pools 아래의 풀 이름
+     */
+    String value();
+}
@@ -0,0 +1,32 @@
+package com.loopers.config.jpa.bulkhead;
+
+/**
+ * 현재 스레드에서 실행 중인 {@link DataSourcePool} 메서드의 풀 이름
+ */
+final class DataSourcePoolContext {
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private DataSourcePoolContext() {
+    }
+
+    static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 풀 이름을 바꾸고 이전 값을 돌려준다. 메서드가 끝나면 {@link #restore(String)} 로 되돌린다.
+     */
+    static String enter(String pool) {
+        String previous = CURRENT.get();
+        CURRENT.set(pool);
+        return previous;
+    }
+
+    static void restore(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.loopers.config.jpa.bulkhead;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link DataSourcePool} 메서드가 실행되는 동안 풀 이름을 스레드에 남긴다.
+ * 트랜잭션 인터셉터보다 바깥에서 실행되어야 한다.
+ */
+public class DataSourcePoolInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String previous = DataSourcePoolContext.enter(poolOf(invocation));
+        try {
+            return invocation.proceed();
+        } finally {
+            DataSourcePoolContext.restore(previous);
+        }
+    }
+
+    private static String poolOf(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+        DataSourcePool annotation = AnnotatedElementUtils.findMergedAnnotation(method, DataSourcePool.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, DataSourcePool.class);
+        }
+        return annotation.value();
+    }
+}
@@ -0,0 +1,39 @@
+package com.loopers.config.jpa.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+/**
+ * region 별 적중 / 적재 / 제거 통계(JCacheMetrics, cache=region 이름 태그)와 설정된 크기 / TTL 을 게시한다.
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+    private final CacheManager cacheManager;
+    private final SecondLevelCacheProperties properties;
+
+    public SecondLevelCacheMetrics(CacheManager cacheManager, SecondLevelCacheProperties properties) {
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        properties.regions().forEach((name, region) -> {
+            Cache<Object, Object> cache = cacheManager.getCache(name);
+            JCacheMetrics.monitor(registry, cache);
+            Gauge.builder("hibernate.cache.region.maximum.size", region, SecondLevelCacheProperties.Region::maximumSize)
+                    .description("region 최대 엔티티 수")
+                    .tag("region", name)
+                    .register(registry);
+            Gauge.builder("hibernate.cache.region.ttl", region, r -> r.expireAfterWrite().toSeconds())
+                    .description("region TTL")
+                    .tag("region", name)
+                    .baseUnit("seconds")
+                    .register(registry);
+        });
+    }
+}
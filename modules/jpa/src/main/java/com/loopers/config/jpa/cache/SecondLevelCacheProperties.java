@@ -0,0 +1,32 @@
+package com.loopers.config.jpa.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시(JCache + Caffeine) 설정.
+ * 엔티티는 @Cache(region = ...) 로 참여하며, region 은 반드시 여기 정의되어 있어야 한다. (정의되지 않은 region 은 기동 실패)
+ *
+ * @param enabled 2차 캐시 사용 여부
+ * @param regions region 이름별 크기 / TTL
+ */
+@ConfigurationProperties(value = "datasource.mysql-jpa.second-level-cache")
+public record SecondLevelCacheProperties(
+        boolean enabled,
+        Map<String, Region> regions
+) {
+    public SecondLevelCacheProperties {
+        regions = regions == null ? Map.of() : regions;
+    }
+
+    /**
+     * @param maximumSize      region 에 유지할 최대 엔티티 수
+     * @param expireAfterWrite 다른 노드의 변경을 놓쳤을 때 stale 을 허용하는 최대 시간
+     */
+    public record Region(
+            long maximumSize,
+            Duration expireAfterWrite
+    ) { }
+}
@@ -0,0 +1,18 @@
+package com.loopers.config.jpa.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 트랜잭션의 replica 라우팅 설정.
+ * replica 풀은 datasource.mysql-jpa.replicas 목록에 main 과 다른 값만 적는다. (나머지는 main 설정을 따른다)
+ *
+ * @param maxReplicaLag    이 값보다 뒤처진 replica 로는 읽기를 보내지 않는다.
+ * @param lagCheckInterval replica 지연(Seconds_Behind_Source) 확인 주기
+ */
+@ConfigurationProperties(value = "datasource.mysql-jpa.routing")
+public record DataSourceRoutingProperties(
+        Duration maxReplicaLag,
+        Duration lagCheckInterval
+) { }
@@ -0,0 +1,26 @@
+package com.loopers.config.jpa.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+
+/**
+ * 설정된 replica 커넥션 풀 목록. 애플리케이션 종료 시 함께 닫는다.
+ */
+public class MySqlReplicaDataSources implements DisposableBean {
+    private final List<HikariDataSource> dataSources;
+
+    public MySqlReplicaDataSources(List<HikariDataSource> dataSources) {
+        this.dataSources = List.copyOf(dataSources);
+    }
+
+    public List<HikariDataSource> dataSources() {
+        return dataSources;
+    }
+
+    @Override
+    public void destroy() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+}
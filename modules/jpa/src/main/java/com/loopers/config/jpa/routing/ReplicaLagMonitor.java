@@ -0,0 +1,120 @@
+package com.loopers.config.jpa.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * replica 마다 SHOW REPLICA STATUS 로 복제 지연을 주기적으로 확인한다.
+ * <ul>
+ *     <li>지연이 maxReplicaLag 이하인 replica 만 읽기 대상으로 사용한다.</li>
+ *     <li>복제가 멈췄거나(Seconds_Behind_Source = NULL) 접속할 수 없으면 제외한다.</li>
+ *     <li>복제 설정이 없는 서버(결과 없음)는 main 과 같은 데이터를 가진 것으로 보고 지연 0 으로 취급한다.</li>
+ * </ul>
+ * 첫 확인 전까지는 모든 replica 를 제외하므로 기동 직후 읽기는 main 으로 간다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements InitializingBean, DisposableBean {
+    private static final double UNKNOWN_LAG = Double.NaN;
+
+    private final MySqlReplicaDataSources replicas;
+    private final DataSourceRoutingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "mysql-replica-lag-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReplicaLagMonitor(
+            MySqlReplicaDataSources replicas,
+            DataSourceRoutingProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.replicas = replicas;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        for (HikariDataSource replica : replicas.dataSources()) {
+            String pool = replica.getPoolName();
+            lagSeconds.put(pool, UNKNOWN_LAG);
+            Gauge.builder("datasource.replica.lag", lagSeconds, lags -> lags.getOrDefault(pool, UNKNOWN_LAG))
+                    .description("replica 복제 지연(초), 확인할 수 없으면 NaN")
+                    .tag("pool", pool)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", this, monitor -> monitor.isAvailable(pool) ? 1 : 0)
+                    .description("읽기 대상으로 사용 중인 replica 여부")
+                    .tag("pool", pool)
+                    .register(meterRegistry);
+        }
+        if (!replicas.dataSources().isEmpty()) {
+            long interval = properties.lagCheckInterval().toMillis();
+            scheduler.scheduleWithFixedDelay(this::checkAll, 0, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean isAvailable(String pool) {
+        Double lag = lagSeconds.get(pool);
+        return lag != null && !lag.isNaN() && lag <= properties.maxReplicaLag().toSeconds();
+    }
+
+    private void checkAll() {
+        for (HikariDataSource replica : replicas.dataSources()) {
+            String pool = replica.getPoolName();
+            boolean wasAvailable = isAvailable(pool);
+            lagSeconds.put(pool, lagOf(replica));
+            boolean available = isAvailable(pool);
+            if (wasAvailable != available) {
+                log.warn("replica 라우팅 상태 변경 : pool = {}, available = {}, lag = {}s", pool, available, lagSeconds.get(pool));
+            }
+        }
+    }
+
+    private double lagOf(HikariDataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+                return lagOf(resultSet, "Seconds_Behind_Source");
+            } catch (SQLException e) {
+                // MySQL 8.0.22 미만
+                try (ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+                    return lagOf(resultSet, "Seconds_Behind_Master");
+                }
+            }
+        } catch (Exception e) {
+            log.warn("replica 지연 확인에 실패했습니다 : pool = {}", replica.getPoolName(), e);
+            return UNKNOWN_LAG;
+        }
+    }
+
+    private double lagOf(ResultSet resultSet, String column) throws SQLException {
+        if (!resultSet.next()) {
+            return 0;
+        }
+        long lag = resultSet.getLong(column);
+        return resultSet.wasNull() ? UNKNOWN_LAG : lag;
+    }
+}
@@ -0,0 +1,76 @@
+package com.loopers.config.jpa.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 사용 가능한 replica 로 round-robin 분배하고, 그 외에는 main 으로 보낸다.
+ * 사용 가능한 replica 가 없으면 main 으로 되돌린다.
+ * <p>
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 정해지지 않았으므로
+ * 실제 커넥션 획득을 첫 쿼리까지 미루는 LazyConnectionDataSourceProxy 로 감싸서 사용해야 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private final String mainKey;
+    private final List<String> replicaKeys;
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Counter writes;
+    private final Counter replicaReads;
+    private final Counter fallbackReads;
+
+    public ReplicaRoutingDataSource(
+            HikariDataSource main,
+            MySqlReplicaDataSources replicas,
+            ReplicaLagMonitor lagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        this.mainKey = main.getPoolName();
+        this.replicaKeys = replicas.dataSources().stream().map(HikariDataSource::getPoolName).toList();
+        this.lagMonitor = lagMonitor;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(mainKey, main);
+        replicas.dataSources().forEach(replica -> targets.put(replica.getPoolName(), replica));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(main);
+        setLenientFallback(false);
+
+        this.writes = routedCounter(meterRegistry, "main", "read_write");
+        this.replicaReads = routedCounter(meterRegistry, "replica", "read_only");
+        this.fallbackReads = routedCounter(meterRegistry, "main", "replica_unavailable");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            return mainKey;
+        }
+        int size = replicaKeys.size();
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get(Math.floorMod(cursor.getAndIncrement(), size));
+            if (lagMonitor.isAvailable(key)) {
+                replicaReads.increment();
+                return key;
+            }
+        }
+        fallbackReads.increment();
+        return mainKey;
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing")
+                .description("커넥션 라우팅 결과")
+                .tags("target", target, "reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,10 @@
+package com.loopers.config.jpa.statistics;
+
+/**
+ * 실행된 쿼리를 통보받는다. (테스트의 쿼리 수 검증 등)
+ * 쿼리를 실행한 스레드에서 호출되므로 오래 걸리는 작업을 하면 안 된다.
+ */
+@FunctionalInterface
+public interface QueryListener {
+    void onQuery(String sql, String fingerprint, long elapsedNanos);
+}
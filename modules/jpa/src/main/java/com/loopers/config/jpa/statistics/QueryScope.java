@@ -0,0 +1,22 @@
+package com.loopers.config.jpa.statistics;
+
+/**
+ * 하나의 HTTP 요청 또는 트랜잭션 동안 실행된 쿼리 수와 실행 시간. 한 스레드에서만 사용한다.
+ */
+public class QueryScope {
+    private int statements;
+    private long elapsedNanos;
+
+    void add(long nanos) {
+        statements++;
+        elapsedNanos += nanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,56 @@
+package com.loopers.config.jpa.statistics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 요청마다 실행된 쿼리 수와 실행 시간을 jpa.request.statements / jpa.request.statement.time 에 기록한다. (uri 패턴 태그)
+ */
+public class QueryStatisticsFilter extends OncePerRequestFilter {
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final QueryStatisticsRecorder recorder;
+    private final MeterRegistry meterRegistry;
+
+    public QueryStatisticsFilter(QueryStatisticsRecorder recorder, MeterRegistry meterRegistry) {
+        this.recorder = recorder;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        recorder.openRequestScope();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryScope scope = recorder.closeRequestScope();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Tags tags = Tags.of("method", request.getMethod(), "uri", pattern == null ? UNKNOWN_URI : pattern.toString());
+            DistributionSummary.builder("jpa.request.statements")
+                    .description("HTTP 요청당 실행된 쿼리 수")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(scope.statements());
+            Timer.builder("jpa.request.statement.time")
+                    .description("HTTP 요청당 쿼리 실행 시간 합계")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(scope.elapsedNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
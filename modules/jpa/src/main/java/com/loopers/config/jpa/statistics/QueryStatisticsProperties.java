@@ -0,0 +1,23 @@
+package com.loopers.config.jpa.statistics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 쿼리 통계 / 느린 쿼리 설정
+ *
+ * @param enabled            수집 여부
+ * @param slowQueryThreshold 이 시간 이상 걸린 쿼리는 fingerprint 와 함께 로그로 남긴다.
+ * @param topN               총 실행 시간 상위 몇 개의 fingerprint 를 메트릭으로 게시할지
+ * @param maxFingerprints    추적할 fingerprint 최대 수. 넘으면 새 fingerprint 는 other 로 합산한다.
+ * @param publishInterval    상위 fingerprint 를 다시 계산하는 주기
+ */
+@ConfigurationProperties(value = "datasource.mysql-jpa.query-statistics")
+public record QueryStatisticsProperties(
+        boolean enabled,
+        Duration slowQueryThreshold,
+        int topN,
+        int maxFingerprints,
+        Duration publishInterval
+) { }
@@ -0,0 +1,249 @@
+package com.loopers.config.jpa.statistics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행된 쿼리를 fingerprint 별, HTTP 요청별, 트랜잭션별로 집계한다.
+ * <ul>
+ *     <li>fingerprint 별 실행 횟수 / 총 실행 시간을 누적하고, 총 실행 시간 상위 topN 을 주기적으로 게시한다.
+ *     (jpa.query.top.time, jpa.query.top.count - fingerprint, sql 태그)</li>
+ *     <li>트랜잭션이 끝나면 jpa.transaction.statements / jpa.transaction.statement.time 에 기록한다. (read_only 태그)</li>
+ *     <li>HTTP 요청 범위는 {@link QueryStatisticsFilter} 가 열고 닫는다.</li>
+ *     <li>slowQueryThreshold 이상 걸린 쿼리는 fingerprint 와 함께 경고 로그를 남긴다.</li>
+ *     <li>등록된 {@link QueryListener} 에 실행된 쿼리를 알린다.</li>
+ * </ul>
+ */
+@Slf4j
+public class QueryStatisticsRecorder implements InitializingBean, DisposableBean {
+    private static final String OTHER_FINGERPRINT = "other";
+    private static final int SQL_TAG_MAX_LENGTH = 200;
+    private static final Object TRANSACTION_SCOPE_KEY = new Object();
+    // 이 스레드에서 마지막으로 SQL 을 준비한 recorder. 애플리케이션 컨텍스트가 여러 개여도 세션의 SessionFactory 에 연결된 recorder 로 기록된다.
+    private static final ThreadLocal<QueryStatisticsRecorder> PREPARING = new ThreadLocal<>();
+
+    private final QueryStatisticsProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<String> preparedSql = new ThreadLocal<>();
+    private final ThreadLocal<Long> executionStartedAt = new ThreadLocal<>();
+    private final ThreadLocal<QueryScope> requestScope = new ThreadLocal<>();
+    private final Map<String, FingerprintStats> fingerprints = new ConcurrentHashMap<>();
+    private final List<QueryListener> listeners = new CopyOnWriteArrayList<>();
+    private final MultiGauge topTime;
+    private final MultiGauge topCount;
+    private volatile boolean open;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "jpa-query-statistics");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public QueryStatisticsRecorder(QueryStatisticsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.topTime = MultiGauge.builder("jpa.query.top.time")
+                .description("총 실행 시간 상위 쿼리의 누적 실행 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.topCount = MultiGauge.builder("jpa.query.top.count")
+                .description("총 실행 시간 상위 쿼리의 누적 실행 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 스레드에서 실행 중인 SQL 을 준비한 recorder. 닫혔거나 없으면 null
+     */
+    static QueryStatisticsRecorder preparing() {
+        QueryStatisticsRecorder recorder = PREPARING.get();
+        return recorder != null && recorder.open ? recorder : null;
+    }
+
+    /**
+     * 시작되어 아직 닫히지 않았는지
+     */
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        open = true;
+        long interval = properties.publishInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::publishTop, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        open = false;
+        scheduler.shutdownNow();
+    }
+
+    void onPrepare(String sql) {
+        PREPARING.set(this);
+        preparedSql.set(sql);
+    }
+
+    void onExecuteStart() {
+        executionStartedAt.set(System.nanoTime());
+    }
+
+    void onExecuteEnd() {
+        Long startedAt = executionStartedAt.get();
+        executionStartedAt.remove();
+        String sql = preparedSql.get();
+        if (startedAt == null || sql == null) {
+            return;
+        }
+        record(sql, System.nanoTime() - startedAt);
+    }
+
+    public void addListener(QueryListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(QueryListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void openRequestScope() {
+        requestScope.set(new QueryScope());
+    }
+
+    public QueryScope closeRequestScope() {
+        QueryScope scope = requestScope.get();
+        requestScope.remove();
+        preparedSql.remove();
+        PREPARING.remove();
+        return scope;
+    }
+
+    private void record(String sql, long elapsedNanos) {
+        String fingerprint = SqlFingerprint.of(sql);
+        fingerprintStats(fingerprint).add(elapsedNanos);
+
+        QueryScope request = requestScope.get();
+        if (request != null) {
+            request.add(elapsedNanos);
+        }
+        QueryScope transaction = transactionScope();
+        if (transaction != null) {
+            transaction.add(elapsedNanos);
+        }
+
+        for (QueryListener listener : listeners) {
+            listener.onQuery(sql, fingerprint, elapsedNanos);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMs >= properties.slowQueryThreshold().toMillis()) {
+            log.warn("느린 쿼리 : {}ms, fingerprint = {} [{}], sql = {}",
+                    elapsedMs, SqlFingerprint.idOf(fingerprint), fingerprint, sql);
+        }
+    }
+
+    private FingerprintStats fingerprintStats(String fingerprint) {
+        FingerprintStats stats = fingerprints.get(fingerprint);
+        if (stats != null) {
+            return stats;
+        }
+        String key = fingerprints.size() < properties.maxFingerprints() ? fingerprint : OTHER_FINGERPRINT;
+        return fingerprints.computeIfAbsent(key, FingerprintStats::new);
+    }
+
+    /**
+     * 트랜잭션 안의 첫 쿼리에서 범위를 만들고, 트랜잭션이 끝나면 기록한다.
+     */
+    private QueryScope transactionScope() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        QueryScope scope = (QueryScope) TransactionSynchronizationManager.getResource(TRANSACTION_SCOPE_KEY);
+        if (scope != null) {
+            return scope;
+        }
+        QueryScope created = new QueryScope();
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        TransactionSynchronizationManager.bindResource(TRANSACTION_SCOPE_KEY, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_SCOPE_KEY);
+                Tags tags = Tags.of("read_only", String.valueOf(readOnly));
+                DistributionSummary.builder("jpa.transaction.statements")
+                        .description("트랜잭션당 실행된 쿼리 수")
+                        .tags(tags)
+                        .register(meterRegistry)
+                        .record(created.statements());
+                Timer.builder("jpa.transaction.statement.time")
+                        .description("트랜잭션당 쿼리 실행 시간 합계")
+                        .tags(tags)
+                        .register(meterRegistry)
+                        .record(created.elapsedNanos(), TimeUnit.NANOSECONDS);
+            }
+        });
+        return created;
+    }
+
+    private void publishTop() {
+        try {
+            List<FingerprintStats> top = fingerprints.values().stream()
+                    .sorted(Comparator.comparingLong(FingerprintStats::totalNanos).reversed())
+                    .limit(properties.topN())
+                    .toList();
+            topTime.register(top.stream()
+                    .map(stats -> MultiGauge.Row.of(stats.tags(), stats, s -> s.totalNanos() / 1_000_000_000.0))
+                    .toList(), true);
+            topCount.register(top.stream()
+                    .map(stats -> MultiGauge.Row.of(stats.tags(), stats, FingerprintStats::count))
+                    .toList(), true);
+        } catch (Exception e) {
+            log.error("상위 쿼리 메트릭 게시에 실패했습니다.", e);
+        }
+    }
+
+    private static final class FingerprintStats {
+        private final Tags tags;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        FingerprintStats(String fingerprint) {
+            String sql = fingerprint.length() > SQL_TAG_MAX_LENGTH ? fingerprint.substring(0, SQL_TAG_MAX_LENGTH) : fingerprint;
+            this.tags = Tags.of("fingerprint", SqlFingerprint.idOf(fingerprint), "sql", sql);
+        }
+
+        void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+        }
+
+        Tags tags() {
+            return tags;
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        long totalNanos() {
+            return totalNanos.sum();
+        }
+    }
+}
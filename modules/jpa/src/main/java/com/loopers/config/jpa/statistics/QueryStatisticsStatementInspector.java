@@ -0,0 +1,20 @@
+package com.loopers.config.jpa.statistics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 PreparedStatement 를 만들기 직전의 SQL 을 기록해 둔다. SQL 은 바꾸지 않는다.
+ */
+public class QueryStatisticsStatementInspector implements StatementInspector {
+    private final QueryStatisticsRecorder recorder;
+
+    public QueryStatisticsStatementInspector(QueryStatisticsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        recorder.onPrepare(sql);
+        return sql;
+    }
+}
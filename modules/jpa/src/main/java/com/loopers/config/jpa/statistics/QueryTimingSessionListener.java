@@ -0,0 +1,37 @@
+package com.loopers.config.jpa.statistics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * JDBC 실행 시작 / 종료 시점을 {@link QueryStatisticsRecorder} 에 알린다.
+ * Hibernate 가 세션마다 기본 생성자로 만들기 때문에, 같은 스레드에서 직전에 SQL 을 준비한
+ * (세션의 SessionFactory 에 연결된) recorder 를 찾는다.
+ */
+public class QueryTimingSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        QueryStatisticsRecorder recorder = QueryStatisticsRecorder.preparing();
+        if (recorder != null) {
+            recorder.onExecuteStart();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryStatisticsRecorder recorder = QueryStatisticsRecorder.preparing();
+        if (recorder != null) {
+            recorder.onExecuteEnd();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
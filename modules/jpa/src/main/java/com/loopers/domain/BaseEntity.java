@@ -9,6 +9,7 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import lombok.Getter;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * 생성/수정/삭제 정보를 자동으로 관리해준다.
@@ -41,7 +42,7 @@ public abstract class BaseEntity {
     private void prePersist() {
         guard();
 
-        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime now = now();
         this.createdAt = now;
         this.updatedAt = now;
     }
@@ -50,7 +51,14 @@ public abstract class BaseEntity {
     private void preUpdate() {
         guard();
 
-        this.updatedAt = ZonedDateTime.now();
+        this.updatedAt = now();
+    }
+
+    /**
+     * 컬럼 정밀도(마이크로초)에 맞춘다. 저장 직후의 값과 다시 읽은 값이 같아야 수정 시각으로 변경 여부를 비교할 수 있다.
+     */
+    private static ZonedDateTime now() {
+        return ZonedDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     /**
@@ -0,0 +1,31 @@
+package com.loopers.domain;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * 엔티티(또는 엔티티 묶음)가 바뀌었는지만 판단하기 위한 값. 본문 없이 projection 으로 조회할 수 있다.
+ *
+ * @param version   @Version 값 (없는 엔티티는 0). 묶음이면 포함된 엔티티 수
+ * @param updatedAt 마지막 수정 시각. 묶음이 비어 있으면 null
+ */
+public record EntityVersion(Long version, ZonedDateTime updatedAt) {
+
+    public EntityVersion(ZonedDateTime updatedAt) {
+        this(0L, updatedAt);
+    }
+
+    /**
+     * 묶음의 버전 : (엔티티 수, 가장 늦은 수정 시각). "SELECT COUNT(e), MAX(e.updatedAt)" 과 같은 값이다.
+     */
+    public static EntityVersion combine(Collection<EntityVersion> versions) {
+        ZonedDateTime latest = versions.stream()
+            .map(EntityVersion::updatedAt)
+            .filter(Objects::nonNull)
+            .max(Comparator.comparing(ZonedDateTime::toInstant))
+            .orElse(null);
+        return new EntityVersion((long) versions.size(), latest);
+    }
+}
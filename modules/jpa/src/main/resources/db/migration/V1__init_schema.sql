@@ -0,0 +1,76 @@
+-- 엔티티 매핑과 맞춘 초기 스키마 (spring.jpa.hibernate.ddl-auto=validate 로 검증)
+-- 시간 컬럼은 Hibernate 의 NORMALIZE_UTC 매핑과 같은 timestamp(6), enum 컬럼은 @Enumerated(STRING) 매핑과 같은 enum 을 사용한다.
+-- 외래 키는 두지 않는다. (쓰기 시 부모 행 공유 락을 피하고, 관계는 애플리케이션에서 보장)
+
+create table example (
+    id          bigint       not null auto_increment,
+    name        varchar(255),
+    description varchar(255),
+    created_at  timestamp(6) not null,
+    updated_at  timestamp(6) not null,
+    deleted_at  timestamp(6),
+    primary key (id)
+) engine = InnoDB;
+
+create table users (
+    id         bigint       not null auto_increment,
+    name       varchar(255),
+    point      bigint,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    primary key (id)
+) engine = InnoDB;
+
+create table products (
+    id         bigint       not null auto_increment,
+    name       varchar(255) not null,
+    price      bigint       not null,
+    stock      integer      not null,
+    version    bigint,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    primary key (id)
+) engine = InnoDB;
+
+create table orders (
+    id           bigint       not null auto_increment,
+    user_id      bigint       not null,
+    status       enum ('PENDING','PAID','CANCELLED') not null,
+    total_amount bigint       not null,
+    created_at   timestamp(6) not null,
+    updated_at   timestamp(6) not null,
+    deleted_at   timestamp(6),
+    primary key (id),
+    -- OrderJpaRepository.findByUserId : user_id 로 찾고 id 순서로 읽는다.
+    index idx_orders_user_id (user_id, id)
+) engine = InnoDB;
+
+create table order_items (
+    id         bigint       not null auto_increment,
+    order_id   bigint       not null,
+    product_id bigint       not null,
+    quantity   integer      not null,
+    price      bigint       not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    deleted_at timestamp(6),
+    primary key (id),
+    -- 주문 조회 시 order_id 로 항목을 찾고, 같은 인덱스의 product_id 로 상품을 조인한다. (커버링)
+    index idx_order_items_order_id (order_id, product_id)
+) engine = InnoDB;
+
+create table point_history (
+    id            bigint       not null auto_increment,
+    user_id       bigint       not null,
+    type          enum ('CHARGE','USE') not null,
+    amount        bigint       not null,
+    balance_after bigint       not null,
+    created_at    timestamp(6) not null,
+    updated_at    timestamp(6) not null,
+    deleted_at    timestamp(6),
+    primary key (id),
+    -- PointHistoryJpaRepository.findByUserId
+    index idx_point_history_user_id (user_id, id)
+) engine = InnoDB;
@@ -0,0 +1,7 @@
+-- 주문 항목에 주문 시점의 상품명을 저장한다. (상품명이 바뀌어도 주문 조회 결과와 ETag 가 바뀌지 않도록)
+alter table order_items add column product_name varchar(255) null after product_id;
+
+update order_items i join products p on p.id = i.product_id
+set i.product_name = p.name;
+
+alter table order_items modify column product_name varchar(255) not null;
@@ -0,0 +1,2 @@
+-- 사용자 포인트 변경을 낙관적 락으로도 검증할 수 있도록 버전 컬럼을 추가한다.
+alter table users add column version bigint not null default 0 after point;
@@ -0,0 +1,2 @@
+-- 전체 상품 버전 (COUNT, MAX(updated_at)) 조회가 테이블 대신 updated_at 인덱스만 읽도록 한다.
+create index idx_products_updated_at on products (updated_at);
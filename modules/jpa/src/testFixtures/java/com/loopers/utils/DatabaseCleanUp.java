@@ -37,5 +37,6 @@ public class DatabaseCleanUp implements InitializingBean {
         }
 
         entityManager.createNativeQuery("SET FOREIGN_KEY_CHECKS = 1").executeUpdate();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
     }
 }
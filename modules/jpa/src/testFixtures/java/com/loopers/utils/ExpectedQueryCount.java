@@ -0,0 +1,22 @@
+package com.loopers.utils;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문(@BeforeEach 이후)에서 실행되는 SQL 수의 범위.
+ * 상한을 넘으면 반복된 쿼리 목록과 함께 테스트가 실패한다.
+ * 쿼리가 실행되어야 하는 테스트는 min 을 두어, SQL 이 수집되지 않아 검증 없이 통과하는 일이 없게 한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryCountExtension.class)
+public @interface ExpectedQueryCount {
+    int max();
+
+    int min() default 0;
+}
@@ -0,0 +1,73 @@
+package com.loopers.utils;
+
+import org.opentest4j.AssertionFailedError;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 측정 구간에서 실행된 SQL 목록
+ */
+public record QueryCount(List<Statement> statements) {
+
+    public int total() {
+        return statements.size();
+    }
+
+    /**
+     * 두 번 이상 실행된 fingerprint 와 실행 횟수 (많이 실행된 순)
+     */
+    public Map<String, Long> repeated() {
+        return statements.stream()
+            .collect(Collectors.groupingBy(Statement::fingerprint, Collectors.counting()))
+            .entrySet().stream()
+            .filter(entry -> entry.getValue() > 1)
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    public void assertAtMost(int max) {
+        if (total() <= max) {
+            return;
+        }
+        StringBuilder message = new StringBuilder()
+            .append("실행된 SQL 수가 허용치를 넘었습니다. expected <= ").append(max)
+            .append(", actual = ").append(total());
+        Map<String, Long> repeated = repeated();
+        if (!repeated.isEmpty()) {
+            message.append("\n반복된 SQL (N+1 의심) :");
+            repeated.forEach((fingerprint, count) -> message.append("\n  ").append(count).append("회 : ").append(fingerprint));
+        }
+        message.append("\n실행된 SQL :");
+        for (int i = 0; i < statements.size(); i++) {
+            message.append("\n  ").append(i + 1).append(". ").append(statements.get(i).sql());
+        }
+        throw new AssertionFailedError(message.toString(), "<= " + max, total());
+    }
+
+    /**
+     * 쿼리가 실행되었어야 하는 구간에서 SQL 이 수집되지 않았으면 실패한다. (수집 설정이 잘못되어 검증 없이 통과하는 것을 막는다)
+     */
+    public void assertAtLeast(int min) {
+        if (total() >= min) {
+            return;
+        }
+        throw new AssertionFailedError(
+            "실행된 SQL 수가 부족합니다. 쿼리 통계가 이 컨텍스트의 SQL 을 수집하는지 확인하세요. expected >= " + min + ", actual = " + total(),
+            ">= " + min, total()
+        );
+    }
+
+    public void assertBetween(int min, int max) {
+        assertAtLeast(min);
+        assertAtMost(max);
+    }
+
+    public record Statement(String sql, String fingerprint) { }
+
+    static QueryCount of(List<Statement> statements) {
+        return new QueryCount(List.copyOf(statements));
+    }
+}
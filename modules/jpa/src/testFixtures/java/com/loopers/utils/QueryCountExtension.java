@@ -0,0 +1,43 @@
+package com.loopers.utils;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Optional;
+
+/**
+ * {@link ExpectedQueryCount} 가 붙은 테스트의 SQL 수를 세고 상한을 검증한다.
+ * 테스트 본문이 이미 실패했다면 그 실패를 가리지 않도록 검증하지 않는다.
+ */
+public class QueryCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (expectedOf(context).isPresent()) {
+            queryCounterOf(context).start();
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Optional<ExpectedQueryCount> expected = expectedOf(context);
+        if (expected.isEmpty()) {
+            return;
+        }
+        QueryCount count = queryCounterOf(context).stop();
+        if (context.getExecutionException().isEmpty()) {
+            count.assertBetween(expected.get().min(), expected.get().max());
+        }
+    }
+
+    private Optional<ExpectedQueryCount> expectedOf(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), ExpectedQueryCount.class);
+    }
+
+    private QueryCounter queryCounterOf(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(QueryCounter.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.loopers.utils;
+
+import com.loopers.config.jpa.statistics.QueryListener;
+import com.loopers.config.jpa.statistics.QueryStatisticsRecorder;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구간 안에서 실행된 SQL 을 센다. 요청 처리 스레드 등 다른 스레드에서 실행된 SQL 도 포함된다.
+ * <pre>
+ *     queryCounter.assertAtMost(2, () -> testRestTemplate.exchange(...));
+ * </pre>
+ * datasource.mysql-jpa.query-statistics.enabled=true 가 필요하다.
+ */
+@Component
+public class QueryCounter implements InitializingBean, DisposableBean {
+
+    private final ObjectProvider<QueryStatisticsRecorder> recorderProvider;
+    private final List<QueryCount.Statement> statements = new ArrayList<>();
+    private final QueryListener listener = this::onQuery;
+    private QueryStatisticsRecorder recorder;
+    private volatile boolean counting;
+
+    public QueryCounter(ObjectProvider<QueryStatisticsRecorder> recorderProvider) {
+        this.recorderProvider = recorderProvider;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        recorder = recorderProvider.getIfAvailable();
+        if (recorder != null) {
+            recorder.addListener(listener);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (recorder != null) {
+            recorder.removeListener(listener);
+        }
+    }
+
+    public void start() {
+        if (recorder == null) {
+            throw new IllegalStateException("쿼리 통계가 꺼져 있습니다. datasource.mysql-jpa.query-statistics.enabled=true 로 설정하세요.");
+        }
+        if (!recorder.isOpen()) {
+            throw new IllegalStateException("쿼리 통계 recorder 가 닫혀 있어 이 컨텍스트의 SQL 을 수집하지 않습니다.");
+        }
+        synchronized (statements) {
+            statements.clear();
+        }
+        counting = true;
+    }
+
+    public QueryCount stop() {
+        counting = false;
+        synchronized (statements) {
+            return QueryCount.of(statements);
+        }
+    }
+
+    public QueryCount count(Executable block) throws Throwable {
+        start();
+        try {
+            block.execute();
+        } catch (Throwable e) {
+            stop();
+            throw e;
+        }
+        return stop();
+    }
+
+    public void assertAtMost(int max, Executable block) throws Throwable {
+        count(block).assertAtMost(max);
+    }
+
+    public void assertBetween(int min, int max, Executable block) throws Throwable {
+        count(block).assertBetween(min, max);
+    }
+
+    private void onQuery(String sql, String fingerprint, long elapsedNanos) {
+        if (!counting) {
+            return;
+        }
+        synchronized (statements) {
+            statements.add(new QueryCount.Statement(sql, fingerprint));
+        }
+    }
+}
@@ -1,13 +1,26 @@
 plugins {
     `java-library`
     `java-test-fixtures`
+    id("me.champeau.jmh")
 }
 
 dependencies {
     api("org.springframework.kafka:spring-kafka")
+    // metrics
+    implementation("io.micrometer:micrometer-core")
 
     testImplementation("org.springframework.kafka:spring-kafka-test")
     testImplementation("org.testcontainers:kafka")
 
     testFixturesImplementation("org.testcontainers:kafka")
+
+    // benchmark
+    jmhImplementation("com.fasterxml.jackson.core:jackson-databind")
+    jmhImplementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+}
+
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
 }
@@ -0,0 +1,100 @@
+package com.loopers.confg.kafka.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * JSON(ObjectMapper) 과 바이너리 코덱의 인코딩 / 디코딩 처리량과 페이로드 크기를 비교한다.
+ * <pre>
+ * ./gradlew :modules:kafka:jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EventCodecBenchmark {
+
+    @BinaryEvent(typeId = 9001)
+    public record OrderPaidEvent(
+            @BinaryField(id = 1) Long orderId,
+            @BinaryField(id = 2) Long userId,
+            @BinaryField(id = 3) long totalAmount,
+            @BinaryField(id = 4) Status status,
+            @BinaryField(id = 5) Instant paidAt,
+            @BinaryField(id = 6) List<Item> items
+    ) { }
+
+    public record Item(
+            @BinaryField(id = 1) Long productId,
+            @BinaryField(id = 2) int quantity,
+            @BinaryField(id = 3) long price
+    ) { }
+
+    public enum Status { PAID, CANCELLED }
+
+    private ObjectMapper objectMapper;
+    private BinaryEventCodec codec;
+    private OrderPaidEvent event;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        codec = new BinaryEventCodec(new EventSchemaRegistry());
+        event = new OrderPaidEvent(
+                123_456_789L,
+                42L,
+                158_000L,
+                Status.PAID,
+                Instant.parse("2025-01-01T00:00:00Z"),
+                IntStream.range(0, 5)
+                        .mapToObj(i -> new Item(1_000L + i, i + 1, 10_000L * (i + 1)))
+                        .toList()
+        );
+        json = objectMapper.writeValueAsBytes(event);
+        binary = codec.encode(event);
+    }
+
+    @TearDown
+    public void printPayloadSize() {
+        System.out.printf("%npayload size : json = %d bytes, binary = %d bytes%n", json.length, binary.length);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws Exception {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public void jsonDecode(Blackhole blackhole) throws Exception {
+        blackhole.consume(objectMapper.readValue(json, OrderPaidEvent.class));
+    }
+
+    @Benchmark
+    public void binaryDecode(Blackhole blackhole) {
+        blackhole.consume(codec.decode(binary, OrderPaidEvent.class));
+    }
+}
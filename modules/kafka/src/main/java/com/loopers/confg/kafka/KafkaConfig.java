@@ -1,26 +1,52 @@
 package com.loopers.confg.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.codec.BinaryEventCodec;
+import com.loopers.confg.kafka.codec.BinaryEventMessageConverter;
+import com.loopers.confg.kafka.codec.BinaryEventScanner;
+import com.loopers.confg.kafka.codec.BinaryEventSerializer;
+import com.loopers.confg.kafka.codec.EventSchemaRegistry;
+import com.loopers.confg.kafka.flow.AdaptiveFlowController;
+import com.loopers.confg.kafka.flow.FlowControlBatchInterceptor;
+import com.loopers.confg.kafka.flow.KafkaFlowControlProperties;
+import com.loopers.confg.kafka.flow.SaturationProbe;
+import com.loopers.confg.kafka.metrics.ConsumerMetricsBatchInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.CompositeBatchInterceptor;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
 import org.springframework.kafka.support.converter.ByteArrayJsonMessageConverter;
+import org.springframework.kafka.support.converter.MessagingMessageConverter;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @EnableKafka
 @Configuration
-@EnableConfigurationProperties(KafkaProperties.class)
+@EnableConfigurationProperties({KafkaProperties.class, KafkaFlowControlProperties.class})
 public class KafkaConfig {
     public static final String BATCH_LISTENER = "BATCH_LISTENER_DEFAULT";
+    public static final String BINARY_BATCH_LISTENER = "BATCH_LISTENER_BINARY";
+    public static final String BINARY_KAFKA_TEMPLATE = "binaryKafkaTemplate";
+    public static final String REQUEST_KAFKA_TEMPLATE = "requestKafkaTemplate";
+    private static final String BINARY_EVENT_BASE_PACKAGE = "com.loopers";
 
     public static final int MAX_POLLING_SIZE = 3000; // read 3000 msg
     public static final int FETCH_MIN_BYTES = (1024 * 1024); // 1mb
@@ -28,34 +54,152 @@ public class KafkaConfig {
     public static final int SESSION_TIMEOUT_MS = 60 * 1000; // session timeout = 1m
     public static final int HEARTBEAT_INTERVAL_MS = 20 * 1000; // heartbeat interval = 20s ( 1/3 of session_timeout )
     public static final int MAX_POLL_INTERVAL_MS = 2 * 60 * 1000; // max poll interval = 2m
+    public static final int REQUEST_MAX_BLOCK_MS = 1000; // 요청 스레드의 send() 가 메타데이터 / 버퍼를 기다리는 한도 = 1s (default : 60s)
 
+    @Primary
     @Bean
-    public ProducerFactory<Object, Object> producerFactory(KafkaProperties kafkaProperties) {
+    public ProducerFactory<Object, Object> producerFactory(KafkaProperties kafkaProperties, MeterRegistry meterRegistry) {
         Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
-        return new DefaultKafkaProducerFactory<>(props);
+        DefaultKafkaProducerFactory<Object, Object> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return producerFactory;
     }
 
     @Bean
-    public ConsumerFactory<Object, Object> consumerFactory(KafkaProperties kafkaProperties) {
+    public ConsumerFactory<Object, Object> consumerFactory(KafkaProperties kafkaProperties, MeterRegistry meterRegistry) {
         Map<String, Object> props = new HashMap<>(kafkaProperties.buildConsumerProperties());
-        return new DefaultKafkaConsumerFactory<>(props);
+        DefaultKafkaConsumerFactory<Object, Object> consumerFactory = new DefaultKafkaConsumerFactory<>(props);
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return consumerFactory;
     }
 
+    @Primary
     @Bean
     public KafkaTemplate<Object, Object> kafkaTemplate(ProducerFactory<Object, Object> producerFactory) {
         return new KafkaTemplate<>(producerFactory);
     }
 
+    /**
+     * 요청 스레드에서 발행할 때 사용한다. 브로커 장애 시 send() 가 요청 스레드를 막는 시간만 줄이고,
+     * 다른 producer 는 기본 max.block.ms 로 기다린다.
+     */
+    @Bean
+    public ProducerFactory<Object, Object> requestProducerFactory(KafkaProperties kafkaProperties, MeterRegistry meterRegistry) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, REQUEST_MAX_BLOCK_MS);
+        DefaultKafkaProducerFactory<Object, Object> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return producerFactory;
+    }
+
+    @Bean(name = REQUEST_KAFKA_TEMPLATE)
+    public KafkaTemplate<Object, Object> requestKafkaTemplate(
+            @Qualifier("requestProducerFactory") ProducerFactory<Object, Object> requestProducerFactory
+    ) {
+        return new KafkaTemplate<>(requestProducerFactory);
+    }
+
+    /**
+     * 타입 번호만으로 읽을 수 있도록 시작 시 @BinaryEvent 레코드를 모두 등록한다. (호환되지 않는 변경이면 기동 실패)
+     */
+    @Bean
+    public EventSchemaRegistry eventSchemaRegistry() {
+        EventSchemaRegistry registry = new EventSchemaRegistry();
+        registry.registerAll(BinaryEventScanner.scan(BINARY_EVENT_BASE_PACKAGE));
+        return registry;
+    }
+
+    @Bean
+    public BinaryEventCodec binaryEventCodec(EventSchemaRegistry eventSchemaRegistry) {
+        return new BinaryEventCodec(eventSchemaRegistry);
+    }
+
+    @Bean
+    public ProducerFactory<Object, Object> binaryProducerFactory(
+            KafkaProperties kafkaProperties,
+            BinaryEventCodec codec,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        DefaultKafkaProducerFactory<Object, Object> producerFactory =
+                new DefaultKafkaProducerFactory<>(props, null, new BinaryEventSerializer(codec)); // key 는 설정의 key-serializer 사용
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return producerFactory;
+    }
+
+    @Bean(name = BINARY_KAFKA_TEMPLATE)
+    public KafkaTemplate<Object, Object> binaryKafkaTemplate(
+            @Qualifier("binaryProducerFactory") ProducerFactory<Object, Object> binaryProducerFactory
+    ) {
+        return new KafkaTemplate<>(binaryProducerFactory);
+    }
+
     @Bean
     public ByteArrayJsonMessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
         return new ByteArrayJsonMessageConverter(objectMapper);
     }
 
+    @Bean
+    public AdaptiveFlowController adaptiveFlowController(
+            KafkaFlowControlProperties flowControlProperties,
+            ObjectProvider<SaturationProbe> saturationProbes,
+            ObjectProvider<KafkaListenerEndpointRegistry> endpointRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        return new AdaptiveFlowController(
+                flowControlProperties, MAX_POLLING_SIZE, saturationProbes, endpointRegistry, meterRegistry
+        );
+    }
+
+    @Bean
+    public ConsumerMetricsBatchInterceptor consumerMetricsBatchInterceptor(MeterRegistry meterRegistry) {
+        return new ConsumerMetricsBatchInterceptor(meterRegistry);
+    }
+
     @Bean(name = BATCH_LISTENER)
     public ConcurrentKafkaListenerContainerFactory<Object, Object> defaultBatchListenerContainerFactory(
             KafkaProperties kafkaProperties,
-            ByteArrayJsonMessageConverter converter
+            ByteArrayJsonMessageConverter converter,
+            KafkaFlowControlProperties flowControlProperties,
+            AdaptiveFlowController flowController,
+            ConsumerMetricsBatchInterceptor metricsInterceptor,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, Object> consumerConfig = batchConsumerConfig(kafkaProperties);
+        return batchListenerContainerFactory(
+                consumerConfig,
+                converter,
+                batchInterceptorOf(flowControlProperties, flowController, metricsInterceptor),
+                metricsInterceptor,
+                meterRegistry
+        );
+    }
+
+    /**
+     * 바이너리 이벤트 코덱으로 발행된 토픽용 배치 리스너.
+     * 값은 byte[] 로 받고, 리스너 파라미터 타입(또는 헤더의 타입 번호)에 맞춰 변환한다.
+     */
+    @Bean(name = BINARY_BATCH_LISTENER)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> binaryBatchListenerContainerFactory(
+            KafkaProperties kafkaProperties,
+            BinaryEventCodec codec,
+            KafkaFlowControlProperties flowControlProperties,
+            AdaptiveFlowController flowController,
+            ConsumerMetricsBatchInterceptor metricsInterceptor,
+            MeterRegistry meterRegistry
     ) {
+        Map<String, Object> consumerConfig = batchConsumerConfig(kafkaProperties);
+        consumerConfig.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        return batchListenerContainerFactory(
+                consumerConfig,
+                new BinaryEventMessageConverter(codec),
+                batchInterceptorOf(flowControlProperties, flowController, metricsInterceptor),
+                metricsInterceptor,
+                meterRegistry
+        );
+    }
+
+    private Map<String, Object> batchConsumerConfig(KafkaProperties kafkaProperties) {
         Map<String, Object> consumerConfig = new HashMap<>(kafkaProperties.buildConsumerProperties());
         consumerConfig.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, MAX_POLLING_SIZE);
         consumerConfig.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, FETCH_MIN_BYTES);
@@ -63,13 +207,43 @@ public class KafkaConfig {
         consumerConfig.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, SESSION_TIMEOUT_MS);
         consumerConfig.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, HEARTBEAT_INTERVAL_MS);
         consumerConfig.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, MAX_POLL_INTERVAL_MS);
+        return consumerConfig;
+    }
+
+    private ConcurrentKafkaListenerContainerFactory<Object, Object> batchListenerContainerFactory(
+            Map<String, Object> consumerConfig,
+            MessagingMessageConverter converter,
+            BatchInterceptor<Object, Object> batchInterceptor,
+            ConsumerMetricsBatchInterceptor metricsInterceptor,
+            MeterRegistry meterRegistry
+    ) {
+        DefaultKafkaConsumerFactory<Object, Object> consumerFactory = new DefaultKafkaConsumerFactory<>(consumerConfig);
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry)); // 클라이언트 지표 (commit latency 등)
 
         ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(consumerConfig));
+        factory.setConsumerFactory(consumerFactory);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL); // 수동 커밋
+        factory.getContainerProperties().setConsumerRebalanceListener(metricsInterceptor); // 회수된 파티션의 lag 게이지 제거
         factory.setBatchMessageConverter(new BatchMessagingMessageConverter(converter));
         factory.setConcurrency(3);
         factory.setBatchListener(true);
+        factory.setBatchInterceptor(batchInterceptor);
         return factory;
     }
+
+    /**
+     * 흐름 제어가 먼저 배치를 자른 뒤, 실제로 처리되는 배치를 기준으로 지표를 수집한다.
+     */
+    private BatchInterceptor<Object, Object> batchInterceptorOf(
+            KafkaFlowControlProperties flowControlProperties,
+            AdaptiveFlowController flowController,
+            ConsumerMetricsBatchInterceptor metricsInterceptor
+    ) {
+        List<BatchInterceptor<Object, Object>> interceptors = new ArrayList<>();
+        if (flowControlProperties.enabled()) {
+            interceptors.add(new FlowControlBatchInterceptor(flowController)); // 처리 지연 시 배치 축소 / 파티션 일시정지
+        }
+        interceptors.add(metricsInterceptor);
+        return new CompositeBatchInterceptor<>(interceptors.toArray(BatchInterceptor[]::new));
+    }
 }
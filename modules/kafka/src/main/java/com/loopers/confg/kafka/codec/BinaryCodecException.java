@@ -0,0 +1,12 @@
+package com.loopers.confg.kafka.codec;
+
+public class BinaryCodecException extends RuntimeException {
+
+    public BinaryCodecException(String message) {
+        super(message);
+    }
+
+    public BinaryCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
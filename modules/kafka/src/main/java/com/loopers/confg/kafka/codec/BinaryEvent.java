@@ -0,0 +1,25 @@
+package com.loopers.confg.kafka.codec;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 바이너리 코덱으로 직렬화할 이벤트 레코드에 붙인다.
+ * 와이어에는 필드명 대신 {@code typeId} 와 {@link BinaryField#id()} 만 기록된다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BinaryEvent {
+
+    /**
+     * 이벤트 타입 식별자. 한 번 정하면 바꾸지 않는다.
+     */
+    int typeId();
+
+    /**
+     * 스키마 버전. 필드를 추가 / 제거할 때마다 올린다.
+     */
+    int version() default 1;
+}
@@ -0,0 +1,61 @@
+package com.loopers.confg.kafka.codec;
+
+/**
+ * 스키마 버전이 있는 컴팩트 바이너리 이벤트 코덱.
+ * <pre>
+ * [magic(1)] [typeId(varint)] [version(varint)] ( [fieldId << 3 | wireType (varint)] [value] )*
+ * </pre>
+ * 필드명은 와이어에 쓰지 않고, null 필드는 생략한다. 읽는 쪽은 모르는 필드 번호를 건너뛰고 없는 필드는 기본값으로 채운다.
+ */
+public class BinaryEventCodec {
+    static final int MAGIC = 0xB1;
+
+    private final EventSchemaRegistry registry;
+
+    public BinaryEventCodec(EventSchemaRegistry registry) {
+        this.registry = registry;
+    }
+
+    public byte[] encode(Object event) {
+        EventSchema schema = registry.schemaOf(event.getClass());
+        BinaryWriter writer = new BinaryWriter(128);
+        writer.writeByte(MAGIC);
+        writer.writeVarLong(schema.typeId());
+        writer.writeVarLong(schema.version());
+        schema.layout().write(writer, event);
+        return writer.toByteArray();
+    }
+
+    /**
+     * 헤더의 타입 번호로 이 애플리케이션이 알고 있는 최신 버전의 클래스로 읽는다.
+     */
+    public Object decode(byte[] bytes) {
+        BinaryReader reader = new BinaryReader(bytes);
+        int typeId = readHeader(reader);
+        return registry.latestSchemaOf(typeId).layout().read(reader);
+    }
+
+    /**
+     * 지정한 클래스로 읽는다. 쓴 쪽과 버전이 달라도 타입 번호만 같으면 읽을 수 있다.
+     */
+    public <T> T decode(byte[] bytes, Class<T> type) {
+        EventSchema schema = registry.schemaOf(type);
+        BinaryReader reader = new BinaryReader(bytes);
+        int typeId = readHeader(reader);
+        if (typeId != schema.typeId()) {
+            throw new BinaryCodecException(
+                    "이벤트 타입이 일치하지 않습니다 : expected = " + schema.typeId() + ", actual = " + typeId
+            );
+        }
+        return type.cast(schema.layout().read(reader));
+    }
+
+    private int readHeader(BinaryReader reader) {
+        if (reader.readByte() != MAGIC) {
+            throw new BinaryCodecException("바이너리 이벤트 형식이 아닙니다.");
+        }
+        int typeId = (int) reader.readVarLong();
+        reader.readVarLong(); // version : 필드 번호 기반으로 읽으므로 호환성 검사는 등록 시점에 끝난다.
+        return typeId;
+    }
+}
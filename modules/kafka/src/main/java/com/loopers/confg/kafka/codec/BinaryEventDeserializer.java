@@ -0,0 +1,24 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class BinaryEventDeserializer implements Deserializer<Object> {
+    private final BinaryEventCodec codec;
+
+    public BinaryEventDeserializer(BinaryEventCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return codec.decode(data);
+        } catch (BinaryCodecException e) {
+            throw new SerializationException("[topic = " + topic + "] 바이너리 역직렬화에 실패했습니다.", e);
+        }
+    }
+}
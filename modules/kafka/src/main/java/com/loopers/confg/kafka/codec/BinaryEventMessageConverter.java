@@ -0,0 +1,50 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.ResolvableType;
+import org.springframework.kafka.support.KafkaNull;
+import org.springframework.kafka.support.converter.ConversionException;
+import org.springframework.kafka.support.converter.MessagingMessageConverter;
+import org.springframework.messaging.Message;
+
+import java.lang.reflect.Type;
+
+/**
+ * {@code ByteArrayJsonMessageConverter} 대신 쓸 수 있는 바이너리 이벤트 컨버터.
+ * 리스너 파라미터 타입이 레코드면 해당 클래스로, 아니면 헤더의 타입 번호로 읽는다.
+ * 읽지 못한 레코드는 기본 에러 핸들러가 재시도하지 않는 {@link ConversionException} 으로 알린다.
+ */
+public class BinaryEventMessageConverter extends MessagingMessageConverter {
+    private final BinaryEventCodec codec;
+
+    public BinaryEventMessageConverter(BinaryEventCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    protected Object extractAndConvertValue(ConsumerRecord<?, ?> record, Type type) {
+        Object value = record.value();
+        if (value == null) {
+            return KafkaNull.INSTANCE;
+        }
+        if (!(value instanceof byte[] bytes)) {
+            return value;
+        }
+        Class<?> targetType = type != null ? ResolvableType.forType(type).resolve() : null;
+        try {
+            if (targetType != null && targetType.isRecord()) {
+                return codec.decode(bytes, targetType);
+            }
+            return codec.decode(bytes);
+        } catch (BinaryCodecException e) {
+            throw new ConversionException("바이너리 이벤트를 읽을 수 없습니다 : " + record.topic() + "-" + record.partition()
+                    + "@" + record.offset(), record, e);
+        }
+    }
+
+    @Override
+    protected Object convertPayload(Message<?> message) {
+        Object payload = message.getPayload();
+        return payload instanceof byte[] ? payload : codec.encode(payload);
+    }
+}
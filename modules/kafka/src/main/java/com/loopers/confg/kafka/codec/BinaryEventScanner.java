@@ -0,0 +1,33 @@
+package com.loopers.confg.kafka.codec;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 클래스패스에서 {@link BinaryEvent} 가 붙은 레코드를 찾는다.
+ * 헤더의 타입 번호만으로 읽는 {@link BinaryEventDeserializer} 는 같은 프로세스에서 한 번도 쓰지 않은 타입도 알아야 하므로,
+ * 시작 시 모두 {@link EventSchemaRegistry} 에 등록한다.
+ */
+public final class BinaryEventScanner {
+
+    private BinaryEventScanner() {
+    }
+
+    public static List<Class<?>> scan(String... basePackages) {
+        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
+        provider.addIncludeFilter(new AnnotationTypeFilter(BinaryEvent.class));
+        ClassLoader classLoader = BinaryEventScanner.class.getClassLoader();
+        List<Class<?>> types = new ArrayList<>();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : provider.findCandidateComponents(basePackage)) {
+                types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+            }
+        }
+        return types;
+    }
+}
@@ -0,0 +1,27 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+public class BinaryEventSerializer implements Serializer<Object> {
+    private final BinaryEventCodec codec;
+
+    public BinaryEventSerializer(BinaryEventCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof byte[] bytes) {
+            return bytes;
+        }
+        try {
+            return codec.encode(data);
+        } catch (BinaryCodecException e) {
+            throw new SerializationException("[topic = " + topic + "] 바이너리 직렬화에 실패했습니다.", e);
+        }
+    }
+}
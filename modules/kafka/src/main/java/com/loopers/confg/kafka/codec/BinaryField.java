@@ -0,0 +1,16 @@
+package com.loopers.confg.kafka.codec;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 레코드 컴포넌트의 고정 필드 번호.
+ * 필드를 제거한 뒤 같은 번호를 다른 타입으로 재사용하면 {@link EventSchemaRegistry} 가 등록을 거부한다.
+ */
+@Target(ElementType.RECORD_COMPONENT)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BinaryField {
+    int id();
+}
@@ -0,0 +1,100 @@
+package com.loopers.confg.kafka.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link BinaryWriter} 로 기록한 바이트를 읽는다. 읽기 범위를 벗어나면 {@link BinaryCodecException} 을 던진다.
+ */
+final class BinaryReader {
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    BinaryReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    private BinaryReader(byte[] buffer, int offset, int limit) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = limit;
+    }
+
+    boolean hasRemaining() {
+        return position < limit;
+    }
+
+    int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new BinaryCodecException("varint 가 너무 깁니다.");
+    }
+
+    long readZigZag() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    long readFixed64() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value |= (long) (buffer[position++] & 0xFF) << (8 * i);
+        }
+        return value;
+    }
+
+    String readString() {
+        int length = readLength();
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    BinaryReader readNested() {
+        int length = readLength();
+        BinaryReader nested = new BinaryReader(buffer, position, position + length);
+        position += length;
+        return nested;
+    }
+
+    void skip(int wireType) {
+        switch (wireType) {
+            case FieldType.WIRE_VARINT -> readVarLong();
+            case FieldType.WIRE_FIXED64 -> {
+                require(8);
+                position += 8;
+            }
+            case FieldType.WIRE_LENGTH_DELIMITED -> {
+                int length = readLength();
+                position += length;
+            }
+            default -> throw new BinaryCodecException("알 수 없는 와이어 타입입니다 : " + wireType);
+        }
+    }
+
+    private int readLength() {
+        long length = readVarLong();
+        if (length < 0 || length > limit - position) {
+            throw new BinaryCodecException("길이가 남은 바이트 수를 넘습니다 : " + length);
+        }
+        return (int) length;
+    }
+
+    private void require(int bytes) {
+        if (position + bytes > limit) {
+            throw new BinaryCodecException("바이트가 부족합니다.");
+        }
+    }
+}
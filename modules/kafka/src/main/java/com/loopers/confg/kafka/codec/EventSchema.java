@@ -0,0 +1,14 @@
+package com.loopers.confg.kafka.codec;
+
+/**
+ * 레지스트리에 등록된 이벤트 타입의 스키마.
+ */
+public record EventSchema(
+        int typeId,
+        int version,
+        Class<?> type
+) {
+    RecordLayout layout() {
+        return RecordLayout.of(type);
+    }
+}
@@ -0,0 +1,135 @@
+package com.loopers.confg.kafka.codec;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 스키마 레지스트리를 대신하는 로컬 레지스트리.
+ * <p>
+ * 타입 번호별로 등록된 버전과, 지금까지 사용된 필드 번호 / 타입을 기억한다.
+ * 새 버전은 필드를 추가하거나 제거할 수 있지만, 이미 쓰인 필드 번호를 다른 타입으로 재사용할 수는 없다.
+ * (제거된 필드 번호는 예약된 것으로 취급한다) 중첩 레코드의 필드 번호도 같은 규칙을 따른다.
+ * 이 규칙을 지키면 어떤 버전으로 쓴 이벤트도 다른 버전으로 읽을 수 있다.
+ */
+public class EventSchemaRegistry {
+    private final Map<Class<?>, EventSchema> schemasByType = new ConcurrentHashMap<>();
+    private final Map<Integer, TreeMap<Integer, EventSchema>> versionsByTypeId = new ConcurrentHashMap<>();
+    // 타입 번호별 필드 경로 -> 시그니처. 중첩 레코드의 필드는 "6.1" 처럼 상위 필드 번호를 앞에 붙인다.
+    private final Map<Integer, Map<String, String>> fieldSignaturesByTypeId = new HashMap<>();
+
+    /**
+     * {@link BinaryEvent} 가 붙은 레코드 클래스를 등록한다. 이미 등록된 클래스면 기존 스키마를 돌려준다.
+     */
+    public EventSchema register(Class<?> type) {
+        EventSchema registered = schemasByType.get(type);
+        if (registered != null) {
+            return registered;
+        }
+        synchronized (this) {
+            registered = schemasByType.get(type);
+            if (registered != null) {
+                return registered;
+            }
+            BinaryEvent binaryEvent = annotationOf(type);
+            EventSchema schema = new EventSchema(binaryEvent.typeId(), binaryEvent.version(), type);
+            TreeMap<Integer, EventSchema> versions = versionsByTypeId.computeIfAbsent(schema.typeId(), id -> new TreeMap<>());
+            EventSchema sameVersion = versions.get(schema.version());
+            if (sameVersion != null) {
+                throw new BinaryCodecException(
+                        "typeId = " + schema.typeId() + ", version = " + schema.version() + " 은 이미 "
+                                + sameVersion.type().getName() + " 로 등록되어 있습니다."
+                );
+            }
+            checkCompatibility(schema);
+            versions.put(schema.version(), schema);
+            schemasByType.put(type, schema);
+            return schema;
+        }
+    }
+
+    /**
+     * 여러 클래스를 타입 번호 / 버전 순서로 등록한다. (애플리케이션 시작 시 {@link BinaryEventScanner} 결과 등록)
+     */
+    public void registerAll(Collection<Class<?>> types) {
+        types.stream()
+                .sorted(Comparator.<Class<?>>comparingInt(type -> annotationOf(type).typeId())
+                        .thenComparingInt(type -> annotationOf(type).version()))
+                .forEach(this::register);
+    }
+
+    /**
+     * 클래스의 스키마를 찾는다. 등록되지 않았다면 등록한다.
+     */
+    public EventSchema schemaOf(Class<?> type) {
+        return register(type);
+    }
+
+    /**
+     * 타입 번호로 이 애플리케이션이 알고 있는 최신 버전의 스키마를 찾는다.
+     */
+    public EventSchema latestSchemaOf(int typeId) {
+        TreeMap<Integer, EventSchema> versions = versionsByTypeId.get(typeId);
+        if (versions == null || versions.isEmpty()) {
+            throw new BinaryCodecException("등록되지 않은 이벤트 타입입니다 : typeId = " + typeId);
+        }
+        synchronized (this) {
+            return versions.lastEntry().getValue();
+        }
+    }
+
+    private void checkCompatibility(EventSchema schema) {
+        Map<String, String> signatures = fieldSignaturesByTypeId.computeIfAbsent(schema.typeId(), id -> new HashMap<>());
+        Map<String, String> added = new HashMap<>();
+        collectSignatures(schema.type().getName(), "", schema.layout(), signatures, added);
+        signatures.putAll(added);
+    }
+
+    /**
+     * 중첩 레코드의 필드까지 내려가며 같은 경로의 필드 번호가 다른 타입으로 쓰였는지 확인한다.
+     */
+    private void collectSignatures(
+            String owner,
+            String pathPrefix,
+            RecordLayout layout,
+            Map<String, String> signatures,
+            Map<String, String> added
+    ) {
+        for (RecordLayout.Field field : layout.fields()) {
+            String path = pathPrefix + field.id();
+            String signature = signatureOf(field);
+            String previous = signatures.get(path);
+            if (previous != null && !previous.equals(signature)) {
+                throw new BinaryCodecException(
+                        owner + "." + field.name() + " : 필드 번호 " + path
+                                + " 는 이미 " + previous + " 타입으로 사용되었습니다."
+                );
+            }
+            added.put(path, signature);
+            if (field.type() == FieldType.RECORD) {
+                collectSignatures(owner + "." + field.name(), path + ".", field.nested(), signatures, added);
+            }
+        }
+    }
+
+    /**
+     * 중첩 레코드는 필드 단위로 따로 확인하므로 클래스 이름을 시그니처에 넣지 않는다.
+     */
+    private String signatureOf(RecordLayout.Field field) {
+        String signature = field.type() == FieldType.ENUM
+                ? field.type() + "(" + field.javaType().getSimpleName() + ")"
+                : field.type().name();
+        return field.repeated() ? "LIST<" + signature + ">" : signature;
+    }
+
+    private static BinaryEvent annotationOf(Class<?> type) {
+        BinaryEvent binaryEvent = type.getAnnotation(BinaryEvent.class);
+        if (binaryEvent == null) {
+            throw new BinaryCodecException(type.getName() + " 에 @BinaryEvent 가 없습니다.");
+        }
+        return binaryEvent;
+    }
+}
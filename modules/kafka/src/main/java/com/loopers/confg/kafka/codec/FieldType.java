@@ -0,0 +1,44 @@
+package com.loopers.confg.kafka.codec;
+
+import java.time.Instant;
+
+/**
+ * 지원하는 필드 타입과 와이어 타입.
+ * 정수 계열은 zigzag varint, 실수는 fixed64, 문자열 / enum / 중첩 레코드는 길이 접두(length-delimited)로 기록한다.
+ */
+enum FieldType {
+    LONG(FieldType.WIRE_VARINT),
+    INT(FieldType.WIRE_VARINT),
+    BOOLEAN(FieldType.WIRE_VARINT),
+    INSTANT(FieldType.WIRE_VARINT), // epoch millis
+    DOUBLE(FieldType.WIRE_FIXED64),
+    STRING(FieldType.WIRE_LENGTH_DELIMITED),
+    ENUM(FieldType.WIRE_LENGTH_DELIMITED), // enum name
+    RECORD(FieldType.WIRE_LENGTH_DELIMITED);
+
+    static final int WIRE_VARINT = 0;
+    static final int WIRE_FIXED64 = 1;
+    static final int WIRE_LENGTH_DELIMITED = 2;
+
+    private final int wireType;
+
+    FieldType(int wireType) {
+        this.wireType = wireType;
+    }
+
+    int wireType() {
+        return wireType;
+    }
+
+    static FieldType of(Class<?> javaType) {
+        if (javaType == long.class || javaType == Long.class) return LONG;
+        if (javaType == int.class || javaType == Integer.class) return INT;
+        if (javaType == boolean.class || javaType == Boolean.class) return BOOLEAN;
+        if (javaType == double.class || javaType == Double.class) return DOUBLE;
+        if (javaType == String.class) return STRING;
+        if (javaType == Instant.class) return INSTANT;
+        if (javaType.isEnum()) return ENUM;
+        if (javaType.isRecord()) return RECORD;
+        throw new BinaryCodecException("지원하지 않는 필드 타입입니다 : " + javaType.getName());
+    }
+}
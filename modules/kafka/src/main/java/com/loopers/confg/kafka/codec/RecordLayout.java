@@ -0,0 +1,255 @@
+package com.loopers.confg.kafka.codec;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레코드 클래스 하나의 필드 번호 / 타입 / 접근자를 미리 계산해 둔 것.
+ * 접근자와 생성자는 {@link MethodHandle} 로 캐시하여 직렬화 시 리플렉션 비용을 줄인다.
+ */
+final class RecordLayout {
+    private static final Map<Class<?>, RecordLayout> CACHE = new ConcurrentHashMap<>();
+
+    private final Class<?> type;
+    private final Field[] fields;
+    private final Field[] fieldsById;
+    private final MethodHandle constructor;
+
+    private RecordLayout(Class<?> type, Field[] fields, MethodHandle constructor) {
+        this.type = type;
+        this.fields = fields;
+        this.constructor = constructor;
+        int maxId = Arrays.stream(fields).mapToInt(Field::id).max().orElse(0);
+        this.fieldsById = new Field[maxId + 1];
+        for (Field field : fields) {
+            if (fieldsById[field.id()] != null) {
+                throw new BinaryCodecException(type.getName() + " 에 중복된 필드 번호가 있습니다 : " + field.id());
+            }
+            fieldsById[field.id()] = field;
+        }
+    }
+
+    static RecordLayout of(Class<?> type) {
+        RecordLayout layout = CACHE.get(type);
+        if (layout == null) {
+            layout = create(type);
+            CACHE.putIfAbsent(type, layout);
+        }
+        return layout;
+    }
+
+    Class<?> type() {
+        return type;
+    }
+
+    List<Field> fields() {
+        return List.of(fields);
+    }
+
+    void write(BinaryWriter writer, Object record) {
+        for (Field field : fields) {
+            Object value = field.get(record);
+            if (value == null) {
+                continue;
+            }
+            if (field.repeated()) {
+                for (Object element : (List<?>) value) {
+                    writeValue(writer, field, element);
+                }
+            } else {
+                writeValue(writer, field, value);
+            }
+        }
+    }
+
+    Object read(BinaryReader reader) {
+        Object[] args = new Object[fields.length];
+        while (reader.hasRemaining()) {
+            long tag = reader.readVarLong();
+            int fieldId = (int) (tag >>> 3);
+            int wireType = (int) (tag & 0x7);
+            Field field = fieldId < fieldsById.length ? fieldsById[fieldId] : null;
+            if (field == null || field.type().wireType() != wireType) {
+                reader.skip(wireType); // 다른 버전에서 추가 / 변경된 필드는 건너뛴다.
+                continue;
+            }
+            Object value = readValue(reader, field);
+            if (value == null) {
+                continue; // 새 버전에서 추가된 enum 상수는 모르는 필드처럼 건너뛴다.
+            }
+            if (field.repeated()) {
+                @SuppressWarnings("unchecked")
+                List<Object> elements = (List<Object>) args[field.index()];
+                if (elements == null) {
+                    elements = new ArrayList<>();
+                    args[field.index()] = elements;
+                }
+                elements.add(value);
+            } else {
+                args[field.index()] = value;
+            }
+        }
+        for (Field field : fields) {
+            Object value = args[field.index()];
+            if (field.repeated()) {
+                args[field.index()] = value == null ? List.of() : Collections.unmodifiableList((List<?>) value);
+            } else if (value == null) {
+                args[field.index()] = defaultValue(field.javaType());
+            }
+        }
+        try {
+            return constructor.invokeExact(args);
+        } catch (Throwable e) {
+            throw new BinaryCodecException(type.getName() + " 생성에 실패했습니다.", e);
+        }
+    }
+
+    private void writeValue(BinaryWriter writer, Field field, Object value) {
+        if (value == null) {
+            return;
+        }
+        writer.writeVarLong(((long) field.id() << 3) | field.type().wireType());
+        switch (field.type()) {
+            case LONG, INT -> writer.writeZigZag(((Number) value).longValue());
+            case BOOLEAN -> writer.writeVarLong((Boolean) value ? 1 : 0);
+            case INSTANT -> writer.writeZigZag(((Instant) value).toEpochMilli());
+            case DOUBLE -> writer.writeFixed64(Double.doubleToRawLongBits((Double) value));
+            case STRING -> writeString(writer, (String) value);
+            case ENUM -> writeString(writer, ((Enum<?>) value).name());
+            case RECORD -> {
+                BinaryWriter nested = new BinaryWriter(64);
+                field.nested().write(nested, value);
+                writer.writeLengthDelimited(nested);
+            }
+        }
+    }
+
+    private Object readValue(BinaryReader reader, Field field) {
+        return switch (field.type()) {
+            case LONG -> reader.readZigZag();
+            case INT -> (int) reader.readZigZag();
+            case BOOLEAN -> reader.readVarLong() != 0;
+            case INSTANT -> Instant.ofEpochMilli(reader.readZigZag());
+            case DOUBLE -> Double.longBitsToDouble(reader.readFixed64());
+            case STRING -> reader.readString();
+            case ENUM -> enumValue(field.javaType(), reader.readString());
+            case RECORD -> field.nested().read(reader.readNested());
+        };
+    }
+
+    /**
+     * 이 버전에 없는 상수면 null (읽은 뒤 기본값 처리)
+     */
+    private static Object enumValue(Class<?> enumType, String name) {
+        for (Object constant : enumType.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return constant;
+            }
+        }
+        return null;
+    }
+
+    private static void writeString(BinaryWriter writer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writer.writeVarLong(bytes.length);
+        writer.writeBytes(bytes, 0, bytes.length);
+    }
+
+    private static Object defaultValue(Class<?> javaType) {
+        if (javaType == long.class) return 0L;
+        if (javaType == int.class) return 0;
+        if (javaType == boolean.class) return false;
+        if (javaType == double.class) return 0.0;
+        return null;
+    }
+
+    private static RecordLayout create(Class<?> type) {
+        if (!type.isRecord()) {
+            throw new BinaryCodecException("레코드 클래스만 직렬화할 수 있습니다 : " + type.getName());
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            RecordComponent[] components = type.getRecordComponents();
+            Field[] fields = new Field[components.length];
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                RecordComponent component = components[i];
+                parameterTypes[i] = component.getType();
+                fields[i] = createField(lookup, type, component, i);
+            }
+            Constructor<?> canonical = type.getDeclaredConstructor(parameterTypes);
+            canonical.setAccessible(true);
+            MethodHandle constructor = lookup.unreflectConstructor(canonical)
+                    .asSpreader(Object[].class, components.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return new RecordLayout(type, fields, constructor);
+        } catch (ReflectiveOperationException e) {
+            throw new BinaryCodecException(type.getName() + " 의 레이아웃을 만들 수 없습니다.", e);
+        }
+    }
+
+    private static Field createField(
+            MethodHandles.Lookup lookup,
+            Class<?> owner,
+            RecordComponent component,
+            int index
+    ) throws IllegalAccessException {
+        BinaryField binaryField = component.getAnnotation(BinaryField.class);
+        if (binaryField == null || binaryField.id() <= 0) {
+            throw new BinaryCodecException(
+                    owner.getName() + "." + component.getName() + " 에 @BinaryField(id > 0) 가 필요합니다."
+            );
+        }
+
+        boolean repeated = List.class.isAssignableFrom(component.getType());
+        Class<?> javaType = repeated ? elementType(owner, component) : component.getType();
+        FieldType fieldType = FieldType.of(javaType);
+        RecordLayout nested = fieldType == FieldType.RECORD ? of(javaType) : null;
+
+        component.getAccessor().setAccessible(true);
+        MethodHandle accessor = lookup.unreflect(component.getAccessor())
+                .asType(MethodType.methodType(Object.class, Object.class));
+        return new Field(binaryField.id(), index, component.getName(), fieldType, javaType, repeated, nested, accessor);
+    }
+
+    private static Class<?> elementType(Class<?> owner, RecordComponent component) {
+        Type genericType = component.getGenericType();
+        if (genericType instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments()[0] instanceof Class<?> element) {
+            return element;
+        }
+        throw new BinaryCodecException(owner.getName() + "." + component.getName() + " 의 List 원소 타입을 알 수 없습니다.");
+    }
+
+    record Field(
+            int id,
+            int index,
+            String name,
+            FieldType type,
+            Class<?> javaType,
+            boolean repeated,
+            RecordLayout nested,
+            MethodHandle accessor
+    ) {
+        Object get(Object record) {
+            try {
+                return accessor.invokeExact(record);
+            } catch (Throwable e) {
+                throw new BinaryCodecException(name + " 값을 읽을 수 없습니다.", e);
+            }
+        }
+    }
+}
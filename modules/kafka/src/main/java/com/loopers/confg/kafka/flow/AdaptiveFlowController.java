@@ -0,0 +1,173 @@
+package com.loopers.confg.kafka.flow;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 배치 처리 시간과 다운스트림 포화도를 보고 컨슈머의 처리량을 조절한다.
+ * <ul>
+ *     <li>목표 시간을 넘긴 배치 : 유효 배치 크기를 절반으로 줄인다. (multiplicative decrease)</li>
+ *     <li>한계 시간을 넘기거나 다운스트림이 포화된 배치 : 유효 배치 크기를 최소로 줄이고 해당 파티션을 일시정지한다.</li>
+ *     <li>정상 배치 : 유효 배치 크기를 조금씩 늘린다. (additive increase)</li>
+ * </ul>
+ * 일시정지된 파티션은 최소 유지 시간이 지나고 다운스트림 포화도가 회복되면 재개된다.
+ * 같은 토픽을 여러 그룹이 구독할 수 있으므로 일시정지 상태는 (그룹, 파티션) 단위로 관리한다.
+ */
+@Slf4j
+public class AdaptiveFlowController implements InitializingBean, DisposableBean {
+    private static final long RESUME_CHECK_INTERVAL_MS = 1000;
+
+    private final KafkaFlowControlProperties properties;
+    private final int maxBatchSize;
+    private final ObjectProvider<SaturationProbe> saturationProbes;
+    private final ObjectProvider<KafkaListenerEndpointRegistry> endpointRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger effectiveBatchSize;
+    // (그룹, 파티션) -> 재개 가능 시각 (nanoTime)
+    private final Map<PausedPartition, Long> pausedPartitions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "kafka-flow-control");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AdaptiveFlowController(
+            KafkaFlowControlProperties properties,
+            int maxBatchSize,
+            ObjectProvider<SaturationProbe> saturationProbes,
+            ObjectProvider<KafkaListenerEndpointRegistry> endpointRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.maxBatchSize = maxBatchSize;
+        this.saturationProbes = saturationProbes;
+        this.endpointRegistry = endpointRegistry;
+        this.meterRegistry = meterRegistry;
+        this.effectiveBatchSize = new AtomicInteger(maxBatchSize);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Gauge.builder("kafka.consumer.flow.effective.batch.size", effectiveBatchSize, AtomicInteger::get)
+                .description("흐름 제어가 허용하는 배치당 최대 레코드 수")
+                .register(meterRegistry);
+        Gauge.builder("kafka.consumer.flow.paused.partitions", pausedPartitions, Map::size)
+                .description("흐름 제어로 일시정지된 파티션 수")
+                .register(meterRegistry);
+        Gauge.builder("kafka.consumer.flow.saturation", this, AdaptiveFlowController::currentSaturation)
+                .description("다운스트림 포화도 (0.0 ~ 1.0)")
+                .register(meterRegistry);
+
+        scheduler.scheduleWithFixedDelay(
+                this::resumeRecoveredPartitions,
+                RESUME_CHECK_INTERVAL_MS, RESUME_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    public int effectiveBatchSize() {
+        return effectiveBatchSize.get();
+    }
+
+    /**
+     * 배치 처리가 끝날 때마다 호출된다. (컨슈머 스레드)
+     */
+    public void onBatchCompleted(String groupId, Collection<TopicPartition> partitions, long elapsedNanos) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        double saturation = currentSaturation();
+
+        if (elapsedMs >= properties.pauseBatchLatency().toMillis() || saturation >= properties.pauseSaturation()) {
+            effectiveBatchSize.set(properties.minBatchSize());
+            pause(groupId, partitions, elapsedMs, saturation);
+        } else if (elapsedMs > properties.targetBatchLatency().toMillis()) {
+            effectiveBatchSize.updateAndGet(size -> Math.max(properties.minBatchSize(), size / 2));
+        } else if (saturation < properties.resumeSaturation()) {
+            effectiveBatchSize.updateAndGet(size -> Math.min(maxBatchSize, size + properties.batchSizeStep()));
+        }
+    }
+
+    /**
+     * 배치 처리가 실패하면 다운스트림 장애일 가능성이 높으므로 배치 크기를 줄인다.
+     */
+    public void onBatchFailed() {
+        effectiveBatchSize.updateAndGet(size -> Math.max(properties.minBatchSize(), size / 2));
+    }
+
+    double currentSaturation() {
+        double saturation = 0.0;
+        for (SaturationProbe probe : saturationProbes) {
+            saturation = Math.max(saturation, probe.saturation());
+        }
+        return Math.min(1.0, saturation);
+    }
+
+    private void pause(String groupId, Collection<TopicPartition> partitions, long elapsedMs, double saturation) {
+        KafkaListenerEndpointRegistry registry = endpointRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        long resumeAt = System.nanoTime() + properties.pauseDuration().toNanos();
+        for (MessageListenerContainer container : containersOf(registry, groupId)) {
+            for (TopicPartition partition : partitions) {
+                container.pausePartition(partition);
+                pausedPartitions.put(new PausedPartition(groupId, partition), resumeAt);
+            }
+        }
+        log.warn("컨슈머 파티션 일시정지 : group = {}, partitions = {}, batchLatency = {}ms, saturation = {}",
+                groupId, partitions, elapsedMs, saturation);
+    }
+
+    void resumeRecoveredPartitions() {
+        try {
+            if (pausedPartitions.isEmpty() || currentSaturation() >= properties.resumeSaturation()) {
+                return;
+            }
+            KafkaListenerEndpointRegistry registry = endpointRegistry.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            long now = System.nanoTime();
+            pausedPartitions.forEach((paused, resumeAt) -> {
+                if (now - resumeAt < 0) {
+                    return;
+                }
+                for (MessageListenerContainer container : containersOf(registry, paused.groupId())) {
+                    container.resumePartition(paused.partition());
+                }
+                pausedPartitions.remove(paused, resumeAt);
+                log.info("컨슈머 파티션 재개 : group = {}, partition = {}", paused.groupId(), paused.partition());
+            });
+        } catch (Exception e) {
+            log.error("컨슈머 파티션 재개 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private List<MessageListenerContainer> containersOf(KafkaListenerEndpointRegistry registry, String groupId) {
+        return registry.getListenerContainers().stream()
+                .filter(container -> groupId.equals(container.getGroupId()))
+                .toList();
+    }
+
+    private record PausedPartition(String groupId, TopicPartition partition) { }
+}
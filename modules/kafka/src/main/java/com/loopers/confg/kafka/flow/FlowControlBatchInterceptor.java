@@ -0,0 +1,76 @@
+package com.loopers.confg.kafka.flow;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 리스너 앞뒤에서 처리 시간을 측정하고, 유효 배치 크기를 넘는 레코드는 잘라낸다.
+ * 잘라낸 레코드는 해당 오프셋으로 seek 하여 다음 poll 에서 다시 받는다. (수동 커밋이므로 유실되지 않는다)
+ */
+public class FlowControlBatchInterceptor implements BatchInterceptor<Object, Object> {
+    private static final ThreadLocal<Long> BATCH_STARTED_AT = new ThreadLocal<>();
+
+    private final AdaptiveFlowController flowController;
+
+    public FlowControlBatchInterceptor(AdaptiveFlowController flowController) {
+        this.flowController = flowController;
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        BATCH_STARTED_AT.set(System.nanoTime());
+        int limit = flowController.effectiveBatchSize();
+        if (records.count() <= limit) {
+            return records;
+        }
+        return truncate(records, limit, consumer);
+    }
+
+    @Override
+    public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        Long startedAt = BATCH_STARTED_AT.get();
+        BATCH_STARTED_AT.remove();
+        if (startedAt == null) {
+            return;
+        }
+        flowController.onBatchCompleted(
+                consumer.groupMetadata().groupId(),
+                records.partitions(),
+                System.nanoTime() - startedAt
+        );
+    }
+
+    @Override
+    public void failure(ConsumerRecords<Object, Object> records, Exception exception, Consumer<Object, Object> consumer) {
+        BATCH_STARTED_AT.remove();
+        flowController.onBatchFailed();
+    }
+
+    /**
+     * 파티션마다 균등하게 잘라 특정 파티션만 계속 밀리지 않도록 한다.
+     */
+    private ConsumerRecords<Object, Object> truncate(
+            ConsumerRecords<Object, Object> records,
+            int limit,
+            Consumer<Object, Object> consumer
+    ) {
+        int quota = Math.max(1, limit / records.partitions().size());
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> kept = new HashMap<>();
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<Object, Object>> partitionRecords = records.records(partition);
+            int take = Math.min(quota, partitionRecords.size());
+            kept.put(partition, partitionRecords.subList(0, take));
+            if (take < partitionRecords.size()) {
+                consumer.seek(partition, partitionRecords.get(take).offset());
+            }
+        }
+        return new ConsumerRecords<>(kept);
+    }
+}
@@ -0,0 +1,29 @@
+package com.loopers.confg.kafka.flow;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 컨슈머 흐름 제어(backpressure) 설정.
+ *
+ * @param enabled            흐름 제어 사용 여부
+ * @param targetBatchLatency 배치 처리 목표 시간. 넘기면 유효 배치 크기를 절반으로 줄인다.
+ * @param pauseBatchLatency  배치 처리 한계 시간. 넘기면 해당 파티션을 일시정지한다. (MAX_POLL_INTERVAL_MS 보다 충분히 작게)
+ * @param pauseSaturation    다운스트림 포화도(0.0 ~ 1.0)가 이 값 이상이면 파티션을 일시정지한다.
+ * @param resumeSaturation   다운스트림 포화도가 이 값 미만으로 내려와야 재개 / 배치 크기 증가를 허용한다.
+ * @param pauseDuration      파티션 일시정지 최소 유지 시간
+ * @param minBatchSize       유효 배치 크기 하한
+ * @param batchSizeStep      정상 배치마다 늘려갈 유효 배치 크기 (additive increase)
+ */
+@ConfigurationProperties(value = "kafka.flow-control")
+public record KafkaFlowControlProperties(
+        boolean enabled,
+        Duration targetBatchLatency,
+        Duration pauseBatchLatency,
+        double pauseSaturation,
+        double resumeSaturation,
+        Duration pauseDuration,
+        int minBatchSize,
+        int batchSizeStep
+) { }
@@ -0,0 +1,14 @@
+package com.loopers.confg.kafka.flow;
+
+/**
+ * 컨슈머가 의존하는 다운스트림 자원(DB 커넥션 풀 등)의 포화도를 알려준다.
+ * 애플리케이션에서 빈으로 등록하면 {@link AdaptiveFlowController} 가 자동으로 수집한다.
+ */
+@FunctionalInterface
+public interface SaturationProbe {
+
+    /**
+     * @return 0.0(여유) ~ 1.0(포화) 사이의 값
+     */
+    double saturation();
+}
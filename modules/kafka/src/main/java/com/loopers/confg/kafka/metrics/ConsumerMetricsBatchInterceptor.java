@@ -0,0 +1,199 @@
+package com.loopers.confg.kafka.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 배치 리스너의 처리 지표를 수집한다.
+ * <ul>
+ *     <li>kafka.consumer.batch.size : 배치당 레코드 수</li>
+ *     <li>kafka.consumer.batch.duration / kafka.consumer.record.duration : 배치 / 레코드당 처리 시간</li>
+ *     <li>kafka.consumer.e2e.latency : 레코드 timestamp 부터 처리 시작까지의 지연</li>
+ *     <li>kafka.consumer.committed.lag : 파티션별 (end offset - committed offset)</li>
+ * </ul>
+ * 커밋 지연은 컨슈머 팩토리에 등록된 클라이언트 지표(kafka.consumer.coordinator.commit.latency.*)로 확인한다.
+ * <p>
+ * 미터는 그룹 / 토픽별로 한 번만 만들어 재사용한다. 리밸런스 리스너로도 등록해야 하며,
+ * 회수되거나 잃은 파티션의 lag 게이지는 제거해 더 이상 갱신되지 않는 값이 남지 않게 한다.
+ */
+@Slf4j
+public class ConsumerMetricsBatchInterceptor implements BatchInterceptor<Object, Object>, ConsumerAwareRebalanceListener {
+    private static final Duration LAG_REFRESH_INTERVAL = Duration.ofSeconds(10);
+    private static final Duration LAG_QUERY_TIMEOUT = Duration.ofSeconds(2);
+    private static final ThreadLocal<Long> BATCH_STARTED_AT = new ThreadLocal<>();
+    private static final ThreadLocal<Long> LAG_REFRESHED_AT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TopicKey, Timer> e2eLatencyTimers = new ConcurrentHashMap<>();
+    private final Map<BatchKey, BatchMeters> batchMeters = new ConcurrentHashMap<>();
+    private final Map<LagKey, Lag> lags = new ConcurrentHashMap<>();
+
+    public ConsumerMetricsBatchInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        long now = System.currentTimeMillis();
+        String groupId = consumer.groupMetadata().groupId();
+        for (ConsumerRecord<Object, Object> record : records) {
+            if (record.timestamp() > 0) {
+                e2eLatencyTimer(groupId, record.topic())
+                        .record(Math.max(0, now - record.timestamp()), TimeUnit.MILLISECONDS);
+            }
+        }
+        BATCH_STARTED_AT.set(System.nanoTime());
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        recordBatch(records, consumer, "success");
+    }
+
+    @Override
+    public void failure(ConsumerRecords<Object, Object> records, Exception exception, Consumer<Object, Object> consumer) {
+        recordBatch(records, consumer, "failure");
+    }
+
+    private void recordBatch(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer, String result) {
+        Long startedAt = BATCH_STARTED_AT.get();
+        BATCH_STARTED_AT.remove();
+        if (startedAt == null || records.isEmpty()) {
+            return;
+        }
+        String groupId = consumer.groupMetadata().groupId();
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        BatchMeters meters = batchMetersOf(groupId, result);
+        meters.size().record(records.count());
+        meters.batchDuration().record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meters.recordDuration().record(elapsedNanos / records.count(), TimeUnit.NANOSECONDS);
+
+        refreshLagIfDue(groupId, records.partitions(), consumer);
+    }
+
+    /**
+     * committed / endOffsets 는 브로커 요청이므로 컨슈머 스레드마다 일정 주기로만 조회한다.
+     */
+    private void refreshLagIfDue(String groupId, Set<TopicPartition> partitions, Consumer<Object, Object> consumer) {
+        long now = System.nanoTime();
+        Long refreshedAt = LAG_REFRESHED_AT.get();
+        if (refreshedAt != null && now - refreshedAt < LAG_REFRESH_INTERVAL.toNanos()) {
+            return;
+        }
+        LAG_REFRESHED_AT.set(now);
+        try {
+            Set<TopicPartition> assignment = consumer.assignment().isEmpty() ? partitions : consumer.assignment();
+            Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(assignment, LAG_QUERY_TIMEOUT);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(assignment, LAG_QUERY_TIMEOUT);
+            endOffsets.forEach((partition, endOffset) -> {
+                OffsetAndMetadata offset = committed.get(partition);
+                long lag = offset == null ? endOffset : Math.max(0, endOffset - offset.offset());
+                lagOf(groupId, partition).value().set(lag);
+            });
+        } catch (Exception e) {
+            log.warn("컨슈머 lag 조회에 실패했습니다 : group = {}", groupId, e);
+        }
+    }
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        removeLags(consumer.groupMetadata().groupId(), partitions);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        removeLags(consumer.groupMetadata().groupId(), partitions);
+    }
+
+    /**
+     * 새로 할당된 파티션의 lag 이 다음 배치에서 바로 보이도록 주기를 초기화한다. (리밸런스 콜백은 컨슈머 스레드에서 실행된다)
+     */
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        LAG_REFRESHED_AT.remove();
+    }
+
+    private void removeLags(String groupId, Collection<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            Lag lag = lags.remove(new LagKey(groupId, partition));
+            if (lag != null) {
+                meterRegistry.remove(lag.gauge());
+            }
+        }
+    }
+
+    private Timer e2eLatencyTimer(String groupId, String topic) {
+        return e2eLatencyTimers.computeIfAbsent(new TopicKey(groupId, topic), key ->
+                Timer.builder("kafka.consumer.e2e.latency")
+                        .description("레코드 timestamp 부터 처리 시작까지의 지연")
+                        .tags("group", groupId, "topic", topic)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+        );
+    }
+
+    private BatchMeters batchMetersOf(String groupId, String result) {
+        return batchMeters.computeIfAbsent(new BatchKey(groupId, result), key -> new BatchMeters(
+                DistributionSummary.builder("kafka.consumer.batch.size")
+                        .description("배치당 레코드 수")
+                        .tag("group", groupId)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Timer.builder("kafka.consumer.batch.duration")
+                        .description("배치 처리 시간")
+                        .tags("group", groupId, "result", result)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Timer.builder("kafka.consumer.record.duration")
+                        .description("레코드당 평균 처리 시간 (배치 처리 시간 / 레코드 수)")
+                        .tags("group", groupId, "result", result)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+        ));
+    }
+
+    private Lag lagOf(String groupId, TopicPartition partition) {
+        return lags.computeIfAbsent(new LagKey(groupId, partition), key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge gauge = Gauge.builder("kafka.consumer.committed.lag", value, AtomicLong::get)
+                    .description("파티션별 end offset - committed offset")
+                    .tags(
+                            "group", groupId,
+                            "topic", partition.topic(),
+                            "partition", String.valueOf(partition.partition())
+                    )
+                    .register(meterRegistry);
+            return new Lag(value, gauge);
+        });
+    }
+
+    private record TopicKey(String groupId, String topic) { }
+
+    private record BatchKey(String groupId, String result) { }
+
+    private record BatchMeters(DistributionSummary size, Timer batchDuration, Timer recordDuration) { }
+
+    private record LagKey(String groupId, TopicPartition partition) { }
+
+    private record Lag(AtomicLong value, Gauge gauge) { }
+}
@@ -0,0 +1,366 @@
+package com.loopers.confg.kafka.codec;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.kafka.support.converter.ConversionException;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class BinaryEventCodecTest {
+
+    enum Status { PAID, CANCELLED }
+
+    record Item(
+            @BinaryField(id = 1) Long productId,
+            @BinaryField(id = 2) int quantity
+    ) { }
+
+    @BinaryEvent(typeId = 1)
+    record AllTypes(
+            @BinaryField(id = 1) long primitiveLong,
+            @BinaryField(id = 2) Long boxedLong,
+            @BinaryField(id = 3) int primitiveInt,
+            @BinaryField(id = 4) Integer boxedInt,
+            @BinaryField(id = 5) boolean primitiveBoolean,
+            @BinaryField(id = 6) Boolean boxedBoolean,
+            @BinaryField(id = 7) double primitiveDouble,
+            @BinaryField(id = 8) Double boxedDouble,
+            @BinaryField(id = 9) String text,
+            @BinaryField(id = 10) Instant at,
+            @BinaryField(id = 11) Status status,
+            @BinaryField(id = 12) Item item,
+            @BinaryField(id = 13) List<Item> items,
+            @BinaryField(id = 14) List<Long> ids
+    ) { }
+
+    @BinaryEvent(typeId = 2)
+    record Amount(@BinaryField(id = 1) long value) { }
+
+    @BinaryEvent(typeId = 3)
+    record OrderV1(
+            @BinaryField(id = 1) Long orderId,
+            @BinaryField(id = 2) long amount,
+            @BinaryField(id = 3) String memo
+    ) { }
+
+    // memo(3) 제거, couponId(4) 추가
+    @BinaryEvent(typeId = 3, version = 2)
+    record OrderV2(
+            @BinaryField(id = 1) Long orderId,
+            @BinaryField(id = 2) long amount,
+            @BinaryField(id = 4) Long couponId
+    ) { }
+
+    // REFUNDED 추가
+    enum StatusV2 { PAID, CANCELLED, REFUNDED }
+
+    @BinaryEvent(typeId = 4)
+    record PaymentV1(
+            @BinaryField(id = 1) Long orderId,
+            @BinaryField(id = 2) Status status,
+            @BinaryField(id = 3) List<Status> history
+    ) { }
+
+    @BinaryEvent(typeId = 4, version = 2)
+    record PaymentV2(
+            @BinaryField(id = 1) Long orderId,
+            @BinaryField(id = 2) StatusV2 status,
+            @BinaryField(id = 3) List<StatusV2> history
+    ) { }
+
+    private BinaryEventCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new BinaryEventCodec(new EventSchemaRegistry());
+    }
+
+    @DisplayName("왕복")
+    @Nested
+    class RoundTrip {
+
+        @DisplayName("모든 필드 타입이 같은 값으로 읽힌다.")
+        @Test
+        void preservesAllFieldTypes() {
+            // arrange
+            AllTypes event = new AllTypes(
+                    7L, 8L, 9, 10, true, false, 1.5, -2.25, "주문 완료 ✓", Instant.parse("2025-01-01T00:00:00.123Z"),
+                    Status.CANCELLED, new Item(1L, 2), List.of(new Item(3L, 4), new Item(5L, 6)), List.of(1L, -1L)
+            );
+
+            // act
+            AllTypes decoded = codec.decode(codec.encode(event), AllTypes.class);
+
+            // assert
+            assertThat(decoded).isEqualTo(event);
+        }
+
+        @DisplayName("음수와 경계값의 정수가 그대로 읽힌다.")
+        @ParameterizedTest
+        @ValueSource(longs = {Long.MIN_VALUE, Long.MIN_VALUE + 1, Integer.MIN_VALUE - 1L, -1L, 0L, 1L, Integer.MAX_VALUE + 1L, Long.MAX_VALUE})
+        void preservesExtremeLongs(long value) {
+            // act
+            Amount decoded = codec.decode(codec.encode(new Amount(value)), Amount.class);
+
+            // assert
+            assertThat(decoded.value()).isEqualTo(value);
+        }
+
+        @DisplayName("작은 음수는 zigzag 로 1 바이트에 기록된다.")
+        @Test
+        void encodesSmallNegativeCompactly() {
+            // act
+            byte[] minusOne = codec.encode(new Amount(-1L));
+            byte[] zero = codec.encode(new Amount(0L));
+
+            // assert
+            assertThat(minusOne).hasSameSizeAs(zero);
+        }
+
+        @DisplayName("int, double, Instant 의 경계값이 그대로 읽힌다.")
+        @Test
+        void preservesExtremeIntsDoublesAndInstants() {
+            // arrange
+            AllTypes min = allTypes(Integer.MIN_VALUE, Double.NEGATIVE_INFINITY, Instant.ofEpochMilli(Long.MIN_VALUE));
+            AllTypes max = allTypes(Integer.MAX_VALUE, Double.MAX_VALUE, Instant.ofEpochMilli(-1));
+            AllTypes nan = allTypes(0, Double.NaN, Instant.EPOCH);
+
+            // act & assert
+            assertAll(
+                    () -> assertThat(codec.decode(codec.encode(min), AllTypes.class)).isEqualTo(min),
+                    () -> assertThat(codec.decode(codec.encode(max), AllTypes.class)).isEqualTo(max),
+                    () -> assertThat(codec.decode(codec.encode(nan), AllTypes.class).primitiveDouble()).isNaN()
+            );
+        }
+
+        @DisplayName("null 필드는 기록되지 않고, 읽을 때 래퍼 타입은 null, 기본 타입은 기본값, List 는 빈 목록이 된다.")
+        @Test
+        void omitsNullFields() {
+            // arrange
+            AllTypes event = new AllTypes(0L, null, 0, null, false, null, 0.0, null, null, null, null, null, null, null);
+
+            // act
+            byte[] encoded = codec.encode(event);
+            AllTypes decoded = codec.decode(encoded, AllTypes.class);
+
+            // assert
+            assertAll(
+                    () -> assertThat(decoded.boxedLong()).isNull(),
+                    () -> assertThat(decoded.boxedInt()).isNull(),
+                    () -> assertThat(decoded.boxedBoolean()).isNull(),
+                    () -> assertThat(decoded.text()).isNull(),
+                    () -> assertThat(decoded.item()).isNull(),
+                    () -> assertThat(decoded.items()).isEmpty(),
+                    () -> assertThat(decoded.ids()).isEmpty(),
+                    // 기본 타입 필드(1, 3, 5, 7)만 기록된다 : 헤더 3 바이트 + (태그 1 + 값 1) * 3 + (태그 1 + 값 8)
+                    () -> assertThat(encoded).hasSize(3 + 2 * 3 + 9)
+            );
+        }
+
+        @DisplayName("중첩 레코드의 null 필드도 생략되고 기본값으로 읽힌다.")
+        @Test
+        void handlesNullFieldsInNestedRecord() {
+            // arrange
+            AllTypes event = new AllTypes(
+                    0L, null, 0, null, false, null, 0.0, null, null, null, null, new Item(null, 3), List.of(new Item(null, 0)), null
+            );
+
+            // act
+            AllTypes decoded = codec.decode(codec.encode(event), AllTypes.class);
+
+            // assert
+            assertAll(
+                    () -> assertThat(decoded.item()).isEqualTo(new Item(null, 3)),
+                    () -> assertThat(decoded.items()).containsExactly(new Item(null, 0))
+            );
+        }
+
+        @DisplayName("타입을 지정하지 않으면 헤더의 타입 번호로 읽는다.")
+        @Test
+        void decodesByTypeIdInHeader() {
+            // arrange
+            byte[] encoded = codec.encode(new Amount(42L));
+
+            // act
+            Object decoded = codec.decode(encoded);
+
+            // assert
+            assertThat(decoded).isEqualTo(new Amount(42L));
+        }
+    }
+
+    @DisplayName("스키마 변경")
+    @Nested
+    class Evolution {
+
+        @DisplayName("이전 버전으로 쓴 이벤트를 새 버전으로 읽으면, 제거된 필드는 건너뛰고 추가된 필드는 null 이다.")
+        @Test
+        void readsOldVersionWithNewSchema() {
+            // arrange
+            byte[] encoded = codec.encode(new OrderV1(1L, 1_000L, "메모"));
+
+            // act
+            OrderV2 decoded = codec.decode(encoded, OrderV2.class);
+
+            // assert
+            assertThat(decoded).isEqualTo(new OrderV2(1L, 1_000L, null));
+        }
+
+        @DisplayName("새 버전으로 쓴 이벤트를 이전 버전으로 읽으면, 모르는 필드는 건너뛴다.")
+        @Test
+        void readsNewVersionWithOldSchema() {
+            // arrange
+            byte[] encoded = codec.encode(new OrderV2(1L, 1_000L, 77L));
+
+            // act
+            OrderV1 decoded = codec.decode(encoded, OrderV1.class);
+
+            // assert
+            assertThat(decoded).isEqualTo(new OrderV1(1L, 1_000L, null));
+        }
+
+        @DisplayName("새 버전에서 추가된 enum 상수를 이전 버전으로 읽으면, 필드는 null 이고 목록에서는 빠진다.")
+        @Test
+        void skipsUnknownEnumConstants() {
+            // arrange
+            byte[] encoded = codec.encode(new PaymentV2(
+                    1L, StatusV2.REFUNDED, List.of(StatusV2.PAID, StatusV2.REFUNDED, StatusV2.CANCELLED)
+            ));
+
+            // act
+            PaymentV1 decoded = codec.decode(encoded, PaymentV1.class);
+
+            // assert
+            assertThat(decoded).isEqualTo(new PaymentV1(1L, null, List.of(Status.PAID, Status.CANCELLED)));
+        }
+
+        @DisplayName("타입을 지정하지 않으면 등록된 최신 버전으로 읽는다.")
+        @Test
+        void decodesWithLatestRegisteredVersion() {
+            // arrange
+            byte[] encoded = codec.encode(new OrderV1(1L, 1_000L, "메모"));
+            codec.encode(new OrderV2(2L, 2_000L, 3L));
+
+            // act
+            Object decoded = codec.decode(encoded);
+
+            // assert
+            assertThat(decoded).isEqualTo(new OrderV2(1L, 1_000L, null));
+        }
+    }
+
+    @DisplayName("잘못된 입력")
+    @Nested
+    class Corrupt {
+
+        @DisplayName("magic 바이트가 다르면, BinaryCodecException 이 발생한다.")
+        @Test
+        void rejectsWrongMagic() {
+            // arrange
+            byte[] encoded = codec.encode(new Amount(1L));
+            encoded[0] = 0x7B; // '{'
+
+            // act & assert
+            assertThatThrownBy(() -> codec.decode(encoded, Amount.class)).isInstanceOf(BinaryCodecException.class);
+        }
+
+        @DisplayName("바이트가 중간에 잘렸으면, BinaryCodecException 이 발생한다.")
+        @Test
+        void rejectsTruncatedInput() {
+            // arrange
+            byte[] encoded = codec.encode(new OrderV1(1L, 1_000L, "잘리는 메모"));
+            byte[] truncated = Arrays.copyOf(encoded, encoded.length - 3);
+
+            // act & assert
+            assertThatThrownBy(() -> codec.decode(truncated, OrderV1.class)).isInstanceOf(BinaryCodecException.class);
+        }
+
+        @DisplayName("다른 타입 번호의 이벤트를 지정한 타입으로 읽으면, BinaryCodecException 이 발생한다.")
+        @Test
+        void rejectsTypeMismatch() {
+            // arrange
+            byte[] encoded = codec.encode(new Amount(1L));
+
+            // act & assert
+            assertThatThrownBy(() -> codec.decode(encoded, OrderV1.class)).isInstanceOf(BinaryCodecException.class);
+        }
+
+        @DisplayName("읽지 못한 레코드면, 메시지 컨버터는 ConversionException 을 던진다.")
+        @Test
+        void converterRejectsCorruptRecord() {
+            // arrange
+            byte[] encoded = codec.encode(new OrderV1(1L, 1_000L, "잘리는 메모"));
+            ConsumerRecord<String, byte[]> record =
+                    new ConsumerRecord<>("topic", 0, 7L, "1", Arrays.copyOf(encoded, encoded.length - 3));
+            BinaryEventMessageConverter converter = new BinaryEventMessageConverter(codec);
+
+            // act & assert
+            assertThatThrownBy(() -> converter.extractAndConvertValue(record, OrderV1.class))
+                    .isInstanceOf(ConversionException.class)
+                    .hasCauseInstanceOf(BinaryCodecException.class);
+        }
+
+        @DisplayName("등록되지 않은 타입 번호면, 역직렬화기는 SerializationException 을 던진다.")
+        @Test
+        void deserializerRejectsUnknownTypeId() {
+            // arrange
+            byte[] encoded = new BinaryEventCodec(new EventSchemaRegistry()).encode(new Amount(1L));
+            BinaryEventDeserializer deserializer = new BinaryEventDeserializer(codec);
+
+            // act & assert
+            assertThatThrownBy(() -> deserializer.deserialize("topic", encoded)).isInstanceOf(SerializationException.class);
+        }
+    }
+
+    @DisplayName("시작 시 등록")
+    @Nested
+    class StartupRegistration {
+
+        @DisplayName("미리 등록한 타입은 이 프로세스에서 한 번도 쓰지 않았어도 타입 번호로 읽을 수 있다.")
+        @Test
+        void deserializesRegisteredTypeWithoutPriorEncode() {
+            // arrange
+            byte[] encoded = new BinaryEventCodec(new EventSchemaRegistry()).encode(new OrderV1(1L, 1_000L, "메모"));
+            EventSchemaRegistry registry = new EventSchemaRegistry();
+            registry.registerAll(List.of(OrderV2.class, OrderV1.class));
+            BinaryEventDeserializer deserializer = new BinaryEventDeserializer(new BinaryEventCodec(registry));
+
+            // act
+            Object decoded = deserializer.deserialize("topic", encoded);
+
+            // assert
+            assertThat(decoded).isEqualTo(new OrderV2(1L, 1_000L, null));
+        }
+
+        @DisplayName("클래스패스에서 @BinaryEvent 가 붙은 레코드를 찾는다.")
+        @Test
+        void scansAnnotatedRecords() {
+            // act
+            List<Class<?>> types = BinaryEventScanner.scan(BinaryEventCodecTest.class.getPackageName());
+
+            // assert
+            assertThat(types)
+                    .contains(AllTypes.class, Amount.class, OrderV1.class, OrderV2.class)
+                    .doesNotContain(Item.class);
+        }
+    }
+
+    private static AllTypes allTypes(int intValue, double doubleValue, Instant at) {
+        return new AllTypes(
+                intValue, (long) intValue, intValue, intValue, true, true, doubleValue, doubleValue,
+                "", at, Status.PAID, null, List.of(), List.of()
+        );
+    }
+}
@@ -0,0 +1,174 @@
+package com.loopers.confg.kafka.codec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class EventSchemaRegistryTest {
+
+    record LineV1(
+            @BinaryField(id = 1) Long productId,
+            @BinaryField(id = 2) int quantity
+    ) { }
+
+    // 중첩 필드 2 를 다른 타입으로 재사용
+    record LineV2(
+            @BinaryField(id = 1) Long productId,
+            @BinaryField(id = 2) String quantity
+    ) { }
+
+    // 이름만 다르고 필드 번호 / 타입은 호환
+    record LineRenamed(
+            @BinaryField(id = 1) Long productId,
+            @BinaryField(id = 2) int quantity,
+            @BinaryField(id = 3) Long price
+    ) { }
+
+    @BinaryEvent(typeId = 10)
+    record CartV1(
+            @BinaryField(id = 1) Long cartId,
+            @BinaryField(id = 2) String memo,
+            @BinaryField(id = 3) List<LineV1> lines
+    ) { }
+
+    // memo(2) 를 Long 으로 재사용
+    @BinaryEvent(typeId = 10, version = 2)
+    record CartReusedId(
+            @BinaryField(id = 1) Long cartId,
+            @BinaryField(id = 2) Long memo
+    ) { }
+
+    @BinaryEvent(typeId = 10, version = 2)
+    record CartNestedChanged(
+            @BinaryField(id = 1) Long cartId,
+            @BinaryField(id = 3) List<LineV2> lines
+    ) { }
+
+    @BinaryEvent(typeId = 10, version = 2)
+    record CartNestedRenamed(
+            @BinaryField(id = 1) Long cartId,
+            @BinaryField(id = 3) List<LineRenamed> lines
+    ) { }
+
+    // 반복 필드를 단일 필드로 변경
+    @BinaryEvent(typeId = 10, version = 3)
+    record CartNotRepeated(
+            @BinaryField(id = 1) Long cartId,
+            @BinaryField(id = 3) LineV1 lines
+    ) { }
+
+    @BinaryEvent(typeId = 10)
+    record CartSameVersion(@BinaryField(id = 1) Long cartId) { }
+
+    @BinaryEvent(typeId = 11)
+    record DuplicateFieldId(
+            @BinaryField(id = 1) Long a,
+            @BinaryField(id = 1) Long b
+    ) { }
+
+    @BinaryEvent(typeId = 12)
+    record MissingFieldId(
+            @BinaryField(id = 1) Long a,
+            Long b
+    ) { }
+
+    @BinaryEvent(typeId = 13)
+    record UnsupportedType(@BinaryField(id = 1) Object value) { }
+
+    record NotAnnotated(@BinaryField(id = 1) Long a) { }
+
+    private EventSchemaRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new EventSchemaRegistry();
+        registry.register(CartV1.class);
+    }
+
+    @DisplayName("제거된 필드 번호를 다른 타입으로 재사용하면, 등록을 거부한다.")
+    @Test
+    void rejectsReusedFieldIdWithDifferentType() {
+        assertThatThrownBy(() -> registry.register(CartReusedId.class))
+                .isInstanceOf(BinaryCodecException.class)
+                .hasMessageContaining("필드 번호 2");
+    }
+
+    @DisplayName("중첩 레코드의 필드 번호를 다른 타입으로 재사용하면, 등록을 거부한다.")
+    @Test
+    void rejectsReusedNestedFieldIdWithDifferentType() {
+        assertThatThrownBy(() -> registry.register(CartNestedChanged.class))
+                .isInstanceOf(BinaryCodecException.class)
+                .hasMessageContaining("필드 번호 3.2");
+    }
+
+    @DisplayName("중첩 레코드 클래스 이름이 바뀌어도 필드 번호 / 타입이 호환되면, 등록된다.")
+    @Test
+    void acceptsRenamedNestedRecord_whenFieldsCompatible() {
+        assertThatNoException().isThrownBy(() -> registry.register(CartNestedRenamed.class));
+    }
+
+    @DisplayName("반복 필드를 단일 필드로 바꾸면, 등록을 거부한다.")
+    @Test
+    void rejectsRepeatedToSingular() {
+        assertThatThrownBy(() -> registry.register(CartNotRepeated.class))
+                .isInstanceOf(BinaryCodecException.class);
+    }
+
+    @DisplayName("같은 타입 번호와 버전을 다른 클래스로 등록하면, 거부한다.")
+    @Test
+    void rejectsSameVersionWithDifferentClass() {
+        assertThatThrownBy(() -> registry.register(CartSameVersion.class))
+                .isInstanceOf(BinaryCodecException.class)
+                .hasMessageContaining("이미");
+    }
+
+    @DisplayName("거부된 등록은 이후 호환성 검사에 영향을 주지 않는다.")
+    @Test
+    void rejectedRegistrationDoesNotRecordSignatures() {
+        // arrange
+        assertThatThrownBy(() -> registry.register(CartNestedChanged.class)).isInstanceOf(BinaryCodecException.class);
+
+        // act & assert
+        assertThatNoException().isThrownBy(() -> registry.register(CartNestedRenamed.class));
+    }
+
+    @DisplayName("같은 클래스를 다시 등록하면, 기존 스키마를 돌려준다.")
+    @Test
+    void returnsExistingSchema_whenRegisteredTwice() {
+        assertThat(registry.register(CartV1.class)).isSameAs(registry.register(CartV1.class));
+    }
+
+    @DisplayName("registerAll 은 입력 순서와 관계없이 낮은 버전부터 등록한다.")
+    @Test
+    void registersAllInVersionOrder() {
+        // arrange
+        EventSchemaRegistry fresh = new EventSchemaRegistry();
+
+        // act
+        fresh.registerAll(List.of(CartNestedRenamed.class, CartV1.class));
+
+        // assert
+        assertThat(fresh.latestSchemaOf(10).type()).isEqualTo(CartNestedRenamed.class);
+    }
+
+    @DisplayName("@BinaryEvent 가 없거나, 필드 번호가 중복 / 누락되었거나, 지원하지 않는 타입이면 등록을 거부한다.")
+    @Test
+    void rejectsInvalidDeclarations() {
+        assertThatThrownBy(() -> registry.register(NotAnnotated.class)).isInstanceOf(BinaryCodecException.class);
+        assertThatThrownBy(() -> registry.register(DuplicateFieldId.class)).isInstanceOf(BinaryCodecException.class);
+        assertThatThrownBy(() -> registry.register(MissingFieldId.class)).isInstanceOf(BinaryCodecException.class);
+        assertThatThrownBy(() -> registry.register(UnsupportedType.class)).isInstanceOf(BinaryCodecException.class);
+    }
+
+    @DisplayName("등록되지 않은 타입 번호를 찾으면, BinaryCodecException 이 발생한다.")
+    @Test
+    void rejectsUnknownTypeId() {
+        assertThatThrownBy(() -> registry.latestSchemaOf(999)).isInstanceOf(BinaryCodecException.class);
+    }
+}
@@ -0,0 +1,210 @@
+package com.loopers.confg.kafka.flow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdaptiveFlowControllerTest {
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final String RANKING_GROUP = "ranking";
+    private static final String AUDIT_GROUP = "audit";
+    private static final TopicPartition PARTITION = new TopicPartition("order.paid.v1", 0);
+    private static final long FAST = TimeUnit.SECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(20);
+    private static final long STUCK = TimeUnit.SECONDS.toNanos(90);
+
+    private double saturation;
+    private MessageListenerContainer rankingContainer;
+    private MessageListenerContainer auditContainer;
+    private AdaptiveFlowController controller;
+
+    @BeforeEach
+    void setUp() {
+        saturation = 0.0;
+        rankingContainer = container(RANKING_GROUP);
+        auditContainer = container(AUDIT_GROUP);
+        controller = controller(Duration.ZERO);
+    }
+
+    @DisplayName("배치 처리 시간에 따라 유효 배치 크기를 조절할 때, ")
+    @Nested
+    class BatchSize {
+
+        @DisplayName("목표 시간을 넘긴 배치마다 절반으로 줄이고, 최소 크기 아래로는 줄이지 않는다.")
+        @Test
+        void halvesBatchSize_downToMinimum() {
+            // act
+            controller.onBatchCompleted(RANKING_GROUP, List.of(PARTITION), SLOW);
+            int afterFirst = controller.effectiveBatchSize();
+            for (int i = 0; i < 10; i++) {
+                controller.onBatchCompleted(RANKING_GROUP, List.of(PARTITION), SLOW);
+            }
+
+            // assert
+            assertAll(
+                    () -> assertThat(afterFirst).isEqualTo(500),
+                    () -> assertThat(controller.effectiveBatchSize()).isEqualTo(100),
+                    () -> verify(rankingContainer, never()).pausePartition(any())
+            );
+        }
+
+        @DisplayName("정상 배치마다 step 만큼 늘리고, 최대 크기를 넘지 않는다.")
+        @Test
+        void growsBatchSize_upToMaximum() {
+            // arrange
+            controller.onBatchFailed();
+
+            // act
+            controller.onBatchCompleted(RANKING_GROUP, List.of(PARTITION), FAST);
+            int afterFirst = controller.effectiveBatchSize();
+            for (int i = 0; i < 10; i++) {
+                controller.onBatchCompleted(RANKING_GROUP, List.of(PARTITION), FAST);
+            }
+
+            // assert
+            assertAll(
+                    () -> assertThat(afterFirst).isEqualTo(600),
+                    () -> assertThat(controller.effectiveBatchSize()).isEqualTo(MAX_BATCH_SIZE)
+            );
+        }
+
+        @DisplayName("다운스트림이 회복되지 않았으면, 정상 배치여도 늘리지 않는다.")
+        @Test
+        void keepsBatchSize_whileDownstreamRecovering() {
+            // arrange
+            controller.onBatchFailed();
+            saturation = 0.8;
+
+            // act
+            controller.onBatchCompleted(RANKING_GROUP, List.of(PARTITION), FAST);
+
+            // assert
+            assertThat(controller.effectiveBatchSize()).isEqualTo(500);
+        }
+    }
+
+    @DisplayName("파티션을 일시정지 / 재개할 때, ")
+    @Nested
+    class PauseAndResume {
+
+        @DisplayName("다운스트림이 포화되면, 배치 크기를 최소로 줄이고 해당 그룹의 파티션만 일시정지한다.")
+        @Test
+        void pausesOnlyOwnGroup_whenSaturated() {
+            // arrange
+            saturation = 0.95;
+
+            // act
+            controller.onBatchCompleted(RANKING_GROUP, List.of(PARTITION), FAST);
+
+            // assert
+            assertAll(
+                    () -> assertThat(controller.effectiveBatchSize()).isEqualTo(100),
+                    () -> verify(rankingContainer).pausePartition(PARTITION),
+                    () -> verify(auditContainer, never()).pausePartition(any())
+            );
+        }
+
+        @DisplayName("배치가 한계 시간을 넘기면, 포화도와 관계없이 일시정지한다.")
+        @Test
+        void pauses_whenBatchExceedsPauseLatency() {
+            // act
+            controller.onBatchCompleted(RANKING_GROUP, List.of(PARTITION), STUCK);
+
+            // assert
+            verify(rankingContainer).pausePartition(PARTITION);
+        }
+
+        @DisplayName("포화도가 재개 기준 이상이면, 유지 시간이 지나도 재개하지 않는다.")
+        @Test
+        void keepsPaused_whileSaturated() {
+            // arrange
+            saturation = 0.95;
+            controller.onBatchCompleted(RANKING_GROUP, List.of(PARTITION), FAST);
+
+            // act
+            saturation = 0.8;
+            controller.resumeRecoveredPartitions();
+
+            // assert
+            verify(rankingContainer, never()).resumePartition(any());
+        }
+
+        @DisplayName("유지 시간이 지나지 않았으면, 포화도가 회복되어도 재개하지 않는다.")
+        @Test
+        void keepsPaused_untilPauseDurationElapsed() {
+            // arrange
+            AdaptiveFlowController longPause = controller(Duration.ofHours(1));
+            saturation = 0.95;
+            longPause.onBatchCompleted(RANKING_GROUP, List.of(PARTITION), FAST);
+
+            // act
+            saturation = 0.0;
+            longPause.resumeRecoveredPartitions();
+
+            // assert
+            verify(rankingContainer, never()).resumePartition(any());
+        }
+
+        @DisplayName("같은 파티션을 여러 그룹이 일시정지하면, 포화도가 회복된 뒤 그룹마다 재개한다.")
+        @Test
+        void resumesEachGroup_whenSamePartitionPausedByMultipleGroups() {
+            // arrange
+            saturation = 0.95;
+            controller.onBatchCompleted(RANKING_GROUP, List.of(PARTITION), FAST);
+            controller.onBatchCompleted(AUDIT_GROUP, List.of(PARTITION), FAST);
+
+            // act
+            saturation = 0.0;
+            controller.resumeRecoveredPartitions();
+
+            // assert
+            assertAll(
+                    () -> verify(rankingContainer).resumePartition(PARTITION),
+                    () -> verify(auditContainer).resumePartition(PARTITION)
+            );
+        }
+    }
+
+    private AdaptiveFlowController controller(Duration pauseDuration) {
+        KafkaFlowControlProperties properties = new KafkaFlowControlProperties(
+                true, Duration.ofSeconds(10), Duration.ofSeconds(60), 0.9, 0.7, pauseDuration, 100, 100
+        );
+        SaturationProbe probe = () -> saturation;
+
+        @SuppressWarnings("unchecked")
+        ObjectProvider<SaturationProbe> probes = mock(ObjectProvider.class);
+        when(probes.iterator()).thenAnswer(invocation -> List.of(probe).iterator());
+
+        KafkaListenerEndpointRegistry registry = mock(KafkaListenerEndpointRegistry.class);
+        when(registry.getListenerContainers()).thenReturn(List.of(rankingContainer, auditContainer));
+        @SuppressWarnings("unchecked")
+        ObjectProvider<KafkaListenerEndpointRegistry> registryProvider = mock(ObjectProvider.class);
+        when(registryProvider.getIfAvailable()).thenReturn(registry);
+
+        return new AdaptiveFlowController(properties, MAX_BATCH_SIZE, probes, registryProvider, new SimpleMeterRegistry());
+    }
+
+    private static MessageListenerContainer container(String groupId) {
+        MessageListenerContainer container = mock(MessageListenerContainer.class);
+        when(container.getGroupId()).thenReturn(groupId);
+        return container;
+    }
+}
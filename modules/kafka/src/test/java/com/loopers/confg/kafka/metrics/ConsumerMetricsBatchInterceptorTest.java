@@ -0,0 +1,182 @@
+package com.loopers.confg.kafka.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConsumerMetricsBatchInterceptorTest {
+    private static final String GROUP = "ranking";
+    private static final TopicPartition PARTITION_0 = new TopicPartition("order.paid.v1", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("order.paid.v1", 1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private Consumer<Object, Object> consumer;
+    private ConsumerMetricsBatchInterceptor interceptor;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = mock(Consumer.class);
+        when(consumer.groupMetadata()).thenReturn(new ConsumerGroupMetadata(GROUP));
+        when(consumer.assignment()).thenReturn(Set.of(PARTITION_0, PARTITION_1));
+        when(consumer.committed(anySet(), any(Duration.class))).thenReturn(Map.of(
+                PARTITION_0, new OffsetAndMetadata(10),
+                PARTITION_1, new OffsetAndMetadata(20)
+        ));
+        endOffsets(15, 20);
+        interceptor = new ConsumerMetricsBatchInterceptor(meterRegistry);
+        interceptor.onPartitionsAssigned(consumer, List.of(PARTITION_0, PARTITION_1)); // 스레드에 남은 lag 조회 주기 초기화
+    }
+
+    @DisplayName("배치를 처리하면, ")
+    @Nested
+    class Batch {
+
+        @DisplayName("같은 그룹 / 결과의 배치 지표를 한 미터에 누적한다.")
+        @Test
+        void accumulatesBatchMeters_perGroupAndResult() {
+            // act
+            process(records(3), true);
+            process(records(2), true);
+            process(records(1), false);
+
+            // assert
+            assertAll(
+                    () -> assertThat(meterRegistry.find("kafka.consumer.batch.size").summaries()).hasSize(1),
+                    () -> assertThat(meterRegistry.get("kafka.consumer.batch.size").tag("group", GROUP).summary().totalAmount())
+                            .isEqualTo(6.0),
+                    () -> assertThat(meterRegistry.get("kafka.consumer.batch.duration").tags("group", GROUP, "result", "success").timer().count())
+                            .isEqualTo(2),
+                    () -> assertThat(meterRegistry.get("kafka.consumer.batch.duration").tags("group", GROUP, "result", "failure").timer().count())
+                            .isEqualTo(1)
+            );
+        }
+
+        @DisplayName("할당된 파티션별 lag 을 기록하고, 조회 주기 안에서는 다시 조회하지 않는다.")
+        @Test
+        void recordsLag_perPartition() {
+            // act
+            process(records(1), true);
+            endOffsets(30, 40);
+            process(records(1), true);
+
+            // assert
+            assertAll(
+                    () -> assertThat(lag(PARTITION_0).value()).isEqualTo(5.0),
+                    () -> assertThat(lag(PARTITION_1).value()).isEqualTo(0.0)
+            );
+        }
+    }
+
+    @DisplayName("리밸런스가 일어나면, ")
+    @Nested
+    class Rebalance {
+
+        @DisplayName("회수된 파티션의 lag 게이지만 제거한다.")
+        @Test
+        void removesLag_ofRevokedPartitions() {
+            // arrange
+            process(records(1), true);
+
+            // act
+            interceptor.onPartitionsRevokedAfterCommit(consumer, List.of(PARTITION_0));
+
+            // assert
+            assertAll(
+                    () -> assertThat(findLag(PARTITION_0)).isNull(),
+                    () -> assertThat(findLag(PARTITION_1)).isNotNull()
+            );
+        }
+
+        @DisplayName("잃은 파티션의 lag 게이지도 제거한다.")
+        @Test
+        void removesLag_ofLostPartitions() {
+            // arrange
+            process(records(1), true);
+
+            // act
+            interceptor.onPartitionsLost(consumer, List.of(PARTITION_0, PARTITION_1));
+
+            // assert
+            assertThat(meterRegistry.find("kafka.consumer.committed.lag").gauges()).isEmpty();
+        }
+
+        @DisplayName("새로 할당되면, 조회 주기와 관계없이 다음 배치에서 lag 을 다시 조회한다.")
+        @Test
+        void refreshesLag_afterAssignment() {
+            // arrange
+            process(records(1), true);
+            interceptor.onPartitionsRevokedAfterCommit(consumer, List.of(PARTITION_0));
+            endOffsets(30, 40);
+
+            // act
+            interceptor.onPartitionsAssigned(consumer, List.of(PARTITION_0));
+            process(records(1), true);
+
+            // assert
+            assertAll(
+                    () -> assertThat(lag(PARTITION_0).value()).isEqualTo(20.0),
+                    () -> assertThat(lag(PARTITION_1).value()).isEqualTo(20.0)
+            );
+        }
+    }
+
+    private void process(ConsumerRecords<Object, Object> records, boolean success) {
+        ConsumerRecords<Object, Object> intercepted = interceptor.intercept(records, consumer);
+        if (success) {
+            interceptor.success(intercepted, consumer);
+        } else {
+            interceptor.failure(intercepted, new IllegalStateException("실패"), consumer);
+        }
+    }
+
+    private void endOffsets(long partition0, long partition1) {
+        when(consumer.endOffsets(anySet(), any(Duration.class))).thenReturn(Map.of(
+                PARTITION_0, partition0,
+                PARTITION_1, partition1
+        ));
+    }
+
+    private Gauge lag(TopicPartition partition) {
+        return meterRegistry.get("kafka.consumer.committed.lag")
+                .tags("group", GROUP, "partition", String.valueOf(partition.partition()))
+                .gauge();
+    }
+
+    private Gauge findLag(TopicPartition partition) {
+        return meterRegistry.find("kafka.consumer.committed.lag")
+                .tags("group", GROUP, "partition", String.valueOf(partition.partition()))
+                .gauge();
+    }
+
+    private static ConsumerRecords<Object, Object> records(int count) {
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(new ConsumerRecord<>(PARTITION_0.topic(), PARTITION_0.partition(), i, null, "value-" + i));
+        }
+        return new ConsumerRecords<>(Map.of(PARTITION_0, records));
+    }
+}
@@ -1,10 +1,27 @@
 plugins {
     `java-library`
     `java-test-fixtures`
+    id("me.champeau.jmh")
 }
 
 dependencies {
     api("org.springframework.boot:spring-boot-starter-data-redis")
+    // read-your-writes wait connection pool
+    implementation("org.apache.commons:commons-pool2")
+    // metrics
+    implementation("io.micrometer:micrometer-core")
+    // binary serializer
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("org.lz4:lz4-java:${project.properties["lz4Version"]}")
 
     testFixturesImplementation("com.redis:testcontainers-redis")
+
+    // benchmark
+    jmhImplementation("com.redis:testcontainers-redis")
+}
+
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
 }
@@ -0,0 +1,116 @@
+package com.loopers.config.redis.serializer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redis.testcontainers.RedisContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 기존 문자열(JSON) 경로와 Smile + LZ4 경로의 get / set 지연과 키당 메모리 사용량(MEMORY USAGE)을 비교한다.
+ * <pre>
+ * ./gradlew :modules:redis:jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisValueSerializationBenchmark {
+    private static final String STRING_KEY = "bench:string";
+    private static final String BINARY_KEY = "bench:binary";
+
+    public record Product(Long id, String name, Long price, Integer stock, String description) { }
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private RedisContainer redisContainer;
+    private LettuceConnectionFactory connectionFactory;
+    private ObjectMapper objectMapper;
+    private RedisTemplate<String, String> stringTemplate;
+    private RedisTemplate<String, List<Product>> binaryTemplate;
+    private List<Product> products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redisContainer = new RedisContainer(DockerImageName.parse("redis:latest"));
+        redisContainer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getFirstMappedPort())
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        objectMapper = new ObjectMapper();
+        stringTemplate = new RedisTemplate<>();
+        stringTemplate.setKeySerializer(new StringRedisSerializer());
+        stringTemplate.setValueSerializer(new StringRedisSerializer());
+        stringTemplate.setConnectionFactory(connectionFactory);
+        stringTemplate.afterPropertiesSet();
+        binaryTemplate = new RedisBinaryTemplates(connectionFactory, new RedisBinaryProperties(1024))
+                .of(new TypeReference<>() {});
+
+        products = IntStream.range(0, size)
+                .mapToObj(i -> new Product((long) i, "상품-" + i, 10_000L + i, 100, "상품 상세 설명 " + i))
+                .toList();
+        stringSet();
+        binarySet();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%nMEMORY USAGE (size = %d) : string = %d bytes, binary = %d bytes%n",
+                size, memoryUsage(STRING_KEY), memoryUsage(BINARY_KEY));
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @Benchmark
+    public void stringSet() {
+        try {
+            stringTemplate.opsForValue().set(STRING_KEY, objectMapper.writeValueAsString(products));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public List<Product> stringGet() throws Exception {
+        return objectMapper.readValue(stringTemplate.opsForValue().get(STRING_KEY), new TypeReference<>() {});
+    }
+
+    @Benchmark
+    public void binarySet() {
+        binaryTemplate.opsForValue().set(BINARY_KEY, products);
+    }
+
+    @Benchmark
+    public List<Product> binaryGet() {
+        return binaryTemplate.opsForValue().get(BINARY_KEY);
+    }
+
+    private Long memoryUsage(String key) {
+        return stringTemplate.execute((RedisCallback<Long>) connection -> (Long) connection.execute(
+                "MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8)
+        ));
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.config.redis;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis Cluster 토폴로지 설정.
+ *
+ * @param nodes                  최초 접속에 사용할 시드 노드 (일부만 적어도 나머지는 CLUSTER SLOTS 로 찾는다)
+ * @param maxRedirects           MOVED / ASK 리다이렉트 최대 횟수
+ * @param topologyRefreshPeriod  주기적 토폴로지 갱신 간격. MOVED, 재연결 등 이벤트에 의한 적응형 갱신은 항상 켜진다.
+ */
+public record RedisClusterInfo(
+        List<RedisNodeInfo> nodes,
+        int maxRedirects,
+        Duration topologyRefreshPeriod
+) { }
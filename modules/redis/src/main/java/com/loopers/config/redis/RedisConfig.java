@@ -1,15 +1,39 @@
 package com.loopers.config.redis;
 
 
+import com.loopers.config.redis.bulk.RedisBulkOperations;
+import com.loopers.config.redis.bulk.RedisBulkProperties;
+import com.loopers.config.redis.consistency.ReadYourWritesProperties;
+import com.loopers.config.redis.consistency.ReadYourWritesRouter;
+import com.loopers.config.redis.metrics.MicrometerCommandLatencyRecorder;
+import com.loopers.config.redis.metrics.RedisConnectionMetrics;
+import com.loopers.config.redis.metrics.RedisMetricsProperties;
+import com.loopers.config.redis.metrics.RedisNodeRoles;
+import com.loopers.config.redis.ratelimit.RedisRateLimiter;
+import com.loopers.config.redis.serializer.RedisBinaryProperties;
+import com.loopers.config.redis.serializer.RedisBinaryTemplates;
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.event.DefaultEventPublisherOptions;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -17,10 +41,19 @@ import java.util.List;
 import java.util.function.Consumer;
 
 @Configuration
-@EnableConfigurationProperties(RedisProperties.class)
+@EnableConfigurationProperties({
+        RedisProperties.class,
+        RedisBulkProperties.class,
+        RedisBinaryProperties.class,
+        ReadYourWritesProperties.class,
+        RedisMetricsProperties.class
+})
 public class RedisConfig{
     private static final String CONNECTION_MASTER = "redisConnectionMaster";
+    public static final String CONNECTION_PUB_SUB = "redisConnectionPubSub";
+    private static final String CONNECTION_WAIT = "redisConnectionWait";
     public static final String REDIS_TEMPLATE_MASTER = "redisTemplateMaster";
+    public static final String REDIS_BINARY_TEMPLATES_MASTER = "redisBinaryTemplatesMaster";
 
     private final RedisProperties redisProperties;
 
@@ -28,30 +61,83 @@ public class RedisConfig{
         this.redisProperties = redisProperties;
     }
 
+    /**
+     * 두 커넥션 팩토리가 공유하는 Lettuce 자원. 명령 지연은 Micrometer 로 직접 기록하고, Lettuce 자체의 지연 이벤트 게시는 끈다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources redisClientResources(RedisMetricsProperties redisMetricsProperties, MeterRegistry meterRegistry) {
+        CommandLatencyRecorder recorder = redisMetricsProperties.enabled()
+                ? new MicrometerCommandLatencyRecorder(meterRegistry, redisNodeRoles(), redisMetricsProperties)
+                : CommandLatencyRecorder.disabled();
+        return DefaultClientResources.builder()
+                .commandLatencyRecorder(recorder)
+                .commandLatencyPublisherOptions(DefaultEventPublisherOptions.disabled())
+                .build();
+    }
+
+    @ConditionalOnProperty(prefix = "datasource.redis.metrics", name = "enabled", havingValue = "true")
+    @Bean
+    public RedisConnectionMetrics redisConnectionMetrics(ClientResources redisClientResources, MeterRegistry meterRegistry) {
+        return new RedisConnectionMetrics(redisClientResources.eventBus(), redisNodeRoles(), meterRegistry);
+    }
+
     @Primary
     @Bean
-    public LettuceConnectionFactory defaultRedisConnectionFactory() {
+    public LettuceConnectionFactory defaultRedisConnectionFactory(ClientResources redisClientResources) {
+        if (redisProperties.clusterEnabled()) {
+            return lettuceClusterConnectionFactory(
+                    redisProperties.cluster(),
+                    b -> b.clientResources(redisClientResources).readFrom(ReadFrom.REPLICA_PREFERRED)
+            );
+        }
         int database = redisProperties.database();
         RedisNodeInfo master = redisProperties.master();
         List<RedisNodeInfo> replicas = redisProperties.replicas();
         return lettuceConnectionFactory(
                 database, master, replicas,
-                b -> b.readFrom(ReadFrom.REPLICA_PREFERRED)
+                b -> b.clientResources(redisClientResources).readFrom(ReadFrom.REPLICA_PREFERRED)
         );
     }
 
     @Qualifier(CONNECTION_MASTER)
     @Bean
-    public LettuceConnectionFactory masterRedisConnectionFactory() {
+    public LettuceConnectionFactory masterRedisConnectionFactory(ClientResources redisClientResources) {
+        if (redisProperties.clusterEnabled()) {
+            return lettuceClusterConnectionFactory(
+                    redisProperties.cluster(),
+                    b -> b.clientResources(redisClientResources).readFrom(ReadFrom.MASTER)
+            );
+        }
         int database = redisProperties.database();
         RedisNodeInfo master = redisProperties.master();
         List<RedisNodeInfo> replicas = redisProperties.replicas();
         return lettuceConnectionFactory(
                 database, master, replicas,
-                b -> b.readFrom(ReadFrom.MASTER)
+                b -> b.clientResources(redisClientResources).readFrom(ReadFrom.MASTER)
         );
     }
 
+    /**
+     * Pub/Sub 구독 전용 커넥션. 정적 master / replica 구성의 커넥션은 Pub/Sub 을 지원하지 않으므로 master 에 직접 연결한다.
+     */
+    @Qualifier(CONNECTION_PUB_SUB)
+    @Bean
+    public LettuceConnectionFactory pubSubRedisConnectionFactory(ClientResources redisClientResources) {
+        if (redisProperties.clusterEnabled()) {
+            return lettuceClusterConnectionFactory(
+                    redisProperties.cluster(),
+                    b -> b.clientResources(redisClientResources)
+            );
+        }
+        RedisNodeInfo master = redisProperties.master();
+        RedisStandaloneConfiguration standaloneConfig = new RedisStandaloneConfiguration(master.host(), master.port());
+        standaloneConfig.setDatabase(redisProperties.database());
+        LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .clientResources(redisClientResources)
+                .build();
+        return new LettuceConnectionFactory(standaloneConfig, clientConfig);
+    }
+
     @Primary
     @Bean
     public RedisTemplate<String, String> defaultRedisTemplate(LettuceConnectionFactory lettuceConnectionFactory) {
@@ -68,6 +154,97 @@ public class RedisConfig{
         return defaultRedisTemplate(redisTemplate, lettuceConnectionFactory);
     }
 
+    /**
+     * 값을 Smile + LZ4 로 저장하는 템플릿 (replica 우선 읽기)
+     */
+    @Primary
+    @Bean
+    public RedisBinaryTemplates redisBinaryTemplates(
+            LettuceConnectionFactory lettuceConnectionFactory,
+            RedisBinaryProperties redisBinaryProperties
+    ) {
+        return new RedisBinaryTemplates(lettuceConnectionFactory, redisBinaryProperties);
+    }
+
+    @Qualifier(REDIS_BINARY_TEMPLATES_MASTER)
+    @Bean
+    public RedisBinaryTemplates masterRedisBinaryTemplates(
+            @Qualifier(CONNECTION_MASTER) LettuceConnectionFactory lettuceConnectionFactory,
+            RedisBinaryProperties redisBinaryProperties
+    ) {
+        return new RedisBinaryTemplates(lettuceConnectionFactory, redisBinaryProperties);
+    }
+
+    /**
+     * read-your-writes WAIT 모드 전용 master 커넥션 풀. WAIT 는 커넥션을 막고 기다리므로 공유 커넥션과 분리한다.
+     */
+    @ConditionalOnProperty(prefix = "datasource.redis.read-your-writes", name = "mode", havingValue = "wait")
+    @Qualifier(CONNECTION_WAIT)
+    @Bean
+    public LettuceConnectionFactory waitRedisConnectionFactory(
+            ClientResources redisClientResources,
+            ReadYourWritesProperties readYourWritesProperties
+    ) {
+        if (redisProperties.clusterEnabled()) {
+            // WAIT 는 명령을 받은 노드의 replica 만 확인하므로 여러 샤드에 걸친 쓰기를 보장하지 못한다.
+            throw new IllegalStateException("클러스터 모드에서는 read-your-writes.mode=wait 를 사용할 수 없습니다. marker 를 사용하세요.");
+        }
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(readYourWritesProperties.waitConnections());
+        poolConfig.setMaxIdle(readYourWritesProperties.waitConnections());
+        LettuceClientConfiguration clientConfig = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig)
+                .clientResources(redisClientResources)
+                .readFrom(ReadFrom.MASTER)
+                .build();
+        RedisNodeInfo master = redisProperties.master();
+        RedisStaticMasterReplicaConfiguration masterReplicaConfig = new RedisStaticMasterReplicaConfiguration(master.host(), master.port());
+        masterReplicaConfig.setDatabase(redisProperties.database());
+        for(RedisNodeInfo r : redisProperties.replicas()){
+            masterReplicaConfig.addNode(r.host(), r.port());
+        }
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(masterReplicaConfig, clientConfig);
+        connectionFactory.setShareNativeConnection(false);
+        return connectionFactory;
+    }
+
+    @Bean
+    public ReadYourWritesRouter readYourWritesRouter(
+            RedisTemplate<String, String> defaultRedisTemplate,
+            @Qualifier(REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            @Qualifier(CONNECTION_WAIT) ObjectProvider<LettuceConnectionFactory> waitRedisConnectionFactory,
+            ReadYourWritesProperties readYourWritesProperties,
+            MeterRegistry meterRegistry
+    ) {
+        LettuceConnectionFactory waitConnectionFactory = waitRedisConnectionFactory.getIfAvailable();
+        RedisTemplate<String, String> waitTemplate = null;
+        if (waitConnectionFactory != null) {
+            waitTemplate = defaultRedisTemplate(new RedisTemplate<>(), waitConnectionFactory);
+            waitTemplate.afterPropertiesSet();
+        }
+        return new ReadYourWritesRouter(
+                defaultRedisTemplate,
+                masterRedisTemplate,
+                waitTemplate,
+                readYourWritesProperties,
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public RedisBulkOperations redisBulkOperations(
+            ReadYourWritesRouter readYourWritesRouter,
+            RedisBulkProperties redisBulkProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new RedisBulkOperations(readYourWritesRouter, redisBulkProperties, meterRegistry);
+    }
+
+    @Bean
+    public RedisRateLimiter redisRateLimiter(ReadYourWritesRouter readYourWritesRouter) {
+        return new RedisRateLimiter(readYourWritesRouter);
+    }
+
 
     private LettuceConnectionFactory lettuceConnectionFactory(
             int database,
@@ -86,6 +263,38 @@ public class RedisConfig{
         return new LettuceConnectionFactory(masterReplicaConfig, clientConfig);
     }
 
+    private RedisNodeRoles redisNodeRoles(){
+        return redisProperties.clusterEnabled()
+                ? RedisNodeRoles.cluster()
+                : RedisNodeRoles.masterReplica(redisProperties.master());
+    }
+
+    /**
+     * MOVED / ASK 리다이렉트, 재연결 등이 발생하면 즉시 토폴로지를 다시 읽고(적응형 갱신), 그 외에는 주기적으로 갱신한다.
+     */
+    private LettuceConnectionFactory lettuceClusterConnectionFactory(
+            RedisClusterInfo cluster,
+            Consumer<LettuceClientConfiguration.LettuceClientConfigurationBuilder> customizer
+    ){
+        ClusterTopologyRefreshOptions.Builder refreshOptions = ClusterTopologyRefreshOptions.builder()
+                .enableAllAdaptiveRefreshTriggers();
+        if(cluster.topologyRefreshPeriod() != null) refreshOptions.enablePeriodicRefresh(cluster.topologyRefreshPeriod());
+        ClusterClientOptions clientOptions = ClusterClientOptions.builder()
+                .topologyRefreshOptions(refreshOptions.build())
+                .build();
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder()
+                .clientOptions(clientOptions);
+        if(customizer != null) customizer.accept(builder);
+        LettuceClientConfiguration clientConfig = builder.build();
+        RedisClusterConfiguration clusterConfig = new RedisClusterConfiguration();
+        for(RedisNodeInfo n : cluster.nodes()){
+            clusterConfig.clusterNode(n.host(), n.port());
+        }
+        if(cluster.maxRedirects() > 0) clusterConfig.setMaxRedirects(cluster.maxRedirects());
+        return new LettuceConnectionFactory(clusterConfig, clientConfig);
+    }
+
     private <K,V> RedisTemplate<K,V> defaultRedisTemplate(
             RedisTemplate<K,V> template,
             LettuceConnectionFactory connectionFactory
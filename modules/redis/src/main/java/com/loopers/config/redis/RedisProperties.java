@@ -4,9 +4,17 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.List;
 
+/**
+ * cluster.nodes 가 있으면 클러스터 모드로, 없으면 master / replicas 로 정적 master-replica 모드로 연결한다.
+ */
 @ConfigurationProperties(value = "datasource.redis")
 public record RedisProperties(
         int database,
         RedisNodeInfo master,
-        List<RedisNodeInfo> replicas
-) { }
+        List<RedisNodeInfo> replicas,
+        RedisClusterInfo cluster
+) {
+    public boolean clusterEnabled() {
+        return cluster != null && cluster.nodes() != null && !cluster.nodes().isEmpty();
+    }
+}
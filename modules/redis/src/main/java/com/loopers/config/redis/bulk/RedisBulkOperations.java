@@ -0,0 +1,274 @@
+package com.loopers.config.redis.bulk;
+
+import com.loopers.config.redis.consistency.ReadYourWritesRouter;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 여러 키를 한 번에 다루는 Redis 연산.
+ * <ul>
+ *     <li>요청을 batchSize 단위로 나누어 MGET / HMGET 한 번, 또는 파이프라인 한 번으로 보낸다.
+ *     파이프라인은 Lettuce 비동기 명령을 한꺼번에 보낸 뒤 모아서 기다리는 방식이라 클러스터 커넥션에서도 동작한다.</li>
+ *     <li>읽기는 replica 우선 템플릿, 쓰기는 master 템플릿을 사용한다.
+ *     최근에 쓴 키를 읽을 때는 {@link ReadYourWritesRouter} 가 master 로 보낸다.</li>
+ *     <li>배치마다 redis.bulk.batch 타이머(operation, role 태그)에 지연을 기록한다.</li>
+ * </ul>
+ */
+public class RedisBulkOperations {
+    private static final String ROLE_REPLICA = "replica";
+    private static final String ROLE_MASTER = "master";
+    private static final Duration PIPELINE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ReadYourWritesRouter router;
+    private final int batchSize;
+    private final MeterRegistry meterRegistry;
+
+    public RedisBulkOperations(
+            ReadYourWritesRouter router,
+            RedisBulkProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.router = router;
+        this.batchSize = Math.max(1, properties.batchSize());
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 존재하는 키만 결과에 담는다. 결과의 순서는 요청한 키 순서를 따른다.
+     */
+    public Map<String, String> multiGet(Collection<String> keys) {
+        return multiGet(keys, Function.identity());
+    }
+
+    public <V> Map<String, V> multiGet(Collection<String> keys, Function<String, V> decoder) {
+        Map<String, V> result = new LinkedHashMap<>();
+        for (List<String> chunk : chunk(keys)) {
+            RedisTemplate<String, String> readTemplate = router.readTemplate(chunk);
+            List<byte[]> values = timed("mget", roleOf(readTemplate), () -> readTemplate.execute((RedisConnection connection) ->
+                    connection.stringCommands().mGet(rawAll(chunk))
+            ));
+            for (int i = 0; i < chunk.size(); i++) {
+                byte[] value = values == null ? null : values.get(i);
+                if (value != null) {
+                    result.put(chunk.get(i), decoder.apply(string(value)));
+                }
+            }
+        }
+        return result;
+    }
+
+    public void multiSet(Map<String, String> values, Duration ttl) {
+        multiSet(values, ttl, Function.identity());
+    }
+
+    public <V> void multiSet(Map<String, V> values, Duration ttl, Function<V, String> encoder) {
+        SetArgs setArgs = ttl == null ? new SetArgs() : SetArgs.Builder.px(ttl.toMillis());
+        for (List<Map.Entry<String, V>> chunk : chunk(values.entrySet())) {
+            List<String> keys = chunk.stream().map(Map.Entry::getKey).toList();
+            router.write(keys, template -> timed("set", ROLE_MASTER, () -> pipelined(template, commands -> {
+                List<RedisFuture<?>> futures = new ArrayList<>(chunk.size());
+                for (Map.Entry<String, V> entry : chunk) {
+                    futures.add(commands.set(raw(entry.getKey()), raw(encoder.apply(entry.getValue())), setArgs));
+                }
+                return futures;
+            })));
+        }
+    }
+
+    public void delete(Collection<String> keys) {
+        for (List<String> chunk : chunk(keys)) {
+            router.write(chunk, template -> timed("unlink", ROLE_MASTER, () -> template.execute((RedisConnection connection) ->
+                    connection.keyCommands().unlink(rawAll(chunk))
+            )));
+        }
+    }
+
+    /**
+     * 하나의 해시에서 여러 필드를 읽는다. 존재하는 필드만 결과에 담는다.
+     */
+    public Map<String, String> hashMultiGet(String key, Collection<String> fields) {
+        Map<String, String> result = new LinkedHashMap<>();
+        byte[] rawKey = raw(key);
+        RedisTemplate<String, String> readTemplate = router.readTemplate(List.of(key));
+        for (List<String> chunk : chunk(fields)) {
+            List<byte[]> values = timed("hmget", roleOf(readTemplate), () -> readTemplate.execute((RedisConnection connection) ->
+                    connection.hashCommands().hMGet(rawKey, rawAll(chunk))
+            ));
+            for (int i = 0; i < chunk.size(); i++) {
+                byte[] value = values == null ? null : values.get(i);
+                if (value != null) {
+                    result.put(chunk.get(i), string(value));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 여러 해시를 파이프라인으로 통째로 읽는다. 존재하지 않는 해시는 결과에서 빠진다.
+     */
+    public Map<String, Map<String, String>> hashGetAll(Collection<String> keys) {
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        for (List<String> chunk : chunk(keys)) {
+            RedisTemplate<String, String> readTemplate = router.readTemplate(chunk);
+            List<Object> replies = timed("hgetall", roleOf(readTemplate), () -> pipelined(readTemplate, commands -> {
+                List<RedisFuture<?>> futures = new ArrayList<>(chunk.size());
+                for (String key : chunk) {
+                    futures.add(commands.hgetall(raw(key)));
+                }
+                return futures;
+            }));
+            for (int i = 0; i < chunk.size(); i++) {
+                @SuppressWarnings("unchecked")
+                Map<byte[], byte[]> hash = (Map<byte[], byte[]>) replies.get(i);
+                if (hash != null && !hash.isEmpty()) {
+                    Map<String, String> decoded = new LinkedHashMap<>();
+                    hash.forEach((field, value) -> decoded.put(string(field), string(value)));
+                    result.put(chunk.get(i), decoded);
+                }
+            }
+        }
+        return result;
+    }
+
+    public void hashMultiSet(String key, Map<String, String> fields, Duration ttl) {
+        byte[] rawKey = raw(key);
+        for (List<Map.Entry<String, String>> chunk : chunk(fields.entrySet())) {
+            Map<byte[], byte[]> rawFields = new HashMap<>();
+            for (Map.Entry<String, String> entry : chunk) {
+                rawFields.put(raw(entry.getKey()), raw(entry.getValue()));
+            }
+            router.write(key, template -> timed("hset", ROLE_MASTER, () -> pipelined(template, commands -> {
+                List<RedisFuture<?>> futures = new ArrayList<>(2);
+                futures.add(commands.hset(rawKey, rawFields));
+                if (ttl != null) {
+                    futures.add(commands.pexpire(rawKey, ttl.toMillis()));
+                }
+                return futures;
+            })));
+        }
+    }
+
+    /**
+     * 여러 멤버의 점수를 파이프라인 ZINCRBY 로 더한다.
+     */
+    public void zIncrementAll(String key, Map<String, Double> deltas, Duration ttl) {
+        zBatch("zincrby", key, deltas, ttl, true);
+    }
+
+    /**
+     * 여러 멤버의 점수를 파이프라인 ZADD 로 덮어쓴다.
+     */
+    public void zAddAll(String key, Map<String, Double> scores, Duration ttl) {
+        zBatch("zadd", key, scores, ttl, false);
+    }
+
+    private void zBatch(String operation, String key, Map<String, Double> scores, Duration ttl, boolean increment) {
+        byte[] rawKey = raw(key);
+        for (List<Map.Entry<String, Double>> chunk : chunk(scores.entrySet())) {
+            router.write(key, template -> timed(operation, ROLE_MASTER, () -> pipelined(template, commands -> {
+                List<RedisFuture<?>> futures = new ArrayList<>(chunk.size() + 1);
+                for (Map.Entry<String, Double> entry : chunk) {
+                    futures.add(increment
+                            ? commands.zincrby(rawKey, entry.getValue(), raw(entry.getKey()))
+                            : commands.zadd(rawKey, entry.getValue(), raw(entry.getKey())));
+                }
+                if (ttl != null) {
+                    futures.add(commands.pexpire(rawKey, ttl.toMillis()));
+                }
+                return futures;
+            })));
+        }
+    }
+
+    /**
+     * 명령들을 응답을 기다리지 않고 연달아 보낸 뒤 한꺼번에 기다린다. 결과는 보낸 순서대로 돌려준다.
+     * Spring 의 클러스터 커넥션은 executePipelined 를 지원하지 않으므로 Lettuce 비동기 명령을 직접 사용한다.
+     */
+    private List<Object> pipelined(
+            RedisTemplate<String, String> template,
+            Function<RedisClusterAsyncCommands<byte[], byte[]>, List<RedisFuture<?>>> commands
+    ) {
+        return template.execute((RedisConnection connection) -> {
+            @SuppressWarnings("unchecked")
+            RedisClusterAsyncCommands<byte[], byte[]> async =
+                    (RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+            List<RedisFuture<?>> futures = commands.apply(async);
+            if (!LettuceFutures.awaitAll(PIPELINE_TIMEOUT, futures.toArray(RedisFuture[]::new))) {
+                throw new RedisCommandTimeoutException("Redis 파이프라인 응답 대기 시간을 초과했습니다.");
+            }
+            List<Object> results = new ArrayList<>(futures.size());
+            for (RedisFuture<?> future : futures) {
+                results.add(future.toCompletableFuture().join());
+            }
+            return results;
+        });
+    }
+
+    private String roleOf(RedisTemplate<String, String> template) {
+        return router.isMaster(template) ? ROLE_MASTER : ROLE_REPLICA;
+    }
+
+    private <T> List<List<T>> chunk(Collection<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        List<T> current = new ArrayList<>(Math.min(batchSize, items.size()));
+        for (T item : items) {
+            current.add(item);
+            if (current.size() == batchSize) {
+                chunks.add(current);
+                current = new ArrayList<>(batchSize);
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private <T> T timed(String operation, String role, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return call.get();
+        } finally {
+            sample.stop(Timer.builder("redis.bulk.batch")
+                    .description("bulk 연산 배치 한 번의 지연")
+                    .tags("operation", operation, "role", role)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private static byte[] raw(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] rawAll(List<String> values) {
+        byte[][] raws = new byte[values.size()][];
+        for (int i = 0; i < values.size(); i++) {
+            raws[i] = raw(values.get(i));
+        }
+        return raws;
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,11 @@
+package com.loopers.config.redis.bulk;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param batchSize 파이프라인 / MGET 한 번에 보낼 최대 명령(키) 수
+ */
+@ConfigurationProperties(value = "datasource.redis.bulk")
+public record RedisBulkProperties(
+        int batchSize
+) { }
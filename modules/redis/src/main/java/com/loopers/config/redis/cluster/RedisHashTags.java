@@ -0,0 +1,57 @@
+package com.loopers.config.redis.cluster;
+
+import io.lettuce.core.cluster.SlotHash;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 클러스터에서 여러 키를 한 번에 다루는 연산(Lua 스크립트, MGET, ZUNIONSTORE 등)은 키가 모두 같은 슬롯에 있어야 한다.
+ * 키에 {tag} 를 넣으면 중괄호 안의 문자열로만 슬롯이 정해지므로, 함께 다룰 키는 같은 태그로 만든다.
+ * <pre>
+ *     RedisHashTags.key("ranking:products", "20250101")  // {ranking:products}:20250101
+ * </pre>
+ */
+public final class RedisHashTags {
+    private RedisHashTags() { }
+
+    /**
+     * tag 를 해시 태그로 감싸고 나머지를 ':' 로 이어 붙인다.
+     */
+    public static String key(String tag, Object... parts) {
+        if (tag == null || tag.isEmpty() || tag.indexOf('{') >= 0 || tag.indexOf('}') >= 0) {
+            throw new IllegalArgumentException("해시 태그는 비어 있지 않고 중괄호를 포함하지 않아야 합니다 : " + tag);
+        }
+        StringBuilder key = new StringBuilder().append('{').append(tag).append('}');
+        for (Object part : parts) {
+            key.append(':').append(part);
+        }
+        return key.toString();
+    }
+
+    /**
+     * 키가 배정되는 슬롯 (0 ~ 16383). 해시 태그가 있으면 태그 기준으로 계산된다.
+     */
+    public static int slot(String key) {
+        return SlotHash.getSlot(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static boolean sameSlot(Collection<String> keys) {
+        return keys.stream().map(RedisHashTags::slot).distinct().count() <= 1;
+    }
+
+    /**
+     * 키를 슬롯별로 묶는다. 슬롯 안에서는 요청한 키 순서를 유지한다.
+     */
+    public static Map<Integer, List<String>> groupBySlot(Collection<String> keys) {
+        Map<Integer, List<String>> groups = new TreeMap<>();
+        for (String key : keys) {
+            groups.computeIfAbsent(slot(key), ignored -> new ArrayList<>()).add(key);
+        }
+        return groups;
+    }
+}
@@ -0,0 +1,39 @@
+package com.loopers.config.redis.consistency;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 세션(사용자) 식별자. 세션이 지정되면 그 세션이 최근에 쓴 뒤의 모든 읽기가 master 로 간다.
+ * 애플리케이션의 요청 필터 등에서 지정하고 반드시 해제한다.
+ */
+public final class ReadYourWritesContext {
+    private static final ThreadLocal<String> SESSION = new ThreadLocal<>();
+
+    private ReadYourWritesContext() { }
+
+    public static <T> T withSession(String sessionId, Supplier<T> action) {
+        String previous = SESSION.get();
+        SESSION.set(sessionId);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                SESSION.remove();
+            } else {
+                SESSION.set(previous);
+            }
+        }
+    }
+
+    public static void setSession(String sessionId) {
+        SESSION.set(sessionId);
+    }
+
+    public static void clear() {
+        SESSION.remove();
+    }
+
+    static String currentSession() {
+        return SESSION.get();
+    }
+}
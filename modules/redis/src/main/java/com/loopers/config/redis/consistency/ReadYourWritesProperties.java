@@ -0,0 +1,35 @@
+package com.loopers.config.redis.consistency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * replica 읽기의 read-your-writes 보장 설정
+ *
+ * @param enabled         false 면 모든 읽기를 replica 우선으로 보낸다. (기존 동작)
+ * @param mode            MARKER : 쓰기 후 stalenessWindow 동안 같은 키 / 세션의 읽기를 master 로 보낸다.
+ *                        WAIT : 쓰기 후 WAIT 으로 replica 반영을 기다리고, 시간 안에 반영되지 않으면 MARKER 로 대체한다.
+ * @param stalenessWindow replica 지연 허용 한계. 쓰기 마커 유지 시간
+ * @param waitReplicas    WAIT 모드에서 반영을 확인할 replica 수
+ * @param waitTimeout     WAIT 모드에서 기다릴 최대 시간
+ * @param waitConnections WAIT 모드에서 쓰기와 WAIT 를 보낼 전용 커넥션 풀 크기
+ * @param maxTrackedKeys  노드 로컬에서 추적할 최대 마커 수. 넘치면 stalenessWindow 동안 이 노드의 모든 읽기를 master 로 보낸다.
+ * @param sharedMarkers   true 면 마커를 master 에도 stalenessWindow TTL 로 남겨 모든 노드의 읽기에 적용한다.
+ *                        로컬 마커가 없는 읽기마다 master 에 EXISTS 가 한 번 추가된다.
+ */
+@ConfigurationProperties(value = "datasource.redis.read-your-writes")
+public record ReadYourWritesProperties(
+        boolean enabled,
+        Mode mode,
+        Duration stalenessWindow,
+        int waitReplicas,
+        Duration waitTimeout,
+        int waitConnections,
+        int maxTrackedKeys,
+        boolean sharedMarkers
+) {
+    public enum Mode {
+        MARKER, WAIT
+    }
+}
@@ -0,0 +1,187 @@
+package com.loopers.config.redis.consistency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * replica 읽기에서도 자신이 쓴 값은 바로 읽을 수 있도록 읽기 대상을 고른다.
+ * <p>
+ * 쓰기는 항상 master 로 보내고, 쓰기 이후 stalenessWindow 동안 같은 키(또는 같은 세션)의 읽기만 master 로 보낸다.
+ * 그 외 읽기는 기존과 같이 replica 우선으로 처리되므로 replica 의 읽기 용량을 그대로 쓸 수 있다.
+ * 마커는 노드 로컬에 두고, sharedMarkers 면 master 에도 남겨 다른 노드가 받은 읽기에도 적용한다.
+ * <p>
+ * WAIT 모드의 쓰기는 풀에서 빌린 전용 커넥션으로 보낸다. WAIT 는 같은 커넥션으로 보낸 쓰기만 확인하고,
+ * 기다리는 동안 커넥션을 막으므로 공유 커넥션으로 보내면 다른 요청의 명령까지 waitTimeout 만큼 밀린다.
+ */
+@Slf4j
+public class ReadYourWritesRouter {
+    private final RedisTemplate<String, String> replicaTemplate;
+    private final RedisTemplate<String, String> masterTemplate;
+    private final RedisTemplate<String, String> waitTemplate;
+    private final ReadYourWritesProperties properties;
+    private final WriteMarkers markers;
+    private final SharedWriteMarkers sharedMarkers;
+    private final MeterRegistry meterRegistry;
+    private final Counter replicaReads;
+    private final Counter waitFallbacks;
+
+    public ReadYourWritesRouter(
+            RedisTemplate<String, String> replicaTemplate,
+            RedisTemplate<String, String> masterTemplate,
+            ReadYourWritesProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this(replicaTemplate, masterTemplate, null, properties, meterRegistry);
+    }
+
+    /**
+     * @param waitTemplate 공유하지 않는 (풀링된) master 커넥션의 템플릿. WAIT 모드에서만 필요하다.
+     */
+    public ReadYourWritesRouter(
+            RedisTemplate<String, String> replicaTemplate,
+            RedisTemplate<String, String> masterTemplate,
+            RedisTemplate<String, String> waitTemplate,
+            ReadYourWritesProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        if (properties.enabled() && properties.mode() == ReadYourWritesProperties.Mode.WAIT && waitTemplate == null) {
+            throw new IllegalStateException("read-your-writes.mode=wait 에는 전용 커넥션 템플릿이 필요합니다.");
+        }
+        this.replicaTemplate = replicaTemplate;
+        this.masterTemplate = masterTemplate;
+        this.waitTemplate = waitTemplate;
+        this.properties = properties;
+        this.markers = new WriteMarkers(properties.stalenessWindow().toNanos(), properties.maxTrackedKeys());
+        this.sharedMarkers = properties.sharedMarkers() ? new SharedWriteMarkers(masterTemplate, properties.stalenessWindow()) : null;
+        this.meterRegistry = meterRegistry;
+        this.replicaReads = routedCounter("replica", "none");
+        this.waitFallbacks = Counter.builder("redis.read-your-writes.wait.fallback")
+                .description("WAIT 시간 안에 replica 반영이 확인되지 않아 마커로 대체한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("redis.read-your-writes.markers", markers, WriteMarkers::size)
+                .description("추적 중인 쓰기 마커 수")
+                .register(meterRegistry);
+    }
+
+    public <T> T read(Collection<String> keys, Function<RedisTemplate<String, String>, T> command) {
+        return command.apply(readTemplate(keys));
+    }
+
+    public <T> T read(String key, Function<RedisTemplate<String, String>, T> command) {
+        return read(List.of(key), command);
+    }
+
+    /**
+     * master 로 쓰고, 모드에 따라 WAIT 으로 반영을 확인하거나 마커를 남긴다.
+     */
+    public <T> T write(Collection<String> keys, Function<RedisTemplate<String, String>, T> command) {
+        if (properties.enabled() && properties.mode() == ReadYourWritesProperties.Mode.WAIT) {
+            return writeAndAwait(keys, command);
+        }
+        T result = command.apply(masterTemplate);
+        afterWrite(keys);
+        return result;
+    }
+
+    public <T> T write(String key, Function<RedisTemplate<String, String>, T> command) {
+        return write(List.of(key), command);
+    }
+
+    /**
+     * 읽을 키에 맞는 템플릿. 최근에 쓴 키 / 세션이면 master 템플릿을 돌려준다.
+     */
+    public RedisTemplate<String, String> readTemplate(Collection<String> keys) {
+        if (!properties.enabled()) {
+            return replicaTemplate;
+        }
+        String session = ReadYourWritesContext.currentSession();
+        WriteMarkers.Reason reason = markers.check(keys, session);
+        if (reason == null && sharedMarkers != null) {
+            reason = sharedMarkers.check(keys, session);
+        }
+        if (reason == null) {
+            replicaReads.increment();
+            return replicaTemplate;
+        }
+        routedCounter("master", reason.name().toLowerCase()).increment();
+        return masterTemplate;
+    }
+
+    public RedisTemplate<String, String> writeTemplate() {
+        return masterTemplate;
+    }
+
+    public boolean isMaster(RedisTemplate<String, String> template) {
+        return template == masterTemplate || template == waitTemplate;
+    }
+
+    /**
+     * master 템플릿으로 직접 쓴 뒤 호출한다.
+     * 공유 커넥션으로 보낸 쓰기는 WAIT 로 확인할 수 없으므로 모드와 관계없이 마커를 남긴다.
+     */
+    public void afterWrite(Collection<String> keys) {
+        if (!properties.enabled()) {
+            return;
+        }
+        mark(keys, ReadYourWritesContext.currentSession());
+    }
+
+    private void mark(Collection<String> keys, String session) {
+        markers.mark(keys, session);
+        if (sharedMarkers != null) {
+            sharedMarkers.mark(keys, session);
+        }
+    }
+
+    /**
+     * 쓰기와 WAIT 를 전용 커넥션 하나로 보낸다. (SessionCallback 안의 명령은 같은 커넥션에 묶인다)
+     */
+    private <T> T writeAndAwait(Collection<String> keys, Function<RedisTemplate<String, String>, T> command) {
+        String session = ReadYourWritesContext.currentSession();
+        return waitTemplate.execute(new SessionCallback<T>() {
+            @Override
+            public <K, V> T execute(RedisOperations<K, V> operations) {
+                T result = command.apply(waitTemplate);
+                if (!awaitReplication()) {
+                    mark(keys, session);
+                }
+                return result;
+            }
+        });
+    }
+
+    private boolean awaitReplication() {
+        try {
+            Long acked = waitTemplate.execute((RedisCallback<Long>) connection -> (Long) connection.execute(
+                    "WAIT",
+                    String.valueOf(properties.waitReplicas()).getBytes(StandardCharsets.UTF_8),
+                    String.valueOf(properties.waitTimeout().toMillis()).getBytes(StandardCharsets.UTF_8)
+            ));
+            if (acked != null && acked >= properties.waitReplicas()) {
+                return true;
+            }
+        } catch (Exception e) {
+            log.warn("Redis WAIT 실행에 실패했습니다.", e);
+        }
+        waitFallbacks.increment();
+        return false;
+    }
+
+    private Counter routedCounter(String target, String reason) {
+        return Counter.builder("redis.read-your-writes.reads")
+                .description("읽기 라우팅 결과")
+                .tags("target", target, "reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,117 @@
+package com.loopers.config.redis.consistency;
+
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 쓰기 마커를 master 에 stalenessWindow 만큼의 TTL 로 남겨, 쓰기를 하지 않은 노드(다른 애플리케이션 포함)의 읽기도 master 로 보낸다.
+ * <p>
+ * 노드 로컬 마커에 없는 읽기는 마커 확인을 위해 master 에 EXISTS 를 한 번 보낸다. 값은 그대로 replica 에서 읽는다.
+ * 마커마다 단일 키 명령을 파이프라인으로 보내므로 클러스터에서도 슬롯과 관계없이 동작한다.
+ */
+@Slf4j
+final class SharedWriteMarkers {
+    private static final String SESSION_PREFIX = "read-your-writes:session:";
+    private static final String KEY_PREFIX = "read-your-writes:key:";
+    private static final byte[] VALUE = "1".getBytes(StandardCharsets.UTF_8);
+    private static final Duration PIPELINE_TIMEOUT = Duration.ofSeconds(1);
+
+    private final RedisTemplate<String, String> masterTemplate;
+    private final long windowMillis;
+
+    SharedWriteMarkers(RedisTemplate<String, String> masterTemplate, Duration window) {
+        this.masterTemplate = masterTemplate;
+        this.windowMillis = Math.max(1, window.toMillis());
+    }
+
+    /**
+     * 실패해도 쓰기는 이미 끝났으므로 예외를 던지지 않는다. (이 노드의 마커만 적용된다)
+     */
+    void mark(Collection<String> keys, String session) {
+        List<byte[]> markers = markerKeys(keys, session);
+        try {
+            pipelined(commands -> {
+                List<RedisFuture<?>> futures = new ArrayList<>(markers.size());
+                for (byte[] marker : markers) {
+                    futures.add(commands.set(marker, VALUE, SetArgs.Builder.px(windowMillis)));
+                }
+                return futures;
+            });
+        } catch (Exception e) {
+            log.warn("공유 쓰기 마커를 남기지 못했습니다 : keys = {}", keys.size(), e);
+        }
+    }
+
+    /**
+     * 확인에 실패하면 UNAVAILABLE 을 돌려준다. (반영 여부를 모르므로 master 로 읽는다)
+     */
+    WriteMarkers.Reason check(Collection<String> keys, String session) {
+        List<byte[]> markers = markerKeys(keys, session);
+        List<Object> exists;
+        try {
+            exists = pipelined(commands -> {
+                List<RedisFuture<?>> futures = new ArrayList<>(markers.size());
+                for (byte[] marker : markers) {
+                    futures.add(commands.exists(marker));
+                }
+                return futures;
+            });
+        } catch (Exception e) {
+            log.warn("공유 쓰기 마커를 확인하지 못했습니다.", e);
+            return WriteMarkers.Reason.UNAVAILABLE;
+        }
+        for (int i = 0; i < exists.size(); i++) {
+            if (exists.get(i) instanceof Long count && count > 0) {
+                return session != null && i == 0 ? WriteMarkers.Reason.SESSION : WriteMarkers.Reason.KEY;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 세션 마커가 있으면 맨 앞에 둔다.
+     */
+    private static List<byte[]> markerKeys(Collection<String> keys, String session) {
+        List<byte[]> markers = new ArrayList<>(keys.size() + 1);
+        if (session != null) {
+            markers.add((SESSION_PREFIX + session).getBytes(StandardCharsets.UTF_8));
+        }
+        for (String key : keys) {
+            markers.add((KEY_PREFIX + key).getBytes(StandardCharsets.UTF_8));
+        }
+        return markers;
+    }
+
+    /**
+     * Spring 의 클러스터 커넥션은 executePipelined 를 지원하지 않으므로 Lettuce 비동기 명령을 직접 사용한다.
+     */
+    private List<Object> pipelined(Function<RedisClusterAsyncCommands<byte[], byte[]>, List<RedisFuture<?>>> commands) {
+        return masterTemplate.execute((RedisConnection connection) -> {
+            @SuppressWarnings("unchecked")
+            RedisClusterAsyncCommands<byte[], byte[]> async =
+                    (RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+            List<RedisFuture<?>> futures = commands.apply(async);
+            if (!LettuceFutures.awaitAll(PIPELINE_TIMEOUT, futures.toArray(RedisFuture[]::new))) {
+                throw new RedisCommandTimeoutException("쓰기 마커 응답 대기 시간을 초과했습니다.");
+            }
+            List<Object> results = new ArrayList<>(futures.size());
+            for (RedisFuture<?> future : futures) {
+                results.add(future.toCompletableFuture().join());
+            }
+            return results;
+        });
+    }
+}
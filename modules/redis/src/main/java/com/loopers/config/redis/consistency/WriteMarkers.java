@@ -0,0 +1,84 @@
+package com.loopers.config.redis.consistency;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최근 쓰기가 일어난 키 / 세션을 stalenessWindow 동안 기억한다. (노드 로컬)
+ * 다른 노드의 쓰기는 {@link SharedWriteMarkers} 로 확인하고, 이 마커는 같은 노드의 쓰기를 Redis 확인 없이 거르는 데 쓴다.
+ * 추적 한도를 넘으면 개별 마커 대신 전체 마커를 걸어, 잠시 모든 읽기를 master 로 보낸다.
+ */
+final class WriteMarkers {
+    private static final String SESSION_PREFIX = "session:";
+    private static final String KEY_PREFIX = "key:";
+
+    private final long windowNanos;
+    private final int maxTracked;
+    private final Map<String, Long> expiresAt = new ConcurrentHashMap<>();
+    private final AtomicLong globalExpiresAt = new AtomicLong(System.nanoTime());
+
+    WriteMarkers(long windowNanos, int maxTracked) {
+        this.windowNanos = windowNanos;
+        this.maxTracked = maxTracked;
+    }
+
+    void mark(Collection<String> keys, String session) {
+        long until = System.nanoTime() + windowNanos;
+        if (expiresAt.size() + keys.size() > maxTracked) {
+            evictExpired();
+            if (expiresAt.size() + keys.size() > maxTracked) {
+                globalExpiresAt.accumulateAndGet(until, Math::max);
+                return;
+            }
+        }
+        for (String key : keys) {
+            expiresAt.put(KEY_PREFIX + key, until);
+        }
+        if (session != null) {
+            expiresAt.put(SESSION_PREFIX + session, until);
+        }
+    }
+
+    Reason check(Collection<String> keys, String session) {
+        long now = System.nanoTime();
+        if (now - globalExpiresAt.get() < 0) {
+            return Reason.OVERFLOW;
+        }
+        if (session != null && isActive(SESSION_PREFIX + session, now)) {
+            return Reason.SESSION;
+        }
+        for (String key : keys) {
+            if (isActive(KEY_PREFIX + key, now)) {
+                return Reason.KEY;
+            }
+        }
+        return null;
+    }
+
+    int size() {
+        return expiresAt.size();
+    }
+
+    private boolean isActive(String marker, long now) {
+        Long until = expiresAt.get(marker);
+        if (until == null) {
+            return false;
+        }
+        if (now - until >= 0) {
+            expiresAt.remove(marker, until);
+            return false;
+        }
+        return true;
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        expiresAt.entrySet().removeIf(entry -> now - entry.getValue() >= 0);
+    }
+
+    enum Reason {
+        KEY, SESSION, OVERFLOW, UNAVAILABLE
+    }
+}
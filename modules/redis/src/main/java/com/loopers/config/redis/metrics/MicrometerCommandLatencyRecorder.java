@@ -0,0 +1,71 @@
+package com.loopers.config.redis.metrics;
+
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.net.SocketAddress;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Lettuce 가 명령 완료마다 알려주는 지연을 redis.command.latency 타이머(command, role 태그)에 기록한다.
+ * <p>
+ * 기록은 Netty 이벤트 루프에서 일어나므로 타이머는 (command, role) 별로 한 번만 만들어 재사용한다.
+ * sampledCommands 에 속한 명령은 sampleRate 비율로만 기록한다.
+ */
+public class MicrometerCommandLatencyRecorder implements CommandLatencyRecorder {
+    private final MeterRegistry meterRegistry;
+    private final RedisNodeRoles nodeRoles;
+    private final boolean histogram;
+    private final Set<String> sampledCommands;
+    private final double sampleRate;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public MicrometerCommandLatencyRecorder(
+            MeterRegistry meterRegistry,
+            RedisNodeRoles nodeRoles,
+            RedisMetricsProperties properties
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.nodeRoles = nodeRoles;
+        this.histogram = properties.histogram();
+        this.sampledCommands = properties.sampledCommands() == null
+                ? Set.of()
+                : properties.sampledCommands().stream().map(c -> c.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+        this.sampleRate = Math.max(0.0, Math.min(1.0, properties.sampleRate()));
+    }
+
+    @Override
+    public void recordCommandLatency(
+            SocketAddress local,
+            SocketAddress remote,
+            ProtocolKeyword commandType,
+            long firstResponseLatency,
+            long completionLatency
+    ) {
+        String command = commandType.toString();
+        if (sampleRate < 1.0 && sampledCommands.contains(command)
+                && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        timers.computeIfAbsent(new TimerKey(command, nodeRoles.roleOf(remote)), this::timer)
+                .record(completionLatency, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(TimerKey key) {
+        return Timer.builder("redis.command.latency")
+                .description("Redis 명령 완료까지 걸린 시간")
+                .tags("command", key.command(), "role", key.role())
+                .publishPercentileHistogram(histogram)
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String command, String role) { }
+}
@@ -0,0 +1,80 @@
+package com.loopers.config.redis.metrics;
+
+import io.lettuce.core.event.Event;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.event.connection.ConnectionDeactivatedEvent;
+import io.lettuce.core.event.connection.ConnectionEvent;
+import io.lettuce.core.event.connection.ReconnectAttemptEvent;
+import io.lettuce.core.event.connection.ReconnectFailedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.Disposable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lettuce 이벤트 버스를 구독해 커넥션 수와 재연결 이벤트를 기록한다.
+ * <ul>
+ *     <li>redis.connections.active : 현재 활성 커넥션 수 (role 태그)</li>
+ *     <li>redis.connection.reconnects : 재연결 시도 / 실패 횟수 (role, result 태그)</li>
+ * </ul>
+ */
+public class RedisConnectionMetrics implements DisposableBean {
+    private final MeterRegistry meterRegistry;
+    private final RedisNodeRoles nodeRoles;
+    private final Map<String, AtomicInteger> activeConnections = new ConcurrentHashMap<>();
+    private final Disposable subscription;
+
+    public RedisConnectionMetrics(EventBus eventBus, RedisNodeRoles nodeRoles, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.nodeRoles = nodeRoles;
+        for (String role : nodeRoles.roles()) {
+            activeConnectionsOf(role);
+        }
+        this.subscription = eventBus.get().subscribe(this::onEvent);
+    }
+
+    private void onEvent(Event event) {
+        if (event instanceof ConnectionActivatedEvent activated) {
+            activeConnectionsOf(roleOf(activated)).incrementAndGet();
+        } else if (event instanceof ConnectionDeactivatedEvent deactivated) {
+            activeConnectionsOf(roleOf(deactivated)).updateAndGet(count -> Math.max(0, count - 1));
+        } else if (event instanceof ReconnectAttemptEvent attempt) {
+            reconnects(roleOf(attempt), "attempt").increment();
+        } else if (event instanceof ReconnectFailedEvent failed) {
+            reconnects(roleOf(failed), "failed").increment();
+        }
+    }
+
+    private String roleOf(ConnectionEvent event) {
+        return nodeRoles.roleOf(event.remoteAddress());
+    }
+
+    private AtomicInteger activeConnectionsOf(String role) {
+        return activeConnections.computeIfAbsent(role, r -> {
+            AtomicInteger count = new AtomicInteger();
+            Gauge.builder("redis.connections.active", count, AtomicInteger::get)
+                    .description("활성 Redis 커넥션 수")
+                    .tag("role", r)
+                    .register(meterRegistry);
+            return count;
+        });
+    }
+
+    private Counter reconnects(String role, String result) {
+        return Counter.builder("redis.connection.reconnects")
+                .description("Redis 재연결 시도 / 실패 횟수")
+                .tags("role", role, "result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        subscription.dispose();
+    }
+}
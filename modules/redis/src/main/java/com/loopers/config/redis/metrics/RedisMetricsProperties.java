@@ -0,0 +1,21 @@
+package com.loopers.config.redis.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Set;
+
+/**
+ * Lettuce 명령 지연 / 커넥션 메트릭 설정
+ *
+ * @param enabled           메트릭 수집 여부
+ * @param histogram         명령 지연 타이머에 percentile histogram 을 게시할지 여부
+ * @param sampledCommands   샘플링할 명령 (GET, MGET 등 QPS 가 높은 명령). 나머지 명령은 모두 기록한다.
+ * @param sampleRate        sampledCommands 를 기록할 비율 (0.0 ~ 1.0). 기록된 횟수도 이 비율만큼 줄어든다.
+ */
+@ConfigurationProperties(value = "datasource.redis.metrics")
+public record RedisMetricsProperties(
+        boolean enabled,
+        boolean histogram,
+        Set<String> sampledCommands,
+        double sampleRate
+) { }
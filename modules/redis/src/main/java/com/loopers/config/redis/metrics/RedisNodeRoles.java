@@ -0,0 +1,65 @@
+package com.loopers.config.redis.metrics;
+
+import com.loopers.config.redis.RedisNodeInfo;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 커넥션의 원격 주소로 master / replica 를 구분한다.
+ * 정적 master-replica 구성에서는 설정된 master 주소와 비교하고, 클러스터에서는 역할이 바뀔 수 있으므로 cluster 로 둔다.
+ */
+public class RedisNodeRoles {
+    public static final String MASTER = "master";
+    public static final String REPLICA = "replica";
+    public static final String CLUSTER = "cluster";
+
+    private final boolean cluster;
+    private final Set<String> masterHostPorts = new HashSet<>();
+
+    private RedisNodeRoles(boolean cluster, RedisNodeInfo master) {
+        this.cluster = cluster;
+        if (master == null) {
+            return;
+        }
+        masterHostPorts.add(master.host() + ":" + master.port());
+        try {
+            for (InetAddress address : InetAddress.getAllByName(master.host())) {
+                masterHostPorts.add(address.getHostAddress() + ":" + master.port());
+            }
+        } catch (UnknownHostException ignored) {
+            // 주소를 풀 수 없으면 설정된 호스트 이름으로만 비교한다.
+        }
+    }
+
+    public static RedisNodeRoles masterReplica(RedisNodeInfo master) {
+        return new RedisNodeRoles(false, master);
+    }
+
+    public static RedisNodeRoles cluster() {
+        return new RedisNodeRoles(true, null);
+    }
+
+    public String roleOf(SocketAddress remote) {
+        if (cluster) {
+            return CLUSTER;
+        }
+        if (remote instanceof InetSocketAddress address) {
+            String host = address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+            if (masterHostPorts.contains(host + ":" + address.getPort())
+                    || masterHostPorts.contains(address.getHostString() + ":" + address.getPort())) {
+                return MASTER;
+            }
+        }
+        return REPLICA;
+    }
+
+    List<String> roles() {
+        return cluster ? List.of(CLUSTER) : List.of(MASTER, REPLICA);
+    }
+}
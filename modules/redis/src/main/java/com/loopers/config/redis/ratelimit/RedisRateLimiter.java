@@ -0,0 +1,76 @@
+package com.loopers.config.redis.ratelimit;
+
+import com.loopers.config.redis.cluster.RedisHashTags;
+import com.loopers.config.redis.consistency.ReadYourWritesRouter;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 토큰 버킷. 요청 하나에 걸린 여러 버킷(사용자, IP, 전체 등)을 Lua 스크립트 한 번으로 확인하고 차감한다.
+ * <ul>
+ *     <li>모든 버킷에 토큰이 있어야 허용되며, 하나라도 비어 있으면 어느 버킷에서도 차감하지 않는다.</li>
+ *     <li>버킷마다 lease 개까지 한 번에 가져갈 수 있다. 호출하는 쪽은 남은 토큰을 로컬에서 쓰고 Redis 호출을 줄인다.</li>
+ *     <li>시각은 Redis 서버 시간(TIME)을 쓰므로 노드 간 시계 차이의 영향을 받지 않는다.</li>
+ * </ul>
+ * 클러스터에서는 한 번에 확인하는 키가 모두 같은 슬롯에 있어야 한다. ({@link RedisHashTags#key})
+ * 버킷은 master 에서 스크립트로만 읽고 쓰므로 read-your-writes 마커를 남기지 않는다. (요청마다 마커가 쌓이지 않도록)
+ */
+public class RedisRateLimiter {
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET = RedisScript.of(new ClassPathResource("scripts/token-bucket.lua"), List.class);
+
+    private final ReadYourWritesRouter router;
+
+    public RedisRateLimiter(ReadYourWritesRouter router) {
+        this.router = router;
+    }
+
+    public Result acquire(List<Bucket> buckets) {
+        if (buckets.isEmpty()) {
+            throw new IllegalArgumentException("버킷이 하나 이상 필요합니다.");
+        }
+        List<String> keys = buckets.stream().map(Bucket::key).toList();
+        if (!RedisHashTags.sameSlot(keys)) {
+            throw new IllegalArgumentException("한 번에 확인하는 버킷 키는 같은 해시 태그를 가져야 합니다 : " + keys);
+        }
+        Object[] args = new Object[buckets.size() * 3];
+        for (int i = 0; i < buckets.size(); i++) {
+            Bucket bucket = buckets.get(i);
+            args[i * 3] = String.valueOf(bucket.capacity());
+            args[i * 3 + 1] = String.valueOf(bucket.refillPerSecond());
+            args[i * 3 + 2] = String.valueOf(Math.max(1, bucket.lease()));
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Long> reply = router.writeTemplate().execute(TOKEN_BUCKET, keys, args);
+        List<Grant> grants = new ArrayList<>(buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            grants.add(new Grant(reply.get(3 + i * 2), reply.get(4 + i * 2)));
+        }
+        int limitedIndex = reply.get(2).intValue() - 1;
+        return new Result(reply.get(0) == 1L, reply.get(1), limitedIndex, grants);
+    }
+
+    /**
+     * @param capacity        버킷 크기 (순간적으로 허용하는 최대 요청 수)
+     * @param refillPerSecond 초당 채워지는 토큰 수
+     * @param lease           한 번에 가져갈 최대 토큰 수
+     */
+    public record Bucket(String key, long capacity, double refillPerSecond, int lease) { }
+
+    /**
+     * @param granted   이번에 가져간 토큰 수 (거절되면 0)
+     * @param remaining Redis 버킷에 남은 토큰 수
+     */
+    public record Grant(long granted, long remaining) { }
+
+    /**
+     * @param retryAfterMillis 거절된 경우 토큰이 채워질 때까지의 시간
+     * @param limitedIndex     거절을 결정한 버킷의 위치 (허용되면 -1)
+     * @param grants           요청한 버킷 순서대로
+     */
+    public record Result(boolean allowed, long retryAfterMillis, int limitedIndex, List<Grant> grants) { }
+}
@@ -0,0 +1,112 @@
+package com.loopers.config.redis.serializer;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Smile(바이너리 JSON) 로 인코딩하고, 임계값보다 큰 값은 LZ4 로 압축해 저장한다.
+ * <pre>
+ * [format(1)] [payload]                       format = 0x01 : smile
+ * [format(1)] [원본 길이(4)] [lz4 payload]      format = 0x02 : smile + lz4
+ * </pre>
+ * 타입 정보는 값에 쓰지 않는다. 템플릿마다 값 타입을 고정해 페이로드를 최소화한다.
+ * 형식을 알 수 없거나 잘린 / 손상된 값은 {@link SerializationException} 으로 알린다.
+ */
+public class CompressedBinaryRedisSerializer<T> implements RedisSerializer<T> {
+    static final byte FORMAT_SMILE = 0x01;
+    static final byte FORMAT_SMILE_LZ4 = 0x02;
+    private static final int LZ4_HEADER_SIZE = 1 + Integer.BYTES;
+    private static final int LZ4_MAX_RATIO = 255; // LZ4 블록은 입력 1바이트로 최대 255바이트까지 복원한다.
+
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+    private final ObjectMapper smileMapper;
+    private final JavaType type;
+    private final int compressionThreshold;
+
+    public CompressedBinaryRedisSerializer(ObjectMapper smileMapper, JavaType type, int compressionThreshold) {
+        this.smileMapper = smileMapper;
+        this.type = type;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        byte[] encoded;
+        try {
+            encoded = smileMapper.writerFor(type).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값 인코딩에 실패했습니다 : " + type, e);
+        }
+        if (encoded.length >= compressionThreshold) {
+            byte[] compressed = compress(encoded);
+            if (compressed.length < encoded.length + 1) { // 압축 효과가 없으면 원본으로 저장
+                return compressed;
+            }
+        }
+        byte[] result = new byte[encoded.length + 1];
+        result[0] = FORMAT_SMILE;
+        System.arraycopy(encoded, 0, result, 1, encoded.length);
+        return result;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return switch (bytes[0]) {
+                case FORMAT_SMILE -> smileMapper.readValue(bytes, 1, bytes.length - 1, type);
+                case FORMAT_SMILE_LZ4 -> smileMapper.readValue(decompress(bytes), type);
+                default -> throw new SerializationException("알 수 없는 Redis 값 형식입니다 : " + bytes[0]);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값 디코딩에 실패했습니다 : " + type, e);
+        }
+    }
+
+    private static byte[] compress(byte[] source) {
+        byte[] target = new byte[LZ4_HEADER_SIZE + COMPRESSOR.maxCompressedLength(source.length)];
+        target[0] = FORMAT_SMILE_LZ4;
+        ByteBuffer.wrap(target, 1, Integer.BYTES).putInt(source.length);
+        int compressedLength = COMPRESSOR.compress(source, 0, source.length, target, LZ4_HEADER_SIZE, target.length - LZ4_HEADER_SIZE);
+        return Arrays.copyOf(target, LZ4_HEADER_SIZE + compressedLength);
+    }
+
+    private static byte[] decompress(byte[] bytes) {
+        if (bytes.length <= LZ4_HEADER_SIZE) {
+            throw new SerializationException("압축된 Redis 값이 잘렸습니다 : " + bytes.length + " bytes");
+        }
+        int compressedLength = bytes.length - LZ4_HEADER_SIZE;
+        int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+        // 손상된 길이로 큰 배열을 잡지 않도록 압축된 길이로 가능한 범위만 허용한다.
+        if (originalLength <= 0 || (long) originalLength > (long) compressedLength * LZ4_MAX_RATIO) {
+            throw new SerializationException("압축된 Redis 값의 원본 길이가 올바르지 않습니다 : " + originalLength);
+        }
+        byte[] restored = new byte[originalLength];
+        try {
+            int read = DECOMPRESSOR.decompress(bytes, LZ4_HEADER_SIZE, restored, 0, originalLength);
+            if (read != compressedLength) {
+                throw new SerializationException("압축된 Redis 값의 길이가 원본 길이와 맞지 않습니다.");
+            }
+        } catch (LZ4Exception e) {
+            throw new SerializationException("압축된 Redis 값이 손상되었습니다.", e);
+        }
+        return restored;
+    }
+}
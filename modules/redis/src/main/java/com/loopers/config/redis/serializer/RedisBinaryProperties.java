@@ -0,0 +1,11 @@
+package com.loopers.config.redis.serializer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param compressionThreshold 인코딩된 값이 이 크기(byte) 이상이면 LZ4 로 압축한다.
+ */
+@ConfigurationProperties(value = "datasource.redis.binary")
+public record RedisBinaryProperties(
+        int compressionThreshold
+) { }
@@ -0,0 +1,64 @@
+package com.loopers.config.redis.serializer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 값 타입별로 {@link CompressedBinaryRedisSerializer} 를 사용하는 템플릿을 만들어 재사용한다.
+ * 키와 해시 키는 기존 템플릿과 같이 문자열로 저장한다.
+ * <pre>
+ * RedisTemplate&lt;String, List&lt;ProductInfo&gt;&gt; template = redisBinaryTemplates.of(new TypeReference&lt;&gt;() {});
+ * </pre>
+ */
+public class RedisBinaryTemplates {
+    private final RedisConnectionFactory connectionFactory;
+    private final int compressionThreshold;
+    private final ObjectMapper smileMapper = SmileMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final Map<JavaType, RedisTemplate<String, ?>> templates = new ConcurrentHashMap<>();
+
+    public RedisBinaryTemplates(RedisConnectionFactory connectionFactory, RedisBinaryProperties properties) {
+        this.connectionFactory = connectionFactory;
+        this.compressionThreshold = properties.compressionThreshold();
+    }
+
+    public <T> RedisTemplate<String, T> of(Class<T> type) {
+        return of(smileMapper.constructType(type));
+    }
+
+    public <T> RedisTemplate<String, T> of(TypeReference<T> type) {
+        return of(smileMapper.constructType(type));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> RedisTemplate<String, T> of(JavaType type) {
+        return (RedisTemplate<String, T>) templates.computeIfAbsent(type, this::create);
+    }
+
+    private RedisTemplate<String, ?> create(JavaType type) {
+        StringRedisSerializer stringSerializer = new StringRedisSerializer();
+        CompressedBinaryRedisSerializer<Object> valueSerializer =
+                new CompressedBinaryRedisSerializer<>(smileMapper, type, compressionThreshold);
+
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setKeySerializer(stringSerializer);
+        template.setValueSerializer(valueSerializer);
+        template.setHashKeySerializer(stringSerializer);
+        template.setHashValueSerializer(valueSerializer);
+        template.setConnectionFactory(connectionFactory);
+        template.afterPropertiesSet();
+        return template;
+    }
+}
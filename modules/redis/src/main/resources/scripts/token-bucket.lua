@@ -0,0 +1,49 @@
+-- 여러 토큰 버킷을 한 번에 확인하고, 모두 여유가 있을 때만 함께 차감한다.
+-- KEYS[i] : 버킷 키 (해시 : tokens, ts)
+-- ARGV    : 버킷마다 capacity, refill_per_second, lease 세 값씩
+--           lease 는 이번에 가져갈 최대 토큰 수 (최소 1 개, 남은 만큼만 가져간다)
+-- 반환    : { allowed(0/1), retry_after_ms, limited_index(1 부터, 없으면 0), granted_1, remaining_1, granted_2, remaining_2, ... }
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local count = #KEYS
+local tokens = {}
+local allowed = 1
+local retry_after = 0
+local limited = 0
+
+for i = 1, count do
+  local capacity = tonumber(ARGV[i * 3 - 2])
+  local rate = tonumber(ARGV[i * 3 - 1])
+  local bucket = redis.call('HMGET', KEYS[i], 'tokens', 'ts')
+  local current = tonumber(bucket[1]) or capacity
+  local updated_at = tonumber(bucket[2]) or now
+  current = math.min(capacity, current + math.max(0, now - updated_at) * rate / 1000)
+  tokens[i] = current
+  if current < 1 then
+    allowed = 0
+    local wait = math.ceil((1 - current) * 1000 / rate)
+    if wait > retry_after then
+      retry_after = wait
+      limited = i
+    end
+  end
+end
+
+local result = { allowed, retry_after, limited }
+for i = 1, count do
+  local capacity = tonumber(ARGV[i * 3 - 2])
+  local rate = tonumber(ARGV[i * 3 - 1])
+  local lease = tonumber(ARGV[i * 3])
+  local granted = 0
+  if allowed == 1 then
+    granted = math.min(lease, math.floor(tokens[i]))
+  end
+  local left = tokens[i] - granted
+  redis.call('HSET', KEYS[i], 'tokens', tostring(left), 'ts', now)
+  -- 가득 찰 때까지 걸리는 시간이 지나면 키가 없어도 같은 상태이므로 지운다.
+  redis.call('PEXPIRE', KEYS[i], math.ceil(capacity * 1000 / rate) + 1000)
+  result[#result + 1] = granted
+  result[#result + 1] = math.floor(left)
+end
+return result
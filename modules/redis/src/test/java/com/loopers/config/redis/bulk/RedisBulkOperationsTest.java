@@ -0,0 +1,249 @@
+package com.loopers.config.redis.bulk;
+
+import com.loopers.config.redis.consistency.ReadYourWritesProperties;
+import com.loopers.config.redis.consistency.ReadYourWritesRouter;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RedisBulkOperationsTest {
+    private static final int BATCH_SIZE = 2;
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> template;
+    private SimpleMeterRegistry meterRegistry;
+    private RedisBulkOperations bulkOperations;
+
+    @BeforeEach
+    void setUp() {
+        new RedisTestContainersConfig(); // 컨테이너 기동 및 접속 정보 System property 설정
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getProperty("datasource.redis.master.host"),
+                Integer.parseInt(System.getProperty("datasource.redis.master.port"))
+        ));
+        connectionFactory.afterPropertiesSet();
+
+        template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+        template.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        meterRegistry = new SimpleMeterRegistry();
+        ReadYourWritesProperties properties = new ReadYourWritesProperties(
+                true, ReadYourWritesProperties.Mode.MARKER, Duration.ofSeconds(2), 1, Duration.ofMillis(50), 1, 1000, false
+        );
+        ReadYourWritesRouter router = new ReadYourWritesRouter(template, template, properties, meterRegistry);
+        bulkOperations = new RedisBulkOperations(router, new RedisBulkProperties(BATCH_SIZE), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @DisplayName("문자열 키")
+    @Nested
+    class Strings {
+
+        @DisplayName("batchSize 를 넘는 키를 나누어 쓰고, 요청한 순서대로 존재하는 키만 읽는다.")
+        @Test
+        void roundTrips_acrossChunks() {
+            // arrange
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 1; i <= 5; i++) {
+                values.put("bulk:" + i, "value-" + i);
+            }
+
+            // act
+            bulkOperations.multiSet(values, TTL);
+            Map<String, String> read = bulkOperations.multiGet(List.of("bulk:5", "bulk:missing", "bulk:1", "bulk:3"));
+
+            // assert
+            assertAll(
+                    () -> assertThat(read).containsExactly(
+                            Map.entry("bulk:5", "value-5"),
+                            Map.entry("bulk:1", "value-1"),
+                            Map.entry("bulk:3", "value-3")
+                    ),
+                    () -> assertThat(batches("set")).isEqualTo(3),
+                    () -> assertThat(batches("mget")).isEqualTo(2),
+                    () -> assertThat(template.getExpire("bulk:5")).isBetween(1L, TTL.toSeconds())
+            );
+        }
+
+        @DisplayName("encoder / decoder 로 값을 변환해 쓰고 읽는다.")
+        @Test
+        void roundTrips_withCodec() {
+            // arrange
+            Map<String, Integer> values = Map.of("bulk:a", 1, "bulk:b", 20, "bulk:c", 300);
+
+            // act
+            bulkOperations.multiSet(values, null, String::valueOf);
+            Map<String, Integer> read = bulkOperations.multiGet(List.of("bulk:a", "bulk:b", "bulk:c"), Integer::valueOf);
+
+            // assert
+            assertAll(
+                    () -> assertThat(read).containsExactly(
+                            Map.entry("bulk:a", 1),
+                            Map.entry("bulk:b", 20),
+                            Map.entry("bulk:c", 300)
+                    ),
+                    () -> assertThat(template.getExpire("bulk:a")).isEqualTo(-1L)
+            );
+        }
+
+        @DisplayName("batchSize 를 넘는 키도 모두 지운다.")
+        @Test
+        void deletes_acrossChunks() {
+            // arrange
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 1; i <= 3; i++) {
+                values.put("bulk:" + i, "value-" + i);
+            }
+            bulkOperations.multiSet(values, TTL);
+
+            // act
+            bulkOperations.delete(values.keySet());
+
+            // assert
+            assertAll(
+                    () -> assertThat(bulkOperations.multiGet(values.keySet())).isEmpty(),
+                    () -> assertThat(batches("unlink")).isEqualTo(2)
+            );
+        }
+
+        @DisplayName("키가 없으면 Redis 에 요청하지 않는다.")
+        @Test
+        void sendsNothing_whenEmpty() {
+            // act
+            Map<String, String> read = bulkOperations.multiGet(List.of());
+            bulkOperations.multiSet(Map.of(), TTL);
+
+            // assert
+            assertAll(
+                    () -> assertThat(read).isEmpty(),
+                    () -> assertThat(meterRegistry.find("redis.bulk.batch").timers()).isEmpty()
+            );
+        }
+    }
+
+    @DisplayName("해시")
+    @Nested
+    class Hashes {
+
+        @DisplayName("batchSize 를 넘는 필드를 나누어 쓰고, 요청한 순서대로 존재하는 필드만 읽는다.")
+        @Test
+        void roundTrips_acrossChunks() {
+            // arrange
+            Map<String, String> fields = new LinkedHashMap<>();
+            for (int i = 1; i <= 5; i++) {
+                fields.put("f" + i, "v" + i);
+            }
+
+            // act
+            bulkOperations.hashMultiSet("bulk:hash", fields, TTL);
+            Map<String, String> read = bulkOperations.hashMultiGet("bulk:hash", List.of("f4", "missing", "f2"));
+
+            // assert
+            assertAll(
+                    () -> assertThat(read).containsExactly(Map.entry("f4", "v4"), Map.entry("f2", "v2")),
+                    () -> assertThat(template.opsForHash().size("bulk:hash")).isEqualTo(5L),
+                    () -> assertThat(batches("hset")).isEqualTo(3),
+                    () -> assertThat(batches("hmget")).isEqualTo(2),
+                    () -> assertThat(template.getExpire("bulk:hash")).isBetween(1L, TTL.toSeconds())
+            );
+        }
+
+        @DisplayName("여러 해시를 통째로 읽고, 존재하지 않는 해시는 결과에서 뺀다.")
+        @Test
+        void getsAll_skippingMissingHashes() {
+            // arrange
+            bulkOperations.hashMultiSet("bulk:hash:1", Map.of("name", "a"), TTL);
+            bulkOperations.hashMultiSet("bulk:hash:3", Map.of("name", "c", "price", "300"), TTL);
+
+            // act
+            Map<String, Map<String, String>> read =
+                    bulkOperations.hashGetAll(List.of("bulk:hash:3", "bulk:hash:2", "bulk:hash:1"));
+
+            // assert
+            assertAll(
+                    () -> assertThat(read.keySet()).containsExactly("bulk:hash:3", "bulk:hash:1"),
+                    () -> assertThat(read.get("bulk:hash:3")).isEqualTo(Map.of("name", "c", "price", "300")),
+                    () -> assertThat(read.get("bulk:hash:1")).isEqualTo(Map.of("name", "a")),
+                    () -> assertThat(batches("hgetall")).isEqualTo(2)
+            );
+        }
+    }
+
+    @DisplayName("정렬 집합")
+    @Nested
+    class SortedSets {
+
+        @DisplayName("ZINCRBY 는 batchSize 를 넘는 멤버의 점수를 모두 더하고 TTL 을 건다.")
+        @Test
+        void incrementsAll_acrossChunks() {
+            // arrange
+            Map<String, Double> deltas = Map.of("a", 1.0, "b", 2.0, "c", 3.0);
+
+            // act
+            bulkOperations.zIncrementAll("bulk:zset", deltas, TTL);
+            bulkOperations.zIncrementAll("bulk:zset", deltas, TTL);
+
+            // assert
+            assertAll(
+                    () -> assertThat(template.opsForZSet().score("bulk:zset", "a")).isEqualTo(2.0),
+                    () -> assertThat(template.opsForZSet().score("bulk:zset", "b")).isEqualTo(4.0),
+                    () -> assertThat(template.opsForZSet().score("bulk:zset", "c")).isEqualTo(6.0),
+                    () -> assertThat(batches("zincrby")).isEqualTo(4),
+                    () -> assertThat(template.getExpire("bulk:zset")).isBetween(1L, TTL.toSeconds())
+            );
+        }
+
+        @DisplayName("ZADD 는 기존 점수를 덮어쓴다.")
+        @Test
+        void overwritesScores() {
+            // arrange
+            bulkOperations.zIncrementAll("bulk:zset", Map.of("a", 10.0, "b", 20.0), null);
+
+            // act
+            bulkOperations.zAddAll("bulk:zset", Map.of("a", 1.0, "c", 3.0), null);
+
+            // assert
+            assertAll(
+                    () -> assertThat(template.opsForZSet().reverseRange("bulk:zset", 0, -1)).containsExactly("b", "c", "a"),
+                    () -> assertThat(template.opsForZSet().score("bulk:zset", "a")).isEqualTo(1.0),
+                    () -> assertThat(template.getExpire("bulk:zset")).isEqualTo(-1L)
+            );
+        }
+    }
+
+    private long batches(String operation) {
+        Timer timer = meterRegistry.find("redis.bulk.batch").tag("operation", operation).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,309 @@
+package com.loopers.config.redis.consistency;
+
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+
+class ReadYourWritesRouterTest {
+
+    @DisplayName("marker 모드에서 읽기 대상을 고를 때, ")
+    @Nested
+    class Marker {
+        private final RedisTemplate<String, String> replica = template();
+        private final RedisTemplate<String, String> master = template();
+        private SimpleMeterRegistry meterRegistry;
+        private ReadYourWritesRouter router;
+
+        @BeforeEach
+        void setUp() {
+            meterRegistry = new SimpleMeterRegistry();
+            router = new ReadYourWritesRouter(replica, master, properties(true, ReadYourWritesProperties.Mode.MARKER, 1), meterRegistry);
+        }
+
+        @AfterEach
+        void tearDown() {
+            ReadYourWritesContext.clear();
+        }
+
+        @DisplayName("쓴 적이 없는 키는 replica 로 읽는다.")
+        @Test
+        void readsReplica_whenNotWritten() {
+            // act
+            RedisTemplate<String, String> selected = router.readTemplate(List.of("product:1"));
+
+            // assert
+            assertAll(
+                    () -> assertThat(selected).isSameAs(replica),
+                    () -> assertThat(readCount("replica", "none")).isEqualTo(1.0)
+            );
+        }
+
+        @DisplayName("master 로 쓴 키는 stalenessWindow 동안 master 로 읽는다.")
+        @Test
+        void readsMaster_afterWritingSameKey() {
+            // arrange
+            RedisTemplate<String, String> written = router.write("product:1", template -> template);
+
+            // act
+            RedisTemplate<String, String> sameKey = router.readTemplate(List.of("product:1"));
+            RedisTemplate<String, String> otherKey = router.readTemplate(List.of("product:2"));
+
+            // assert
+            assertAll(
+                    () -> assertThat(written).isSameAs(master),
+                    () -> assertThat(sameKey).isSameAs(master),
+                    () -> assertThat(otherKey).isSameAs(replica),
+                    () -> assertThat(readCount("master", "key")).isEqualTo(1.0)
+            );
+        }
+
+        @DisplayName("같은 세션이 쓴 뒤에는, 다른 키도 master 로 읽는다.")
+        @Test
+        void readsMaster_forSameSession() {
+            // arrange
+            ReadYourWritesContext.withSession("user-1", () -> router.write("product:1", template -> template));
+
+            // act
+            RedisTemplate<String, String> sameSession = ReadYourWritesContext.withSession(
+                    "user-1", () -> router.readTemplate(List.of("product:2"))
+            );
+            RedisTemplate<String, String> otherSession = ReadYourWritesContext.withSession(
+                    "user-2", () -> router.readTemplate(List.of("product:2"))
+            );
+
+            // assert
+            assertAll(
+                    () -> assertThat(sameSession).isSameAs(master),
+                    () -> assertThat(otherSession).isSameAs(replica),
+                    () -> assertThat(readCount("master", "session")).isEqualTo(1.0)
+            );
+        }
+
+        @DisplayName("master 템플릿으로 직접 쓴 뒤 afterWrite 를 호출하면, 그 키를 master 로 읽는다.")
+        @Test
+        void readsMaster_afterDirectWrite() {
+            // act
+            router.afterWrite(List.of("ratelimit:1"));
+
+            // assert
+            assertThat(router.readTemplate(List.of("ratelimit:1"))).isSameAs(master);
+        }
+
+        @DisplayName("비활성화되어 있으면, 쓴 키도 replica 로 읽는다.")
+        @Test
+        void readsReplica_whenDisabled() {
+            // arrange
+            ReadYourWritesRouter disabled = new ReadYourWritesRouter(
+                    replica, master, properties(false, ReadYourWritesProperties.Mode.MARKER, 1), new SimpleMeterRegistry()
+            );
+            disabled.write("product:1", template -> template);
+
+            // act
+            RedisTemplate<String, String> selected = disabled.readTemplate(List.of("product:1"));
+
+            // assert
+            assertThat(selected).isSameAs(replica);
+        }
+
+        private double readCount(String target, String reason) {
+            return meterRegistry.get("redis.read-your-writes.reads").tags("target", target, "reason", reason).counter().count();
+        }
+    }
+
+    @DisplayName("wait 모드에서 쓸 때, ")
+    @Nested
+    class Wait {
+        private static final String KEY = "product:1";
+
+        private final RedisTemplate<String, String> replica = template();
+        private final RedisTemplate<String, String> master = template();
+        private LettuceConnectionFactory waitConnectionFactory;
+        private RedisTemplate<String, String> waitTemplate;
+        private SimpleMeterRegistry meterRegistry;
+
+        @BeforeEach
+        void setUp() {
+            new RedisTestContainersConfig(); // 컨테이너 기동 및 접속 정보 System property 설정
+            LettucePoolingClientConfiguration clientConfig = LettucePoolingClientConfiguration.builder()
+                    .poolConfig(new GenericObjectPoolConfig<>())
+                    .build();
+            waitConnectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                    System.getProperty("datasource.redis.master.host"),
+                    Integer.parseInt(System.getProperty("datasource.redis.master.port"))
+            ), clientConfig);
+            waitConnectionFactory.setShareNativeConnection(false);
+            waitConnectionFactory.afterPropertiesSet();
+
+            waitTemplate = new RedisTemplate<>();
+            waitTemplate.setConnectionFactory(waitConnectionFactory);
+            waitTemplate.setKeySerializer(new StringRedisSerializer());
+            waitTemplate.setValueSerializer(new StringRedisSerializer());
+            waitTemplate.afterPropertiesSet();
+            waitTemplate.delete(KEY);
+
+            meterRegistry = new SimpleMeterRegistry();
+        }
+
+        @AfterEach
+        void tearDown() {
+            waitConnectionFactory.destroy();
+        }
+
+        @DisplayName("replica 반영이 확인되면, 마커 없이 replica 로 읽는다.")
+        @Test
+        void skipsMarker_whenReplicationAcknowledged() {
+            // arrange
+            ReadYourWritesRouter router = new ReadYourWritesRouter(
+                    replica, master, waitTemplate, properties(true, ReadYourWritesProperties.Mode.WAIT, 0), meterRegistry
+            );
+
+            // act
+            router.write(KEY, template -> {
+                template.opsForValue().set(KEY, "v1");
+                return null;
+            });
+
+            // assert
+            assertAll(
+                    () -> assertThat(waitTemplate.opsForValue().get(KEY)).isEqualTo("v1"),
+                    () -> assertThat(router.readTemplate(List.of(KEY))).isSameAs(replica),
+                    () -> assertThat(fallbacks()).isZero()
+            );
+        }
+
+        @DisplayName("waitTimeout 안에 반영이 확인되지 않으면, 마커로 대체해 master 로 읽는다.")
+        @Test
+        void fallsBackToMarker_whenReplicationNotAcknowledged() {
+            // arrange
+            ReadYourWritesRouter router = new ReadYourWritesRouter(
+                    replica, master, waitTemplate, properties(true, ReadYourWritesProperties.Mode.WAIT, 1), meterRegistry
+            );
+
+            // act
+            router.write(KEY, template -> {
+                template.opsForValue().set(KEY, "v1");
+                return null;
+            });
+
+            // assert
+            assertAll(
+                    () -> assertThat(router.readTemplate(List.of(KEY))).isSameAs(master),
+                    () -> assertThat(fallbacks()).isEqualTo(1.0)
+            );
+        }
+
+        private double fallbacks() {
+            return meterRegistry.get("redis.read-your-writes.wait.fallback").counter().count();
+        }
+    }
+
+    @DisplayName("공유 마커를 쓰면, ")
+    @Nested
+    class Shared {
+        private final RedisTemplate<String, String> replica = template();
+        private LettuceConnectionFactory connectionFactory;
+        private RedisTemplate<String, String> master;
+        private ReadYourWritesRouter writer;
+        private ReadYourWritesRouter reader;
+
+        @BeforeEach
+        void setUp() {
+            new RedisTestContainersConfig(); // 컨테이너 기동 및 접속 정보 System property 설정
+            connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                    System.getProperty("datasource.redis.master.host"),
+                    Integer.parseInt(System.getProperty("datasource.redis.master.port"))
+            ));
+            connectionFactory.afterPropertiesSet();
+
+            master = new RedisTemplate<>();
+            master.setConnectionFactory(connectionFactory);
+            master.setKeySerializer(new StringRedisSerializer());
+            master.setValueSerializer(new StringRedisSerializer());
+            master.afterPropertiesSet();
+            master.execute(connection -> {
+                connection.serverCommands().flushAll();
+                return null;
+            }, true);
+
+            // 같은 Redis 를 쓰는 두 노드
+            ReadYourWritesProperties properties = new ReadYourWritesProperties(
+                    true, ReadYourWritesProperties.Mode.MARKER, Duration.ofMinutes(1), 1, Duration.ofMillis(20), 4, 1000, true
+            );
+            writer = new ReadYourWritesRouter(replica, master, properties, new SimpleMeterRegistry());
+            reader = new ReadYourWritesRouter(replica, master, properties, new SimpleMeterRegistry());
+        }
+
+        @AfterEach
+        void tearDown() {
+            ReadYourWritesContext.clear();
+            connectionFactory.destroy();
+        }
+
+        @DisplayName("다른 노드가 쓴 키도 stalenessWindow 동안 master 로 읽는다.")
+        @Test
+        void readsMaster_afterOtherNodeWritesSameKey() {
+            // arrange
+            writer.write("product:1", template -> template);
+
+            // act
+            RedisTemplate<String, String> sameKey = reader.readTemplate(List.of("product:1"));
+            RedisTemplate<String, String> otherKey = reader.readTemplate(List.of("product:2"));
+
+            // assert
+            assertAll(
+                    () -> assertThat(sameKey).isSameAs(master),
+                    () -> assertThat(otherKey).isSameAs(replica),
+                    () -> assertThat(master.getExpire("read-your-writes:key:product:1")).isBetween(1L, 60L)
+            );
+        }
+
+        @DisplayName("같은 세션이 다른 노드에서 썼어도, 다른 키를 master 로 읽는다.")
+        @Test
+        void readsMaster_forSameSessionOnOtherNode() {
+            // arrange
+            ReadYourWritesContext.withSession("user-1", () -> writer.write("product:1", template -> template));
+
+            // act
+            RedisTemplate<String, String> sameSession = ReadYourWritesContext.withSession(
+                    "user-1", () -> reader.readTemplate(List.of("product:2"))
+            );
+            RedisTemplate<String, String> otherSession = ReadYourWritesContext.withSession(
+                    "user-2", () -> reader.readTemplate(List.of("product:2"))
+            );
+
+            // assert
+            assertAll(
+                    () -> assertThat(sameSession).isSameAs(master),
+                    () -> assertThat(otherSession).isSameAs(replica)
+            );
+        }
+    }
+
+    private static ReadYourWritesProperties properties(boolean enabled, ReadYourWritesProperties.Mode mode, int waitReplicas) {
+        return new ReadYourWritesProperties(
+                enabled, mode, Duration.ofMinutes(1), waitReplicas, Duration.ofMillis(20), 4, 1000, false
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, String> template() {
+        return mock(RedisTemplate.class);
+    }
+}
@@ -0,0 +1,108 @@
+package com.loopers.config.redis.consistency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class WriteMarkersTest {
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    @DisplayName("쓰기 마커를 확인할 때, ")
+    @Nested
+    class Check {
+
+        @DisplayName("최근에 쓴 키를 읽으면, KEY 를 반환하고 다른 키는 null 을 반환한다.")
+        @Test
+        void returnsKey_onlyForWrittenKeys() {
+            // arrange
+            WriteMarkers markers = new WriteMarkers(WINDOW_NANOS, 10);
+
+            // act
+            markers.mark(List.of("product:1"), null);
+
+            // assert
+            assertAll(
+                    () -> assertThat(markers.check(List.of("product:2", "product:1"), null)).isEqualTo(WriteMarkers.Reason.KEY),
+                    () -> assertThat(markers.check(List.of("product:2"), null)).isNull()
+            );
+        }
+
+        @DisplayName("같은 세션이 최근에 썼으면, 다른 키를 읽어도 SESSION 을 반환한다.")
+        @Test
+        void returnsSession_forSameSession() {
+            // arrange
+            WriteMarkers markers = new WriteMarkers(WINDOW_NANOS, 10);
+
+            // act
+            markers.mark(List.of("product:1"), "user-1");
+
+            // assert
+            assertAll(
+                    () -> assertThat(markers.check(List.of("product:2"), "user-1")).isEqualTo(WriteMarkers.Reason.SESSION),
+                    () -> assertThat(markers.check(List.of("product:2"), "user-2")).isNull()
+            );
+        }
+
+        @DisplayName("stalenessWindow 가 지난 마커는 무시하고 제거한다.")
+        @Test
+        void ignoresAndRemovesExpiredMarkers() {
+            // arrange
+            WriteMarkers markers = new WriteMarkers(0, 10);
+            markers.mark(List.of("product:1"), "user-1");
+
+            // act
+            WriteMarkers.Reason reason = markers.check(List.of("product:1"), "user-1");
+
+            // assert
+            assertAll(
+                    () -> assertThat(reason).isNull(),
+                    () -> assertThat(markers.size()).isZero()
+            );
+        }
+    }
+
+    @DisplayName("추적 한도를 넘으면, ")
+    @Nested
+    class Overflow {
+
+        @DisplayName("개별 마커 대신 전체 마커를 걸어 모든 읽기에 OVERFLOW 를 반환한다.")
+        @Test
+        void marksGlobal_whenTrackedKeysExceedLimit() {
+            // arrange
+            WriteMarkers markers = new WriteMarkers(WINDOW_NANOS, 2);
+            markers.mark(List.of("product:1", "product:2"), null);
+
+            // act
+            markers.mark(List.of("product:3"), null);
+
+            // assert
+            assertAll(
+                    () -> assertThat(markers.size()).isEqualTo(2),
+                    () -> assertThat(markers.check(List.of("product:999"), null)).isEqualTo(WriteMarkers.Reason.OVERFLOW)
+            );
+        }
+
+        @DisplayName("만료된 마커를 먼저 정리해 자리가 생기면, 개별 마커로 기록한다.")
+        @Test
+        void evictsExpiredFirst_beforeOverflowing() {
+            // arrange
+            WriteMarkers expired = new WriteMarkers(0, 2);
+            expired.mark(List.of("product:1", "product:2"), null);
+
+            // act
+            expired.mark(List.of("product:3"), null);
+
+            // assert
+            assertAll(
+                    () -> assertThat(expired.size()).isEqualTo(1),
+                    () -> assertThat(expired.check(List.of("product:999"), null)).isNull()
+            );
+        }
+    }
+}
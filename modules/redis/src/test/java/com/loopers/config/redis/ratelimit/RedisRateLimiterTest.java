@@ -0,0 +1,130 @@
+package com.loopers.config.redis.ratelimit;
+
+import com.loopers.config.redis.cluster.RedisHashTags;
+import com.loopers.config.redis.consistency.ReadYourWritesProperties;
+import com.loopers.config.redis.consistency.ReadYourWritesRouter;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RedisRateLimiterTest {
+    private static final String USER_KEY = RedisHashTags.key("ratelimit:order", "user", 1);
+    private static final String IP_KEY = RedisHashTags.key("ratelimit:order", "ip", "10.0.0.1");
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        new RedisTestContainersConfig(); // 컨테이너 기동 및 접속 정보 System property 설정
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getProperty("datasource.redis.master.host"),
+                Integer.parseInt(System.getProperty("datasource.redis.master.port"))
+        ));
+        connectionFactory.afterPropertiesSet();
+
+        RedisTemplate<String, String> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+        template.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        ReadYourWritesProperties properties = new ReadYourWritesProperties(
+                true, ReadYourWritesProperties.Mode.MARKER, Duration.ofSeconds(2), 1, Duration.ofMillis(50), 1, 1000, false
+        );
+        rateLimiter = new RedisRateLimiter(new ReadYourWritesRouter(template, template, properties, new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @DisplayName("버킷 크기만큼은 허용되고, 그 다음 요청은 거절되며 채워질 때까지의 시간이 반환된다.")
+    @Test
+    void rejects_whenBucketIsEmpty() {
+        // arrange
+        List<RedisRateLimiter.Bucket> buckets = List.of(new RedisRateLimiter.Bucket(USER_KEY, 3, 1.0, 1));
+
+        // act
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.acquire(buckets).allowed()).isTrue();
+        }
+        RedisRateLimiter.Result result = rateLimiter.acquire(buckets);
+
+        // assert
+        assertAll(
+                () -> assertThat(result.allowed()).isFalse(),
+                () -> assertThat(result.limitedIndex()).isEqualTo(0),
+                () -> assertThat(result.retryAfterMillis()).isBetween(1L, 1000L)
+        );
+    }
+
+    @DisplayName("버킷 하나라도 비어 있으면, 다른 버킷에서도 토큰을 차감하지 않는다.")
+    @Test
+    void consumesNothing_whenAnyBucketIsEmpty() {
+        // arrange
+        RedisRateLimiter.Bucket user = new RedisRateLimiter.Bucket(USER_KEY, 10, 1.0, 1);
+        RedisRateLimiter.Bucket ip = new RedisRateLimiter.Bucket(IP_KEY, 1, 0.1, 1);
+        rateLimiter.acquire(List.of(ip));
+
+        // act
+        RedisRateLimiter.Result result = rateLimiter.acquire(List.of(user, ip));
+
+        // assert
+        assertAll(
+                () -> assertThat(result.allowed()).isFalse(),
+                () -> assertThat(result.limitedIndex()).isEqualTo(1),
+                () -> assertThat(result.grants().get(0).granted()).isZero(),
+                () -> assertThat(result.grants().get(0).remaining()).isEqualTo(10)
+        );
+    }
+
+    @DisplayName("lease 를 요청하면, 남은 토큰 범위에서 여러 개를 한 번에 가져간다.")
+    @Test
+    void grantsLease_upToRemainingTokens() {
+        // arrange
+        RedisRateLimiter.Bucket bucket = new RedisRateLimiter.Bucket(USER_KEY, 7, 0.001, 5);
+
+        // act
+        RedisRateLimiter.Result first = rateLimiter.acquire(List.of(bucket));
+        RedisRateLimiter.Result second = rateLimiter.acquire(List.of(bucket));
+
+        // assert
+        assertAll(
+                () -> assertThat(first.grants().get(0).granted()).isEqualTo(5),
+                () -> assertThat(first.grants().get(0).remaining()).isEqualTo(2),
+                () -> assertThat(second.grants().get(0).granted()).isEqualTo(2),
+                () -> assertThat(second.grants().get(0).remaining()).isZero()
+        );
+    }
+
+    @DisplayName("해시 태그가 다른 키를 함께 확인하면, IllegalArgumentException 이 발생한다.")
+    @Test
+    void throws_whenKeysHaveDifferentHashTags() {
+        // arrange
+        RedisRateLimiter.Bucket user = new RedisRateLimiter.Bucket(USER_KEY, 10, 1.0, 1);
+        RedisRateLimiter.Bucket other = new RedisRateLimiter.Bucket(RedisHashTags.key("ratelimit:charge", "user", 1), 10, 1.0, 1);
+
+        // act & assert
+        assertThrows(IllegalArgumentException.class, () -> rateLimiter.acquire(List.of(user, other)));
+    }
+}
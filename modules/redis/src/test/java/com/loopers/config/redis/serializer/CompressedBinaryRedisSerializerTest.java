@@ -0,0 +1,189 @@
+package com.loopers.config.redis.serializer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompressedBinaryRedisSerializerTest {
+    private static final int COMPRESSION_THRESHOLD = 256;
+
+    public record Product(Long id, String name, Long price, Integer stock) { }
+
+    private CompressedBinaryRedisSerializer<List<Product>> serializer;
+
+    @BeforeEach
+    void setUp() {
+        SmileMapper smileMapper = new SmileMapper();
+        serializer = new CompressedBinaryRedisSerializer<>(
+                smileMapper, smileMapper.constructType(new TypeReference<List<Product>>() {}), COMPRESSION_THRESHOLD
+        );
+    }
+
+    @DisplayName("직렬화 / 역직렬화")
+    @Nested
+    class RoundTrip {
+
+        @DisplayName("임계값보다 작은 값은 압축하지 않고 smile 형식 헤더를 붙인다.")
+        @Test
+        void writesSmile_whenBelowThreshold() {
+            // arrange
+            List<Product> products = products(1);
+
+            // act
+            byte[] bytes = serializer.serialize(products);
+
+            // assert
+            assertAll(
+                    () -> assertThat(bytes.length).isLessThan(COMPRESSION_THRESHOLD),
+                    () -> assertThat(bytes[0]).isEqualTo(CompressedBinaryRedisSerializer.FORMAT_SMILE),
+                    () -> assertThat(serializer.deserialize(bytes)).isEqualTo(products)
+            );
+        }
+
+        @DisplayName("임계값 이상이고 압축 효과가 있으면 LZ4 로 압축하고 원본 길이를 헤더에 기록한다.")
+        @Test
+        void writesLz4_whenAboveThreshold() {
+            // arrange
+            List<Product> products = products(100);
+            byte[] smile = uncompressed(products);
+
+            // act
+            byte[] bytes = serializer.serialize(products);
+
+            // assert
+            assertAll(
+                    () -> assertThat(bytes[0]).isEqualTo(CompressedBinaryRedisSerializer.FORMAT_SMILE_LZ4),
+                    () -> assertThat(ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt()).isEqualTo(smile.length),
+                    () -> assertThat(bytes.length).isLessThan(smile.length),
+                    () -> assertThat(serializer.deserialize(bytes)).isEqualTo(products)
+            );
+        }
+
+        @DisplayName("임계값 이상이어도 압축 효과가 없으면 압축하지 않는다.")
+        @Test
+        void writesSmile_whenIncompressible() {
+            // arrange
+            List<Product> products = List.of(new Product(1L, randomText(new Random(42), COMPRESSION_THRESHOLD * 2), 1000L, 1));
+
+            // act
+            byte[] bytes = serializer.serialize(products);
+
+            // assert
+            assertAll(
+                    () -> assertThat(bytes.length).isGreaterThanOrEqualTo(COMPRESSION_THRESHOLD),
+                    () -> assertThat(bytes[0]).isEqualTo(CompressedBinaryRedisSerializer.FORMAT_SMILE),
+                    () -> assertThat(serializer.deserialize(bytes)).isEqualTo(products)
+            );
+        }
+
+        @DisplayName("null 과 빈 값은 null 로 다룬다.")
+        @Test
+        void handlesNull() {
+            // act & assert
+            assertAll(
+                    () -> assertThat(serializer.serialize(null)).isNull(),
+                    () -> assertThat(serializer.deserialize(null)).isNull(),
+                    () -> assertThat(serializer.deserialize(new byte[0])).isNull()
+            );
+        }
+    }
+
+    @DisplayName("손상된 값")
+    @Nested
+    class Corrupt {
+
+        @DisplayName("알 수 없는 형식이면, SerializationException 이 발생한다.")
+        @Test
+        void throws_whenUnknownFormat() {
+            // arrange
+            byte[] bytes = serializer.serialize(products(1));
+            bytes[0] = 0x7F;
+
+            // act & assert
+            assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+        }
+
+        @DisplayName("smile 값이 잘리면, SerializationException 이 발생한다.")
+        @Test
+        void throws_whenSmileIsTruncated() {
+            // arrange
+            byte[] bytes = serializer.serialize(products(1));
+
+            // act & assert
+            assertAll(
+                    () -> assertThrows(SerializationException.class, () -> serializer.deserialize(Arrays.copyOf(bytes, bytes.length / 2))),
+                    () -> assertThrows(SerializationException.class, () -> serializer.deserialize(new byte[]{CompressedBinaryRedisSerializer.FORMAT_SMILE}))
+            );
+        }
+
+        @DisplayName("압축된 값의 헤더나 본문이 잘리면, SerializationException 이 발생한다.")
+        @Test
+        void throws_whenLz4IsTruncated() {
+            // arrange
+            byte[] bytes = serializer.serialize(products(100));
+
+            // act & assert
+            assertAll(
+                    () -> assertThrows(SerializationException.class, () -> serializer.deserialize(Arrays.copyOf(bytes, 3))),
+                    () -> assertThrows(SerializationException.class, () -> serializer.deserialize(Arrays.copyOf(bytes, 5))),
+                    () -> assertThrows(SerializationException.class, () -> serializer.deserialize(Arrays.copyOf(bytes, bytes.length - 10)))
+            );
+        }
+
+        @DisplayName("압축된 값의 원본 길이가 손상되면, 배열을 잡기 전에 SerializationException 이 발생한다.")
+        @Test
+        void throws_whenOriginalLengthIsCorrupt() {
+            // arrange
+            byte[] negative = serializer.serialize(products(100));
+            ByteBuffer.wrap(negative, 1, Integer.BYTES).putInt(-1);
+            byte[] huge = serializer.serialize(products(100));
+            ByteBuffer.wrap(huge, 1, Integer.BYTES).putInt(Integer.MAX_VALUE);
+            byte[] mismatched = serializer.serialize(products(100));
+            ByteBuffer header = ByteBuffer.wrap(mismatched);
+            header.putInt(1, header.getInt(1) - 1);
+
+            // act & assert
+            assertAll(
+                    () -> assertThrows(SerializationException.class, () -> serializer.deserialize(negative)),
+                    () -> assertThrows(SerializationException.class, () -> serializer.deserialize(huge)),
+                    () -> assertThrows(SerializationException.class, () -> serializer.deserialize(mismatched))
+            );
+        }
+    }
+
+    private static List<Product> products(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> new Product((long) i, "상품-" + i, 10_000L + i, 100))
+                .toList();
+    }
+
+    private static byte[] uncompressed(List<Product> products) {
+        CompressedBinaryRedisSerializer<List<Product>> neverCompress = new CompressedBinaryRedisSerializer<>(
+                new SmileMapper(), new SmileMapper().constructType(new TypeReference<List<Product>>() {}), Integer.MAX_VALUE
+        );
+        byte[] bytes = neverCompress.serialize(products);
+        return Arrays.copyOfRange(bytes, 1, bytes.length);
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('!' + random.nextInt(94)));
+        }
+        return text.toString();
+    }
+}